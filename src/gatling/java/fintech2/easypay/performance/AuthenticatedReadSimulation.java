@@ -0,0 +1,80 @@
+package fintech2.easypay.performance;
+
+import io.gatling.javaapi.core.*;
+import io.gatling.javaapi.http.*;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증 필터 오버헤드 측정 (가벼운 인증 조회 반복)
+ *
+ * 로그인 후 같은 토큰으로 처리 비용이 거의 없는 알림 개수 조회를 반복 호출하여
+ * 응답시간 대부분이 JwtAuthenticationFilter(서명 검증 / 클레임 파싱 / 사용자 조회)에서 발생하도록 한다.
+ * 변경 전/후 커밋에서 각각 실행하여 "인증 조회" 응답시간 분포와 처리량을 비교한다.
+ *
+ * 실행: ./gradlew gatlingRun --simulation fintech2.easypay.performance.AuthenticatedReadSimulation
+ */
+public class AuthenticatedReadSimulation extends Simulation {
+
+    private HttpProtocolBuilder httpProtocol = http
+        .baseUrl("http://localhost:8090")
+        .acceptHeader("application/json")
+        .contentTypeHeader("application/json")
+        .userAgentHeader("Gatling Authenticated Read Test");
+
+    private FeederBuilder<Object> userFeeder = listFeeder(List.of(
+        Map.of("phoneNumber", "010-1111-1111", "password", "password123"),
+        Map.of("phoneNumber", "010-2222-2222", "password", "password123"),
+        Map.of("phoneNumber", "010-3333-3333", "password", "password123"),
+        Map.of("phoneNumber", "010-4444-4444", "password", "password123"),
+        Map.of("phoneNumber", "010-5555-5555", "password", "password123")
+    )).circular();
+
+    private ChainBuilder loginChain = exec(
+        feed(userFeeder)
+        .exec(
+            http("로그인")
+                .post("/api/auth/login")
+                .body(StringBody("""
+                    {
+                        "phoneNumber": "#{phoneNumber}",
+                        "password": "#{password}"
+                    }
+                    """)).asJson()
+                .check(status().is(200))
+                .check(jsonPath("$.accessToken").saveAs("accessToken"))
+        )
+    );
+
+    private ChainBuilder authenticatedReadChain = exec(
+        http("인증 조회")
+            .get("/api/alarms/count")
+            .header("Authorization", "Bearer #{accessToken}")
+            .check(status().is(200))
+    );
+
+    private ScenarioBuilder authenticatedReadScenario = scenario("인증 조회 반복")
+        .exec(loginChain)
+        .pause(1)
+        .repeat(200).on(
+            exec(authenticatedReadChain)
+            .pause(Duration.ofMillis(10))
+        );
+
+    {
+        setUp(
+            authenticatedReadScenario.injectOpen(
+                rampUsers(100).during(Duration.ofSeconds(20))
+            ).protocols(httpProtocol)
+        )
+        .assertions(
+            global().successfulRequests().percent().gt(99.0),
+            details("인증 조회").responseTime().percentile3().lt(50)
+        );
+    }
+}
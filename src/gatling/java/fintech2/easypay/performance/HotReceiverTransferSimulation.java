@@ -0,0 +1,115 @@
+package fintech2.easypay.performance;
+
+import io.gatling.javaapi.core.*;
+import io.gatling.javaapi.http.*;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단일 수신 계좌 집중 송금 부하 테스트 (핫 계좌)
+ *
+ * 모든 가상 사용자가 같은 수신 계좌로 송금한다.
+ * 기존 구조에서는 외부 은행 API 호출(50~200ms, 타임아웃 시 3초) 동안 수신 계좌 행 락이 유지되어
+ * 송금이 직렬화되고, 보류 -> 외부 호출 -> 정산 구조에서는 락이 짧은 보류/정산 트랜잭션에만 걸린다.
+ * 변경 전/후 커밋에서 각각 실행하여 "핫 계좌 송금" 응답시간 분포와 처리량을 비교한다.
+ *
+ * 실행: ./gradlew gatlingRun --simulation fintech2.easypay.performance.HotReceiverTransferSimulation
+ * 수신 계좌는 -DhotAccount=VA... 로 실제 존재하는 계좌를 지정
+ */
+public class HotReceiverTransferSimulation extends Simulation {
+
+    private static final String HOT_ACCOUNT = System.getProperty("hotAccount", "VA1010101010");
+
+    private HttpProtocolBuilder httpProtocol = http
+        .baseUrl("http://localhost:8090")
+        .acceptHeader("application/json")
+        .contentTypeHeader("application/json")
+        .userAgentHeader("Gatling Hot Receiver Test");
+
+    // 송금자 (수신 계좌 소유자 제외)
+    private FeederBuilder<Object> senderFeeder = listFeeder(List.of(
+        Map.of("phoneNumber", "010-1111-1111", "password", "password123"),
+        Map.of("phoneNumber", "010-2222-2222", "password", "password123"),
+        Map.of("phoneNumber", "010-3333-3333", "password", "password123"),
+        Map.of("phoneNumber", "010-4444-4444", "password", "password123"),
+        Map.of("phoneNumber", "010-5555-5555", "password", "password123"),
+        Map.of("phoneNumber", "010-6666-6666", "password", "password123"),
+        Map.of("phoneNumber", "010-7777-7777", "password", "password123"),
+        Map.of("phoneNumber", "010-8888-8888", "password", "password123"),
+        Map.of("phoneNumber", "010-9999-9999", "password", "password123")
+    )).circular();
+
+    private ChainBuilder loginChain = exec(
+        feed(senderFeeder)
+        .exec(
+            http("송금자 로그인")
+                .post("/api/auth/login")
+                .body(StringBody("""
+                    {
+                        "phoneNumber": "#{phoneNumber}",
+                        "password": "#{password}"
+                    }
+                    """)).asJson()
+                .check(status().is(200))
+                .check(jsonPath("$.accessToken").saveAs("accessToken"))
+        )
+    );
+
+    private ChainBuilder hotTransferChain = exec(
+        http("핫 계좌 송금")
+            .post("/api/transfers")
+            .header("Authorization", "Bearer #{accessToken}")
+            .body(StringBody("""
+                {
+                    "receiverAccountNumber": "%s",
+                    "amount": 1000,
+                    "memo": "핫 계좌 부하 테스트"
+                }
+                """.formatted(HOT_ACCOUNT))).asJson()
+            .check(status().in(200, 201, 400))
+    );
+
+    // 송금이 몰리는 동안 수신 계좌 잔액 조회가 막히지 않는지 확인
+    private ChainBuilder hotBalanceChain = exec(
+        http("핫 계좌 잔액 조회")
+            .get("/api/accounts/test-balance/" + HOT_ACCOUNT)
+            .check(status().is(200))
+    );
+
+    private ScenarioBuilder hotReceiverScenario = scenario("핫 계좌 집중 송금")
+        .exec(loginChain)
+        .pause(1)
+        .repeat(20).on(
+            exec(hotTransferChain)
+            .pause(Duration.ofMillis(100), Duration.ofMillis(300))
+        );
+
+    private ScenarioBuilder hotBalanceScenario = scenario("핫 계좌 잔액 조회")
+        .during(Duration.ofMinutes(2)).on(
+            exec(hotBalanceChain)
+            .pause(Duration.ofMillis(200))
+        );
+
+    {
+        setUp(
+            hotReceiverScenario.injectOpen(
+                rampUsers(200).during(Duration.ofSeconds(30)),
+                constantUsersPerSec(10).during(Duration.ofMinutes(1))
+            ).protocols(httpProtocol),
+
+            hotBalanceScenario.injectOpen(
+                atOnceUsers(5)
+            ).protocols(httpProtocol)
+        )
+        .assertions(
+            global().successfulRequests().percent().gt(90.0),
+            details("핫 계좌 송금").responseTime().percentile3().lt(1500), // 외부 API 지연 + 짧은 트랜잭션 2회
+            details("핫 계좌 잔액 조회").responseTime().percentile3().lt(500)
+        );
+    }
+}
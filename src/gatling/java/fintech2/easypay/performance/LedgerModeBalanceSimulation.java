@@ -0,0 +1,101 @@
+package fintech2.easypay.performance;
+
+import io.gatling.javaapi.core.*;
+import io.gatling.javaapi.http.*;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 잔액 원장 모드 전/후 비교 부하 테스트
+ *
+ * 외부 은행 API 지연을 배제하기 위해 BalanceService 만 타는 잔액 변경 API로 입금/출금 한 쌍(= 송금 1건)을 반복한다.
+ * 동일 시나리오를 아래 두 설정으로 각각 실행하여 TPS 와 SQL 수를 비교한다.
+ *   1. --easypay.balance.ledger-mode=false (기존: 한 건당 SELECT/UPDATE 6회 + INSERT 1회)
+ *   2. --easypay.balance.ledger-mode=true  (원장: 한 건당 SELECT 1회 + 조건부 UPDATE 1회 + INSERT 1회)
+ * SQL 수는 --spring.jpa.properties.hibernate.generate_statistics=true 로 실행 후 세션 통계 로그로 확인
+ */
+public class LedgerModeBalanceSimulation extends Simulation {
+
+    private HttpProtocolBuilder httpProtocol = http
+        .baseUrl("http://localhost:8090")
+        .acceptHeader("application/json")
+        .contentTypeHeader("application/json")
+        .userAgentHeader("Gatling Ledger Mode Test");
+
+    private FeederBuilder<Object> userFeeder = listFeeder(List.of(
+        Map.of("phoneNumber", "010-1111-1111", "password", "password123"),
+        Map.of("phoneNumber", "010-2222-2222", "password", "password123"),
+        Map.of("phoneNumber", "010-3333-3333", "password", "password123"),
+        Map.of("phoneNumber", "010-4444-4444", "password", "password123"),
+        Map.of("phoneNumber", "010-5555-5555", "password", "password123")
+    )).circular();
+
+    private ChainBuilder loginChain = exec(
+        feed(userFeeder)
+        .exec(
+            http("로그인")
+                .post("/api/auth/login")
+                .body(StringBody("""
+                    {
+                        "phoneNumber": "#{phoneNumber}",
+                        "password": "#{password}"
+                    }
+                    """)).asJson()
+                .check(status().is(200))
+                .check(jsonPath("$.accessToken").saveAs("accessToken"))
+        )
+    );
+
+    // 송금 1건에 해당하는 출금 + 입금 레그
+    private ChainBuilder transferLegsChain = exec(
+        http("원장 출금 레그")
+            .post("/api/accounts/update-balance")
+            .header("Authorization", "Bearer #{accessToken}")
+            .body(StringBody("""
+                {
+                    "amount": -1000,
+                    "transactionType": "TRANSFER_OUT",
+                    "description": "원장 모드 부하 테스트"
+                }
+                """)).asJson()
+            .check(status().is(200))
+    )
+    .exec(
+        http("원장 입금 레그")
+            .post("/api/accounts/update-balance")
+            .header("Authorization", "Bearer #{accessToken}")
+            .body(StringBody("""
+                {
+                    "amount": 1000,
+                    "transactionType": "TRANSFER_IN",
+                    "description": "원장 모드 부하 테스트"
+                }
+                """)).asJson()
+            .check(status().is(200))
+    );
+
+    private ScenarioBuilder ledgerScenario = scenario("잔액 원장 모드 비교")
+        .exec(loginChain)
+        .pause(1)
+        .during(Duration.ofMinutes(2)).on(
+            exec(transferLegsChain)
+        );
+
+    {
+        setUp(
+            ledgerScenario.injectOpen(
+                rampUsers(50).during(Duration.ofSeconds(30)) // 30초간 50명 증가 후 2분 유지
+            ).protocols(httpProtocol)
+        )
+        .assertions(
+            global().successfulRequests().percent().gt(95.0),
+            details("원장 출금 레그").responseTime().percentile3().lt(1000),
+            details("원장 입금 레그").responseTime().percentile3().lt(1000)
+        );
+    }
+}
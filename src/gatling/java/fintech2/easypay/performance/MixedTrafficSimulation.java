@@ -16,9 +16,20 @@ import java.util.Map;
  * 
  * 실제 서비스에서는 결제, 송금, 조회가 동시에 발생하므로
  * 이를 종합적으로 테스트하는 시나리오
+ *
+ * 스레드 모드 비교 (-DthreadMode=platform|virtual)
+ * 동시 사용자 2,000명(-Dusers)이 외부 은행 API 지연(50~200ms)이 지배적인 송금과 잔액 조회를 반복한다.
+ * 서버를 기본 프로파일(플랫폼 스레드)과 vthreads 프로파일(가상 스레드)로 각각 띄우고 같은 값으로 실행하여
+ * "모드비교-송금" / "모드비교-잔액조회" 응답시간 분포와 처리량을 비교한다.
+ * 실행: ./gradlew gatlingRun --simulation fintech2.easypay.performance.MixedTrafficSimulation -DthreadMode=virtual
  */
 public class MixedTrafficSimulation extends Simulation {
 
+    // 지정 시 스레드 모드 비교 부하로 실행 (값은 리포트 구분용, 실제 모드는 서버 프로파일이 결정)
+    private static final String THREAD_MODE = System.getProperty("threadMode");
+    private static final int COMPARE_USERS = Integer.getInteger("users", 2000);
+    private static final String RECEIVER_ACCOUNT = System.getProperty("receiverAccount", "VA1010101010");
+
     // HTTP 프로토콜 설정
     private HttpProtocolBuilder httpProtocol = http
         .baseUrl("http://localhost:8090")
@@ -237,6 +248,44 @@ public class MixedTrafficSimulation extends Simulation {
         .exec(loginChain)
         .exec(userBehaviorSwitch);
 
+    // 스레드 모드 비교 시나리오 (로그인 1회 후 송금 / 잔액 조회 반복)
+    private ScenarioBuilder threadModeScenario = scenario("스레드 모드 비교 - " + THREAD_MODE)
+        .feed(userFeeder)
+        .exec(
+            http("모드비교-로그인")
+                .post("/api/auth/login")
+                .body(StringBody("""
+                    {
+                        "phoneNumber": "#{phoneNumber}",
+                        "password": "#{password}"
+                    }
+                    """)).asJson()
+                .check(status().is(200))
+                .check(jsonPath("$.accessToken").saveAs("accessToken"))
+        )
+        .forever().on(
+            exec(
+                http("모드비교-송금")
+                    .post("/api/transfers")
+                    .header("Authorization", "Bearer #{accessToken}")
+                    .body(StringBody("""
+                        {
+                            "receiverAccountNumber": "%s",
+                            "amount": 100,
+                            "memo": "스레드 모드 비교"
+                        }
+                        """.formatted(RECEIVER_ACCOUNT))).asJson()
+                    .check(status().in(200, 201, 400))
+            )
+            .exec(
+                http("모드비교-잔액조회")
+                    .get("/api/accounts/balance")
+                    .header("Authorization", "Bearer #{accessToken}")
+                    .check(status().is(200))
+            )
+            .pause(Duration.ofMillis(100), Duration.ofMillis(500))
+        );
+
     // API 상태 체크 시나리오 (모니터링)
     private ScenarioBuilder healthCheckScenario = scenario("시스템 상태 체크")
         .exec(
@@ -247,6 +296,29 @@ public class MixedTrafficSimulation extends Simulation {
         .pause(10); // 10초마다 헬스체크
 
     {
+        if (THREAD_MODE != null) {
+            setUpThreadModeComparison();
+        } else {
+            setUpMixedTraffic();
+        }
+    }
+
+    private void setUpThreadModeComparison() {
+        setUp(
+            threadModeScenario.injectClosed(
+                rampConcurrentUsers(0).to(COMPARE_USERS).during(Duration.ofMinutes(1)),
+                constantConcurrentUsers(COMPARE_USERS).during(Duration.ofMinutes(3))
+            ).protocols(httpProtocol)
+        )
+        .maxDuration(Duration.ofMinutes(4))
+        .assertions(
+            global().successfulRequests().percent().gt(95.0),
+            details("모드비교-송금").responseTime().percentile3().lt(2000),
+            details("모드비교-잔액조회").responseTime().percentile3().lt(500)
+        );
+    }
+
+    private void setUpMixedTraffic() {
         setUp(
             // 메인 혼합 트래픽
             mixedTrafficScenario.injectOpen(
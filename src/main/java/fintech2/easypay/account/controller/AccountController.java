@@ -2,16 +2,27 @@ package fintech2.easypay.account.controller;
 
 import fintech2.easypay.account.entity.UserAccount;
 import fintech2.easypay.account.service.AccountService;
+import fintech2.easypay.account.service.TransactionExportService;
+import fintech2.easypay.account.service.TransactionHistoryService;
 import fintech2.easypay.account.service.UserAccountService;
 import fintech2.easypay.auth.dto.UserPrincipal;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.enums.TransactionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -21,6 +32,8 @@ import java.util.Map;
 public class AccountController {
     private final AccountService accountService;
     private final UserAccountService userAccountService;
+    private final TransactionHistoryService transactionHistoryService;
+    private final TransactionExportService transactionExportService;
 
     @GetMapping("/{accountNumber}/balance")
     public ResponseEntity<?> getBalance(@PathVariable String accountNumber, @RequestHeader("Authorization") String token) {
@@ -154,6 +167,9 @@ public class AccountController {
             
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(400).body(Map.of("error", "INVALID_REQUEST", "message", e.getMessage()));
+        } catch (BusinessException e) {
+            // 일일 / 월 한도 초과 등은 오류 코드를 그대로 전달
+            return ResponseEntity.status(400).body(Map.of("error", e.getErrorCode().name(), "message", e.getMessage()));
         } catch (Exception e) {
             log.error("출금 처리 오류: userId={}", userPrincipal.getId(), e);
             return ResponseEntity.status(500).body(Map.of("error", "WITHDRAW_FAILED", "message", "출금 처리 중 오류가 발생했습니다"));
@@ -164,6 +180,66 @@ public class AccountController {
     public ResponseEntity<?> getTransactionHistory(@PathVariable String accountNumber, @RequestHeader("Authorization") String token) {
         return accountService.getTransactionHistory(accountNumber);
     }
+
+    /**
+     * 거래 내역 커서 조회 (다음 페이지는 nextCursor 를 before 로 전달)
+     * types=DEPOSIT,WITHDRAWAL 등 거래 유형, from / to (yyyy-MM-dd, 포함) 기간 조건 선택
+     */
+    @GetMapping("/{accountNumber}/transactions/page")
+    public ResponseEntity<?> getTransactionHistoryPage(@PathVariable String accountNumber,
+                                                       @RequestParam(required = false) String before,
+                                                       @RequestParam(defaultValue = "20") int size,
+                                                       @RequestParam(required = false) List<TransactionType> types,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                       @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        if (userPrincipal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "UNAUTHORIZED", "message", "인증이 필요합니다"));
+        }
+        transactionHistoryService.checkOwner(userPrincipal, accountNumber);
+        return ResponseEntity.ok(transactionHistoryService.getHistory(accountNumber, before, size, types, from, to));
+    }
+
+    /**
+     * 거래 내역 전체 내보내기 (format=csv|ndjson, Accept-Encoding 에 gzip 이 있으면 압축)
+     * DB 커서에서 읽은 행을 바로 응답에 스트리밍, 동시 내보내기 상한을 넘으면 429
+     */
+    @GetMapping("/{accountNumber}/transactions/export")
+    public ResponseEntity<?> exportTransactionHistory(@PathVariable String accountNumber,
+                                                      @RequestParam(defaultValue = "csv") String format,
+                                                      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        if (userPrincipal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "UNAUTHORIZED", "message", "인증이 필요합니다"));
+        }
+        TransactionExportService.Format exportFormat;
+        try {
+            exportFormat = TransactionExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "INVALID_FORMAT", "message", "format 은 csv 또는 ndjson 입니다"));
+        }
+        transactionHistoryService.checkOwner(userPrincipal, accountNumber);
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        transactionExportService.acquire();
+        StreamingResponseBody body = out -> {
+            try {
+                transactionExportService.export(accountNumber, exportFormat, gzip, out);
+            } finally {
+                transactionExportService.release();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(exportFormat.fileName(accountNumber)).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
     
     @PostMapping("/sync-account-balance")
     public ResponseEntity<?> syncAccountBalance(@AuthenticationPrincipal UserPrincipal userPrincipal) {
@@ -0,0 +1,29 @@
+package fintech2.easypay.account.dto;
+
+import fintech2.easypay.common.enums.TransactionStatus;
+import fintech2.easypay.common.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 1건 (엔티티를 만들지 않고 JPQL 생성자 식으로 바로 조회)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionHistoryItem {
+    private Long id;
+    private TransactionType transactionType;
+    private BigDecimal amount;
+    private BigDecimal balanceAfter;
+    private String description;
+    private String transactionId;
+    private TransactionStatus status;
+    private LocalDateTime createdAt;
+}
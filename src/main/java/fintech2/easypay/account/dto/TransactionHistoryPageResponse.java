@@ -0,0 +1,23 @@
+package fintech2.easypay.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 거래 내역 커서 페이지
+ * 다음 페이지는 nextCursor 를 before 파라미터로 전달 (createdAt,id 형식, 마지막 페이지면 null)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionHistoryPageResponse {
+    private String accountNumber;
+    private List<TransactionHistoryItem> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -10,7 +10,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transaction_history")
+@Table(name = "transaction_history",
+       indexes = @Index(name = "idx_transaction_history_account_created", columnList = "account_number, created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -54,6 +54,14 @@ public class UserAccount {
     @Builder.Default
     private BigDecimal monthlyLimit = new BigDecimal("100000000"); // 월 이체 한도 (1억원)
     
+    /**
+     * 원장 모드에서 account_balances 로부터 투영된 잔액 (저장되지 않음)
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private BigDecimal ledgerBalance;
+    
     @Version
     private Integer version; // 낙관적 락
     
@@ -71,11 +79,25 @@ public class UserAccount {
     
     // 비즈니스 메서드
     
+    /**
+     * 잔액 조회 (원장 잔액이 투영되어 있으면 원장 값 우선)
+     */
+    public BigDecimal getBalance() {
+        return this.ledgerBalance != null ? this.ledgerBalance : this.balance;
+    }
+    
+    /**
+     * 원장 잔액 투영 (DB 컬럼은 변경하지 않음)
+     */
+    public void applyLedgerBalance(BigDecimal ledgerBalance) {
+        this.ledgerBalance = ledgerBalance;
+    }
+    
     /**
      * 잔액 확인
      */
     public boolean hasEnoughBalance(BigDecimal amount) {
-        return this.balance.compareTo(amount) >= 0;
+        return getBalance().compareTo(amount) >= 0;
     }
     
     /**
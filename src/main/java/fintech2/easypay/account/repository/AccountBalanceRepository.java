@@ -3,10 +3,12 @@ package fintech2.easypay.account.repository;
 import fintech2.easypay.account.entity.AccountBalance;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
 import java.util.Optional;
 
 public interface AccountBalanceRepository extends JpaRepository<AccountBalance, String> {
@@ -24,6 +26,30 @@ public interface AccountBalanceRepository extends JpaRepository<AccountBalance,
     @Query("SELECT ab FROM AccountBalance ab WHERE ab.accountNumber = :accountNumber")
     Optional<AccountBalance> findByIdWithLock(@Param("accountNumber") String accountNumber);
     
+    /**
+     * 조건부 원자적 출금
+     * 잔액이 충분할 때만 차감하며, 갱신된 행 수(0 또는 1)를 반환
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalance ab SET ab.balance = ab.balance - :amount, ab.version = COALESCE(ab.version, 0) + 1, " +
+           "ab.updatedAt = CURRENT_TIMESTAMP WHERE ab.accountNumber = :accountNumber AND ab.balance >= :amount")
+    int debitIfSufficient(@Param("accountNumber") String accountNumber, @Param("amount") BigDecimal amount);
+    
+    /**
+     * 원자적 입금
+     * 계좌가 없으면 0을 반환
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalance ab SET ab.balance = ab.balance + :amount, ab.version = COALESCE(ab.version, 0) + 1, " +
+           "ab.updatedAt = CURRENT_TIMESTAMP WHERE ab.accountNumber = :accountNumber")
+    int credit(@Param("accountNumber") String accountNumber, @Param("amount") BigDecimal amount);
+    
+    /**
+     * 현재 잔액만 DB에서 직접 조회 (영속성 컨텍스트 캐시 우회)
+     */
+    @Query("SELECT ab.balance FROM AccountBalance ab WHERE ab.accountNumber = :accountNumber")
+    Optional<BigDecimal> findBalanceByAccountNumber(@Param("accountNumber") String accountNumber);
+    
     /**
      * Optimistic Lock을 사용한 계좌 조회 (기본 findById 사용)
      * @Version 필드가 자동으로 처리됨
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,6 +54,11 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("SELECT a FROM Account a WHERE a.userId = :userId AND a.status = 'ACTIVE'")
     List<Account> findActiveAccountsByUserId(@Param("userId") Long userId);
     
+    /**
+     * 계좌번호 목록으로 일괄 조회 (대량 송금 수신 계좌 검증)
+     */
+    List<Account> findAllByAccountNumberIn(Collection<String> accountNumbers);
+    
     /**
      * 계좌번호 존재 여부 확인
      */
@@ -1,14 +1,102 @@
 package fintech2.easypay.account.repository;
 
+import fintech2.easypay.account.dto.TransactionHistoryItem;
 import fintech2.easypay.account.entity.TransactionHistory;
 import fintech2.easypay.common.enums.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionHistoryRepository extends JpaRepository<TransactionHistory, Long> {
     List<TransactionHistory> findByAccountNumberOrderByCreatedAtDesc(String accountNumber);
     List<TransactionHistory> findByAccountNumberAndTransactionTypeInOrderByCreatedAtDesc(String accountNumber, List<TransactionType> transactionTypes);
+
+    /**
+     * 지정 시각 이후 거래 유형별 금액 합계 (이체 한도 집계 재구성용)
+     */
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM TransactionHistory t " +
+           "WHERE t.accountNumber = :accountNumber AND t.transactionType IN :types AND t.createdAt >= :from")
+    BigDecimal sumAmountSince(@Param("accountNumber") String accountNumber,
+                              @Param("types") Collection<TransactionType> types,
+                              @Param("from") LocalDateTime from);
+
+    /**
+     * 지정 시각 이후 출금 중 환원(REFUND)된 금액 합계 - 같은 referenceId 의 출금 기준 (이체 한도 사용량 초기화용)
+     */
+    @Query("SELECT COALESCE(SUM(r.amount), 0) FROM TransactionHistory r " +
+           "WHERE r.accountNumber = :accountNumber " +
+           "AND r.transactionType = fintech2.easypay.common.enums.TransactionType.REFUND " +
+           "AND r.referenceId IN (SELECT o.referenceId FROM TransactionHistory o " +
+           "    WHERE o.accountNumber = :accountNumber AND o.transactionType IN :types AND o.createdAt >= :from)")
+    BigDecimal sumRefundedSince(@Param("accountNumber") String accountNumber,
+                                @Param("types") Collection<TransactionType> types,
+                                @Param("from") LocalDateTime from);
+
+    /**
+     * referenceId 출금 거래 시각 (환원 시 한도를 복원할 기간 확인용, 없으면 null)
+     */
+    @Query("SELECT MIN(t.createdAt) FROM TransactionHistory t " +
+           "WHERE t.accountNumber = :accountNumber AND t.referenceId = :referenceId AND t.transactionType IN :types")
+    LocalDateTime findOutflowCreatedAt(@Param("accountNumber") String accountNumber,
+                                       @Param("referenceId") String referenceId,
+                                       @Param("types") Collection<TransactionType> types);
+
+    /**
+     * 거래 내역 커서 페이지 - (createdAt, id) 가 커서보다 앞선 행을 최신순으로 (from <= createdAt < to)
+     * 첫 페이지는 cursorAt = to, cursorId = 0
+     * 인덱스 (account_number, created_at, id) 범위 조회로 페이지 위치와 무관하게 Pageable 크기만큼만 읽고 count 쿼리 없음
+     */
+    @Query("SELECT new fintech2.easypay.account.dto.TransactionHistoryItem(" +
+           "t.id, t.transactionType, t.amount, t.balanceAfter, t.description, t.transactionId, t.status, t.createdAt) " +
+           "FROM TransactionHistory t " +
+           "WHERE t.accountNumber = :accountNumber AND t.createdAt >= :from AND t.createdAt < :to " +
+           "AND t.createdAt <= :cursorAt AND (t.createdAt < :cursorAt OR t.id < :cursorId) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionHistoryItem> findPage(@Param("accountNumber") String accountNumber,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("cursorAt") LocalDateTime cursorAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    /**
+     * 거래 유형 조건이 있는 커서 페이지 (조건은 findPage 와 같음)
+     */
+    @Query("SELECT new fintech2.easypay.account.dto.TransactionHistoryItem(" +
+           "t.id, t.transactionType, t.amount, t.balanceAfter, t.description, t.transactionId, t.status, t.createdAt) " +
+           "FROM TransactionHistory t " +
+           "WHERE t.accountNumber = :accountNumber AND t.transactionType IN :types " +
+           "AND t.createdAt >= :from AND t.createdAt < :to " +
+           "AND t.createdAt <= :cursorAt AND (t.createdAt < :cursorAt OR t.id < :cursorId) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionHistoryItem> findPageByTypes(@Param("accountNumber") String accountNumber,
+                                                 @Param("types") Collection<TransactionType> types,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to,
+                                                 @Param("cursorAt") LocalDateTime cursorAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    /**
+     * 계좌 전체 거래 내역을 최신순으로 커서 조회 (내보내기용, 트랜잭션 안에서 사용 후 close 필요)
+     * fetch size 만큼씩 DB 에서 가져오며 읽기 전용이라 스냅샷을 만들지 않음
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TransactionHistory t WHERE t.accountNumber = :accountNumber ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<TransactionHistory> streamByAccountNumber(@Param("accountNumber") String accountNumber);
 } 
\ No newline at end of file
@@ -0,0 +1,105 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 계좌번호 기반 스트라이프 락 관리자
+ * DB 트랜잭션을 열기 전에 같은 계좌를 다루는 요청을 JVM 안에서 먼저 대기시켜
+ * 비관적 락 대기 중인 요청이 커넥션 풀을 점유하지 않도록 함
+ * 여러 계좌는 스트라이프 번호 오름차순으로 획득하여 데드락을 방지
+ */
+@Component
+@Slf4j
+public class AccountLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final long waitTimeoutMs;
+    private final Timer lockWaitTimer;
+
+    public AccountLockManager(MeterRegistry meterRegistry,
+                              @Value("${easypay.lock.stripes:1024}") int stripeCount,
+                              @Value("${easypay.lock.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.lockWaitTimer = Timer.builder("easypay.account.lock.wait")
+                .description("계좌 스트라이프 락 대기 시간")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMillis(waitTimeoutMs))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 계좌 락을 모두 획득한 상태에서 작업 실행
+     * @param accountNumbers 잠글 계좌번호 목록 (순서 무관, null 무시)
+     * @param action 락 보유 중 실행할 작업 (보통 트랜잭션 전체)
+     * @return 작업 결과
+     * @throws BusinessException 대기 시간 초과 시 ACCOUNT_LOCK_TIMEOUT
+     */
+    public <T> T executeWithLocks(Collection<String> accountNumbers, Supplier<T> action) {
+        int[] indexes = accountNumbers.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int acquired = 0;
+        try {
+            long start = System.nanoTime();
+            for (int index : indexes) {
+                if (!tryLock(stripes[index])) {
+                    lockWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    log.warn("계좌 락 대기 시간 초과: accounts={}, timeout={}ms", accountNumbers, waitTimeoutMs);
+                    throw new BusinessException(ErrorCode.ACCOUNT_LOCK_TIMEOUT);
+                }
+                acquired++;
+            }
+            lockWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            return action.get();
+        } finally {
+            // 획득의 역순으로 해제
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * 단일 계좌 락 보유 중 작업 실행
+     */
+    public <T> T executeWithLock(String accountNumber, Supplier<T> action) {
+        return executeWithLocks(List.of(accountNumber), action);
+    }
+
+    private boolean tryLock(ReentrantLock lock) {
+        try {
+            return lock.tryLock(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.ACCOUNT_LOCK_TIMEOUT, "계좌 락 대기 중 인터럽트가 발생했습니다.");
+        }
+    }
+
+    private int stripeIndex(String accountNumber) {
+        return Math.floorMod(accountNumber.hashCode(), stripes.length);
+    }
+}
@@ -0,0 +1,200 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.audit.service.AlarmStreamService;
+import fintech2.easypay.common.enums.TransactionStatus;
+import fintech2.easypay.common.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 입금 (대량 송금의 수신 레그)
+ * BalanceService.increase 를 건별로 호출하면 수신자마다 원장 조회/갱신, 레거시 잔액 2곳 갱신, 거래 내역 저장이 각각 발생하므로
+ * 같은 트랜잭션 안에서 JDBC batch 로 묶어 처리한다
+ * - 원장: 계좌별 합계로 UPDATE 배치 1회 (행이 없는 계좌만 INSERT) + 반영 후 잔액 IN 조회 1회
+ * - 거래 내역: 입금 건별 INSERT 배치 1회 (잔액 전/후는 반영 후 잔액에서 역산)
+ * - 레거시 잔액(accounts / user_accounts): 원장 모드가 아니면 계좌별 UPDATE 배치 각 1회
+ *
+ * 원장 행 락은 전달된 순서대로 획득하므로 호출자는 계좌 ID 등 고정된 순서로 정렬해서 넘기고,
+ * 수신 계좌 스트라이프 락과 트랜잭션을 보유한 상태에서 호출해야 함
+ * 잔액 캐시 무효화와 잔액 변동 알림은 커밋 후 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceBatchService {
+
+    private static final String CREDIT_SQL = "UPDATE account_balances SET balance = balance + ?, " +
+            "version = COALESCE(version, 0) + 1, updated_at = ? WHERE account_number = ?";
+    private static final String INSERT_BALANCE_SQL = "INSERT INTO account_balances " +
+            "(account_number, balance, version, updated_at) VALUES (?, ?, 0, ?)";
+    private static final String INSERT_HISTORY_SQL = "INSERT INTO transaction_history " +
+            "(account_number, transaction_type, amount, balance_before, balance_after, description, reference_id, " +
+            "status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SYNC_ACCOUNT_SQL = "UPDATE accounts SET balance = ?, " +
+            "version = COALESCE(version, 0) + 1, updated_at = ? WHERE account_number = ?";
+    private static final String SYNC_USER_ACCOUNT_SQL = "UPDATE user_accounts SET balance = ?, " +
+            "version = COALESCE(version, 0) + 1, updated_at = ? WHERE account_number = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BalanceService balanceService;
+    private final AlarmService alarmService;
+    private final AlarmStreamService alarmStreamService;
+    private final CacheManager cacheManager;
+
+    /**
+     * 입금 1건
+     * @param referenceId 거래 내역 참조 ID (송금 거래 ID)
+     * @param userId 알림 대상 사용자 ID
+     */
+    public record Credit(String accountNumber, BigDecimal amount, String description,
+                         String referenceId, String userId) {
+    }
+
+    /**
+     * 일괄 입금 - 호출 트랜잭션 안에서 실행
+     * @return 입금 건별 잔액 변경 결과 (전달 순서)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<BalanceService.BalanceChangeResult> creditAll(List<Credit> credits, TransactionType transactionType) {
+        if (credits.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 1. 계좌별 합계로 원장 갱신 (전달 순서 유지 - 행 락 획득 순서)
+        Map<String, BigDecimal> totals = new LinkedHashMap<>();
+        for (Credit credit : credits) {
+            totals.merge(credit.accountNumber(), credit.amount(), BigDecimal::add);
+        }
+        List<Map.Entry<String, BigDecimal>> entries = new ArrayList<>(totals.entrySet());
+        int[][] updated = jdbcTemplate.batchUpdate(CREDIT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setBigDecimal(1, entry.getValue());
+            ps.setTimestamp(2, now);
+            ps.setString(3, entry.getKey());
+        });
+
+        // 원장 행이 없는 계좌로의 첫 입금
+        List<Map.Entry<String, BigDecimal>> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] counts : updated) {
+            for (int count : counts) {
+                if (count == 0) {
+                    missing.add(entries.get(index));
+                }
+                index++;
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_BALANCE_SQL, missing, missing.size(), (ps, entry) -> {
+                ps.setString(1, entry.getKey());
+                ps.setBigDecimal(2, entry.getValue());
+                ps.setTimestamp(3, now);
+            });
+        }
+
+        // 2. 반영 후 잔액 조회 (UPDATE 로 획득한 행 락이 커밋까지 유지되므로 이번 변경의 결과)
+        Map<String, BigDecimal> balancesAfter = findBalances(totals.keySet());
+
+        // 3. 건별 잔액 전/후 계산 후 거래 내역 일괄 저장
+        Map<String, BigDecimal> running = new HashMap<>();
+        totals.forEach((accountNumber, total) ->
+                running.put(accountNumber, balancesAfter.getOrDefault(accountNumber, total).subtract(total)));
+        List<BalanceService.BalanceChangeResult> results = new ArrayList<>(credits.size());
+        for (Credit credit : credits) {
+            BigDecimal before = running.get(credit.accountNumber());
+            BigDecimal after = before.add(credit.amount());
+            running.put(credit.accountNumber(), after);
+            results.add(new BalanceService.BalanceChangeResult(credit.accountNumber(), before, after,
+                    credit.amount(), transactionType, credit.referenceId()));
+        }
+        List<Integer> positions = new ArrayList<>(credits.size());
+        for (int i = 0; i < credits.size(); i++) {
+            positions.add(i);
+        }
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, positions, positions.size(), (ps, i) -> {
+            Credit credit = credits.get(i);
+            BalanceService.BalanceChangeResult result = results.get(i);
+            ps.setString(1, credit.accountNumber());
+            ps.setString(2, transactionType.name());
+            ps.setBigDecimal(3, credit.amount());
+            ps.setBigDecimal(4, result.getBalanceBefore());
+            ps.setBigDecimal(5, result.getBalanceAfter());
+            ps.setString(6, credit.description());
+            ps.setString(7, credit.referenceId());
+            ps.setString(8, TransactionStatus.COMPLETED.name());
+            ps.setTimestamp(9, now);
+        });
+
+        // 4. 레거시 잔액 컬럼 동기화 (원장 모드에서는 생략)
+        if (!balanceService.isLedgerMode()) {
+            List<Map.Entry<String, BigDecimal>> finalBalances = new ArrayList<>(running.entrySet());
+            for (String sql : List.of(SYNC_ACCOUNT_SQL, SYNC_USER_ACCOUNT_SQL)) {
+                jdbcTemplate.batchUpdate(sql, finalBalances, finalBalances.size(), (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setTimestamp(2, now);
+                    ps.setString(3, entry.getKey());
+                });
+            }
+        }
+
+        afterCommit(credits, results);
+        log.info("일괄 입금 완료: {}건, {}개 계좌, 거래유형={}", credits.size(), totals.size(), transactionType);
+        return results;
+    }
+
+    private Map<String, BigDecimal> findBalances(Iterable<String> accountNumbers) {
+        List<String> numbers = new ArrayList<>();
+        accountNumbers.forEach(numbers::add);
+        String placeholders = String.join(", ", Collections.nCopies(numbers.size(), "?"));
+        Map<String, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query("SELECT account_number, balance FROM account_balances WHERE account_number IN (" +
+                        placeholders + ")",
+                rs -> {
+                    balances.put(rs.getString(1), rs.getBigDecimal(2));
+                },
+                numbers.toArray());
+        return balances;
+    }
+
+    /**
+     * 커밋 후 잔액 캐시 무효화 및 잔액 변동 알림
+     */
+    private void afterCommit(List<Credit> credits, List<BalanceService.BalanceChangeResult> results) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache balanceCache = cacheManager.getCache("balanceCache");
+                for (int i = 0; i < credits.size(); i++) {
+                    Credit credit = credits.get(i);
+                    BalanceService.BalanceChangeResult result = results.get(i);
+                    if (balanceCache != null) {
+                        balanceCache.evict(credit.accountNumber());
+                    }
+                    alarmService.sendBalanceChangeAlert(credit.accountNumber(), credit.userId(), "증가",
+                            credit.amount().toString(), result.getBalanceAfter().toString());
+                    alarmStreamService.publishBalanceChange(credit.userId(), credit.accountNumber(),
+                            credit.amount(), result.getBalanceAfter());
+                }
+            }
+        });
+    }
+}
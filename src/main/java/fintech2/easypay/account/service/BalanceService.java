@@ -9,12 +9,15 @@ import fintech2.easypay.account.repository.AccountRepository;
 import fintech2.easypay.account.repository.TransactionHistoryRepository;
 import fintech2.easypay.account.repository.UserAccountRepository;
 import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.audit.service.AlarmStreamService;
+import fintech2.easypay.audit.service.TransactionVelocityTracker;
 import fintech2.easypay.common.enums.TransactionStatus;
 import fintech2.easypay.common.enums.TransactionType;
 import fintech2.easypay.common.exception.AccountNotFoundException;
 import fintech2.easypay.common.exception.InsufficientBalanceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,9 @@ import java.util.UUID;
 /**
  * 중앙화된 잔액 관리 서비스
  * 모든 잔액 변경 작업을 이 서비스를 통해 처리
+ * 원장 모드(easypay.balance.ledger-mode)에서는 AccountBalance 한 행만 갱신하고
+ * Account / UserAccount 잔액은 조회 시 원장 값으로 투영한다
+ * 원자적 모드(easypay.balance.atomic-update)에서는 조건부 UPDATE 한 번으로 잔액을 차감/가산한다
  */
 @Service
 @RequiredArgsConstructor
@@ -38,6 +44,15 @@ public class BalanceService {
     private final TransactionHistoryRepository transactionHistoryRepository;
     private final UserAccountRepository userAccountRepository;
     private final AlarmService alarmService;
+    private final AlarmStreamService alarmStreamService;
+    private final TransactionVelocityTracker velocityTracker;
+    private final TransferLimitService transferLimitService;
+
+    @Value("${easypay.balance.ledger-mode:false}")
+    private boolean ledgerMode;
+
+    @Value("${easypay.balance.atomic-update:false}")
+    private boolean atomicUpdate;
 
     /**
      * 계좌 잔액 조회 (캐시 적용)
@@ -66,6 +81,20 @@ public class BalanceService {
         return changeBalance(accountNumber, amount, transactionType, description, referenceId, userId, true);
     }
 
+    /**
+     * 출금 환원 (송금 / 대량 송금 실패, 결제 취소 / 환불) - REFUND 로 잔액 증가 후 원 출금의 이체 한도 사용량 복원
+     * @param referenceId 원 출금의 referenceId (송금 거래 ID / 배치 ID / 결제 ID)
+     */
+    @Transactional
+    @CacheEvict(value = "balanceCache", key = "#accountNumber")
+    public BalanceChangeResult refund(String accountNumber, BigDecimal amount, String description,
+                                      String referenceId, String userId) {
+        BalanceChangeResult result = changeBalance(accountNumber, amount, TransactionType.REFUND, description,
+                referenceId, userId, true);
+        transferLimitService.release(accountNumber, amount, referenceId);
+        return result;
+    }
+
     /**
      * 잔액 감소 (출금) - 캐시 무효화
      */
@@ -82,6 +111,64 @@ public class BalanceService {
     private BalanceChangeResult changeBalance(String accountNumber, BigDecimal changeAmount, TransactionType transactionType,
                                            String description, String referenceId, String userId, boolean isIncrease) {
         
+        // 출금성 거래는 일일 / 월 이체 한도 검증 후 누적 (롤백 시 환원)
+        if (!isIncrease && TransferLimitService.OUTFLOW_TYPES.contains(transactionType)) {
+            transferLimitService.reserve(accountNumber, changeAmount.abs());
+        }
+        
+        // 잔액 반영 (원자적 UPDATE 또는 조회 후 @Version 갱신)
+        BalanceSnapshot snapshot = atomicUpdate
+                ? applyAtomically(accountNumber, changeAmount, userId, isIncrease)
+                : applyVersioned(accountNumber, changeAmount, userId, isIncrease);
+        BigDecimal balanceBefore = snapshot.before();
+        BigDecimal balanceAfter = snapshot.after();
+
+        // 원장 모드에서는 Account / UserAccount 잔액 컬럼을 갱신하지 않음
+        if (!ledgerMode) {
+            syncLegacyBalances(accountNumber, balanceBefore, balanceAfter);
+        }
+
+        // 거래 내역 기록
+        String finalReferenceId = referenceId != null ? referenceId : UUID.randomUUID().toString();
+        TransactionHistory transaction = TransactionHistory.builder()
+                .accountNumber(accountNumber)
+                .transactionType(transactionType)
+                .amount(isIncrease ? changeAmount : changeAmount.abs())
+                .balanceBefore(balanceBefore)
+                .balanceAfter(balanceAfter)
+                .description(description)
+                .referenceId(finalReferenceId)
+                .status(TransactionStatus.COMPLETED)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        transactionHistoryRepository.save(transaction);
+
+        // 잔액 변동 알림 발송
+        String changeType = isIncrease ? "증가" : "감소";
+        String amountStr = changeAmount.abs().toString();
+        String balanceAfterStr = balanceAfter.toString();
+        alarmService.sendBalanceChangeAlert(accountNumber, userId, changeType, amountStr, balanceAfterStr);
+        alarmStreamService.publishBalanceChange(userId, accountNumber, changeAmount, balanceAfter);
+
+        // 출금성 거래는 계좌별 거래 속도 집계 후 이상거래 규칙 평가 (메모리, DB 조회 없음)
+        if (!isIncrease) {
+            BigDecimal amount = changeAmount.abs();
+            alarmService.detectSuspiciousTransaction(accountNumber, userId, amount, transactionType.name(),
+                    velocityTracker.record(accountNumber, amount));
+        }
+
+        log.info("잔액 변경 완료: 계좌={}, 변경금액={}, 잔액={}->{}, 거래유형={}", 
+                accountNumber, changeAmount, balanceBefore, balanceAfter, transactionType);
+
+        return new BalanceChangeResult(accountNumber, balanceBefore, balanceAfter, 
+                                    isIncrease ? changeAmount : changeAmount.abs(), transactionType, finalReferenceId);
+    }
+
+    /**
+     * 조회 후 갱신 방식 (@Version 조건부 UPDATE)
+     */
+    private BalanceSnapshot applyVersioned(String accountNumber, BigDecimal changeAmount, String userId, boolean isIncrease) {
         // 계좌 잔액 조회 또는 생성
         AccountBalance balance = accountBalanceRepository.findByAccountNumber(accountNumber)
                 .orElseGet(() -> {
@@ -96,18 +183,57 @@ public class BalanceService {
 
         // 출금인 경우 잔액 확인
         if (!isIncrease && balanceAfter.compareTo(BigDecimal.ZERO) < 0) {
-            // 잔액 부족 알림 발송
-            String currentBalanceStr = balanceBefore.toString();
-            String requiredAmountStr = changeAmount.abs().toString();
-            alarmService.sendInsufficientBalanceAlert(accountNumber, userId, currentBalanceStr, requiredAmountStr);
-            
-            throw new InsufficientBalanceException("잔액이 부족합니다. 현재 잔액: " + balanceBefore);
+            throw insufficientBalance(accountNumber, userId, balanceBefore, changeAmount.abs());
         }
 
-        // 잔액 업데이트 (AccountBalance)
         balance.setBalance(balanceAfter);
         accountBalanceRepository.save(balance);
-        
+        return new BalanceSnapshot(balanceBefore, balanceAfter);
+    }
+
+    /**
+     * 원자적 조건부 UPDATE 방식 (easypay.balance.atomic-update)
+     * 행 락은 UPDATE 시점부터 커밋까지만 유지되며 SELECT FOR UPDATE 를 사용하지 않음
+     */
+    private BalanceSnapshot applyAtomically(String accountNumber, BigDecimal changeAmount, String userId, boolean isIncrease) {
+        BigDecimal amount = changeAmount.abs();
+        int updated = isIncrease
+                ? accountBalanceRepository.credit(accountNumber, amount)
+                : accountBalanceRepository.debitIfSufficient(accountNumber, amount);
+
+        if (updated == 0) {
+            if (!isIncrease) {
+                BigDecimal current = accountBalanceRepository.findBalanceByAccountNumber(accountNumber)
+                        .orElse(BigDecimal.ZERO);
+                throw insufficientBalance(accountNumber, userId, current, amount);
+            }
+            // 원장 행이 없는 계좌로의 첫 입금
+            AccountBalance newBalance = new AccountBalance();
+            newBalance.setAccountNumber(accountNumber);
+            newBalance.setBalance(amount);
+            accountBalanceRepository.save(newBalance);
+            return new BalanceSnapshot(BigDecimal.ZERO, amount);
+        }
+
+        // UPDATE 로 획득한 행 락이 커밋까지 유지되므로 재조회 값이 곧 이번 변경의 결과
+        BigDecimal balanceAfter = accountBalanceRepository.findBalanceByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
+        return new BalanceSnapshot(balanceAfter.subtract(changeAmount), balanceAfter);
+    }
+
+    /**
+     * 잔액 부족 알림 발송 후 예외 생성
+     */
+    private InsufficientBalanceException insufficientBalance(String accountNumber, String userId,
+                                                             BigDecimal currentBalance, BigDecimal requiredAmount) {
+        alarmService.sendInsufficientBalanceAlert(accountNumber, userId, currentBalance.toString(), requiredAmount.toString());
+        return new InsufficientBalanceException("잔액이 부족합니다. 현재 잔액: " + currentBalance);
+    }
+
+    /**
+     * Account / UserAccount 잔액 컬럼 동기화 (레거시 모드)
+     */
+    private void syncLegacyBalances(String accountNumber, BigDecimal balanceBefore, BigDecimal balanceAfter) {
         // Account 엔티티도 동일하게 업데이트 (TransferService 호환성을 위해)
         accountRepository.findByAccountNumber(accountNumber)
                 .ifPresent(account -> {
@@ -115,7 +241,7 @@ public class BalanceService {
                     accountRepository.save(account);
                     log.debug("Account 엔티티 잔액도 동기화: {} -> {}", balanceBefore, balanceAfter);
                 });
-        
+
         // UserAccount 엔티티도 동일하게 업데이트 (프론트엔드 호환성을 위해)
         userAccountRepository.findByAccountNumber(accountNumber)
                 .ifPresent(userAccount -> {
@@ -123,34 +249,22 @@ public class BalanceService {
                     userAccountRepository.save(userAccount);
                     log.debug("UserAccount 엔티티 잔액도 동기화: {} -> {}", balanceBefore, balanceAfter);
                 });
+    }
 
-        // 거래 내역 기록
-        String finalReferenceId = referenceId != null ? referenceId : UUID.randomUUID().toString();
-        TransactionHistory transaction = TransactionHistory.builder()
-                .accountNumber(accountNumber)
-                .transactionType(transactionType)
-                .amount(isIncrease ? changeAmount : changeAmount.abs())
-                .balanceBefore(balanceBefore)
-                .balanceAfter(balanceAfter)
-                .description(description)
-                .referenceId(finalReferenceId)
-                .status(TransactionStatus.COMPLETED)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        transactionHistoryRepository.save(transaction);
-
-        // 잔액 변동 알림 발송
-        String changeType = isIncrease ? "증가" : "감소";
-        String amountStr = changeAmount.abs().toString();
-        String balanceAfterStr = balanceAfter.toString();
-        alarmService.sendBalanceChangeAlert(accountNumber, userId, changeType, amountStr, balanceAfterStr);
-
-        log.info("잔액 변경 완료: 계좌={}, 변경금액={}, 잔액={}->{}, 거래유형={}", 
-                accountNumber, changeAmount, balanceBefore, balanceAfter, transactionType);
+    /**
+     * 원장 모드 여부
+     * true 이면 account_balances 가 유일한 잔액 원장
+     */
+    public boolean isLedgerMode() {
+        return ledgerMode;
+    }
 
-        return new BalanceChangeResult(accountNumber, balanceBefore, balanceAfter, 
-                                    isIncrease ? changeAmount : changeAmount.abs(), transactionType, finalReferenceId);
+    /**
+     * 원자적 조건부 UPDATE 모드 여부
+     * true 이면 호출자는 계좌 행에 비관적 락을 걸 필요가 없음
+     */
+    public boolean isAtomicUpdate() {
+        return atomicUpdate;
     }
 
     /**
@@ -165,6 +279,11 @@ public class BalanceService {
         }
     }
 
+    /**
+     * 변경 전/후 잔액
+     */
+    private record BalanceSnapshot(BigDecimal before, BigDecimal after) {}
+
     /**
      * 잔액 변경 결과를 담는 내부 클래스
      */
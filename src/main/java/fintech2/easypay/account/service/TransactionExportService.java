@@ -0,0 +1,193 @@
+package fintech2.easypay.account.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.common.exception.TooManyRequestsException;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 거래 내역 내보내기 (CSV / NDJSON)
+ * 계좌 전체 내역을 List 로 올리지 않고 읽기 전용 트랜잭션의 JDBC 커서에서 한 행씩 읽어 바로 응답에 씀
+ * 쓴 엔티티는 영속성 컨텍스트에서 분리하고 flush-rows 마다 응답을 내보내 내역 크기와 무관하게 메모리 사용이 일정
+ * 인스턴스당 동시 내보내기는 max-concurrent 개까지 (초과 요청은 429 로 바로 거절, 실행기 mvcAsyncExecutor 크기와 같음)
+ */
+@Service
+@Slf4j
+public class TransactionExportService {
+
+    private static final String CSV_HEADER =
+            "id,createdAt,transactionType,amount,balanceBefore,balanceAfter,status,transactionId,referenceId,description";
+
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final AuditLogService auditLogService;
+    private final TransactionTemplate readOnly;
+    private final int flushRows;
+    private final Semaphore slots;
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String fileName(String accountNumber) {
+            return "transactions-" + accountNumber + "." + extension;
+        }
+    }
+
+    public TransactionExportService(TransactionHistoryRepository transactionHistoryRepository,
+                                    EntityManager entityManager,
+                                    ObjectMapper objectMapper,
+                                    AuditLogService auditLogService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${easypay.account.export.flush-rows:1000}") int flushRows,
+                                    @Value("${easypay.account.export.max-concurrent:4}") int maxConcurrent) {
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.auditLogService = auditLogService;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.flushRows = flushRows;
+        this.slots = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 자리 확보 (응답을 시작하기 전에 호출, 내보내기가 끝나면 release)
+     * @throws TooManyRequestsException 동시 내보내기 상한 초과
+     */
+    public void acquire() {
+        if (!slots.tryAcquire()) {
+            throw new TooManyRequestsException("EXPORT_BUSY", "내보내기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    public void release() {
+        slots.release();
+    }
+
+    /**
+     * 계좌 거래 내역 전체를 최신순으로 out 에 씀 (gzip 이면 압축하여 씀)
+     * @return 내보낸 행 수
+     */
+    public long export(String accountNumber, Format format, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 8192);
+        try {
+            long rows = readOnly.execute(status -> {
+                try (Stream<TransactionHistory> history = transactionHistoryRepository.streamByAccountNumber(accountNumber)) {
+                    return write(history, format, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            if (gzip) {
+                ((GZIPOutputStream) target).finish();
+            }
+            auditLogService.logSuccess("TRANSACTION_EXPORT", "ACCOUNT", accountNumber, "거래내역 내보내기 성공",
+                    Map.of("format", format.name(), "rows", rows));
+            return rows;
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 끊김 등 (응답이 이미 시작되어 상태 코드는 바꿀 수 없음)
+            log.warn("거래내역 내보내기 중단: 계좌={}, {}", accountNumber, e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+
+    private long write(Stream<TransactionHistory> history, Format format, Writer writer) throws IOException {
+        if (format == Format.CSV) {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        var iterator = history.iterator();
+        while (iterator.hasNext()) {
+            TransactionHistory row = iterator.next();
+            if (format == Format.CSV) {
+                writeCsv(row, writer);
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            entityManager.detach(row);
+            if (++rows % flushRows == 0) {
+                writer.flush();
+            }
+        }
+        return rows;
+    }
+
+    private static void writeCsv(TransactionHistory row, Writer writer) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(row.getCreatedAt() != null ? row.getCreatedAt().toString() : "");
+        writer.write(',');
+        writer.write(row.getTransactionType() != null ? row.getTransactionType().name() : "");
+        writer.write(',');
+        writer.write(row.getAmount() != null ? row.getAmount().toPlainString() : "");
+        writer.write(',');
+        writer.write(row.getBalanceBefore() != null ? row.getBalanceBefore().toPlainString() : "");
+        writer.write(',');
+        writer.write(row.getBalanceAfter() != null ? row.getBalanceAfter().toPlainString() : "");
+        writer.write(',');
+        writer.write(row.getStatus() != null ? row.getStatus().name() : "");
+        writer.write(',');
+        writer.write(csvText(row.getTransactionId()));
+        writer.write(',');
+        writer.write(csvText(row.getReferenceId()));
+        writer.write(',');
+        writer.write(csvText(row.getDescription()));
+        writer.write('\n');
+    }
+
+    /**
+     * 문자열 필드 CSV 이스케이프 (구분자 / 따옴표 / 줄바꿈은 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 ' 접두)
+     */
+    static String csvText(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String text = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,97 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.dto.TransactionHistoryItem;
+import fintech2.easypay.account.dto.TransactionHistoryPageResponse;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.account.repository.UserAccountRepository;
+import fintech2.easypay.auth.dto.UserPrincipal;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.enums.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 계좌 거래 내역 조회
+ * 키셋(createdAt, id) 커서로 페이지를 나누어 깊은 페이지도 첫 페이지와 같은 비용으로 조회 (offset / count 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionHistoryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    // 기간 조건이 없을 때의 범위 (DB 타임스탬프 범위 안의 값)
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final UserAccountRepository userAccountRepository;
+
+    /**
+     * 본인 계좌인지 확인 (기본 계좌 또는 보유한 user_accounts)
+     */
+    @Transactional(readOnly = true)
+    public void checkOwner(UserPrincipal userPrincipal, String accountNumber) {
+        if (accountNumber.equals(userPrincipal.getAccountNumber())) {
+            return;
+        }
+        if (userAccountRepository.findByUserIdAndAccountNumber(userPrincipal.getId(), accountNumber).isEmpty()) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, "본인 계좌가 아닙니다.");
+        }
+    }
+
+    /**
+     * 거래 내역 커서 페이지 (최신순)
+     * @param before 이전 페이지의 nextCursor (createdAt,id), 첫 페이지면 null
+     * @param types 거래 유형 조건 (없으면 전체)
+     * @param from 조회 시작일 (포함, 없으면 처음부터)
+     * @param to 조회 종료일 (포함, 없으면 현재까지)
+     */
+    @Transactional(readOnly = true)
+    public TransactionHistoryPageResponse getHistory(String accountNumber, String before, int size,
+                                                     List<TransactionType> types, LocalDate from, LocalDate to) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDateTime fromAt = from != null ? from.atStartOfDay() : MIN_CREATED_AT;
+        LocalDateTime toAt = to != null ? to.plusDays(1).atStartOfDay() : MAX_CREATED_AT;
+        if (!fromAt.isBefore(toAt)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "조회 시작일이 종료일보다 늦습니다.");
+        }
+
+        // 첫 페이지는 기간 끝을 커서로 사용 (id 0 보다 작은 행은 없으므로 createdAt < to)
+        LocalDateTime cursorAt = toAt;
+        long cursorId = 0L;
+        if (before != null && !before.isBlank()) {
+            int separator = before.lastIndexOf(',');
+            try {
+                cursorAt = LocalDateTime.parse(before.substring(0, separator));
+                cursorId = Long.parseLong(before.substring(separator + 1));
+            } catch (DateTimeParseException | NumberFormatException | StringIndexOutOfBoundsException e) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다: " + before);
+            }
+        }
+
+        // 한 건 더 조회하여 다음 페이지 여부 판단
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<TransactionHistoryItem> rows = types == null || types.isEmpty()
+                ? transactionHistoryRepository.findPage(accountNumber, fromAt, toAt, cursorAt, cursorId, limit)
+                : transactionHistoryRepository.findPageByTypes(accountNumber, types, fromAt, toAt, cursorAt, cursorId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TransactionHistoryItem> page = hasNext ? rows.subList(0, pageSize) : rows;
+        TransactionHistoryItem last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return TransactionHistoryPageResponse.builder()
+                .accountNumber(accountNumber)
+                .content(page)
+                .nextCursor(hasNext ? last.getCreatedAt() + "," + last.getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package fintech2.easypay.account.service;
 import fintech2.easypay.account.entity.TransactionHistory;
 import fintech2.easypay.account.repository.TransactionHistoryRepository;
 import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.common.BusinessException;
 import fintech2.easypay.common.enums.TransactionStatus;
 import fintech2.easypay.common.enums.TransactionType;
 import fintech2.easypay.common.exception.AccountNotFoundException;
@@ -11,11 +12,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -31,47 +33,23 @@ public class TransactionService { // TransferService -> TransactionService
     private final BalanceService balanceService;
     private final TransactionHistoryRepository transactionHistoryRepository;
     private final AuditLogService auditLogService;
+    private final AccountLockManager accountLockManager;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 계좌 간 송금
+     * 두 계좌의 스트라이프 락을 먼저 획득한 뒤 트랜잭션을 시작
      */
-    @Transactional
     public ResponseEntity<?> transfer(String fromAccountNumber, String toAccountNumber, BigDecimal amount, String description, String userId) {
         String transferId = UUID.randomUUID().toString();
         
         try {
-            // 출금 (송금자 계좌에서 차감)
-            BalanceService.BalanceChangeResult debitResult = balanceService.decrease(
-                fromAccountNumber, 
-                amount, 
-                TransactionType.TRANSFER_OUT, 
-                "송금: " + description, 
-                transferId, 
-                userId
-            );
-
-            // 입금 (수취자 계좌에 추가)
-            BalanceService.BalanceChangeResult creditResult = balanceService.increase(
-                toAccountNumber, 
-                amount, 
-                TransactionType.TRANSFER_IN, 
-                "입금: " + description, 
-                transferId, 
-                userId
+            Map<String, Object> response = accountLockManager.executeWithLocks(
+                List.of(fromAccountNumber, toAccountNumber),
+                () -> transactionTemplate.execute(status ->
+                    transferInTransaction(transferId, fromAccountNumber, toAccountNumber, amount, description, userId))
             );
 
-            // 응답 생성
-            Map<String, Object> response = new HashMap<>();
-            response.put("transferId", transferId);
-            response.put("fromAccount", fromAccountNumber);
-            response.put("toAccount", toAccountNumber);
-            response.put("amount", amount);
-            response.put("description", description);
-            response.put("fromBalanceAfter", debitResult.getBalanceAfter());
-            response.put("toBalanceAfter", creditResult.getBalanceAfter());
-            response.put("status", "COMPLETED");
-            response.put("timestamp", LocalDateTime.now());
-
             // 감사 로그 기록
             auditLogService.logSuccess(
                 userId != null ? Long.parseLong(userId) : null,
@@ -95,6 +73,9 @@ public class TransactionService { // TransferService -> TransactionService
         } catch (InsufficientBalanceException e) {
             auditLogService.logError("TRANSFER", "ACCOUNT", transferId, "잔액 부족: " + e.getMessage(), e);
             throw e;
+        } catch (BusinessException e) {
+            auditLogService.logError("TRANSFER", "ACCOUNT", transferId, "송금 실패: " + e.getMessage(), e);
+            throw e;
         } catch (Exception e) {
             log.error("송금 중 오류 발생: {}", sanitizeLogMessage(e.getMessage()), e);
             auditLogService.logError("TRANSFER", "ACCOUNT", transferId, "송금 실패: " + e.getMessage(), e);
@@ -102,6 +83,45 @@ public class TransactionService { // TransferService -> TransactionService
         }
     }
 
+    /**
+     * 송금 트랜잭션 본문 (출금 + 입금)
+     */
+    private Map<String, Object> transferInTransaction(String transferId, String fromAccountNumber, String toAccountNumber,
+                                                      BigDecimal amount, String description, String userId) {
+        // 출금 (송금자 계좌에서 차감)
+        BalanceService.BalanceChangeResult debitResult = balanceService.decrease(
+            fromAccountNumber, 
+            amount, 
+            TransactionType.TRANSFER_OUT, 
+            "송금: " + description, 
+            transferId, 
+            userId
+        );
+
+        // 입금 (수취자 계좌에 추가)
+        BalanceService.BalanceChangeResult creditResult = balanceService.increase(
+            toAccountNumber, 
+            amount, 
+            TransactionType.TRANSFER_IN, 
+            "입금: " + description, 
+            transferId, 
+            userId
+        );
+
+        // 응답 생성
+        Map<String, Object> response = new HashMap<>();
+        response.put("transferId", transferId);
+        response.put("fromAccount", fromAccountNumber);
+        response.put("toAccount", toAccountNumber);
+        response.put("amount", amount);
+        response.put("description", description);
+        response.put("fromBalanceAfter", debitResult.getBalanceAfter());
+        response.put("toBalanceAfter", creditResult.getBalanceAfter());
+        response.put("status", "COMPLETED");
+        response.put("timestamp", LocalDateTime.now());
+        return response;
+    }
+
     /**
      * 송금 내역 조회
      */
@@ -0,0 +1,256 @@
+package fintech2.easypay.account.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fintech2.easypay.account.entity.UserAccount;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.account.repository.UserAccountRepository;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.scheduling.JobLeaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 계좌별 일일 / 월 이체 한도 (UserAccount.dailyLimit / monthlyLimit) 검증
+ * 한도 사용량은 transfer_limit_usage 의 계좌 - 기간별 행에 누적하여 모든 인스턴스가 같은 한도를 공유
+ *
+ * - 검증과 누적은 조건부 UPDATE (used_amount + 금액 <= 한도) 한 번으로 수행, 같은 행의 동시 출금은 행 락으로 직렬화
+ * - 출금 트랜잭션 안에서 호출하므로 출금이 롤백되면 누적도 함께 롤백
+ * - 기간의 첫 출금이면 transaction_history 합계로 행을 만든 뒤 누적
+ *   (행 생성은 출금 트랜잭션과 같은 커넥션의 세이브포인트 안에서 수행 - 기간이 바뀌는 시점에 커넥션을 추가로 잡지 않음,
+ *    동시 생성은 키 중복으로 한 번만)
+ * - 출금 환원(BalanceService.refund - 송금 / 대량 송금 실패, 결제 취소 / 환불)은 원 출금 기간의 사용량을 복원,
+ *   기간 행을 만들 때도 같은 referenceId 로 환원된 금액은 제외
+ * - 한도 값은 limit-cache-ttl-ms 동안 메모리에 캐시 (DB 조회는 캐시의 compute 밖에서 수행), UserAccount 가 없는 계좌는 한도 없음
+ * 지표: easypay.limit.exceeded{period=daily|monthly}, easypay.limit.seeds
+ */
+@Component
+@Slf4j
+public class TransferLimitService {
+
+    /**
+     * 한도에 포함되는 출금성 거래 유형
+     */
+    public static final Set<TransactionType> OUTFLOW_TYPES =
+            EnumSet.of(TransactionType.WITHDRAWAL, TransactionType.TRANSFER_OUT, TransactionType.PAYMENT);
+
+    static final String DAILY = "DAILY";
+    static final String MONTHLY = "MONTHLY";
+
+    private static final String RESERVE_SQL = "UPDATE transfer_limit_usage SET used_amount = used_amount + ?, updated_at = ? " +
+            "WHERE account_number = ? AND period_type = ? AND period_start = ? AND used_amount + ? <= ?";
+    private static final String UNRESERVE_SQL = "UPDATE transfer_limit_usage " +
+            "SET used_amount = CASE WHEN used_amount > ? THEN used_amount - ? ELSE 0 END, updated_at = ? " +
+            "WHERE account_number = ? AND period_type = ? AND period_start = ?";
+    private static final String SELECT_USED_SQL = "SELECT used_amount FROM transfer_limit_usage " +
+            "WHERE account_number = ? AND period_type = ? AND period_start = ?";
+    private static final String SEED_SQL = "INSERT INTO transfer_limit_usage " +
+            "(account_number, period_type, period_start, used_amount, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate nested;
+    private final UserAccountRepository userAccountRepository;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final JobLeaseService jobLeaseService;
+    private final Cache<String, Limits> limits;
+    private final Counter dailyExceededCounter;
+    private final Counter monthlyExceededCounter;
+    private final Counter seedCounter;
+
+    public TransferLimitService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                UserAccountRepository userAccountRepository,
+                                TransactionHistoryRepository transactionHistoryRepository,
+                                JobLeaseService jobLeaseService,
+                                MeterRegistry meterRegistry,
+                                @Value("${easypay.limit.max-accounts:100000}") long maxAccounts,
+                                @Value("${easypay.limit.limit-cache-ttl-ms:60000}") long limitCacheTtlMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nested = new TransactionTemplate(transactionManager);
+        this.nested.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.userAccountRepository = userAccountRepository;
+        this.transactionHistoryRepository = transactionHistoryRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.limits = Caffeine.newBuilder()
+                .maximumSize(maxAccounts)
+                .expireAfterWrite(Duration.ofMillis(limitCacheTtlMs))
+                .build();
+        this.dailyExceededCounter = exceededCounter(meterRegistry, "daily");
+        this.monthlyExceededCounter = exceededCounter(meterRegistry, "monthly");
+        this.seedCounter = Counter.builder("easypay.limit.seeds").register(meterRegistry);
+    }
+
+    private static Counter exceededCounter(MeterRegistry meterRegistry, String period) {
+        return Counter.builder("easypay.limit.exceeded")
+                .tag("period", period)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한도 검증 후 출금액 누적 (출금 트랜잭션 안에서 호출)
+     * @throws BusinessException 일일 / 월 한도 초과
+     */
+    public void reserve(String accountNumber, BigDecimal amount) {
+        reserve(accountNumber, amount, LocalDate.now());
+    }
+
+    void reserve(String accountNumber, BigDecimal amount, LocalDate today) {
+        Limits limit = limitsOf(accountNumber);
+        if (limit.daily() != null && !tryReserve(accountNumber, DAILY, today, amount, limit.daily())) {
+            exceeded(accountNumber, amount, ErrorCode.DAILY_LIMIT_EXCEEDED, dailyExceededCounter);
+        }
+        if (limit.monthly() != null && !tryReserve(accountNumber, MONTHLY, today.withDayOfMonth(1), amount, limit.monthly())) {
+            // 트랜잭션 밖에서 호출된 경우에도 일일 누적이 남지 않도록 되돌림 (트랜잭션 안이면 롤백으로 함께 사라짐)
+            if (limit.daily() != null) {
+                unreserve(accountNumber, DAILY, today, amount);
+            }
+            exceeded(accountNumber, amount, ErrorCode.MONTHLY_LIMIT_EXCEEDED, monthlyExceededCounter);
+        }
+    }
+
+    private void exceeded(String accountNumber, BigDecimal amount, ErrorCode errorCode, Counter counter) {
+        counter.increment();
+        log.warn("이체 한도 초과: 계좌={}, 요청금액={}, {}", accountNumber, amount, errorCode.getMessage());
+        throw new BusinessException(errorCode);
+    }
+
+    /**
+     * 출금 환원 시 원 출금 일 / 월의 사용량 복원 (환원 트랜잭션 안에서 호출)
+     * 원 출금을 찾지 못하거나 기간 행이 없으면 복원하지 않음 (행이 나중에 만들어지면 초기화에서 환원분 제외)
+     */
+    public void release(String accountNumber, BigDecimal amount, String referenceId) {
+        if (referenceId == null) {
+            return;
+        }
+        LocalDateTime outflowAt = transactionHistoryRepository.findOutflowCreatedAt(accountNumber, referenceId, OUTFLOW_TYPES);
+        if (outflowAt == null) {
+            return;
+        }
+        LocalDate outflowDay = outflowAt.toLocalDate();
+        unreserve(accountNumber, DAILY, outflowDay, amount);
+        unreserve(accountNumber, MONTHLY, outflowDay.withDayOfMonth(1), amount);
+    }
+
+    /**
+     * 조건부 UPDATE 로 누적 (기간 행이 없으면 거래 내역 합계로 만든 뒤 다시 시도)
+     * @return 한도 안이라 누적했으면 true
+     */
+    private boolean tryReserve(String accountNumber, String periodType, LocalDate periodStart,
+                               BigDecimal amount, BigDecimal limit) {
+        if (reserveUpdate(accountNumber, periodType, periodStart, amount, limit)) {
+            return true;
+        }
+        if (usedAmount(accountNumber, periodType, periodStart) != null) {
+            return false;
+        }
+        seed(accountNumber, periodType, periodStart);
+        return reserveUpdate(accountNumber, periodType, periodStart, amount, limit);
+    }
+
+    private boolean reserveUpdate(String accountNumber, String periodType, LocalDate periodStart,
+                                  BigDecimal amount, BigDecimal limit) {
+        return jdbcTemplate.update(RESERVE_SQL, amount, Timestamp.valueOf(LocalDateTime.now()),
+                accountNumber, periodType, Date.valueOf(periodStart), amount, limit) == 1;
+    }
+
+    private void unreserve(String accountNumber, String periodType, LocalDate periodStart, BigDecimal amount) {
+        jdbcTemplate.update(UNRESERVE_SQL, amount, amount, Timestamp.valueOf(LocalDateTime.now()),
+                accountNumber, periodType, Date.valueOf(periodStart));
+    }
+
+    /**
+     * 기간 행 생성 - 기간 시작 이후 출금 합계에서 환원된 금액을 뺀 값으로 초기화
+     * 출금 트랜잭션 안의 세이브포인트에서 INSERT (트랜잭션 밖이면 새 트랜잭션)
+     * 다른 트랜잭션이 먼저 만들었으면 키 중복 - 세이브포인트까지만 롤백하고 그 행을 사용
+     */
+    private void seed(String accountNumber, String periodType, LocalDate periodStart) {
+        LocalDateTime from = periodStart.atStartOfDay();
+        BigDecimal outflow = transactionHistoryRepository.sumAmountSince(accountNumber, OUTFLOW_TYPES, from);
+        BigDecimal refunded = transactionHistoryRepository.sumRefundedSince(accountNumber, OUTFLOW_TYPES, from);
+        BigDecimal used = (outflow != null ? outflow : BigDecimal.ZERO)
+                .subtract(refunded != null ? refunded : BigDecimal.ZERO)
+                .max(BigDecimal.ZERO);
+        try {
+            nested.executeWithoutResult(status -> jdbcTemplate.update(SEED_SQL, accountNumber, periodType,
+                    Date.valueOf(periodStart), used, Timestamp.valueOf(LocalDateTime.now())));
+            seedCounter.increment();
+        } catch (DuplicateKeyException e) {
+            log.debug("이체 한도 사용량 행이 이미 생성됨: 계좌={}, {} {}", accountNumber, periodType, periodStart);
+        }
+    }
+
+    /**
+     * 계좌 한도 (캐시에 없으면 compute 밖에서 조회 후 적재 - 가상 스레드 고정 방지, PrincipalCache 와 같은 방식)
+     */
+    private Limits limitsOf(String accountNumber) {
+        Limits cached = limits.getIfPresent(accountNumber);
+        if (cached != null) {
+            return cached;
+        }
+        UserAccount account = userAccountRepository.findByAccountNumber(accountNumber).orElse(null);
+        Limits loaded = account == null ? Limits.NONE : new Limits(account.getDailyLimit(), account.getMonthlyLimit());
+        Limits previous = limits.asMap().putIfAbsent(accountNumber, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    /**
+     * 지난 기간 사용량 정리 (전월 1일 이전 기간 삭제, 한 노드에서만)
+     */
+    @Scheduled(cron = "${easypay.limit.purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        jobLeaseService.runExclusively("transfer-limit-usage-purge", Duration.ofMinutes(10), Duration.ofSeconds(30), () -> {
+            int deleted = jdbcTemplate.update("DELETE FROM transfer_limit_usage WHERE period_start < ?",
+                    Date.valueOf(LocalDate.now().minusMonths(1).withDayOfMonth(1)));
+            if (deleted > 0) {
+                log.info("지난 이체 한도 사용량 정리: {}건", deleted);
+            }
+        });
+    }
+
+    /**
+     * 당일 / 당월 누적 사용량 (테스트용, 행이 없으면 0)
+     */
+    BigDecimal dailyTotal(String accountNumber, LocalDate today) {
+        BigDecimal used = usedAmount(accountNumber, DAILY, today);
+        return used != null ? used : BigDecimal.ZERO;
+    }
+
+    BigDecimal monthlyTotal(String accountNumber, LocalDate today) {
+        BigDecimal used = usedAmount(accountNumber, MONTHLY, today.withDayOfMonth(1));
+        return used != null ? used : BigDecimal.ZERO;
+    }
+
+    private BigDecimal usedAmount(String accountNumber, String periodType, LocalDate periodStart) {
+        List<BigDecimal> used = jdbcTemplate.queryForList(SELECT_USED_SQL, BigDecimal.class,
+                accountNumber, periodType, Date.valueOf(periodStart));
+        return used.isEmpty() ? null : used.get(0);
+    }
+
+    /**
+     * 계좌 한도 (null 이면 해당 기간 한도 없음)
+     */
+    private record Limits(BigDecimal daily, BigDecimal monthly) {
+        static final Limits NONE = new Limits(null, null);
+    }
+}
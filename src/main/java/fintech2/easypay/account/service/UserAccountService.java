@@ -8,11 +8,14 @@ import fintech2.easypay.common.enums.AccountStatus;
 import fintech2.easypay.common.enums.TransactionStatus;
 import fintech2.easypay.common.enums.TransactionType;
 import fintech2.easypay.common.exception.AccountNotFoundException;
+import fintech2.easypay.common.util.IdGenerator;
 import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.auth.service.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -31,9 +34,14 @@ public class UserAccountService {
     private final UserAccountRepository userAccountRepository;
     private final TransactionHistoryRepository transactionHistoryRepository;
     private final AuditLogService auditLogService;
+    private final BalanceService balanceService;
+    private final AccountLockManager accountLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final IdGenerator idGenerator;
+    private final TransferLimitService transferLimitService;
+    private final PrincipalCache principalCache;
     
     private static final int MAX_ACCOUNTS_PER_USER = 5; // 사용자당 최대 계좌 수
-    private static final String ACCOUNT_PREFIX = "EP"; // EasyPay 계좌 접두어
     
     /**
      * 사용자의 모든 활성 계좌 조회
@@ -43,6 +51,7 @@ public class UserAccountService {
         
         List<UserAccount> accounts = userAccountRepository
                 .findByUserIdAndStatusOrderByIsPrimaryDescCreatedAtAsc(userId, AccountStatus.ACTIVE);
+        accounts.forEach(this::projectLedgerBalance);
         
         log.info("사용자 계좌 목록 조회 완료: userId={}, 계좌수={}", userId, accounts.size());
         auditLogService.logSuccess("USER_ACCOUNTS_INQUIRY", "ACCOUNT", String.valueOf(userId), 
@@ -57,7 +66,8 @@ public class UserAccountService {
     public Optional<UserAccount> getPrimaryAccount(Long userId) {
         log.debug("기본 계좌 조회: userId={}", userId);
         
-        Optional<UserAccount> primaryAccount = userAccountRepository.findByUserIdAndIsPrimaryTrue(userId);
+        Optional<UserAccount> primaryAccount = userAccountRepository.findByUserIdAndIsPrimaryTrue(userId)
+                .map(this::projectLedgerBalance);
         
         if (primaryAccount.isPresent()) {
             log.info("기본 계좌 조회 성공: userId={}, accountNumber={}", 
@@ -82,8 +92,8 @@ public class UserAccountService {
             throw new IllegalStateException("계좌 개수 한도 초과: 최대 " + MAX_ACCOUNTS_PER_USER + "개까지 생성 가능");
         }
         
-        // 고유한 계좌번호 생성
-        String newAccountNumber = generateUniqueAccountNumber();
+        // 고유한 계좌번호 생성 (EP + 16자리, DB 중복 확인 없음)
+        String newAccountNumber = idGenerator.nextAccountNumber();
         
         // 첫 번째 계좌인 경우 기본 계좌로 설정
         boolean isPrimary = accountCount == 0;
@@ -156,6 +166,7 @@ public class UserAccountService {
         newPrimaryAccount.setPrimary();
         newPrimaryAccount.setUpdatedAt(LocalDateTime.now());
         userAccountRepository.save(newPrimaryAccount);
+        principalCache.evictByUserId(userId);
         
         log.info("기본 계좌 변경 완료: {}", newPrimaryAccountNumber);
         auditLogService.logSuccess("PRIMARY_ACCOUNT_CHANGED", "ACCOUNT", newPrimaryAccountNumber, 
@@ -171,6 +182,7 @@ public class UserAccountService {
         
         UserAccount account = userAccountRepository.findByUserIdAndAccountNumber(userId, accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
+        projectLedgerBalance(account);
         
         // 기본 계좌는 비활성화 불가
         if (account.getIsPrimary()) {
@@ -185,6 +197,7 @@ public class UserAccountService {
         account.deactivate();
         account.setUpdatedAt(LocalDateTime.now());
         userAccountRepository.save(account);
+        principalCache.evictByUserId(userId);
         
         log.info("계좌 비활성화 완료: {}", accountNumber);
         auditLogService.logSuccess("ACCOUNT_DEACTIVATED", "ACCOUNT", accountNumber, 
@@ -195,7 +208,8 @@ public class UserAccountService {
      * 계좌번호로 계좌 조회
      */
     public Optional<UserAccount> getAccountByNumber(String accountNumber) {
-        return userAccountRepository.findByAccountNumber(accountNumber);
+        return userAccountRepository.findByAccountNumber(accountNumber)
+                .map(this::projectLedgerBalance);
     }
     
     /**
@@ -212,6 +226,10 @@ public class UserAccountService {
         UserAccount primaryAccount = getPrimaryAccount(userId)
                 .orElseThrow(() -> new AccountNotFoundException("기본 계좌를 찾을 수 없습니다"));
         
+        if (balanceService.isLedgerMode()) {
+            return postToLedger(userId, primaryAccount, amount, TransactionType.DEPOSIT, memo != null ? memo : "입금", true);
+        }
+        
         BigDecimal oldBalance = primaryAccount.getBalance();
         BigDecimal newBalance = oldBalance.add(amount);
         
@@ -253,12 +271,19 @@ public class UserAccountService {
         UserAccount primaryAccount = getPrimaryAccount(userId)
                 .orElseThrow(() -> new AccountNotFoundException("기본 계좌를 찾을 수 없습니다"));
         
+        if (balanceService.isLedgerMode()) {
+            return postToLedger(userId, primaryAccount, amount, TransactionType.WITHDRAWAL, memo != null ? memo : "출금", false);
+        }
+        
         BigDecimal oldBalance = primaryAccount.getBalance();
         
         if (oldBalance.compareTo(amount) < 0) {
             throw new IllegalArgumentException("잔액이 부족합니다");
         }
         
+        // 일일 / 월 이체 한도 검증 (원장 모드에서는 BalanceService 에서 검증)
+        transferLimitService.reserve(primaryAccount.getAccountNumber(), amount);
+        
         BigDecimal newBalance = oldBalance.subtract(amount);
         
         primaryAccount.setBalance(newBalance);
@@ -287,8 +312,8 @@ public class UserAccountService {
     
     /**
      * 특정 계좌 입금
+     * 계좌 스트라이프 락을 먼저 획득한 뒤 트랜잭션을 시작
      */
-    @Transactional
     public UserAccount depositToAccount(Long userId, String accountNumber, BigDecimal amount, String memo) {
         log.info("계좌 입금: userId={}, accountNumber={}, amount={}", userId, accountNumber, amount);
         
@@ -296,9 +321,18 @@ public class UserAccountService {
             throw new IllegalArgumentException("입금 금액은 0보다 커야 합니다");
         }
         
+        return accountLockManager.executeWithLock(accountNumber, () ->
+                transactionTemplate.execute(status -> depositToAccountInTransaction(userId, accountNumber, amount, memo)));
+    }
+    
+    private UserAccount depositToAccountInTransaction(Long userId, String accountNumber, BigDecimal amount, String memo) {
         UserAccount account = userAccountRepository.findByUserIdAndAccountNumber(userId, accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
         
+        if (balanceService.isLedgerMode()) {
+            return postToLedger(userId, account, amount, TransactionType.DEPOSIT, memo != null ? memo : "입금", true);
+        }
+        
         BigDecimal oldBalance = account.getBalance();
         BigDecimal newBalance = oldBalance.add(amount);
         
@@ -318,8 +352,8 @@ public class UserAccountService {
     
     /**
      * 특정 계좌 출금
+     * 계좌 스트라이프 락을 먼저 획득한 뒤 트랜잭션을 시작
      */
-    @Transactional
     public UserAccount withdrawFromAccount(Long userId, String accountNumber, BigDecimal amount, String memo) {
         log.info("계좌 출금: userId={}, accountNumber={}, amount={}", userId, accountNumber, amount);
         
@@ -327,15 +361,27 @@ public class UserAccountService {
             throw new IllegalArgumentException("출금 금액은 0보다 커야 합니다");
         }
         
+        return accountLockManager.executeWithLock(accountNumber, () ->
+                transactionTemplate.execute(status -> withdrawFromAccountInTransaction(userId, accountNumber, amount, memo)));
+    }
+    
+    private UserAccount withdrawFromAccountInTransaction(Long userId, String accountNumber, BigDecimal amount, String memo) {
         UserAccount account = userAccountRepository.findByUserIdAndAccountNumber(userId, accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("계좌를 찾을 수 없습니다: " + accountNumber));
         
+        if (balanceService.isLedgerMode()) {
+            return postToLedger(userId, account, amount, TransactionType.WITHDRAWAL, memo != null ? memo : "출금", false);
+        }
+        
         BigDecimal oldBalance = account.getBalance();
         
         if (oldBalance.compareTo(amount) < 0) {
             throw new IllegalArgumentException("잔액이 부족합니다");
         }
         
+        // 일일 / 월 이체 한도 검증 (원장 모드에서는 BalanceService 에서 검증)
+        transferLimitService.reserve(accountNumber, amount);
+        
         BigDecimal newBalance = oldBalance.subtract(amount);
         
         account.setBalance(newBalance);
@@ -353,38 +399,37 @@ public class UserAccountService {
     }
     
     /**
-     * 고유한 계좌번호 생성
+     * 원장 모드 입출금 - BalanceService 를 통해 account_balances 한 행만 갱신
      */
-    private String generateUniqueAccountNumber() {
-        String accountNumber;
-        int attempts = 0;
-        int maxAttempts = 10;
-        
-        do {
-            accountNumber = generateAccountNumber();
-            attempts++;
-            
-            if (attempts > maxAttempts) {
-                throw new RuntimeException("계좌번호 생성 실패: 최대 시도 횟수 초과");
-            }
-        } while (userAccountRepository.existsByAccountNumber(accountNumber));
+    private UserAccount postToLedger(Long userId, UserAccount account, BigDecimal amount,
+                                     TransactionType transactionType, String memo, boolean isDeposit) {
+        String accountNumber = account.getAccountNumber();
+        
+        if (!isDeposit && !balanceService.hasSufficientBalance(accountNumber, amount)) {
+            throw new IllegalArgumentException("잔액이 부족합니다");
+        }
         
-        log.debug("계좌번호 생성 완료: {} (시도 횟수: {})", accountNumber, attempts);
-        return accountNumber;
+        BalanceService.BalanceChangeResult result = isDeposit
+                ? balanceService.increase(accountNumber, amount, transactionType, memo, null, userId.toString())
+                : balanceService.decrease(accountNumber, amount, transactionType, memo, null, userId.toString());
+        account.applyLedgerBalance(result.getBalanceAfter());
+        
+        log.info("원장 {} 완료: accountNumber={}, {} -> {}", isDeposit ? "입금" : "출금",
+                 accountNumber, result.getBalanceBefore(), result.getBalanceAfter());
+        
+        auditLogService.logSuccess(isDeposit ? "DEPOSIT" : "WITHDRAW", "ACCOUNT", accountNumber, memo, null);
+        
+        return account;
     }
     
     /**
-     * 계좌번호 생성 (EP + 10자리 숫자)
+     * 원장 모드일 때 account_balances 잔액을 UserAccount 에 투영
      */
-    private String generateAccountNumber() {
-        // EP + 현재 시간(밀리초) 뒤 7자리 + 랜덤 3자리
-        long timestamp = System.currentTimeMillis();
-        String timestampStr = String.valueOf(timestamp);
-        String lastSevenDigits = timestampStr.substring(Math.max(0, timestampStr.length() - 7));
-        
-        String randomPart = String.valueOf((int)(Math.random() * 1000)).formatted("%03d");
-        
-        return ACCOUNT_PREFIX + lastSevenDigits + randomPart;
+    private UserAccount projectLedgerBalance(UserAccount account) {
+        if (balanceService.isLedgerMode()) {
+            account.applyLedgerBalance(balanceService.getBalance(account.getAccountNumber()));
+        }
+        return account;
     }
     
     /**
@@ -1,15 +1,20 @@
 package fintech2.easypay.audit.controller;
 
+import fintech2.easypay.audit.dto.Alarm;
 import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.audit.service.AlarmStreamService;
 import fintech2.easypay.auth.dto.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +26,21 @@ import java.util.Map;
 public class AlarmController {
 
     private final AlarmService alarmService;
+    private final AlarmStreamService alarmStreamService;
+
+    /**
+     * 알림 / 잔액 변동 SSE 스트림
+     * Last-Event-ID 헤더가 있으면 그 이후 알림부터 재전송 (재기동 이전의 ID 면 보관 중인 알림 모두 재전송)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        String userId = userPrincipal.getId().toString();
+        long lastAlarmId = alarmStreamService.lastAlarmId(lastEventId);
+        
+        return alarmStreamService.subscribe(userId, () ->
+            lastAlarmId >= 0 ? alarmService.getAlarmsAfter(userId, lastAlarmId) : List.of());
+    }
 
     @GetMapping("/count")
     public ResponseEntity<Map<String, Object>> getNotificationCount(@AuthenticationPrincipal UserPrincipal userPrincipal) {
@@ -49,7 +69,7 @@ public class AlarmController {
             @RequestParam(defaultValue = "all") String category) {
         try {
             String userId = userPrincipal != null ? userPrincipal.getId().toString() : null;
-            List<Map<String, Object>> alarms = alarmService.getNotificationList(userId, category);
+            List<Alarm> alarms = alarmService.getNotificationList(userId, category);
             
             Map<String, Object> response = new HashMap<>();
             response.put("alarms", alarms);
@@ -86,4 +106,5 @@ public class AlarmController {
             return ResponseEntity.ok(response);
         }
     }
-} 
\ No newline at end of file
+
+}
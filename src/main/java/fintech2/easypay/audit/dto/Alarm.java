@@ -0,0 +1,23 @@
+package fintech2.easypay.audit.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 알림
+ *
+ * @param id 사용자별 알림 순번 (단조 증가)
+ * @param type 알림 유형 (BALANCE_CHANGE, LOGIN_FAILURE 등)
+ * @param message 알림 메시지
+ * @param timestamp 발생 시각
+ * @param level 알림 레벨 (info / warning / error)
+ * @param category 알림 카테고리 (balance / login / system / general)
+ */
+public record Alarm(
+    long id,
+    String type,
+    String message,
+    LocalDateTime timestamp,
+    String level,
+    String category
+) {
+}
@@ -0,0 +1,85 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.audit.dto.Alarm;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 사용자별 고정 크기 알림 링 버퍼 (락 없음)
+ * 쓰기는 순번을 원자적으로 발급받아 해당 슬롯을 덮어쓰고,
+ * 읽지 않은 알림 수는 (발급 순번 - 읽음 처리 순번) 으로 O(1) 계산
+ */
+class AlarmRing {
+
+    private final AtomicReferenceArray<Alarm> slots;
+    private final int capacity;
+
+    // 다음에 발급할 순번 (= 지금까지 기록된 알림 수)
+    private final AtomicLong writeSequence = new AtomicLong();
+    // 이 순번 미만의 알림은 읽음 처리됨
+    private final AtomicLong readSequence = new AtomicLong();
+
+    AlarmRing(int capacity) {
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 알림 추가 - 가장 오래된 알림을 덮어씀
+     */
+    Alarm add(String type, String message, String level, String category) {
+        long sequence = writeSequence.getAndIncrement();
+        Alarm alarm = new Alarm(sequence, type, message, LocalDateTime.now(), level, category);
+        slots.set(slot(sequence), alarm);
+        return alarm;
+    }
+
+    /**
+     * 읽지 않은 알림 수 (링에 남아 있는 알림 기준)
+     */
+    int unreadCount() {
+        long unread = writeSequence.get() - readSequence.get();
+        return (int) Math.max(0, Math.min(unread, capacity));
+    }
+
+    /**
+     * 현재까지의 알림을 모두 읽음 처리
+     */
+    void markAllRead() {
+        long written = writeSequence.get();
+        readSequence.accumulateAndGet(written, Math::max);
+    }
+
+    /**
+     * 최신순 스냅샷
+     * 다른 스레드가 덮어쓰는 중인 슬롯(순번 불일치)은 건너뜀
+     */
+    List<Alarm> snapshot(String category) {
+        long end = writeSequence.get();
+        long start = Math.max(0, end - capacity);
+        List<Alarm> alarms = new ArrayList<>((int) (end - start));
+
+        for (long sequence = end - 1; sequence >= start; sequence--) {
+            Alarm alarm = slots.get(slot(sequence));
+            if (alarm == null || alarm.id() != sequence) {
+                continue;
+            }
+            if (category == null || "all".equals(category) || category.equals(alarm.category())) {
+                alarms.add(alarm);
+            }
+        }
+        return alarms;
+    }
+
+    int size() {
+        return (int) Math.min(writeSequence.get(), capacity);
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % capacity);
+    }
+}
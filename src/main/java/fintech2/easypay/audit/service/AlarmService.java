@@ -1,27 +1,33 @@
 package fintech2.easypay.audit.service;
 
+import fintech2.easypay.audit.dto.Alarm;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class AlarmService {
 
-    // 실제로는 DB에 저장해야 하지만, 현재는 메모리에 저장 (테스트용)
-    private final Map<String, List<Map<String, Object>>> userAlarms = new ConcurrentHashMap<>();
+    private final AlarmStreamService alarmStreamService;
+
+    // 사용자별 최근 알림 보관 개수
+    static final int MAX_ALARMS_PER_USER = 50;
     
-    // 읽음 처리된 알림 추적
-    private final Map<String, LocalDateTime> userReadTimes = new ConcurrentHashMap<>();
+    // 실제로는 DB에 저장해야 하지만, 현재는 메모리에 저장 (사용자별 고정 크기 링 버퍼)
+    private final Map<String, AlarmRing> userAlarms = new ConcurrentHashMap<>();
     
     // 이상거래 감지 임계값
     private static final BigDecimal SUSPICIOUS_AMOUNT_THRESHOLD = new BigDecimal("1000000"); // 100만원
     private static final BigDecimal LARGE_AMOUNT_THRESHOLD = new BigDecimal("500000"); // 50만원
     private static final int FREQUENT_TRANSACTION_THRESHOLD = 5; // 5분 내 5회 이상 거래
+    private static final int BURST_TRANSACTION_THRESHOLD = 3; // 1분 내 3회 이상 거래
+    private static final long HOURLY_AMOUNT_THRESHOLD = 3_000_000L; // 1시간 누적 300만원 초과 (분할 거래)
 
     // 시스템 알람 (관리자용 - 시스템 에러, 보안 이슈 등)
     public void sendSystemAlert(String service, String message, Exception ex) {
@@ -91,8 +97,9 @@ public class AlarmService {
         sendAdminNotification("SECURITY_ISSUE", "로그인 실패: " + phoneNumber + " - " + reason, null);
     }
 
-    // 이상거래 감지 및 알림
-    public void detectSuspiciousTransaction(String accountNumber, String userId, BigDecimal amount, String transactionType) {
+    // 이상거래 감지 및 알림 (출금성 거래마다 호출, velocity 는 이번 거래를 포함한 계좌별 윈도우 합계)
+    public void detectSuspiciousTransaction(String accountNumber, String userId, BigDecimal amount, String transactionType,
+                                            TransactionVelocityTracker.VelocitySnapshot velocity) {
         // 1. 대금액 거래 감지
         if (amount.compareTo(SUSPICIOUS_AMOUNT_THRESHOLD) > 0) {
             String message = String.format("⚠️ 이상거래 감지: 계좌 %s에서 %s원의 대금액 거래가 발생했습니다. 거래유형: %s", 
@@ -113,53 +120,39 @@ public class AlarmService {
             sendUserNotification(userId, "LARGE_TRANSACTION", message);
         }
         
-        // 3. 빈번한 거래 감지 (실제로는 DB에서 최근 거래 내역을 조회해야 함)
-        // 현재는 간단한 예시로 구현
-        if (transactionType.equals("WITHDRAWAL") || transactionType.equals("PAYMENT")) {
-            String message = String.format("⚡ 빈번한 거래 감지: 계좌 %s에서 잦은 %s 거래가 발생했습니다.", 
-                accountNumber, transactionType);
+        // 3. 빈번한 거래 감지 - 임계값에 처음 도달한 거래에서만 알림 (윈도우 안의 이후 거래는 중복 알림 없음)
+        if (velocity.count1m() == BURST_TRANSACTION_THRESHOLD || velocity.count5m() == FREQUENT_TRANSACTION_THRESHOLD) {
+            String message = String.format("⚡ 빈번한 거래 감지: 계좌 %s에서 최근 1분 %d회, 5분 %d회의 %s 거래가 발생했습니다.", 
+                accountNumber, velocity.count1m(), velocity.count5m(), transactionType);
             
             log.warn("[FREQUENT_TRANSACTION] {}", message);
             sendUserNotification(userId, "FREQUENT_TRANSACTION", message);
         }
+        
+        // 4. 분할 거래 감지 - 1시간 누적 금액이 임계값을 넘는 순간
+        long hourlyBefore = velocity.amount1h() - amount.longValue();
+        if (velocity.amount1h() > HOURLY_AMOUNT_THRESHOLD && hourlyBefore <= HOURLY_AMOUNT_THRESHOLD) {
+            String message = String.format("⚠️ 이상거래 감지: 계좌 %s에서 최근 1시간 동안 %d회, 누적 %d원의 거래가 발생했습니다.", 
+                accountNumber, velocity.count1h(), velocity.amount1h());
+            
+            log.warn("[SUSPICIOUS_TRANSACTION] {}", message);
+            sendUserNotification(userId, "SUSPICIOUS_TRANSACTION", message);
+            sendAdminNotification("SUSPICIOUS_TRANSACTION", 
+                String.format("분할 거래 의심 - 계좌: %s, 1시간 %d회 / %d원", accountNumber, velocity.count1h(), velocity.amount1h()), null);
+        }
     }
 
-    // 사용자 알림 개수 조회
+    // 사용자 알림 개수 조회 (O(1))
     public int getUnreadNotificationCount(String userPrincipal) {
         if (userPrincipal == null) {
             log.debug("[NOTIFICATION_COUNT] User is null, returning 0");
             return 0;
         }
         
-        List<Map<String, Object>> userAlarmList = userAlarms.get(userPrincipal);
-        if (userAlarmList == null || userAlarmList.isEmpty()) {
-            log.debug("[NOTIFICATION_COUNT] User: {}, No alarms found, returning 0", userPrincipal);
-            return 0;
-        }
-        
-        // 읽음 처리된 시간 확인
-        LocalDateTime readTime = userReadTimes.get(userPrincipal);
-        int count;
+        AlarmRing ring = userAlarms.get(userPrincipal);
+        int count = ring != null ? ring.unreadCount() : 0;
         
-        if (readTime != null) {
-            // 읽음 처리된 시간 이후의 알림만 카운트
-            long unreadCount = userAlarmList.stream()
-                .filter(alarm -> {
-                    LocalDateTime alarmTime = (LocalDateTime) alarm.get("timestamp");
-                    return alarmTime.isAfter(readTime);
-                })
-                .count();
-            count = (int) unreadCount;
-            log.debug("[NOTIFICATION_COUNT] User: {}, Read time: {}, Total alarms: {}, Unread count: {}", 
-                     userPrincipal, readTime, userAlarmList.size(), count);
-        } else {
-            // 읽음 처리된 적이 없으면 모든 알림을 읽지 않은 것으로 처리
-            count = userAlarmList.size();
-            log.debug("[NOTIFICATION_COUNT] User: {}, No read time, Total alarms: {}, Count: {}", 
-                     userPrincipal, userAlarmList.size(), count);
-        }
-        
-        log.info("[NOTIFICATION_COUNT] User: {}, Final count: {}", userPrincipal, count);
+        log.debug("[NOTIFICATION_COUNT] User: {}, Unread count: {}", userPrincipal, count);
         return count;
     }
 
@@ -170,58 +163,55 @@ public class AlarmService {
             return;
         }
         
-        LocalDateTime readTime = LocalDateTime.now();
-        userReadTimes.put(userId, readTime);
-        
-        // 현재 알림 개수 확인
-        List<Map<String, Object>> userAlarmList = userAlarms.get(userId);
-        int totalAlarms = userAlarmList != null ? userAlarmList.size() : 0;
+        AlarmRing ring = userAlarms.get(userId);
+        int totalAlarms = 0;
+        if (ring != null) {
+            ring.markAllRead();
+            totalAlarms = ring.size();
+        }
         
-        log.info("[NOTIFICATION_READ] User: {}, Read time: {}, Total alarms: {}", userId, readTime, totalAlarms);
+        log.info("[NOTIFICATION_READ] User: {}, Total alarms: {}", userId, totalAlarms);
     }
 
-    // 알림 목록 조회
-    public List<Map<String, Object>> getNotificationList(String userPrincipal, String category) {
-        List<Map<String, Object>> alarms = new ArrayList<>();
-        
+    // 알림 목록 조회 (최신순)
+    public List<Alarm> getNotificationList(String userPrincipal, String category) {
         if (userPrincipal == null) {
-            return alarms;
+            return new ArrayList<>();
         }
         
-        // 사용자별 저장된 알림 가져오기
-        List<Map<String, Object>> userAlarmList = userAlarms.get(userPrincipal);
-        if (userAlarmList != null) {
-            // 카테고리 필터링
-            if (category.equals("all")) {
-                alarms.addAll(userAlarmList);
-            } else {
-                for (Map<String, Object> alarm : userAlarmList) {
-                    String alarmCategory = (String) alarm.get("category");
-                    if (category.equals(alarmCategory)) {
-                        alarms.add(alarm);
-                    }
-                }
-            }
-        }
-        
-        // 최신순으로 정렬
-        alarms.sort((a, b) -> {
-            LocalDateTime timeA = (LocalDateTime) a.get("timestamp");
-            LocalDateTime timeB = (LocalDateTime) b.get("timestamp");
-            return timeB.compareTo(timeA);
-        });
+        AlarmRing ring = userAlarms.get(userPrincipal);
+        List<Alarm> alarms = ring != null ? ring.snapshot(category) : new ArrayList<>();
         
         log.info("[NOTIFICATION_LIST] User: {}, Category: {}, Count: {}", userPrincipal, category, alarms.size());
         return alarms;
     }
+
+    // 특정 알림 ID 이후 알림 조회 (오래된 순, SSE 재연결용)
+    public List<Alarm> getAlarmsAfter(String userId, long lastAlarmId) {
+        AlarmRing ring = userId != null ? userAlarms.get(userId) : null;
+        if (ring == null) {
+            return List.of();
+        }
+        
+        List<Alarm> alarms = new ArrayList<>();
+        for (Alarm alarm : ring.snapshot("all")) {
+            if (alarm.id() > lastAlarmId) {
+                alarms.add(alarm);
+            }
+        }
+        Collections.reverse(alarms);
+        return alarms;
+    }
     
     // 사용자 알림 (거래내역, 잔액 변동 등)
     public void sendUserNotification(String userId, String type, String message) {
         log.info("[USER_NOTIFICATION] User: {}, Type: {}, Message: {}", userId, type, message);
         
-        // 사용자별 알림 저장
-        Map<String, Object> alarm = createAlarm(type, message);
-        saveUserAlarm(userId, alarm);
+        // 사용자별 알림 저장 후 구독 중인 SSE 연결로 푸시
+        Alarm alarm = saveUserAlarm(userId, type, message);
+        if (alarm != null) {
+            alarmStreamService.publishAlarm(userId, alarm);
+        }
         
         // 사용자 알림 유형별 처리
         switch (type) {
@@ -266,18 +256,6 @@ public class AlarmService {
         // TODO: 이메일 알림 전송
     }
     
-    // 알림 생성
-    private Map<String, Object> createAlarm(String type, String message) {
-        Map<String, Object> alarm = new HashMap<>();
-        alarm.put("id", System.currentTimeMillis()); // 임시 ID
-        alarm.put("type", type);
-        alarm.put("message", message);
-        alarm.put("timestamp", LocalDateTime.now());
-        alarm.put("level", getAlarmLevel(type));
-        alarm.put("category", getAlarmCategory(type));
-        return alarm;
-    }
-    
     // 알림 레벨 결정
     private String getAlarmLevel(String type) {
         switch (type) {
@@ -318,27 +296,22 @@ public class AlarmService {
     }
     
     // 사용자별 알림 저장
-    private void saveUserAlarm(String userId, Map<String, Object> alarm) {
+    private Alarm saveUserAlarm(String userId, String type, String message) {
         if (userId == null) {
-            return;
+            return null;
         }
         
         // USER_REGISTER 알림은 사용자에게 표시하지 않음
-        String type = (String) alarm.get("type");
         if ("USER_REGISTER".equals(type)) {
             log.info("[ALARM_FILTERED] USER_REGISTER alarm filtered for user: {}", userId);
-            return;
-        }
-        
-        List<Map<String, Object>> userAlarmList = userAlarms.computeIfAbsent(userId, k -> new ArrayList<>());
-        
-        // 최근 50개 알림만 유지
-        if (userAlarmList.size() >= 50) {
-            userAlarmList.remove(0);
+            return null;
         }
         
-        userAlarmList.add(alarm);
-        log.info("[USER_ALARM_SAVED] User: {}, Type: {}, Message: {}", userId, type, alarm.get("message"));
+        // 최근 50개 알림만 유지 (가장 오래된 알림을 덮어씀)
+        AlarmRing ring = userAlarms.computeIfAbsent(userId, k -> new AlarmRing(MAX_ALARMS_PER_USER));
+        Alarm alarm = ring.add(type, message, getAlarmLevel(type), getAlarmCategory(type));
+        log.info("[USER_ALARM_SAVED] User: {}, Type: {}, Message: {}", userId, type, alarm.message());
+        return alarm;
     }
 
     // 관리자 알림 (시스템 에러, 보안 이슈 등)
@@ -0,0 +1,287 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.audit.dto.Alarm;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 알림 / 잔액 변동 SSE 푸시 서비스
+ * 연결은 서블릿 비동기 요청(SseEmitter)으로 유지되어 대기 중인 연결이 스레드를 점유하지 않음
+ * 전송은 연결별 큐(queue-capacity)에 넣고 연결마다 한 번에 하나의 가상 스레드가 순서대로 보냄
+ * - 느린 클라이언트는 자기 연결의 큐만 밀리고 거래 처리 스레드나 다른 연결을 막지 않음
+ * - 큐가 넘치거나 한 건 전송이 send-timeout-ms 를 넘으면 연결을 끊음 (클라이언트는 Last-Event-ID 로 재연결하여 누락분 수신)
+ * - 알림과 잔액 변동은 트랜잭션 안에서 호출되면 커밋 후 전송
+ *
+ * 이벤트
+ * - alarm: id = "기동 epoch-사용자별 알림 순번" (Last-Event-ID 로 재연결 시 누락분 재전송)
+ *   알림 순번은 메모리에 있어 재기동하면 1부터 다시 시작하므로, 다른 기동의 ID 로 재연결하면 보관 중인 알림을 모두 재전송
+ * - balance: 커밋된 잔액 변동 (id 없음, 재연결 시 클라이언트가 잔액을 다시 조회)
+ */
+@Service
+@Slf4j
+public class AlarmStreamService {
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // 이 인스턴스의 기동 시각 (이벤트 ID 접두사)
+    private final long bootEpoch = System.currentTimeMillis();
+    private final ExecutorService sender =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("alarm-stream-sender-", 0).factory());
+
+    @Value("${easypay.alarm.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${easypay.alarm.stream.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${easypay.alarm.stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    /**
+     * 스트림 구독
+     * @param userId 사용자 ID
+     * @param missedAlarms Last-Event-ID 이후 알림 조회 (등록 직후 전송 스레드에서 호출)
+     */
+    public SseEmitter subscribe(String userId, Supplier<List<Alarm>> missedAlarms) {
+        return subscribe(userId, missedAlarms, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(String userId, Supplier<List<Alarm>> missedAlarms, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, emitter, queueCapacity);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 누락분 재전송을 큐 맨 앞에 두고 등록한 뒤 전송 시작
+        // 재전송 조회는 등록 이후라 그 사이 발생한 알림이 빠지지 않고, 실시간 전송은 재전송 뒤에 처리 (중복은 replayedIds 로 제거)
+        subscriber.queue.offer(() -> {
+            for (Alarm alarm : missedAlarms.get()) {
+                subscriber.replayedIds.add(alarm.id());
+                sendAlarm(subscriber, alarm);
+            }
+            send(subscriber, SseEmitter.event().name("connected").data("ok"));
+        });
+        subscribers.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        startDrain(subscriber);
+
+        log.debug("[ALARM_STREAM] 구독: user={}, 연결 수={}", userId, connectionCount());
+        return emitter;
+    }
+
+    /**
+     * Last-Event-ID 를 이 기동의 알림 순번으로 변환
+     * @return 마지막으로 받은 알림 순번 (다른 기동 / 이전 형식의 ID 면 0 - 모두 재전송), 없거나 잘못된 값이면 -1 (재전송 없음)
+     */
+    public long lastAlarmId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1;
+        }
+        String value = lastEventId.trim();
+        int separator = value.indexOf('-');
+        try {
+            if (separator < 0) {
+                Long.parseLong(value);
+                return 0;
+            }
+            long epoch = Long.parseLong(value.substring(0, separator));
+            long sequence = Long.parseLong(value.substring(separator + 1));
+            return epoch == bootEpoch ? sequence : 0;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    String eventId(Alarm alarm) {
+        return bootEpoch + "-" + alarm.id();
+    }
+
+    /**
+     * 알림 푸시 - 트랜잭션 안에서 호출되면 커밋 후 전송
+     */
+    public void publishAlarm(String userId, Alarm alarm) {
+        if (userId == null || !subscribers.containsKey(userId)) {
+            return;
+        }
+        afterCommit(() -> {
+            for (Subscriber subscriber : subscribers.getOrDefault(userId, Set.of())) {
+                enqueue(subscriber, () -> {
+                    if (!subscriber.replayedIds.remove(alarm.id())) {
+                        sendAlarm(subscriber, alarm);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * 잔액 변동 푸시 - 트랜잭션 안에서 호출되면 커밋 후 전송
+     */
+    public void publishBalanceChange(String userId, String accountNumber, BigDecimal changeAmount, BigDecimal balanceAfter) {
+        if (userId == null || !subscribers.containsKey(userId)) {
+            return;
+        }
+        afterCommit(() -> {
+            Map<String, Object> data = Map.of(
+                "accountNumber", accountNumber,
+                "changeAmount", changeAmount,
+                "balance", balanceAfter
+            );
+            for (Subscriber subscriber : subscribers.getOrDefault(userId, Set.of())) {
+                enqueue(subscriber, () ->
+                    send(subscriber, SseEmitter.event().name("balance").data(data, MediaType.APPLICATION_JSON)));
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable push) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    push.run();
+                }
+            });
+        } else {
+            push.run();
+        }
+    }
+
+    /**
+     * 하트비트 - 프록시 유휴 타임아웃 방지 및 끊어진 / 전송이 멈춘 연결 정리
+     */
+    @Scheduled(fixedRateString = "${easypay.alarm.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            long sendingSince = subscriber.sendingSince;
+            if (sendingSince != 0 && now - sendingSince > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+                drop(subscriber, "전송 지연");
+            } else {
+                enqueue(subscriber, () -> send(subscriber, SseEmitter.event().comment("heartbeat")));
+            }
+        }));
+    }
+
+    public int connectionCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        sender.shutdown();
+    }
+
+    /**
+     * 연결 큐에 전송 작업 추가 - 전송 중인 작업이 없으면 가상 스레드에서 큐를 비움
+     */
+    private void enqueue(Subscriber subscriber, Runnable task) {
+        if (!subscriber.queue.offer(task)) {
+            drop(subscriber, "전송 큐 초과");
+            return;
+        }
+        startDrain(subscriber);
+    }
+
+    private void startDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Runnable task;
+            while ((task = subscriber.queue.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("[ALARM_STREAM] 전송 작업 실패: user={}, {}", subscriber.userId, e.getMessage());
+                }
+            }
+            subscriber.draining.set(false);
+            // 해제 직후 들어온 작업이 있으면 이어서 처리
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    /**
+     * 느린 연결 종료 - 전송 중인 스레드가 쓰기 락을 잡고 있을 수 있으므로 종료도 가상 스레드에서 수행
+     */
+    private void drop(Subscriber subscriber, String reason) {
+        remove(subscriber);
+        subscriber.queue.clear();
+        log.warn("[ALARM_STREAM] 연결 종료({}): user={}", reason, subscriber.userId);
+        sender.execute(subscriber.emitter::complete);
+    }
+
+    private void sendAlarm(Subscriber subscriber, Alarm alarm) {
+        send(subscriber, SseEmitter.event()
+            .id(eventId(alarm))
+            .name("alarm")
+            .data(alarm, MediaType.APPLICATION_JSON));
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        subscriber.sendingSince = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            remove(subscriber);
+            subscriber.queue.clear();
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.sendingSince = 0;
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static final class Subscriber {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Runnable> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 재전송한 알림 ID (실시간 전송과 겹치면 한 번만 보냄), 큐 작업에서만 접근
+        private final Set<Long> replayedIds = new HashSet<>();
+        // 진행 중인 전송 시작 시각 (nanoTime, 전송 중이 아니면 0)
+        private volatile long sendingSince;
+
+        private Subscriber(String userId, SseEmitter emitter, int queueCapacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        }
+    }
+}
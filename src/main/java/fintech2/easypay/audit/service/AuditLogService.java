@@ -1,24 +1,34 @@
 package fintech2.easypay.audit.service;
 
 import fintech2.easypay.audit.entity.AuditLog;
-import fintech2.easypay.audit.repository.AuditLogRepository;
+import fintech2.easypay.audit.service.AuditLogWriter.Durability;
 import fintech2.easypay.common.enums.AuditResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
+/**
+ * 감사 로그 서비스
+ * 저장은 AuditLogWriter 로 위임하며, 일반 이벤트는 easypay.audit.mode, 보안 이벤트(로그인/가입/PIN 등)는
+ * easypay.audit.security-mode 내구성으로 기록
+ */
 @Service
 @RequiredArgsConstructor
 public class AuditLogService {
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
     private final AlarmService alarmService;
 
-    @Transactional
+    @Value("${easypay.audit.mode:ASYNC}")
+    private Durability mode;
+
+    @Value("${easypay.audit.security-mode:SYNC}")
+    private Durability securityMode;
+
     public void logSuccess(Long userId, String action, String resourceType, String resourceId, String oldValue, String newValue) {
         AuditLog log = createAuditLog(userId, action, resourceType, resourceId, oldValue, newValue, AuditResult.SUCCESS);
-        auditLogRepository.save(log);
+        auditLogWriter.write(log, durabilityFor(action));
         
         // 중요 비즈니스 이벤트는 알람 전송
         if (isImportantEvent(action)) {
@@ -26,10 +36,9 @@ public class AuditLogService {
         }
     }
 
-    @Transactional
     public void logSuccess(String action, String resourceType, String resourceId, String description, Map<String, Object> details) {
         AuditLog log = createAuditLog(null, action, resourceType, resourceId, null, description, AuditResult.SUCCESS);
-        auditLogRepository.save(log);
+        auditLogWriter.write(log, durabilityFor(action));
         
         // 중요 비즈니스 이벤트는 알람 전송
         if (isImportantEvent(action)) {
@@ -37,7 +46,6 @@ public class AuditLogService {
         }
     }
 
-    @Transactional
     public void logSuccess(Long userId, String phoneNumber, fintech2.easypay.common.enums.AuditEventType eventType, String description, String resourceType, String resourceId, String requestData, String responseData) {
         AuditLog log = new AuditLog();
         log.setMemberId(userId);
@@ -47,7 +55,7 @@ public class AuditLogService {
         log.setRequestData(requestData);
         log.setResponseData(responseData);
         log.setStatus(AuditResult.SUCCESS);
-        auditLogRepository.save(log);
+        auditLogWriter.write(log, durabilityFor(eventType.name()));
         
         // 중요 비즈니스 이벤트는 알람 전송
         if (isImportantEvent(eventType.getDescription())) {
@@ -55,37 +63,32 @@ public class AuditLogService {
         }
     }
 
-    @Transactional
     public void logError(Long userId, String action, String resourceType, String resourceId, String error) {
         AuditLog log = createAuditLog(userId, action, resourceType, resourceId, null, error, AuditResult.ERROR);
-        auditLogRepository.save(log);
+        auditLogWriter.write(log, durabilityFor(action));
         
         // 에러는 항상 알람
         alarmService.sendSystemAlert(resourceType, error, null);
     }
 
-    @Transactional
     public void logError(String action, String resourceType, String resourceId, String description, Exception exception) {
         AuditLog log = createAuditLog(null, action, resourceType, resourceId, null, description, AuditResult.ERROR);
-        auditLogRepository.save(log);
+        auditLogWriter.write(log, durabilityFor(action));
         
         // 에러는 항상 알람
         alarmService.sendSystemAlert(resourceType, description, exception);
     }
 
-    @Transactional
     public void logWarning(Long userId, String action, String resourceType, String resourceId, String warning) {
         AuditLog log = createAuditLog(userId, action, resourceType, resourceId, null, warning, AuditResult.WARNING);
-        auditLogRepository.save(log);
+        auditLogWriter.write(log, durabilityFor(action));
     }
 
-    @Transactional
     public void logWarning(String action, String resourceType, String resourceId, String description) {
         AuditLog log = createAuditLog(null, action, resourceType, resourceId, null, description, AuditResult.WARNING);
-        auditLogRepository.save(log);
+        auditLogWriter.write(log, durabilityFor(action));
     }
 
-    @Transactional
     public void logFailure(Long userId, String phoneNumber, fintech2.easypay.common.enums.AuditEventType eventType, String description, String resourceType, String resourceId, String requestData, String errorMessage) {
         AuditLog log = new AuditLog();
         log.setMemberId(userId);
@@ -95,13 +98,12 @@ public class AuditLogService {
         log.setRequestData(requestData);
         log.setErrorMessage(errorMessage);
         log.setStatus(AuditResult.FAIL);
-        auditLogRepository.save(log);
+        auditLogWriter.write(log, durabilityFor(eventType.name()));
         
         // 실패는 항상 알람
         alarmService.sendSystemAlert(eventType.getDescription(), description, null);
     }
 
-    @Transactional
     public void logError(Long userId, String phoneNumber, fintech2.easypay.common.enums.AuditEventType eventType, String description, String resourceType, String resourceId, String requestData, String errorMessage) {
         AuditLog log = new AuditLog();
         log.setMemberId(userId);
@@ -111,7 +113,7 @@ public class AuditLogService {
         log.setRequestData(requestData);
         log.setErrorMessage(errorMessage);
         log.setStatus(AuditResult.ERROR);
-        auditLogRepository.save(log);
+        auditLogWriter.write(log, durabilityFor(eventType.name()));
         
         // 에러는 항상 알람
         alarmService.sendSystemAlert(eventType.getDescription(), description, null);
@@ -128,6 +130,15 @@ public class AuditLogService {
         return log;
     }
 
+    private Durability durabilityFor(String action) {
+        return isSecurityEvent(action) ? securityMode : mode;
+    }
+
+    private boolean isSecurityEvent(String action) {
+        return action != null && (action.contains("LOGIN") || action.contains("LOGOUT") || action.contains("REGISTER")
+                || action.contains("PIN") || action.contains("PASSWORD") || action.contains("TOKEN"));
+    }
+
     private boolean isImportantEvent(String action) {
         return action.contains("REGISTER") || action.contains("LOGIN") || action.contains("BALANCE_UPDATE") || action.contains("ACCOUNT_CREATE");
     }
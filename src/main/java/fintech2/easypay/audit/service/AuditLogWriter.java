@@ -0,0 +1,287 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.audit.entity.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 감사 로그 write-behind 파이프라인
+ * 요청 스레드는 고정 크기 큐에 적재만 하고, 전용 writer 스레드가 배치 단위 JDBC batch insert 로 저장
+ *
+ * 내구성 모드
+ * - ASYNC: 큐 적재 후 즉시 반환 (fire-and-forget)
+ * - ON_COMMIT: 호출 트랜잭션 종료 시점에 큐 적재 후 저장 완료까지 대기 (롤백되어도 기록)
+ * - SYNC: 호출 스레드에서 즉시 저장 (보안 이벤트)
+ *
+ * 큐가 가득 차면 잠시 대기 후 호출 스레드에서 직접 저장하며, 종료 시 남은 항목을 모두 저장한 뒤 멈춤
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements SmartLifecycle {
+
+    static final String INSERT_SQL = "INSERT INTO audit_logs (event_type, status, member_id, phone_number, " +
+            "event_description, request_data, response_data, error_message, ip_address, user_agent, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public enum Durability { ASYNC, ON_COMMIT, SYNC }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingAudit> queue;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final long flushTimeoutMs;
+
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter blockedCounter;
+    private final Counter syncFallbackCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${easypay.audit.queue-capacity:8192}") int queueCapacity,
+                          @Value("${easypay.audit.batch-size:200}") int batchSize,
+                          @Value("${easypay.audit.offer-timeout-ms:50}") long offerTimeoutMs,
+                          @Value("${easypay.audit.flush-timeout-ms:2000}") long flushTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.flushTimeoutMs = flushTimeoutMs;
+
+        Gauge.builder("easypay.audit.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 감사 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("easypay.audit.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("감사 로그 큐 남은 용량")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("easypay.audit.written").register(meterRegistry);
+        this.failedCounter = Counter.builder("easypay.audit.failed").register(meterRegistry);
+        this.blockedCounter = Counter.builder("easypay.audit.backpressure")
+                .tag("action", "blocked").register(meterRegistry);
+        this.syncFallbackCounter = Counter.builder("easypay.audit.backpressure")
+                .tag("action", "sync_fallback").register(meterRegistry);
+        this.batchTimer = Timer.builder("easypay.audit.batch.write")
+                .description("감사 로그 배치 저장 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 감사 로그 기록
+     */
+    public void write(AuditLog auditLog, Durability durability) {
+        if (auditLog.getCreatedAt() == null) {
+            auditLog.setCreatedAt(LocalDateTime.now());
+        }
+
+        if (durability == Durability.SYNC || !running) {
+            insertNow(auditLog);
+            return;
+        }
+
+        if (durability == Durability.ON_COMMIT) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        enqueueAndAwait(auditLog);
+                    }
+                });
+            } else {
+                enqueueAndAwait(auditLog);
+            }
+            return;
+        }
+
+        enqueue(new PendingAudit(auditLog, null));
+    }
+
+    private void enqueueAndAwait(AuditLog auditLog) {
+        CompletableFuture<Void> flushed = new CompletableFuture<>();
+        enqueue(new PendingAudit(auditLog, flushed));
+        try {
+            flushed.get(flushTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("감사 로그 저장 대기 시간 초과 ({}ms), 비동기로 계속 처리", flushTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("감사 로그 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void enqueue(PendingAudit pending) {
+        if (queue.offer(pending)) {
+            // 종료 중 마지막 drain 이후 적재된 항목은 직접 저장
+            if (!running && queue.remove(pending)) {
+                flush(List.of(pending));
+            }
+            return;
+        }
+
+        // 큐 포화: 잠시 대기 후에도 실패하면 호출 스레드에서 직접 저장 (유실 방지)
+        blockedCounter.increment();
+        try {
+            if (queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        syncFallbackCounter.increment();
+        flush(List.of(pending));
+    }
+
+    private void insertNow(AuditLog auditLog) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, auditLog));
+            writtenCounter.increment();
+        } catch (DataAccessException e) {
+            failedCounter.increment();
+            log.error("감사 로그 저장 실패: event={}, description={}, error={}",
+                    auditLog.getEventType(), auditLog.getEventDescription(), e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 저장 - 배치 실패 시 건별 재시도로 실패 항목만 격리
+     */
+    void flush(List<PendingAudit> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batchSize, (ps, pending) -> bind(ps, pending.auditLog()));
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            log.warn("감사 로그 배치 저장 실패, 건별 재시도: size={}, error={}", batch.size(), e.getMessage());
+            for (PendingAudit pending : batch) {
+                insertNow(pending.auditLog());
+            }
+        } finally {
+            sample.stop(batchTimer);
+            for (PendingAudit pending : batch) {
+                if (pending.flushed() != null) {
+                    pending.flushed().complete(null);
+                }
+            }
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingAudit> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingAudit first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("감사 로그 writer 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 큐에 남은 항목을 모두 저장
+     */
+    void drainRemaining() {
+        List<PendingAudit> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("감사 로그 writer 시작: batchSize={}", batchSize);
+    }
+
+    @Override
+    public void stop() {
+        // 이후 기록은 호출 스레드에서 직접 저장
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainRemaining();
+        log.info("감사 로그 writer 종료: 남은 항목 저장 완료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버가 요청 처리를 마친 뒤, DataSource 가 닫히기 전에 멈추도록 낮은 phase 사용
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private static void bind(PreparedStatement ps, AuditLog auditLog) throws SQLException {
+        ps.setString(1, auditLog.getEventType() != null ? auditLog.getEventType().name() : null);
+        ps.setString(2, auditLog.getStatus() != null ? auditLog.getStatus().name() : null);
+        if (auditLog.getMemberId() != null) {
+            ps.setLong(3, auditLog.getMemberId());
+        } else {
+            ps.setNull(3, Types.BIGINT);
+        }
+        ps.setString(4, auditLog.getPhoneNumber());
+        ps.setString(5, auditLog.getEventDescription());
+        ps.setString(6, auditLog.getRequestData());
+        ps.setString(7, auditLog.getResponseData());
+        ps.setString(8, auditLog.getErrorMessage());
+        ps.setString(9, auditLog.getIpAddress());
+        ps.setString(10, auditLog.getUserAgent());
+        ps.setTimestamp(11, Timestamp.valueOf(auditLog.getCreatedAt()));
+    }
+
+    record PendingAudit(AuditLog auditLog, CompletableFuture<Void> flushed) {}
+}
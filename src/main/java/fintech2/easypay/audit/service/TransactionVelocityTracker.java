@@ -0,0 +1,101 @@
+package fintech2.easypay.audit.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * 계좌별 출금성 거래 속도 집계 (메모리, DB 조회 없음)
+ * 1분 / 5분 / 1시간 윈도우의 건수와 금액 합계를 시간 버킷 링(VelocityWindow)으로 유지하여
+ * 이상거래 규칙(AlarmService.detectSuspiciousTransaction)을 거래마다 O(1) 로 평가
+ *
+ * - 계좌당 메모리: 버킷 28개 x (건수 + 금액) long 배열, 약 0.5KB
+ * - 최근 거래가 없는 계좌는 idle-evict-ms 후 제거 (기본 1시간 = 가장 긴 윈도우라 제거해도 집계 손실 없음)
+ * - 추적 계좌 수 상한 max-accounts (초과 시 오래 쓰이지 않은 계좌부터 제거)
+ * 지표: easypay.velocity.tracked_accounts
+ */
+@Component
+public class TransactionVelocityTracker {
+
+    private static final VelocitySnapshot EMPTY = new VelocitySnapshot(0, 0, 0, 0, 0, 0);
+
+    private final Cache<String, AccountVelocity> accounts;
+
+    /**
+     * 윈도우별 건수 / 금액(원) 합계 (이번 거래 포함)
+     */
+    public record VelocitySnapshot(long count1m, long amount1m,
+                                   long count5m, long amount5m,
+                                   long count1h, long amount1h) {
+    }
+
+    public TransactionVelocityTracker(MeterRegistry meterRegistry,
+                                      @Value("${easypay.velocity.max-accounts:100000}") long maxAccounts,
+                                      @Value("${easypay.velocity.idle-evict-ms:3600000}") long idleEvictMs) {
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maxAccounts)
+                .expireAfterAccess(Duration.ofMillis(idleEvictMs))
+                .build();
+        Gauge.builder("easypay.velocity.tracked_accounts", accounts, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 거래 1건 반영 후 윈도우 합계 반환
+     */
+    public VelocitySnapshot record(String accountNumber, BigDecimal amount) {
+        return record(accountNumber, amount, System.currentTimeMillis());
+    }
+
+    VelocitySnapshot record(String accountNumber, BigDecimal amount, long nowMillis) {
+        return accounts.get(accountNumber, k -> new AccountVelocity()).record(nowMillis, amount.longValue());
+    }
+
+    /**
+     * 현재 윈도우 합계 (기록 없음)
+     */
+    public VelocitySnapshot snapshot(String accountNumber) {
+        return snapshot(accountNumber, System.currentTimeMillis());
+    }
+
+    VelocitySnapshot snapshot(String accountNumber, long nowMillis) {
+        AccountVelocity velocity = accounts.getIfPresent(accountNumber);
+        return velocity != null ? velocity.snapshot(nowMillis) : EMPTY;
+    }
+
+    long trackedAccounts() {
+        accounts.cleanUp();
+        return accounts.estimatedSize();
+    }
+
+    /**
+     * 계좌 1개의 윈도우 3개
+     * 같은 계좌의 출금은 계좌 락으로 이미 직렬화되어 있어 계좌 단위 모니터로 충분 (계좌 간 경합 없음)
+     */
+    private static final class AccountVelocity {
+
+        private final VelocityWindow oneMinute = new VelocityWindow(10_000, 6);
+        private final VelocityWindow fiveMinutes = new VelocityWindow(30_000, 10);
+        private final VelocityWindow oneHour = new VelocityWindow(300_000, 12);
+
+        synchronized VelocitySnapshot record(long nowMillis, long amount) {
+            oneMinute.add(nowMillis, amount);
+            fiveMinutes.add(nowMillis, amount);
+            oneHour.add(nowMillis, amount);
+            return snapshot(nowMillis);
+        }
+
+        synchronized VelocitySnapshot snapshot(long nowMillis) {
+            return new VelocitySnapshot(
+                    oneMinute.count(nowMillis), oneMinute.amount(nowMillis),
+                    fiveMinutes.count(nowMillis), fiveMinutes.amount(nowMillis),
+                    oneHour.count(nowMillis), oneHour.amount(nowMillis));
+        }
+    }
+}
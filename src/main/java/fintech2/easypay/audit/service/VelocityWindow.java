@@ -0,0 +1,78 @@
+package fintech2.easypay.audit.service;
+
+import java.util.Arrays;
+
+/**
+ * 시간 버킷 슬라이딩 윈도우 (계좌 1개 / 윈도우 1개)
+ * bucketMillis 단위 버킷 buckets 개를 링으로 사용하고 윈도우 합계(건수 / 금액)를 따로 유지하여
+ * 기록 / 조회 모두 O(1) (지나간 버킷 정리는 시간이 흐른 버킷 수만큼, 최대 buckets 개)
+ * 윈도우 길이는 buckets * bucketMillis (현재 버킷은 진행 중이므로 실제로는 그보다 최대 1버킷 짧음)
+ * 동기화는 호출자(AccountVelocity)가 담당
+ */
+final class VelocityWindow {
+
+    private final long bucketMillis;
+    private final int buckets;
+    private final long[] counts;
+    private final long[] amounts;
+
+    private long totalCount;
+    private long totalAmount;
+    // 마지막으로 반영한 버킷 번호 (시각 / bucketMillis)
+    private long currentEpoch = Long.MIN_VALUE;
+
+    VelocityWindow(long bucketMillis, int buckets) {
+        this.bucketMillis = bucketMillis;
+        this.buckets = buckets;
+        this.counts = new long[buckets];
+        this.amounts = new long[buckets];
+    }
+
+    void add(long nowMillis, long amount) {
+        advance(nowMillis);
+        int slot = slot(currentEpoch);
+        counts[slot]++;
+        amounts[slot] += amount;
+        totalCount++;
+        totalAmount += amount;
+    }
+
+    long count(long nowMillis) {
+        advance(nowMillis);
+        return totalCount;
+    }
+
+    long amount(long nowMillis) {
+        advance(nowMillis);
+        return totalAmount;
+    }
+
+    /**
+     * 윈도우를 벗어난 버킷 정리 (시계가 되돌아간 경우에는 현재 버킷 유지)
+     */
+    private void advance(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        if (epoch <= currentEpoch) {
+            return;
+        }
+        if (currentEpoch == Long.MIN_VALUE || epoch - currentEpoch >= buckets) {
+            Arrays.fill(counts, 0);
+            Arrays.fill(amounts, 0);
+            totalCount = 0;
+            totalAmount = 0;
+        } else {
+            for (long e = currentEpoch + 1; e <= epoch; e++) {
+                int slot = slot(e);
+                totalCount -= counts[slot];
+                totalAmount -= amounts[slot];
+                counts[slot] = 0;
+                amounts[slot] = 0;
+            }
+        }
+        currentEpoch = epoch;
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets);
+    }
+}
@@ -0,0 +1,27 @@
+package fintech2.easypay.auth.dto;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT (한 번 파싱한 결과)
+ *
+ * @param subject 토큰 주체 (휴대폰 번호)
+ * @param expiration 만료 시각
+ * @param claims 전체 클레임 (읽기 전용으로 사용)
+ */
+public record VerifiedToken(
+    String subject,
+    Date expiration,
+    Claims claims
+) {
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    public long expirationMillis() {
+        return expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+    }
+}
@@ -1,6 +1,7 @@
 package fintech2.easypay.auth.filter;
 
 import fintech2.easypay.auth.dto.UserPrincipal;
+import fintech2.easypay.auth.dto.VerifiedToken;
 import fintech2.easypay.auth.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -45,14 +46,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
         
         try {
-            // JWT에서 휴대폰 번호 추출
-            phoneNumber = jwtService.extractPhoneNumber(jwt);
+            // JWT 서명 검증 및 파싱 (요청당 한 번)
+            VerifiedToken verifiedToken = jwtService.verify(jwt);
+            phoneNumber = verifiedToken.subject();
             
             // 휴대폰 번호가 있고, 현재 인증된 사용자가 없으면
             if (phoneNumber != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 
                 // 토큰 만료 여부 먼저 확인
-                if (jwtService.isTokenExpired(jwt)) {
+                if (verifiedToken.isExpired()) {
                     logger.warn("Expired JWT token for user: " + phoneNumber);
                     // 만료된 토큰에 대해서는 401 응답
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -65,7 +67,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 UserDetails userDetails = this.userDetailsService.loadUserByUsername(phoneNumber);
                 
                 // JWT 토큰이 유효하면 인증 설정
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(verifiedToken, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -13,7 +13,9 @@ import fintech2.easypay.account.repository.AccountBalanceRepository;
 import fintech2.easypay.common.enums.AccountStatus;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.common.exception.TooManyRequestsException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -45,6 +47,10 @@ public class AuthService {
     private final LoginHistoryService loginHistoryService;
     private final AuditLogService auditLogService;
     private final AlarmService alarmService;
+    private final PrincipalCache principalCache;
+
+    @Value("${easypay.security.password.rehash-on-login:false}")
+    private boolean rehashOnLogin;
 
     private static final Pattern PHONE_PATTERN = Pattern.compile("^010-\\d{4}-\\d{4}$");
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
@@ -203,6 +209,9 @@ public class AuthService {
             resp.put("refreshToken", tokenPair.getRefreshToken());
             resp.put("accountNumber", accountNumber);
             return ResponseEntity.status(HttpStatus.CREATED).body(resp);
+        } catch (TooManyRequestsException e) {
+            // 해시 스레드 풀 포화 - 429 로 전달
+            throw e;
         } catch (Exception e) {
             auditLogService.logError(null, "USER_REGISTER", "USER", req.getPhoneNumber(), "회원가입 실패: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -228,6 +237,8 @@ public class AuthService {
             }
             
             User user = userOpt.get();
+            // 잠금 상태가 바뀌면 (잠금 / 만료 해제) 캐시된 인증 주체 무효화
+            boolean wasLocked = user.isLocked();
             
             // 계정 잠금 확인
             if (user.isAccountLocked()) {
@@ -246,6 +257,9 @@ public class AuthService {
                 // 로그인 실패 처리
                 user.incrementLoginFailCount();
                 userRepository.save(user);
+                if (user.isAccountLocked() != wasLocked) {
+                    principalCache.evict(phoneNumber);
+                }
                 
                 loginHistoryService.recordLoginFailure(phoneNumber, user.getId(), "잘못된 비밀번호", 
                         ipAddress, userAgent, user.getLoginFailCount(), user.isAccountLocked());
@@ -262,6 +276,15 @@ public class AuthService {
             
             // 로그인 성공
             user.resetLoginFailCount();
+            if (wasLocked) {
+                principalCache.evict(phoneNumber);
+            }
+            // 목표 cost 보다 낮은 해시는 평문을 알고 있는 지금 재해시 (옵트인)
+            if (rehashOnLogin && passwordEncoder.upgradeEncoding(user.getPassword())) {
+                user.setPassword(passwordEncoder.encode(req.getPassword()));
+                principalCache.evict(phoneNumber);
+                log.info("비밀번호 해시 cost 상향: userId={}", user.getId());
+            }
             userRepository.save(user);
             
             // 토큰 쌍 생성 (Access Token + Refresh Token)
@@ -283,6 +306,9 @@ public class AuthService {
             resp.put("userName", user.getName());
             return ResponseEntity.ok(resp);
             
+        } catch (TooManyRequestsException e) {
+            // 해시 스레드 풀 포화 - 429 로 전달
+            throw e;
         } catch (Exception e) {
             auditLogService.logError(null, "USER_LOGIN", "USER", req.getPhoneNumber(), "로그인 처리 오류: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -386,12 +412,19 @@ public class AuthService {
             
             userRepository.save(user);
             
+            // 캐시된 인증 주체 무효화 (휴대폰 번호가 바뀐 경우 이전 번호 포함)
+            principalCache.evict(phoneNumber);
+            principalCache.evict(user.getPhoneNumber());
+            
             // 감사로그 기록
             auditLogService.logSuccess(user.getId(), "PROFILE_UPDATE", "USER", user.getId().toString(), 
                     null, "개인정보 수정 완료");
             
             return ResponseEntity.ok(Map.of("message", "개인정보가 성공적으로 수정되었습니다"));
             
+        } catch (TooManyRequestsException e) {
+            // 해시 스레드 풀 포화 - 429 로 전달
+            throw e;
         } catch (Exception e) {
             auditLogService.logError(null, "PROFILE_UPDATE", "USER", "unknown", "개인정보 수정 오류: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -513,6 +546,9 @@ public class AuthService {
                         .body(Map.of("success", false, "message", "비밀번호가 일치하지 않습니다"));
             }
             
+        } catch (TooManyRequestsException e) {
+            // 해시 스레드 풀 포화 - 429 로 전달
+            throw e;
         } catch (Exception e) {
             log.error("비밀번호 확인 중 오류 발생", e);
             auditLogService.logError(null, "PASSWORD_VERIFY", "USER", "unknown", "비밀번호 확인 오류: " + e.getMessage());
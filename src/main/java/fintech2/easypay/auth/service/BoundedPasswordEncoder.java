@@ -0,0 +1,141 @@
+package fintech2.easypay.auth.service;
+
+import fintech2.easypay.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전용 스레드 풀에서 해시를 수행하는 PasswordEncoder
+ * BCrypt(cost 12, 약 250ms CPU) 가 요청 스레드 풀 전체를 점유하지 않도록
+ * 동시 해시 수를 CPU 코어 수로, 대기 수를 큐 크기로 제한하고 초과 시 즉시 429 로 거절
+ *
+ * 지표
+ * - easypay.password.hash{operation=encode|matches}: 해시 수행 시간
+ * - easypay.password.hash.wait: 큐 대기 시간
+ * - easypay.password.hash.queue.size / active: 큐 적재 수 / 수행 중 작업 수
+ * - easypay.password.hash.rejected{reason=queue_full|timeout}
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMs;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  long waitTimeoutMs, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+                Thread thread = new Thread(r, "password-hash-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("easypay.password.hash")
+            .tag("operation", "encode")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("easypay.password.hash")
+            .tag("operation", "matches")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("easypay.password.hash.wait")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.queueFullCounter = Counter.builder("easypay.password.hash.rejected")
+            .tag("reason", "queue_full")
+            .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("easypay.password.hash.rejected")
+            .tag("reason", "timeout")
+            .register(meterRegistry);
+        Gauge.builder("easypay.password.hash.queue.size", executor, e -> e.getQueue().size())
+            .register(meterRegistry);
+        Gauge.builder("easypay.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    /**
+     * 해시 문자열의 cost 비교만 하므로 호출 스레드에서 수행
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> hash, Timer timer) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hash);
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+
+    private TooManyRequestsException busy() {
+        return new TooManyRequestsException("AUTH_BUSY", "인증 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -1,6 +1,12 @@
 package fintech2.easypay.auth.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import fintech2.easypay.auth.dto.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -10,10 +16,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
@@ -26,6 +37,35 @@ public class JwtService {
     @Value("${jwt.expiration.refresh:60000}") // 24시간, 테스트 5분
     private long jwtExpiration;
 
+    // 최근 검증한 토큰 수 상한 (토큰 원문 대신 SHA-256 해시를 키로 보관)
+    static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+    // 시크릿에서 한 번만 생성 (요청마다 base64 디코딩 / 키 생성 방지)
+    private volatile SecretKey signInKey;
+    private volatile JwtParser jwtParser;
+
+    // 토큰 만료 시각까지만 보관
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                    long remainingMs = Math.max(0, token.expirationMillis() - System.currentTimeMillis());
+                    return TimeUnit.MILLISECONDS.toNanos(remainingMs);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
     public String generateAccessToken(String phoneNumber) {
         return generateToken(new HashMap<>(), phoneNumber, jwtExpiration);
     }
@@ -43,8 +83,37 @@ public class JwtService {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 주체, 만료 시각, 클레임을 반환
+     * 최근 검증한 토큰은 만료 전까지 캐시에서 반환
+     * 만료된 토큰도 서명이 유효하면 반환하며 (캐시하지 않음) 만료 여부는 {@link VerifiedToken#isExpired()} 로 판단
+     * @throws io.jsonwebtoken.JwtException 서명 불일치 / 형식 오류
+     */
+    public VerifiedToken verify(String token) {
+        String cacheKey = tokenHash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = getParser().parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            // 서명 검증 후 만료 검사에서 발생하므로 클레임은 신뢰 가능
+            Claims expired = e.getClaims();
+            return new VerifiedToken(expired.getSubject(), expired.getExpiration(), expired);
+        }
+
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getExpiration(), claims);
+        if (!verified.isExpired()) {
+            verifiedTokens.put(cacheKey, verified);
+        }
+        return verified;
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -57,29 +126,53 @@ public class JwtService {
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verify(token).expiration();
     }
 
     public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return verify(token).isExpired();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verify(token), userDetails);
+    }
+
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject() != null && token.subject().equals(userDetails.getUsername()) && !token.isExpired();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verify(token).claims();
+    }
+
+    private SecretKey getSignInKey() {
+        SecretKey key = signInKey;
+        if (key == null) {
+            byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signInKey = key;
+        }
+        return key;
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .setSigningKey(getSignInKey())
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
+    }
+
+    private static String tokenHash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
     }
 
     /**
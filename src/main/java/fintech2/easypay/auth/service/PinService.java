@@ -5,6 +5,7 @@ import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.UserRepository;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.common.exception.TooManyRequestsException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -51,6 +52,9 @@ public class PinService {
             
             return passwordEncoder.matches(pin, user.getTransferPin());
             
+        } catch (TooManyRequestsException e) {
+            // 해시 스레드 풀 포화 - 429 로 전달
+            throw e;
         } catch (Exception e) {
             log.error("PIN 검증 중 오류 발생: userId={}", userId, e);
             return false;
@@ -108,6 +112,9 @@ public class PinService {
             log.info("PIN 등록 성공: userId={}", user.getId());
             return PinResponse.success("PIN이 성공적으로 등록되었습니다.");
 
+        } catch (TooManyRequestsException e) {
+            // 해시 스레드 풀 포화 - 429 로 전달
+            throw e;
         } catch (Exception e) {
             log.error("PIN 등록 중 오류 발생: phoneNumber={}", phoneNumber, e);
             auditLogService.logError(null, "PIN_REGISTER", "USER", phoneNumber, "PIN 등록 오류: " + e.getMessage());
@@ -194,6 +201,9 @@ public class PinService {
             log.info("PIN 검증 성공: userId={}, purpose={}", user.getId(), request.getPurpose());
             return PinResponse.success("PIN 인증이 완료되었습니다.", sessionToken);
 
+        } catch (TooManyRequestsException e) {
+            // 해시 스레드 풀 포화 - 429 로 전달
+            throw e;
         } catch (Exception e) {
             log.error("PIN 검증 중 오류 발생: phoneNumber={}", phoneNumber, e);
             auditLogService.logError(null, "PIN_VERIFY", "USER", phoneNumber, "PIN 검증 오류: " + e.getMessage());
@@ -275,6 +285,9 @@ public class PinService {
             log.info("PIN 변경 성공: userId={}", user.getId());
             return PinResponse.success("PIN이 성공적으로 변경되었습니다.");
 
+        } catch (TooManyRequestsException e) {
+            // 해시 스레드 풀 포화 - 429 로 전달
+            throw e;
         } catch (Exception e) {
             log.error("PIN 변경 중 오류 발생: phoneNumber={}", phoneNumber, e);
             auditLogService.logError(null, "PIN_CHANGE", "USER", phoneNumber, "PIN 변경 오류: " + e.getMessage());
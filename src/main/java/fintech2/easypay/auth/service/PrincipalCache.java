@@ -0,0 +1,100 @@
+package fintech2.easypay.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fintech2.easypay.auth.dto.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 인증 주체(UserPrincipal) 캐시 - 휴대폰 번호 기준
+ * JWT 필터가 요청마다 사용자 조회 쿼리를 실행하지 않도록 함
+ *
+ * 무효화 시점: 비밀번호 변경 / 계정 잠금 / 잠금 해제 / 계좌 상태 변경 / 개인정보 수정 / 토큰 폐기
+ * 지표: cache.gets{cache=principalCache, result=hit|miss} 등 (CaffeineCacheMetrics)
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    static final String CACHE_NAME = "principalCache";
+
+    private final Cache<String, UserPrincipal> cache;
+
+    public PrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${easypay.auth.principal-cache.maximum-size:100000}") long maximumSize,
+            @Value("${easypay.auth.principal-cache.expire-after-write-ms:300000}") long expireAfterWriteMs) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 적재
+     * loader(DB 조회)는 캐시의 compute 밖에서 호출 - compute 는 내부 synchronized 구간이라
+     * 가상 스레드에서 JDBC 대기 중 캐리어 스레드가 고정(pinning)되는 것을 피함
+     */
+    public UserPrincipal get(String phoneNumber, Function<String, UserPrincipal> loader) {
+        UserPrincipal cached = cache.getIfPresent(phoneNumber);
+        if (cached != null) {
+            return cached;
+        }
+        UserPrincipal loaded = loader.apply(phoneNumber);
+        cache.put(phoneNumber, loaded);
+        return loaded;
+    }
+
+    /**
+     * 휴대폰 번호로 무효화
+     * 트랜잭션 안에서 호출되면 커밋 후 한 번 더 무효화하여 커밋 전 재적재된 값이 남지 않도록 함
+     */
+    public void evict(String phoneNumber) {
+        if (phoneNumber == null) {
+            return;
+        }
+        cache.invalidate(phoneNumber);
+        afterCommit(() -> cache.invalidate(phoneNumber));
+        log.debug("[PRINCIPAL_CACHE] 무효화: {}", phoneNumber);
+    }
+
+    /**
+     * 사용자 ID로 무효화 (토큰 폐기 등 휴대폰 번호를 모르는 경로)
+     */
+    public void evictByUserId(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        Runnable invalidate = () -> cache.asMap().values().removeIf(principal -> Objects.equals(principal.getId(), userId));
+        invalidate.run();
+        afterCommit(invalidate);
+        log.debug("[PRINCIPAL_CACHE] 무효화: userId={}", userId);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
@@ -4,12 +4,14 @@ import fintech2.easypay.auth.entity.RefreshToken;
 import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.RefreshTokenRepository;
 import fintech2.easypay.common.exception.AuthException;
+import fintech2.easypay.common.scheduling.JobLeaseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +23,8 @@ public class TokenService {
 
     private final JwtService jwtService;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final PrincipalCache principalCache;
+    private final JobLeaseService jobLeaseService;
     
     @Value("${jwt.expiration.refresh:60000}") // 기본값 60초
     private long refreshTokenExpirationMs;
@@ -139,6 +143,7 @@ public class TokenService {
         
         refreshToken.revoke();
         refreshTokenRepository.save(refreshToken);
+        principalCache.evict(refreshToken.getPhoneNumber());
     }
 
     /**
@@ -146,6 +151,7 @@ public class TokenService {
      */
     public void revokeAllUserTokens(Long userId) {
         refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        principalCache.evictByUserId(userId);
     }
     
     /**
@@ -153,15 +159,18 @@ public class TokenService {
      */
     public void forceExpireUserTokens(Long userId) {
         refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        principalCache.evictByUserId(userId);
     }
 
     /**
      * 만료된 Refresh Token 정리 (스케줄링)
+     * 여러 인스턴스 중 임대를 얻은 한 노드만 실행
      */
     @Scheduled(cron = "0 */5 * * * ?") // 5분마다 실행
     @Transactional
     public void cleanupExpiredTokens() {
-        int deletedCount = refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
+        jobLeaseService.runExclusively("refresh-token-cleanup", Duration.ofMinutes(4), Duration.ofSeconds(30), () ->
+            refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now()));
     }
     
     /**
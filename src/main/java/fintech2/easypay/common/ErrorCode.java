@@ -24,12 +24,15 @@ public enum ErrorCode {
     INSUFFICIENT_BALANCE("A002", "잔액이 부족합니다."),
     INVALID_ACCOUNT_NUMBER("A003", "잘못된 계좌번호입니다."),
     ACCOUNT_CREATION_FAILED("A004", "계좌 생성에 실패했습니다."),
+    ACCOUNT_LOCK_TIMEOUT("A005", "다른 거래가 처리 중입니다. 잠시 후 다시 시도해주세요."),
     
     // 거래 관련 오류
     TRANSACTION_FAILED("T001", "거래 처리에 실패했습니다."),
     INVALID_AMOUNT("T002", "유효하지 않은 금액입니다."),
     SAME_ACCOUNT_TRANSFER("T003", "같은 계좌로는 송금할 수 없습니다."),
     TRANSACTION_NOT_FOUND("T004", "거래 내역을 찾을 수 없습니다."),
+    DAILY_LIMIT_EXCEEDED("T005", "일일 이체 한도를 초과했습니다."),
+    MONTHLY_LIMIT_EXCEEDED("T006", "월 이체 한도를 초과했습니다."),
     
     // 결제 관련 오류
     PAYMENT_FAILED("P001", "결제에 실패했습니다."),
@@ -138,6 +138,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(response);
     }
 
+    // 처리 용량 초과 (알람 없이 빠르게 거절)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("Too Many Requests: {} - {}", e.getErrorCode(), e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", e.getErrorCode());
+        response.put("message", e.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", "1")
+                .body(response);
+    }
+
+    // Idempotency-Key 충돌
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyConflictException(IdempotencyConflictException e) {
+        log.warn("Idempotency Conflict: {} - {}", e.getErrorCode(), e.getMessage());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", e.getErrorCode());
+        response.put("message", e.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     // 송금 예외
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<Map<String, Object>> handleBusinessException(BusinessException e) {
@@ -0,0 +1,18 @@
+package fintech2.easypay.common.exception;
+
+/**
+ * Idempotency-Key 충돌 (409) - 다른 요청 본문에 재사용되었거나 다른 노드에서 처리 중
+ */
+public class IdempotencyConflictException extends RuntimeException {
+    
+    private final String errorCode;
+    
+    public IdempotencyConflictException(String errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+    
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,18 @@
+package fintech2.easypay.common.exception;
+
+/**
+ * 처리 용량 초과 (429) - 잠시 후 재시도 가능
+ */
+public class TooManyRequestsException extends RuntimeException {
+    
+    private final String errorCode;
+    
+    public TooManyRequestsException(String errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+    
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
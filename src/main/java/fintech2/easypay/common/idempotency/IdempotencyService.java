@@ -0,0 +1,276 @@
+package fintech2.easypay.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.exception.IdempotencyConflictException;
+import fintech2.easypay.common.scheduling.JobLeaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 (송금 / 결제 POST 재시도 중복 방지)
+ * 같은 사용자가 같은 키로 다시 보낸 요청은 저장된 응답을 그대로 반환하고 락 / 외부 API 호출을 다시 수행하지 않음
+ *
+ * - 메모리 (Caffeine): 키별 처리 결과 future - 같은 노드의 동시 중복 요청은 처리 중인 결과를 함께 기다림 (single-flight)
+ * - DB (idempotency_keys): 노드 간 / 재시작 후 재사용, 처리 중이면 IN_PROGRESS 로 선점 (다른 노드의 중복 요청은 409)
+ *
+ * 처리가 실패하면 키를 해제하여 같은 키로 재시도 가능 (실패 응답은 저장하지 않음)
+ * 같은 키를 다른 요청 본문에 사용하면 409
+ * 지표: easypay.idempotency.requests{result=executed|replayed|joined|conflict}
+ */
+@Component
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+    private static final String COMPLETED = "COMPLETED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final JobLeaseService jobLeaseService;
+    private final Cache<String, InFlight> inFlight;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+    private final Counter joinedCounter;
+    private final Counter conflictCounter;
+
+    /**
+     * 키별 처리 결과 (요청 본문 해시 + 응답 future)
+     */
+    private record InFlight(String requestHash, CompletableFuture<Object> result) {
+    }
+
+    /**
+     * DB 에 저장된 키 상태
+     */
+    private record StoredKey(String requestHash, String status, String responseBody) {
+    }
+
+    public IdempotencyService(JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper,
+                              JobLeaseService jobLeaseService,
+                              MeterRegistry meterRegistry,
+                              @Value("${easypay.idempotency.ttl-ms:86400000}") long ttlMs,
+                              @Value("${easypay.idempotency.in-progress-timeout-ms:120000}") long inProgressTimeoutMs,
+                              @Value("${easypay.idempotency.cache-size:10000}") long cacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.jobLeaseService = jobLeaseService;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.inProgressTimeout = Duration.ofMillis(inProgressTimeoutMs);
+        this.inFlight = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(this.ttl)
+                .build();
+        this.executedCounter = requestCounter(meterRegistry, "executed");
+        this.replayedCounter = requestCounter(meterRegistry, "replayed");
+        this.joinedCounter = requestCounter(meterRegistry, "joined");
+        this.conflictCounter = requestCounter(meterRegistry, "conflict");
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("easypay.idempotency.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키 단위로 한 번만 처리
+     * @param scope 엔드포인트 구분 (예: transfer, payment)
+     * @param owner 요청 사용자 (다른 사용자의 같은 키와 구분)
+     * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 그대로 처리)
+     * @param request 요청 본문 (같은 키의 다른 요청 판별용, PIN 세션 토큰 등 시도마다 달라지는 인증 값은 빼고 전달)
+     * @param responseType 저장된 응답 복원 타입
+     * @param action 실제 처리
+     * @return 처리 결과 또는 저장된 응답
+     */
+    public <T> CompletableFuture<T> execute(String scope, String owner, String idempotencyKey, Object request,
+                                            Class<T> responseType, Supplier<CompletableFuture<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    String.format("%s 헤더는 %d자 이하여야 합니다.", HEADER, MAX_KEY_LENGTH));
+        }
+
+        String key = scope + ":" + owner + ":" + idempotencyKey;
+        String requestHash = hash(request);
+
+        // 1. 같은 노드에서 처리 중이거나 처리된 키 - 결과를 함께 기다림
+        InFlight created = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight existing = inFlight.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            verifySameRequest(existing.requestHash(), requestHash);
+            joinedCounter.increment();
+            return existing.result().thenApply(responseType::cast);
+        }
+
+        // 2. DB 선점 후 처리 (이미 저장된 응답이 있으면 재사용)
+        CompletableFuture<T> result;
+        try {
+            result = claimAndRun(key, requestHash, responseType, action);
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((response, error) -> {
+            if (error == null) {
+                created.result().complete(response);
+            } else {
+                // 실패는 저장하지 않음 - 같은 키로 재시도하면 다시 처리
+                inFlight.asMap().remove(key, created);
+                created.result().completeExceptionally(unwrap(error));
+            }
+        });
+        return created.result().thenApply(responseType::cast);
+    }
+
+    private <T> CompletableFuture<T> claimAndRun(String key, String requestHash, Class<T> responseType,
+                                                 Supplier<CompletableFuture<T>> action) {
+        StoredKey stored = claim(key, requestHash);
+        if (stored != null) {
+            verifySameRequest(stored.requestHash(), requestHash);
+            if (!COMPLETED.equals(stored.status())) {
+                conflictCounter.increment();
+                throw new IdempotencyConflictException("IDEMPOTENCY_IN_PROGRESS",
+                        "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            replayedCounter.increment();
+            log.info("[IDEMPOTENCY] 저장된 응답 재사용: {}", key);
+            return CompletableFuture.completedFuture(deserialize(stored.responseBody(), responseType));
+        }
+
+        executedCounter.increment();
+        CompletableFuture<T> result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((response, error) -> {
+            if (error == null) {
+                complete(key, response);
+            } else {
+                release(key);
+            }
+        });
+    }
+
+    /**
+     * DB 선점 - 만료된 행은 지우고 새로 등록
+     * @return 이미 등록된 키 (선점 성공이면 null)
+     */
+    private StoredKey claim(String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at <= ?", key, nowTs);
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_keys " +
+                            "(idempotency_key, request_hash, status, created_at, expires_at) VALUES (?, ?, ?, ?, ?)",
+                    key, requestHash, IN_PROGRESS, nowTs, Timestamp.valueOf(now.plus(inProgressTimeout)));
+            return null;
+        } catch (DuplicateKeyException e) {
+            List<StoredKey> found = jdbcTemplate.query(
+                    "SELECT request_hash, status, response_body FROM idempotency_keys WHERE idempotency_key = ?",
+                    (rs, rowNum) -> new StoredKey(rs.getString(1), rs.getString(2), rs.getString(3)),
+                    key);
+            if (found.isEmpty()) {
+                // 그 사이 다른 요청이 실패하여 해제됨
+                return claim(key, requestHash);
+            }
+            return found.get(0);
+        }
+    }
+
+    private void complete(String key, Object response) {
+        try {
+            jdbcTemplate.update("UPDATE idempotency_keys SET status = ?, response_body = ?, expires_at = ? " +
+                            "WHERE idempotency_key = ?",
+                    COMPLETED, objectMapper.writeValueAsString(response),
+                    Timestamp.valueOf(LocalDateTime.now().plus(ttl)), key);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 저장 실패 시 같은 노드에서는 메모리 결과로, 다른 노드에서는 선점 만료 후 재처리
+            log.warn("[IDEMPOTENCY] 응답 저장 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    private void release(String key) {
+        try {
+            jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status = ?",
+                    key, IN_PROGRESS);
+        } catch (RuntimeException e) {
+            log.warn("[IDEMPOTENCY] 키 해제 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    private void verifySameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            conflictCounter.increment();
+            throw new IdempotencyConflictException("IDEMPOTENCY_KEY_REUSED",
+                    "이미 다른 요청에 사용된 " + HEADER + " 입니다.");
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 해시 계산 실패", e);
+        }
+    }
+
+    private <T> T deserialize(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답 복원 실패", e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * 만료된 키 정리 (여러 인스턴스 중 임대를 얻은 한 노드만 실행)
+     */
+    @Scheduled(fixedDelayString = "${easypay.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        jobLeaseService.runExclusively("idempotency-key-purge", Duration.ofMinutes(10), Duration.ofSeconds(30), () -> {
+            int deleted = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at <= ?",
+                    Timestamp.valueOf(LocalDateTime.now()));
+            if (deleted > 0) {
+                log.info("[IDEMPOTENCY] 만료된 키 정리: {}건", deleted);
+            }
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package fintech2.easypay.common.scheduling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스케줄 작업 노드 목록 (DB 하트비트)
+ * 각 인스턴스가 scheduler_nodes 에 주기적으로 하트비트를 남기고,
+ * 살아있는 노드를 이름 순으로 정렬한 위치를 샤드 번호로 사용하여 대상 행을 MOD(id, 노드 수) 로 나눠 처리
+ *
+ * 노드가 추가 / 종료되면 다음 실행부터 샤드가 재배정됨 (재배정 중 중복은 행 선점(SKIP LOCKED)으로 방지)
+ * 지표: easypay.cluster.nodes (마지막 샤드 계산 시점의 살아있는 노드 수)
+ */
+@Component
+@Slf4j
+public class ClusterMembership implements SmartLifecycle {
+
+    /**
+     * 샤드 (index: 0 ~ count-1)
+     */
+    public record Shard(int index, int count) {
+
+        public static final Shard SINGLE = new Shard(0, 1);
+
+        public boolean owns(long id) {
+            return Math.floorMod(id, count) == index;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeName;
+    private final long nodeTtlMs;
+    private final AtomicInteger liveNodes = new AtomicInteger(1);
+
+    private volatile boolean running;
+
+    public ClusterMembership(JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${easypay.cluster.node-name:}") String configuredNodeName,
+                             @Value("${easypay.cluster.node-ttl-ms:30000}") long nodeTtlMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeName = configuredNodeName.isBlank() ? deriveNodeName() : configuredNodeName;
+        this.nodeTtlMs = nodeTtlMs;
+
+        Gauge.builder("easypay.cluster.nodes", liveNodes, AtomicInteger::get)
+                .description("살아있는 스케줄 작업 노드 수")
+                .register(meterRegistry);
+    }
+
+    public String getNodeName() {
+        return nodeName;
+    }
+
+    /**
+     * 하트비트 갱신 (없으면 등록) 및 오래 응답 없는 노드 정리
+     */
+    @Scheduled(fixedDelayString = "${easypay.cluster.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update("UPDATE scheduler_nodes SET heartbeat_at = ? WHERE node_name = ?",
+                Timestamp.valueOf(now), nodeName);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO scheduler_nodes (node_name, heartbeat_at) VALUES (?, ?)",
+                    nodeName, Timestamp.valueOf(now));
+            log.info("[CLUSTER] 노드 등록: {}", nodeName);
+        }
+        jdbcTemplate.update("DELETE FROM scheduler_nodes WHERE heartbeat_at < ?",
+                Timestamp.valueOf(now.minus(Duration.ofMillis(nodeTtlMs * 10))));
+    }
+
+    /**
+     * 현재 노드의 샤드
+     * 자신의 하트비트가 만료되었으면 다시 등록한 뒤 계산
+     */
+    public Shard currentShard() {
+        List<String> nodes = liveNodeNames();
+        if (!nodes.contains(nodeName)) {
+            heartbeat();
+            nodes = liveNodeNames();
+        }
+        int index = nodes.indexOf(nodeName);
+        if (index < 0) {
+            // 등록 직후에도 보이지 않는 경우 (시계 차이 등) - 단독 처리, 중복은 행 선점으로 방지
+            return Shard.SINGLE;
+        }
+        liveNodes.set(nodes.size());
+        return new Shard(index, nodes.size());
+    }
+
+    private List<String> liveNodeNames() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(nodeTtlMs));
+        return jdbcTemplate.queryForList(
+                "SELECT node_name FROM scheduler_nodes WHERE heartbeat_at >= ? ORDER BY node_name",
+                String.class, Timestamp.valueOf(cutoff));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        try {
+            heartbeat();
+        } catch (DataAccessException e) {
+            log.warn("[CLUSTER] 노드 등록 실패 (다음 하트비트에서 재시도): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 노드 제거 - 남은 노드가 TTL 을 기다리지 않고 다음 실행부터 샤드를 넘겨받음
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            jdbcTemplate.update("DELETE FROM scheduler_nodes WHERE node_name = ?", nodeName);
+            log.info("[CLUSTER] 노드 제거: {}", nodeName);
+        } catch (DataAccessException e) {
+            log.warn("[CLUSTER] 노드 제거 실패 (TTL 경과 후 제외됨): {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static String deriveNodeName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        // 같은 호스트의 여러 인스턴스 구분
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
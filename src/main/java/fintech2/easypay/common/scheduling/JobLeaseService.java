@@ -0,0 +1,117 @@
+package fintech2.easypay.common.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 스케줄 작업 실행 임대 (DB 기반, ShedLock 방식)
+ * 여러 인스턴스 중 임대를 얻은 한 노드만 작업을 실행
+ *
+ * - leaseFor: 실행 노드가 비정상 종료되어도 이 시간이 지나면 다른 노드가 실행 가능
+ * - minHold: 작업이 빨리 끝나도 이 시간 동안은 임대 유지 (노드 간 시계 차이로 같은 주기에 재실행되는 것을 방지)
+ *
+ * 임대 획득 / 해제는 호출 트랜잭션과 분리된 별도 트랜잭션으로 즉시 커밋
+ * 지표: easypay.scheduler.job{job, result=executed|skipped}
+ */
+@Component
+@Slf4j
+public class JobLeaseService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final String nodeName;
+    private final MeterRegistry meterRegistry;
+
+    public JobLeaseService(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           ClusterMembership clusterMembership,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeName = clusterMembership.getNodeName();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 임대를 얻은 경우에만 작업 실행
+     * @return 실행 여부 (다른 노드가 임대 중이면 false)
+     */
+    public boolean runExclusively(String jobName, Duration leaseFor, Duration minHold, Runnable task) {
+        // 해제 시 leased_at 으로 자신의 임대인지 확인하므로 DB 타임스탬프 정밀도에 맞춰 절삭
+        LocalDateTime leasedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        if (!tryAcquire(jobName, leasedAt, leaseFor)) {
+            counter(jobName, "skipped").increment();
+            log.debug("[JOB_LEASE] 다른 노드에서 실행 중이라 건너뜀: {}", jobName);
+            return false;
+        }
+
+        try {
+            task.run();
+            counter(jobName, "executed").increment();
+            return true;
+        } finally {
+            release(jobName, leasedAt, minHold);
+        }
+    }
+
+    private boolean tryAcquire(String jobName, LocalDateTime now, Duration leaseFor) {
+        Timestamp leasedAt = Timestamp.valueOf(now);
+        Timestamp leaseUntil = Timestamp.valueOf(now.plus(leaseFor));
+
+        // 만료된 임대 인수
+        Integer updated = requiresNew.execute(status -> jdbcTemplate.update(
+                "UPDATE scheduled_job_leases SET lease_until = ?, leased_at = ?, leased_by = ? " +
+                "WHERE job_name = ? AND lease_until <= ?",
+                leaseUntil, leasedAt, nodeName, jobName, leasedAt));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+
+        // 최초 실행 - 행이 없으면 등록 (동시에 등록한 노드는 키 중복으로 실패)
+        try {
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO scheduled_job_leases (job_name, lease_until, leased_at, leased_by) VALUES (?, ?, ?, ?)",
+                    jobName, leaseUntil, leasedAt, nodeName));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 임대 해제 - minHold 가 남아 있으면 그 시점까지로 단축
+     */
+    private void release(String jobName, LocalDateTime leasedAt, Duration minHold) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        LocalDateTime holdUntil = leasedAt.plus(minHold);
+        LocalDateTime leaseUntil = holdUntil.isAfter(now) ? holdUntil : now;
+        try {
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                    "UPDATE scheduled_job_leases SET lease_until = ? WHERE job_name = ? AND leased_by = ? AND leased_at = ?",
+                    Timestamp.valueOf(leaseUntil), jobName, nodeName, Timestamp.valueOf(leasedAt)));
+        } catch (RuntimeException e) {
+            // 해제 실패 시 leaseFor 경과 후 자동 만료
+            log.warn("[JOB_LEASE] 임대 해제 실패: {} - {}", jobName, e.getMessage());
+        }
+    }
+
+    private Counter counter(String jobName, String result) {
+        return Counter.builder("easypay.scheduler.job")
+                .tag("job", jobName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package fintech2.easypay.common.util;
+
+import fintech2.easypay.common.ApiResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * CompletableFuture -> Spring MVC DeferredResult 변환
+ * 외부 API 응답을 기다리는 동안 요청 스레드를 반납하고, 완료 시 비동기 디스패치로 응답
+ *
+ * - 실패: 원인 예외를 그대로 넘겨 GlobalExceptionHandler 가 처리
+ * - 시간 초과: 처리는 계속 진행되므로 202 + 처리 중 응답 (결과는 조회 API로 확인)
+ */
+public final class DeferredResults {
+
+    public static final String PROCESSING_CODE = "PROCESSING";
+
+    private DeferredResults() {
+    }
+
+    public static <T> DeferredResult<T> of(CompletableFuture<T> future, long timeoutMs, String timeoutMessage) {
+        DeferredResult<T> result = new DeferredResult<>(timeoutMs);
+        result.onTimeout(() -> result.setErrorResult(
+            ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.error(timeoutMessage, PROCESSING_CODE))));
+
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                result.setResult(value);
+            } else {
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+package fintech2.easypay.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+
+/**
+ * 거래 / 결제 / 계좌번호 발급기
+ * Snowflake ID 를 기존 접두어 형식으로 인코딩하므로 DB 중복 확인(existsBy...) 없이 고유성이 보장됨
+ * - 거래 ID: TXN + 12자리 (36진수 대문자, 밀리초 단위)
+ * - 결제 ID: PAY + 12자리 (36진수 대문자, 밀리초 단위)
+ * - 대량 송금 배치 ID: BAT + 12자리 (36진수 대문자, 밀리초 단위)
+ * - 계좌번호: EP + 16자리 숫자 (초 단위, 노드당 초당 4096개)
+ */
+@Component
+@Slf4j
+public class IdGenerator {
+
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final int CODE_WIDTH = 12;
+    private static final int ACCOUNT_WIDTH = 16;
+
+    private final SnowflakeIdGenerator millisGenerator;
+    private final SnowflakeIdGenerator secondsGenerator;
+
+    public IdGenerator(@Value("${easypay.id.node-id:-1}") long configuredNodeId) {
+        long nodeId = configuredNodeId >= 0 ? configuredNodeId : deriveNodeId();
+        this.millisGenerator = new SnowflakeIdGenerator(nodeId, 1);
+        this.secondsGenerator = new SnowflakeIdGenerator(nodeId, 1000);
+        log.info("ID 생성기 초기화: nodeId={}", nodeId);
+    }
+
+    /**
+     * 송금 거래 ID (TXN + 12자리)
+     */
+    public String nextTransactionId() {
+        return encode("TXN", millisGenerator.nextId(), 36, CODE_WIDTH);
+    }
+
+    /**
+     * 결제 ID (PAY + 12자리)
+     */
+    public String nextPaymentId() {
+        return encode("PAY", millisGenerator.nextId(), 36, CODE_WIDTH);
+    }
+
+    /**
+     * 대량 송금 배치 ID (BAT + 12자리)
+     */
+    public String nextBatchId() {
+        return encode("BAT", millisGenerator.nextId(), 36, CODE_WIDTH);
+    }
+
+    /**
+     * EasyPay 계좌번호 (EP + 16자리 숫자)
+     */
+    public String nextAccountNumber() {
+        return encode("EP", secondsGenerator.nextId(), 10, ACCOUNT_WIDTH);
+    }
+
+    /**
+     * 접두어 + 고정 폭 인코딩 (앞자리 0 채움, char[] 하나만 할당)
+     */
+    static String encode(String prefix, long value, int radix, int width) {
+        int prefixLength = prefix.length();
+        char[] buf = new char[prefixLength + width];
+        prefix.getChars(0, prefixLength, buf, 0);
+
+        long remaining = value;
+        for (int i = buf.length - 1; i >= prefixLength; i--) {
+            buf[i] = DIGITS[(int) (remaining % radix)];
+            remaining /= radix;
+        }
+        if (remaining != 0) {
+            throw new IllegalStateException("ID 가 " + width + "자리 범위를 초과했습니다: " + value);
+        }
+        return new String(buf);
+    }
+
+    /**
+     * 노드 번호 미설정 시 호스트명으로 결정 (다중 인스턴스 운영 시 easypay.id.node-id 지정 권장)
+     */
+    private static long deriveNodeId() {
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            return Math.floorMod(hostName.hashCode(), SnowflakeIdGenerator.MAX_NODE_ID + 1);
+        } catch (Exception e) {
+            log.warn("호스트명 조회 실패, 노드 번호 0 사용: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package fintech2.easypay.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식 64비트 ID 생성기 (락 없음)
+ * [시간 41비트][노드 10비트][시퀀스 12비트]
+ * 시간 단위(tick) 내 시퀀스가 소진되거나 시계가 뒤로 가면 다음 tick 을 미리 사용하여 단조 증가를 유지
+ */
+public class SnowflakeIdGenerator {
+
+    /** 2025-01-01T00:00:00Z */
+    public static final long EPOCH_MILLIS = 1735689600000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final long tickMillis;
+
+    // 마지막 발급 상태: (tick << SEQUENCE_BITS) | sequence
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * @param nodeId 노드 번호 (0 ~ 1023)
+     * @param tickMillis 시간 단위 (밀리초)
+     */
+    public SnowflakeIdGenerator(long nodeId, long tickMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("시간 단위는 0보다 커야 합니다: " + tickMillis);
+        }
+        this.nodeId = nodeId;
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * 다음 ID 발급
+     */
+    public long nextId() {
+        while (true) {
+            long prev = state.get();
+            long prevTick = prev >>> SEQUENCE_BITS;
+            long prevSequence = prev & SEQUENCE_MASK;
+            long now = currentTick();
+
+            long tick;
+            long sequence;
+            if (now > prevTick) {
+                tick = now;
+                sequence = 0;
+            } else if (prevSequence < SEQUENCE_MASK) {
+                tick = prevTick;
+                sequence = prevSequence + 1;
+            } else {
+                tick = prevTick + 1;
+                sequence = 0;
+            }
+
+            if (state.compareAndSet(prev, (tick << SEQUENCE_BITS) | sequence)) {
+                return (tick << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    protected long currentTick() {
+        return (System.currentTimeMillis() - EPOCH_MILLIS) / tickMillis;
+    }
+}
@@ -0,0 +1,96 @@
+package fintech2.easypay.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 실행기 설정
+ * spring.threads.virtual.enabled (vthreads 프로파일) 에 따라
+ * - 가상 스레드: 작업마다 가상 스레드 생성, 동시 실행 수만 제한
+ * - 플랫폼 스레드: 크기 / 큐가 제한된 스레드 풀
+ *
+ * MVC 비동기 요청(StreamingResponseBody - 거래 내역 내보내기)은 결제 / 배치 작업과 분리된 mvcAsyncExecutor 사용 (WebMvcConfig)
+ */
+@Configuration
+@EnableAsync
+@Slf4j
+public class AsyncConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${easypay.async.pool-size:16}")
+    private int poolSize;
+
+    @Value("${easypay.async.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // 가상 스레드 모드의 동시 실행 상한 (하위 자원 보호용)
+    @Value("${easypay.async.virtual-concurrency-limit:2000}")
+    private int virtualConcurrencyLimit;
+
+    // 송금 상태 확인 병렬 작업 수 / 대기 큐 크기 (한 페이지 크기 이상)
+    @Value("${easypay.transfer.status-check.workers:8}")
+    private int statusCheckWorkers;
+
+    @Value("${easypay.transfer.status-check.batch-size:100}")
+    private int statusCheckBatchSize;
+
+    // 거래 내역 내보내기 동시 실행 수 (TransactionExportService 의 동시 내보내기 상한과 같은 값)
+    @Value("${easypay.account.export.max-concurrent:4}")
+    private int exportMaxConcurrent;
+
+    @Bean(name = "taskExecutor")
+    public AsyncTaskExecutor taskExecutor() {
+        return createExecutor("async-", poolSize, queueCapacity, virtualConcurrencyLimit);
+    }
+
+    @Bean(name = "notificationExecutor")
+    public AsyncTaskExecutor notificationExecutor() {
+        return createExecutor("notification-", poolSize, queueCapacity, virtualConcurrencyLimit);
+    }
+
+    /**
+     * 송금 상태 확인 작업자 - 외부 은행 상태 조회 동시 호출 수를 제한
+     */
+    @Bean(name = "statusCheckExecutor")
+    public AsyncTaskExecutor statusCheckExecutor() {
+        return createExecutor("status-check-", statusCheckWorkers, statusCheckBatchSize, statusCheckWorkers);
+    }
+
+    /**
+     * MVC 비동기 요청 실행기 - 내보내기 상한만큼만 실행 (상한 초과 요청은 실행기에 오기 전에 429 로 거절)
+     */
+    @Bean(name = "mvcAsyncExecutor")
+    public AsyncTaskExecutor mvcAsyncExecutor() {
+        return createExecutor("mvc-async-", exportMaxConcurrent, exportMaxConcurrent, exportMaxConcurrent);
+    }
+
+    private AsyncTaskExecutor createExecutor(String threadNamePrefix, int poolSize, int queueCapacity,
+                                             int virtualConcurrencyLimit) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            executor.setTaskTerminationTimeout(30_000);
+            log.info("[ASYNC] 가상 스레드 실행기: {} (동시 실행 상한 {})", threadNamePrefix, virtualConcurrencyLimit);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        log.info("[ASYNC] 플랫폼 스레드 풀: {} (크기 {}, 큐 {})", threadNamePrefix, poolSize, queueCapacity);
+        return executor;
+    }
+}
@@ -10,7 +10,9 @@ import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.UserRepository;
 import fintech2.easypay.transfer.entity.Transfer;
 import fintech2.easypay.transfer.entity.TransferStatus;
+import fintech2.easypay.transfer.entity.UserActivity;
 import fintech2.easypay.transfer.repository.TransferRepository;
+import fintech2.easypay.transfer.repository.UserActivityRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Component
@@ -31,6 +34,7 @@ public class DataInitializer implements CommandLineRunner {
     private final AccountBalanceRepository accountBalanceRepository;
     private final UserAccountRepository userAccountRepository;
     private final TransferRepository transferRepository;
+    private final UserActivityRepository userActivityRepository;
     private final PasswordEncoder passwordEncoder;
 
     @Override
@@ -354,6 +358,10 @@ public class DataInitializer implements CommandLineRunner {
                     .build();
             transferRepository.save(transfer4);
             
+            // 송금 내역 조회용 활동 피드
+            List.of(transfer1, transfer2, transfer3, transfer4)
+                    .forEach(transfer -> userActivityRepository.saveAll(UserActivity.forTransfer(transfer)));
+            
             log.info("테스트 송금 데이터 생성 완료: 총 {}건", 4);
             
         } catch (Exception e) {
@@ -1,7 +1,11 @@
 package fintech2.easypay.config;
 
 import fintech2.easypay.auth.filter.JwtAuthenticationFilter;
+import fintech2.easypay.auth.service.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -28,6 +32,20 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${easypay.security.password.bcrypt-strength:12}")
+    private int bcryptStrength;
+
+    // 0 이하이면 CPU 코어 수
+    @Value("${easypay.security.password.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${easypay.security.password.hash-queue-capacity:64}")
+    private int hashQueueCapacity;
+
+    @Value("${easypay.security.password.hash-wait-timeout-ms:3000}")
+    private long hashWaitTimeoutMs;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -35,6 +53,8 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
+                // 비동기 디스패치 (DeferredResult / SSE 완료) - 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // 인증 불필요 (Public)
                 .requestMatchers("/api/auth/**").permitAll() // API 접두사 포함
                 .requestMatchers("/auth/**").permitAll() // 기존 경로도 유지 (호환성)
@@ -87,7 +107,10 @@ public class SecurityConfig {
     public PasswordEncoder passwordEncoder() {
         // BCrypt with strength 12 (2^12 = 4096 rounds)
         // 기본값 10보다 강화된 보안, 하지만 성능과 균형
-        return new BCryptPasswordEncoder(12);
+        // 해시는 전용 스레드 풀에서 수행 (요청 스레드 풀 고갈 방지)
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength),
+                threads, hashQueueCapacity, hashWaitTimeoutMs, meterRegistry);
     }
 
     @Bean
@@ -2,17 +2,21 @@ package fintech2.easypay.payment.controller;
 
 import fintech2.easypay.auth.dto.UserPrincipal;
 import fintech2.easypay.common.ApiResponse;
+import fintech2.easypay.common.idempotency.IdempotencyService;
+import fintech2.easypay.common.util.DeferredResults;
 import fintech2.easypay.payment.dto.PaymentRequest;
 import fintech2.easypay.payment.dto.PaymentResponse;
 import fintech2.easypay.payment.service.PaymentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.math.BigDecimal;
 
@@ -23,21 +27,32 @@ import java.math.BigDecimal;
 public class PaymentController {
     
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
+    
+    // 외부 PG API 응답 대기 최대 시간(ms) - 초과 시 202(처리 중) 응답, 결제는 계속 진행
+    @Value("${easypay.external.deferred-timeout-ms:10000}")
+    private long deferredTimeoutMs;
     
     /**
      * 결제 처리
+     * 외부 PG API 응답을 기다리는 동안 요청 스레드를 반납 (DeferredResult)
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도에 저장된 결과를 반환
      */
     @PostMapping
-    public ResponseEntity<ApiResponse<PaymentResponse>> processPayment(
+    public DeferredResult<ResponseEntity<ApiResponse<PaymentResponse>>> processPayment(
             @AuthenticationPrincipal UserPrincipal user,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody PaymentRequest request) {
         
         log.info("결제 요청: 사용자={}, 가맹점={}, 금액={}", 
                 user.getUsername(), request.getMerchantName(), request.getAmount());
         
-        PaymentResponse response = paymentService.processPayment(user.getUsername(), request); // getMember().getPhoneNumber() -> getUsername()
-        
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return DeferredResults.of(
+                idempotencyService.execute("payment", user.getUsername(), idempotencyKey, request, PaymentResponse.class,
+                                () -> paymentService.processPaymentAsync(user.getUsername(), request)) // getMember().getPhoneNumber() -> getUsername()
+                        .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response))),
+                deferredTimeoutMs,
+                "결제를 처리 중입니다. 잠시 후 결제 내역에서 결과를 확인해주세요.");
     }
     
     /**
@@ -7,11 +7,17 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Mock PG API 서비스 구현체
  * 실제 PG사 API 대신 테스트용 Mock 응답을 생성
+ * 지연은 스케줄러로 응답 완료 시점을 미루는 방식이라 대기 중인 스레드가 없음 (동기 메서드는 비동기 결과를 기다림)
  */
 @Service
 @Slf4j
@@ -21,14 +27,51 @@ public class MockPaymentGatewayService implements PaymentGatewayService {
     private final ConcurrentHashMap<String, PgApiResponse> paymentStore = new ConcurrentHashMap<>();
     private final Random random = new Random();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, r -> {
+        Thread thread = new Thread(r, "mock-pg-api");
+        thread.setDaemon(true);
+        return thread;
+    });
     
     @Override
     public PgApiResponse processPayment(PgApiRequest request) {
+        return processPaymentAsync(request).join();
+    }
+    
+    @Override
+    public PgApiResponse cancelPayment(String paymentId, String reason) {
+        return cancelPaymentAsync(paymentId, reason).join();
+    }
+    
+    @Override
+    public PgApiResponse refundPayment(String paymentId, BigDecimal amount, String reason) {
+        return refundPaymentAsync(paymentId, amount, reason).join();
+    }
+    
+    @Override
+    public CompletableFuture<PgApiResponse> processPaymentAsync(PgApiRequest request) {
         log.info("Mock PG API 호출 - 결제 처리: {}", request);
         
         // 실제 API 호출 시뮬레이션 (100-300ms 지연)
-        simulateApiDelay();
-        
+        return completeAfterApiDelay(() -> createPaymentResponse(request));
+    }
+    
+    @Override
+    public CompletableFuture<PgApiResponse> cancelPaymentAsync(String paymentId, String reason) {
+        log.info("Mock PG API 호출 - 결제 취소: paymentId={}, reason={}", paymentId, reason);
+        return completeAfterApiDelay(() -> createCancelResponse(paymentId));
+    }
+    
+    @Override
+    public CompletableFuture<PgApiResponse> refundPaymentAsync(String paymentId, BigDecimal amount, String reason) {
+        log.info("Mock PG API 호출 - 결제 환불: paymentId={}, amount={}, reason={}", paymentId, amount, reason);
+        return completeAfterApiDelay(() -> createRefundResponse(paymentId, amount));
+    }
+    
+    /**
+     * 결제 승인 결과 생성 (지연 후 호출)
+     */
+    private PgApiResponse createPaymentResponse(PgApiRequest request) {
         // 카드번호 유효성 검사 시뮬레이션
         if (request.getCardInfo() != null) {
             String cardNumber = request.getCardInfo().get("cardNumber");
@@ -66,12 +109,10 @@ public class MockPaymentGatewayService implements PaymentGatewayService {
         return response;
     }
     
-    @Override
-    public PgApiResponse cancelPayment(String paymentId, String reason) {
-        log.info("Mock PG API 호출 - 결제 취소: paymentId={}, reason={}", paymentId, reason);
-        
-        simulateApiDelay();
-        
+    /**
+     * 결제 취소 결과 생성 (지연 후 호출)
+     */
+    private PgApiResponse createCancelResponse(String paymentId) {
         // 저장된 결제 정보 조회
         PgApiResponse originalPayment = paymentStore.get(paymentId);
         if (originalPayment == null) {
@@ -109,12 +150,10 @@ public class MockPaymentGatewayService implements PaymentGatewayService {
         return cancelResponse;
     }
     
-    @Override
-    public PgApiResponse refundPayment(String paymentId, BigDecimal amount, String reason) {
-        log.info("Mock PG API 호출 - 결제 환불: paymentId={}, amount={}, reason={}", paymentId, amount, reason);
-        
-        simulateApiDelay();
-        
+    /**
+     * 결제 환불 결과 생성 (지연 후 호출)
+     */
+    private PgApiResponse createRefundResponse(String paymentId, BigDecimal amount) {
         // 저장된 결제 정보 조회
         PgApiResponse originalPayment = paymentStore.get(paymentId);
         if (originalPayment == null) {
@@ -220,14 +259,18 @@ public class MockPaymentGatewayService implements PaymentGatewayService {
     }
     
     /**
-     * API 호출 지연 시뮬레이션
+     * API 호출 지연 시뮬레이션 (100-300ms 후 응답 완료, 스레드를 재우지 않음)
      */
-    private void simulateApiDelay() {
-        try {
-            Thread.sleep(100 + random.nextInt(200));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    private CompletableFuture<PgApiResponse> completeAfterApiDelay(Supplier<PgApiResponse> response) {
+        CompletableFuture<PgApiResponse> future = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            try {
+                future.complete(response.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, 100 + random.nextInt(200), TimeUnit.MILLISECONDS);
+        return future;
     }
     
     /**
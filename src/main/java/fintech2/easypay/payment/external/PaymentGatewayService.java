@@ -1,5 +1,7 @@
 package fintech2.easypay.payment.external;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 외부 PG(Payment Gateway) API 서비스 인터페이스
  * 실제 결제 처리를 위한 외부 PG사와의 통신을 담당
@@ -36,4 +38,30 @@ public interface PaymentGatewayService {
      * @return 결제 상태 정보
      */
     PgApiResponse getPaymentStatus(String paymentId);
+    
+    /**
+     * 결제 승인 요청 (비동기)
+     * 완료 콜백은 구현체의 I/O 스레드에서 실행될 수 있으므로 DB 작업은 별도 실행기로 넘겨야 함
+     * 구현체는 비동기 I/O 또는 자체 실행기로 완료해야 함 (블로킹 호출을 공용 ForkJoinPool 에서 감싸지 않도록 기본 구현 없음)
+     * @param request 결제 요청 정보
+     * @return 결제 처리 결과
+     */
+    CompletableFuture<PgApiResponse> processPaymentAsync(PgApiRequest request);
+    
+    /**
+     * 결제 취소 요청 (비동기)
+     * @param paymentId 결제 ID
+     * @param reason 취소 사유
+     * @return 취소 처리 결과
+     */
+    CompletableFuture<PgApiResponse> cancelPaymentAsync(String paymentId, String reason);
+    
+    /**
+     * 결제 환불 요청 (비동기)
+     * @param paymentId 결제 ID
+     * @param amount 환불 금액 (부분 환불 가능)
+     * @param reason 환불 사유
+     * @return 환불 처리 결과
+     */
+    CompletableFuture<PgApiResponse> refundPaymentAsync(String paymentId, java.math.BigDecimal amount, String reason);
 }
\ No newline at end of file
@@ -3,20 +3,26 @@ package fintech2.easypay.payment.service;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import fintech2.easypay.account.entity.Account;
 import fintech2.easypay.account.repository.AccountRepository;
 import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.common.BusinessException;
 import fintech2.easypay.common.enums.AuditEventType;
 import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.util.IdGenerator;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.NotificationService;
 import fintech2.easypay.payment.exception.PaymentException;
@@ -51,6 +57,10 @@ public class PaymentService {
     private final AuditLogService auditLogService;
     private final NotificationService notificationService;
     private final PaymentGatewayService paymentGatewayService;
+    private final IdGenerator idGenerator;
+    private final TransactionTemplate transactionTemplate;
+    // 비동기 결제의 결과 반영 단계 실행기 (AsyncConfig 의 taskExecutor)
+    private final Executor taskExecutor;
     
     /**
      * 결제 처리
@@ -77,7 +87,7 @@ public class PaymentService {
         }
         
         // 결제 ID 생성
-        String paymentId = generatePaymentId();
+        String paymentId = idGenerator.nextPaymentId();
         
         // 1. 결제 요청을 REQUESTED 상태로 DB 저장
         Payment payment = Payment.builder()
@@ -177,13 +187,138 @@ public class PaymentService {
             log.error("결제 실패: {} - {} ({}원) - {}", 
                     paymentId, request.getMerchantName(), request.getAmount(), e.getMessage());
             
-            if (e instanceof PaymentException) {
+            // 결제 오류 / 한도 초과 등 업무 오류는 오류 코드를 그대로 전달
+            if (e instanceof PaymentException || e instanceof BusinessException) {
                 throw e;
             }
             throw new PaymentException(PaymentErrorCode.PAYMENT_FAILED, e.getMessage());
         }
     }
     
+    /**
+     * 결제 처리 (비동기)
+     * 1. 결제 요청을 PROCESSING 상태로 저장 후 커밋 (호출 스레드)
+     * 2. 외부 PG API 비동기 호출 - 응답 대기 중 스레드를 점유하지 않음
+     * 3. 응답 도착 후 taskExecutor 에서 결과 반영 트랜잭션 수행
+     * BALANCE 결제는 외부 호출이 없으므로 기존 동기 흐름으로 처리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<PaymentResponse> processPaymentAsync(String phoneNumber, PaymentRequest request) {
+        if (request.getPaymentMethod() == PaymentMethod.BALANCE) {
+            return CompletableFuture.completedFuture(
+                transactionTemplate.execute(status -> processPayment(phoneNumber, request)));
+        }
+        
+        // 1. 결제 요청 저장 (PROCESSING)
+        PgApiRequest pgRequest = transactionTemplate.execute(status -> {
+            User user = userRepository.findByPhoneNumber(phoneNumber)
+                    .orElseThrow(() -> new PaymentException(PaymentErrorCode.MEMBER_NOT_FOUND));
+            Account account = accountRepository.findByUserId(user.getId())
+                    .orElseThrow(() -> new PaymentException(PaymentErrorCode.ACCOUNT_NOT_FOUND));
+            
+            String paymentId = idGenerator.nextPaymentId();
+            Payment payment = Payment.builder()
+                    .paymentId(paymentId)
+                    .user(user)
+                    .accountNumber(account.getAccountNumber())
+                    .merchantId(request.getMerchantId())
+                    .merchantName(request.getMerchantName())
+                    .amount(request.getAmount())
+                    .memo(request.getMemo())
+                    .paymentMethod(request.getPaymentMethod())
+                    .build();
+            payment.markAsProcessing();
+            paymentRepository.save(payment);
+            
+            return buildPgApiRequest(paymentId, user, request);
+        });
+        String paymentId = pgRequest.getPaymentId();
+        
+        // 2. 외부 PG API 비동기 호출
+        CompletableFuture<PgApiResponse> pgCall;
+        try {
+            log.info("외부 PG API 비동기 호출 시작: {}", paymentId);
+            pgCall = paymentGatewayService.processPaymentAsync(pgRequest);
+        } catch (Exception e) {
+            pgCall = CompletableFuture.failedFuture(e);
+        }
+        
+        // 3. 결과 반영 (실패 상태는 커밋한 뒤 예외 전달)
+        return pgCall.handleAsync((pgResponse, error) -> {
+            String failureReason;
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                failureReason = cause.getMessage();
+            } else if (pgResponse.getStatus() != PgApiStatus.SUCCESS) {
+                failureReason = String.format("PG 오류: %s - %s", 
+                    pgResponse.getStatus().getDescription(), 
+                    pgResponse.getErrorMessage());
+            } else {
+                return transactionTemplate.execute(status -> approvePayment(paymentId, phoneNumber, request, pgResponse));
+            }
+            
+            transactionTemplate.executeWithoutResult(status -> failPayment(paymentId, phoneNumber, request, failureReason));
+            throw new PaymentException(PaymentErrorCode.PAYMENT_FAILED, failureReason);
+        }, taskExecutor);
+    }
+    
+    /**
+     * PG 승인 결과 반영
+     */
+    private PaymentResponse approvePayment(String paymentId, String phoneNumber, PaymentRequest request,
+                                           PgApiResponse pgResponse) {
+        Payment payment = paymentRepository.findByPaymentId(paymentId)
+                .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+        payment.markAsApproved(pgResponse.getPgTransactionId(), pgResponse.getRawResponse());
+        Long userId = payment.getUser().getId();
+        
+        // 감사 로그 기록
+        auditLogService.logSuccess(
+            userId,
+            phoneNumber,
+            AuditEventType.PAYMENT_SUCCESS,
+            String.format("결제 승인: %s (%s원)", request.getMerchantName(), request.getAmount()),
+            null, null,
+            String.format("paymentId: %s, method: %s", paymentId, request.getPaymentMethod()),
+            null
+        );
+        
+        // 알림 전송
+        notificationService.sendPaymentActivityNotification(
+            userId,
+            phoneNumber,
+            String.format("%s에서 %s원이 결제되었습니다.", request.getMerchantName(), request.getAmount())
+        );
+        
+        log.info("결제 완료: {} - {} ({}원)", paymentId, request.getMerchantName(), request.getAmount());
+        
+        return PaymentResponse.from(payment);
+    }
+    
+    /**
+     * PG 실패 결과 반영
+     */
+    private void failPayment(String paymentId, String phoneNumber, PaymentRequest request, String failureReason) {
+        Payment payment = paymentRepository.findByPaymentId(paymentId)
+                .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+        payment.markAsFailed(failureReason);
+        
+        // 감사 로그 기록
+        auditLogService.logFailure(
+            payment.getUser().getId(),
+            phoneNumber,
+            AuditEventType.PAYMENT_FAILED,
+            "결제 실패: " + failureReason,
+            null, null,
+            String.format("paymentId: %s, amount: %s", paymentId, request.getAmount()),
+            failureReason
+        );
+        
+        log.error("결제 실패: {} - {} ({}원) - {}", 
+                paymentId, request.getMerchantName(), request.getAmount(), failureReason);
+    }
+    
     /**
      * 결제 취소
      */
@@ -212,10 +347,11 @@ public class PaymentService {
                     throw new PaymentException(PaymentErrorCode.PAYMENT_CANCEL_FAILED, pgResponse.getErrorMessage());
                 }
             } else {
-                // BALANCE 결제인 경우 잔액 복원
+                // BALANCE 결제인 경우 잔액 복원 (BalanceService 원장 경로)
                 Account account = accountRepository.findByUserId(user.getId())
                         .orElseThrow(() -> new PaymentException(PaymentErrorCode.ACCOUNT_NOT_FOUND));
-                account.deposit(payment.getAmount());
+                balanceService.refund(account.getAccountNumber(), payment.getAmount(),
+                    "결제 취소: " + payment.getMerchantName(), paymentId, user.getId().toString());
             }
             
             // 결제 상태 변경
@@ -280,10 +416,11 @@ public class PaymentService {
                     throw new PaymentException(PaymentErrorCode.PAYMENT_REFUND_FAILED, pgResponse.getErrorMessage());
                 }
             } else {
-                // BALANCE 결제인 경우 잔액 복원
+                // BALANCE 결제인 경우 잔액 복원 (BalanceService 원장 경로)
                 Account account = accountRepository.findByUserId(user.getId())
                         .orElseThrow(() -> new PaymentException(PaymentErrorCode.ACCOUNT_NOT_FOUND));
-                account.deposit(amount);
+                balanceService.refund(account.getAccountNumber(), amount,
+                    "결제 환불: " + payment.getMerchantName(), paymentId, user.getId().toString());
             }
             
             // 결제 상태 변경
@@ -340,18 +477,6 @@ public class PaymentService {
         return PaymentResponse.from(payment);
     }
     
-    /**
-     * 결제 ID 생성
-     */
-    private String generatePaymentId() {
-        String paymentId;
-        do {
-            paymentId = "PAY" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-        } while (paymentRepository.existsByPaymentId(paymentId));
-        
-        return paymentId;
-    }
-    
     /**
      * PG API 요청 생성
      */
@@ -2,6 +2,8 @@ package fintech2.easypay.payment.service.impl;
 
 import fintech2.easypay.account.entity.Account;
 import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.common.enums.TransactionType;
 import fintech2.easypay.payment.service.PaymentAccountService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,6 +15,7 @@ import java.util.Optional;
 /**
  * 결제 모듈용 계좌 서비스 구현체
  * 실제 AccountRepository를 사용하여 계좌 관련 기능 제공
+ * 잔액 변경은 BalanceService 를 거침 (원장 모드에서 Account 잔액 컬럼을 직접 바꾸지 않도록)
  */
 @Service
 @RequiredArgsConstructor
@@ -20,6 +23,7 @@ import java.util.Optional;
 public class AccountServiceImpl implements PaymentAccountService {
     
     private final AccountRepository accountRepository;
+    private final BalanceService balanceService;
     
     @Override
     public Optional<Account> findByUserId(Long userId) {
@@ -34,15 +38,14 @@ public class AccountServiceImpl implements PaymentAccountService {
     @Override
     @Transactional
     public void withdraw(Account account, BigDecimal amount) {
-        account.withdraw(amount); // Account 엔티티의 withdraw 메소드 사용
-        accountRepository.save(account);
+        balanceService.decrease(account.getAccountNumber(), amount, TransactionType.PAYMENT,
+                "결제", null, account.getUserId().toString());
     }
     
     @Override
     @Transactional
     public void deposit(Account account, BigDecimal amount) {
-        account.deposit(amount); // Account 엔티티의 deposit 메소드 사용
-        accountRepository.save(account);
+        balanceService.refund(account.getAccountNumber(), amount, "결제 환불", null, account.getUserId().toString());
     }
     
     @Override
@@ -3,22 +3,24 @@ package fintech2.easypay.payment.service.impl;
 import fintech2.easypay.common.enums.AuditEventType;
 import fintech2.easypay.audit.entity.AuditLog;
 import fintech2.easypay.common.enums.AuditResult;
-import fintech2.easypay.audit.repository.AuditLogRepository;
+import fintech2.easypay.audit.service.AuditLogWriter;
 import fintech2.easypay.payment.service.PaymentAuditService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 결제 모듈용 감사 로그 서비스 구현체
- * 실제 AuditLogRepository를 사용하여 감사 로그 기능 제공
+ * AuditLogWriter 파이프라인을 통해 easypay.audit.mode 내구성으로 기록
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class PaymentAuditServiceImpl implements PaymentAuditService {
     
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    
+    @Value("${easypay.audit.mode:ASYNC}")
+    private AuditLogWriter.Durability mode;
     
     @Override
     public void logPaymentSuccess(Long memberId, String phoneNumber, String eventDescription,
@@ -33,7 +35,7 @@ public class PaymentAuditServiceImpl implements PaymentAuditService {
                 .responseData(responseData)
                 .build();
         
-        auditLogRepository.save(auditLog);
+        auditLogWriter.write(auditLog, mode);
     }
     
     @Override
@@ -49,7 +51,7 @@ public class PaymentAuditServiceImpl implements PaymentAuditService {
                 .errorMessage(errorMessage)
                 .build();
         
-        auditLogRepository.save(auditLog);
+        auditLogWriter.write(auditLog, mode);
     }
     
     @Override
@@ -65,7 +67,7 @@ public class PaymentAuditServiceImpl implements PaymentAuditService {
                 .responseData(responseData)
                 .build();
         
-        auditLogRepository.save(auditLog);
+        auditLogWriter.write(auditLog, mode);
     }
     
     @Override
@@ -81,6 +83,6 @@ public class PaymentAuditServiceImpl implements PaymentAuditService {
                 .responseData(responseData)
                 .build();
         
-        auditLogRepository.save(auditLog);
+        auditLogWriter.write(auditLog, mode);
     }
 }
\ No newline at end of file
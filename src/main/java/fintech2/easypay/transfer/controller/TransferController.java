@@ -4,25 +4,39 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import fintech2.easypay.auth.dto.UserPrincipal;
 import fintech2.easypay.auth.service.PinService;
 import fintech2.easypay.common.ApiResponse;
 import fintech2.easypay.common.BusinessException;
 import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.idempotency.IdempotencyService;
+import fintech2.easypay.common.util.DeferredResults;
+import fintech2.easypay.transfer.dto.BatchTransferItemResponse;
+import fintech2.easypay.transfer.dto.BatchTransferRequest;
+import fintech2.easypay.transfer.dto.BatchTransferResponse;
 import fintech2.easypay.transfer.dto.RecentTransferResponse;
 import fintech2.easypay.transfer.dto.SecureTransferRequest;
+import fintech2.easypay.transfer.dto.TransferHistoryResponse;
 import fintech2.easypay.transfer.dto.TransferRequest;
 import fintech2.easypay.transfer.dto.TransferResponse;
+import fintech2.easypay.transfer.entity.TransferBatchItemStatus;
+import fintech2.easypay.transfer.service.BatchTransferService;
 import fintech2.easypay.transfer.service.TransferService;
 
 /**
@@ -38,47 +52,104 @@ public class TransferController {
     
     private final TransferService transferService;
     private final PinService pinService;
+    private final BatchTransferService batchTransferService;
+    private final IdempotencyService idempotencyService;
+    
+    // 외부 뱅킹 API 응답 대기 최대 시간(ms) - 초과 시 202(처리 중) 응답, 송금은 계속 진행
+    @Value("${easypay.external.deferred-timeout-ms:10000}")
+    private long deferredTimeoutMs;
     
     /**
      * 송금 처리 API (기존 - PIN 검증 없음)
      * 인증된 사용자가 다른 사용자에게 송금
+     * 외부 뱅킹 API 응답을 기다리는 동안 요청 스레드를 반납 (DeferredResult)
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도에 저장된 결과를 반환
      * @param userDetails 인증된 사용자 정보
+     * @param idempotencyKey 재시도 중복 방지 키 (선택)
      * @param request 송금 요청 정보
      * @return 송금 처리 결과
      */
     @PostMapping
-    public ApiResponse<TransferResponse> transfer(
+    public DeferredResult<ApiResponse<TransferResponse>> transfer(
         @AuthenticationPrincipal UserPrincipal userDetails,
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
         @Valid @RequestBody TransferRequest request) {
-        TransferResponse response = transferService.transfer(userDetails.getUsername(), request);
-        return ApiResponse.success("송금이 완료되었습니다.", response);
+        return DeferredResults.of(
+            idempotencyService.execute("transfer", userDetails.getUsername(), idempotencyKey, request,
+                    TransferResponse.class, () -> transferService.transferAsync(userDetails.getUsername(), request))
+                .thenApply(response -> ApiResponse.success("송금이 완료되었습니다.", response)),
+            deferredTimeoutMs,
+            "송금을 처리 중입니다. 잠시 후 송금 내역에서 결과를 확인해주세요.");
     }
 
     /**
      * 보안 송금 처리 API (PIN 검증 포함)
      * PIN 인증이 완료된 후 송금 처리
+     * 같은 Idempotency-Key 의 재시도는 PIN 검증 없이 저장된 결과를 반환
      * @param userDetails 인증된 사용자 정보
+     * @param idempotencyKey 재시도 중복 방지 키 (선택)
      * @param request PIN 세션 토큰이 포함된 보안 송금 요청
      * @return 송금 처리 결과
      */
     @PostMapping("/secure")
     @Operation(summary = "보안 송금", description = "PIN 인증을 통한 보안 송금 처리")
-    public ApiResponse<TransferResponse> secureTransfer(
+    public DeferredResult<ApiResponse<TransferResponse>> secureTransfer(
         @AuthenticationPrincipal UserPrincipal userDetails,
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
         @Valid @RequestBody SecureTransferRequest request) {
         
-        // PIN 세션 토큰 검증
-        if (!pinService.validatePinSessionToken(request.getPinSessionToken(), "transfer")) {
-            throw new BusinessException(ErrorCode.INVALID_PIN_SESSION, "PIN 인증이 유효하지 않습니다.");
-        }
-        
-        // PIN 검증 통과 후 일반 송금 처리
-        TransferResponse response = transferService.transfer(
-            userDetails.getUsername(), 
-            request.toTransferRequest()
-        );
-        
-        return ApiResponse.success("PIN 인증을 통한 송금이 완료되었습니다.", response);
+        // 같은 키 판별은 송금 내용으로만 (PIN 세션 토큰은 재시도마다 새로 발급되므로 제외)
+        return DeferredResults.of(
+            idempotencyService.execute("transfer-secure", userDetails.getUsername(), idempotencyKey,
+                    request.toTransferRequest(), TransferResponse.class, () -> {
+                        // PIN 세션 토큰 검증
+                        if (!pinService.validatePinSessionToken(request.getPinSessionToken(), "transfer")) {
+                            throw new BusinessException(ErrorCode.INVALID_PIN_SESSION, "PIN 인증이 유효하지 않습니다.");
+                        }
+                        
+                        // PIN 검증 통과 후 일반 송금 처리
+                        return transferService.transferAsync(userDetails.getUsername(), request.toTransferRequest());
+                    })
+                .thenApply(response -> ApiResponse.success("PIN 인증을 통한 송금이 완료되었습니다.", response)),
+            deferredTimeoutMs,
+            "송금을 처리 중입니다. 잠시 후 송금 내역에서 결과를 확인해주세요.");
+    }
+    
+    /**
+     * 대량 송금 접수 API (급여 이체 등)
+     * 접수 즉시 배치 ID를 반환하고 처리는 비동기로 진행
+     * @param userDetails 인증된 사용자 정보
+     * @param request 송금 대상 목록
+     * @return 접수된 배치 정보
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "대량 송금", description = "여러 수신 계좌로 일괄 송금 (비동기 처리, 배치 ID로 결과 조회)")
+    public ApiResponse<BatchTransferResponse> submitBatchTransfer(
+        @AuthenticationPrincipal UserPrincipal userDetails,
+        @Valid @RequestBody BatchTransferRequest request) {
+        BatchTransferResponse response = batchTransferService.submit(userDetails.getUsername(), request);
+        return ApiResponse.success("대량 송금이 접수되었습니다.", response);
+    }
+    
+    @GetMapping("/batch/{batchId}")
+    @Operation(summary = "대량 송금 결과 조회", description = "배치 ID로 대량 송금 처리 현황 조회")
+    public ApiResponse<BatchTransferResponse> getBatchTransfer(
+        @AuthenticationPrincipal UserPrincipal userDetails,
+        @PathVariable String batchId) {
+        return ApiResponse.success(batchTransferService.getBatch(userDetails.getUsername(), batchId));
+    }
+    
+    @GetMapping("/batch/{batchId}/items")
+    @Operation(summary = "대량 송금 항목 조회", description = "배치 항목별 처리 결과 조회 (상태 필터 선택)")
+    public ApiResponse<Page<BatchTransferItemResponse>> getBatchTransferItems(
+        @AuthenticationPrincipal UserPrincipal userDetails,
+        @PathVariable String batchId,
+        @RequestParam(required = false) TransferBatchItemStatus status,
+        Pageable pageable) {
+        Page<BatchTransferItemResponse> response =
+            batchTransferService.getBatchItems(userDetails.getUsername(), batchId, status, pageable);
+        return ApiResponse.success(response);
     }
     
     /**
@@ -103,6 +174,17 @@ public class TransferController {
         return ApiResponse.success(response);
     }
     
+    @GetMapping("/history/feed")
+    @Operation(summary = "송금 내역 커서 조회", description = "보내고 받은 송금 내역 커서 조회 (다음 페이지는 nextCursor 를 before 로 전달)")
+    public ApiResponse<TransferHistoryResponse> getTransferHistoryFeed(
+        @AuthenticationPrincipal UserPrincipal userDetails,
+        @RequestParam(required = false) String before,
+        @RequestParam(defaultValue = "20") int size) {
+        TransferHistoryResponse response =
+            transferService.getTransferHistory(userDetails.getUsername(), before, size);
+        return ApiResponse.success(response);
+    }
+    
     @GetMapping("/sent")
     @Operation(summary = "송금 내역 조회", description = "내가 송금한 내역 조회")
     public ApiResponse<Page<TransferResponse>> getSentTransfers(
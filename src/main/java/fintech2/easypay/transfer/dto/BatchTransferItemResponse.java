@@ -0,0 +1,39 @@
+package fintech2.easypay.transfer.dto;
+
+import fintech2.easypay.transfer.entity.TransferBatchItem;
+import fintech2.easypay.transfer.entity.TransferBatchItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransferItemResponse {
+    private int itemNo;
+    private String receiverAccountNumber;
+    private BigDecimal amount;
+    private String memo;
+    private TransferBatchItemStatus status;
+    private String transactionId;
+    private String failedReason;
+    private LocalDateTime processedAt;
+    
+    public static BatchTransferItemResponse from(TransferBatchItem item) {
+        return BatchTransferItemResponse.builder()
+                .itemNo(item.getItemNo())
+                .receiverAccountNumber(item.getReceiverAccountNumber())
+                .amount(item.getAmount())
+                .memo(item.getMemo())
+                .status(item.getStatus())
+                .transactionId(item.getTransactionId())
+                .failedReason(item.getFailedReason())
+                .processedAt(item.getProcessedAt())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package fintech2.easypay.transfer.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 대량 송금(급여 이체) 요청
+ * 최대 건수는 easypay.transfer.batch.max-items 로 제한
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransferRequest {
+    
+    // 송금자 계좌번호 (없으면 주계좌 사용)
+    private String senderAccountNumber;
+    
+    @NotEmpty(message = "송금 대상 목록은 필수입니다.")
+    private List<@Valid @NotNull Item> items;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        
+        @NotBlank(message = "수신자 계좌번호는 필수입니다.")
+        private String receiverAccountNumber;
+        
+        @NotNull(message = "송금 금액은 필수입니다.")
+        @DecimalMin(value = "0.01", message = "송금 금액은 0보다 커야 합니다.")
+        private BigDecimal amount;
+        
+        @Size(max = 100, message = "메모는 100자 이하여야 합니다.")
+        private String memo;
+    }
+}
@@ -0,0 +1,45 @@
+package fintech2.easypay.transfer.dto;
+
+import fintech2.easypay.transfer.entity.TransferBatch;
+import fintech2.easypay.transfer.entity.TransferBatchStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransferResponse {
+    private String batchId;
+    private String senderAccountNumber;
+    private TransferBatchStatus status;
+    private int totalCount;
+    private BigDecimal totalAmount;
+    private int successCount;
+    private int failedCount;
+    private BigDecimal successAmount;
+    private String failedReason;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    
+    public static BatchTransferResponse from(TransferBatch batch) {
+        return BatchTransferResponse.builder()
+                .batchId(batch.getBatchId())
+                .senderAccountNumber(batch.getSenderAccountNumber())
+                .status(batch.getStatus())
+                .totalCount(batch.getTotalCount())
+                .totalAmount(batch.getTotalAmount())
+                .successCount(batch.getSuccessCount())
+                .failedCount(batch.getFailedCount())
+                .successAmount(batch.getSuccessAmount())
+                .failedReason(batch.getFailedReason())
+                .createdAt(batch.getCreatedAt())
+                .completedAt(batch.getCompletedAt())
+                .build();
+    }
+}
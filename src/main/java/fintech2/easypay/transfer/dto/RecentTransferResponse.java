@@ -1,5 +1,6 @@
 package fintech2.easypay.transfer.dto;
 
+import fintech2.easypay.transfer.entity.RecentCounterparty;
 import fintech2.easypay.transfer.entity.Transfer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +22,7 @@ public class RecentTransferResponse {
     private BigDecimal amount;
     private LocalDateTime createdAt;
     private String memo;
+    private int transferCount; // 이 수신자에게 완료한 송금 횟수
     
     public static RecentTransferResponse from(Transfer transfer) {
         return RecentTransferResponse.builder()
@@ -33,4 +35,20 @@ public class RecentTransferResponse {
                 .memo(transfer.getMemo())
                 .build();
     }
-}
\ No newline at end of file
+    
+    /**
+     * 최근 송금 대상 행 기준 (id / amount / createdAt / memo 는 마지막 송금 값)
+     */
+    public static RecentTransferResponse from(RecentCounterparty counterparty) {
+        return RecentTransferResponse.builder()
+                .id(counterparty.getLastTransferId())
+                .receiverName(counterparty.getReceiver().getName())
+                .receiverPhoneNumber(counterparty.getReceiver().getPhoneNumber())
+                .receiverAccountNumber(counterparty.getReceiverAccountNumber())
+                .amount(counterparty.getLastAmount())
+                .createdAt(counterparty.getLastTransferAt())
+                .memo(counterparty.getLastMemo())
+                .transferCount(counterparty.getTransferCount())
+                .build();
+    }
+}
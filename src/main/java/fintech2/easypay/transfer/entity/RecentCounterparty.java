@@ -0,0 +1,55 @@
+package fintech2.easypay.transfer.entity;
+
+import fintech2.easypay.auth.entity.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 최근 송금 대상 (송금자 - 수신자 쌍별 1행)
+ * 송금 완료 시 RecentCounterpartyService 가 JDBC 로 갱신하고, 이 엔티티는 조회에 사용
+ */
+@Entity
+@Table(name = "recent_counterparty",
+       uniqueConstraints = @UniqueConstraint(name = "uk_recent_counterparty", columnNames = {"sender_id", "receiver_id"}),
+       indexes = @Index(name = "idx_recent_counterparty_sender", columnList = "sender_id, last_transfer_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecentCounterparty {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "receiver_id", nullable = false)
+    private User receiver;
+    
+    @Column(name = "receiver_account_number", nullable = false)
+    private String receiverAccountNumber; // 마지막 송금의 수신 계좌
+    
+    @Column(name = "last_transfer_id")
+    private Long lastTransferId; // transfers.id
+    
+    @Column(name = "last_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal lastAmount;
+    
+    @Column(name = "last_memo")
+    private String lastMemo;
+    
+    @Column(name = "last_transfer_at", nullable = false)
+    private LocalDateTime lastTransferAt;
+    
+    @Column(name = "transfer_count", nullable = false)
+    private int transferCount; // 완료된 송금 횟수
+}
@@ -60,6 +60,46 @@ public class Transfer extends BaseEntity {
     @Column(name = "failed_reason")
     private String failedReason;
     
+    @Column(name = "funds_held", nullable = false)
+    @Builder.Default
+    private boolean fundsHeld = false; // 송금자 잔액 선차감(보류) 여부
+    
+    @Column(name = "next_check_at")
+    private LocalDateTime nextCheckAt; // 다음 외부 상태 확인 시각 (확정 시 null)
+    
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private int attemptCount = 0; // 상태 확인 시도 횟수
+    
+    /**
+     * 송금자 잔액 보류 (외부 호출 전 선차감 완료)
+     */
+    public void markFundsHeld() {
+        this.fundsHeld = true;
+    }
+    
+    /**
+     * 보류 해제 (입금 확정 또는 송금자 환원 완료)
+     */
+    public void releaseFundsHold() {
+        this.fundsHeld = false;
+    }
+    
+    /**
+     * 외부 상태 확인 예약 (정산되지 않으면 이 시각 이후 스케줄러가 확인)
+     */
+    public void scheduleStatusCheck(LocalDateTime nextCheckAt) {
+        this.nextCheckAt = nextCheckAt;
+    }
+    
+    /**
+     * 상태 확인 선점 - 시도 횟수 증가 후 다음 확인 시각(백오프)으로 미룸
+     */
+    public void claimStatusCheck(LocalDateTime nextCheckAt) {
+        this.attemptCount++;
+        this.nextCheckAt = nextCheckAt;
+    }
+    
     public void markAsProcessing() {
         this.status = TransferStatus.PROCESSING;
     }
@@ -67,6 +107,7 @@ public class Transfer extends BaseEntity {
     public void markAsCompleted() {
         this.status = TransferStatus.COMPLETED;
         this.processedAt = LocalDateTime.now();
+        this.nextCheckAt = null;
     }
     
     public void setBankTransactionId(String bankTransactionId) {
@@ -77,11 +118,13 @@ public class Transfer extends BaseEntity {
         this.status = TransferStatus.FAILED;
         this.failedReason = reason;
         this.processedAt = LocalDateTime.now();
+        this.nextCheckAt = null;
     }
     
     public void markAsCancelled() {
         this.status = TransferStatus.CANCELLED;
         this.processedAt = LocalDateTime.now();
+        this.nextCheckAt = null;
     }
     
     public void markAsTimeout(String reason) {
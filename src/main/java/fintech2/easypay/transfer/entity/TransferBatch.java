@@ -0,0 +1,102 @@
+package fintech2.easypay.transfer.entity;
+
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 대량 송금(급여 이체) 배치
+ * 한 송금자 계좌에서 여러 수신자에게 보내는 송금 묶음 - 건별 결과는 TransferBatchItem 에 기록
+ */
+@Entity
+@Table(name = "transfer_batches")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferBatch extends BaseEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "batch_id", unique = true, nullable = false)
+    private String batchId;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sender_user_id", nullable = false)
+    private User sender;
+    
+    @Column(name = "sender_account_number", nullable = false)
+    private String senderAccountNumber;
+    
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+    
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+    
+    @Column(name = "success_count", nullable = false)
+    @Builder.Default
+    private int successCount = 0;
+    
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private int failedCount = 0;
+    
+    @Column(name = "success_amount", nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal successAmount = BigDecimal.ZERO;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private TransferBatchStatus status = TransferBatchStatus.ACCEPTED;
+    
+    @Column(name = "failed_reason")
+    private String failedReason;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    public void markAsProcessing() {
+        this.status = TransferBatchStatus.PROCESSING;
+    }
+    
+    /**
+     * 처리 결과 반영 - 실패 건 유무에 따라 완료 / 일부 완료 / 실패
+     */
+    public void complete(int successCount, BigDecimal successAmount, int failedCount) {
+        this.successCount = successCount;
+        this.successAmount = successAmount;
+        this.failedCount = failedCount;
+        if (failedCount == 0) {
+            this.status = TransferBatchStatus.COMPLETED;
+        } else if (successCount == 0) {
+            this.status = TransferBatchStatus.FAILED;
+        } else {
+            this.status = TransferBatchStatus.PARTIALLY_COMPLETED;
+        }
+        this.completedAt = LocalDateTime.now();
+    }
+    
+    public void markAsFailed(String reason) {
+        this.status = TransferBatchStatus.FAILED;
+        this.failedReason = reason;
+        this.failedCount = this.totalCount - this.successCount;
+        this.completedAt = LocalDateTime.now();
+    }
+    
+    public boolean isFinished() {
+        return this.status == TransferBatchStatus.COMPLETED
+                || this.status == TransferBatchStatus.PARTIALLY_COMPLETED
+                || this.status == TransferBatchStatus.FAILED;
+    }
+}
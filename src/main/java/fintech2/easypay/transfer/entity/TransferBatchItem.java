@@ -0,0 +1,59 @@
+package fintech2.easypay.transfer.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 대량 송금 배치의 개별 송금 건
+ * 저장 / 결과 갱신은 TransferBatchWriter 의 JDBC batch 로 수행하고, 이 엔티티는 결과 조회에 사용
+ */
+@Entity
+@Table(name = "transfer_batch_items")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferBatchItem {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "batch_id", nullable = false)
+    private Long batchId; // transfer_batches.id
+    
+    @Column(name = "item_no", nullable = false)
+    private int itemNo; // 요청 목록 내 순번 (0부터)
+    
+    @Column(name = "receiver_account_number", nullable = false)
+    private String receiverAccountNumber;
+    
+    @Column(name = "amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+    
+    @Column(name = "memo")
+    private String memo;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private TransferBatchItemStatus status = TransferBatchItemStatus.PENDING;
+    
+    @Column(name = "transaction_id")
+    private String transactionId; // 입금 완료 시 생성된 송금 거래 ID
+    
+    @Column(name = "failed_reason")
+    private String failedReason;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,7 @@
+package fintech2.easypay.transfer.entity;
+
+public enum TransferBatchItemStatus {
+    PENDING,      // 처리 대기
+    COMPLETED,    // 입금 완료
+    FAILED        // 실패
+}
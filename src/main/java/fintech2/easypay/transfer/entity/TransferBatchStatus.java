@@ -0,0 +1,9 @@
+package fintech2.easypay.transfer.entity;
+
+public enum TransferBatchStatus {
+    ACCEPTED,              // 접수됨
+    PROCESSING,            // 처리중
+    COMPLETED,             // 전체 완료
+    PARTIALLY_COMPLETED,   // 일부 완료 (실패 건 포함)
+    FAILED                 // 전체 실패
+}
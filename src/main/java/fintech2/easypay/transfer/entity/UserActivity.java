@@ -0,0 +1,65 @@
+package fintech2.easypay.transfer.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자별 송금 활동 피드 (추가 전용)
+ * 송금 1건당 참여자별 1행을 송금 기록과 같은 트랜잭션에서 저장하여
+ * 송금 내역을 (user_id, created_at, id) 인덱스 하나로 키셋 조회 (users 조인 / OR 조건 / count 쿼리 없음)
+ * 송금 / 방향별 1행 (UNIQUE (transfer_id, direction), V18)
+ */
+@Entity
+@Table(name = "user_activity",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_activity_transfer_direction",
+                                             columnNames = {"transfer_id", "direction"}),
+       indexes = @Index(name = "idx_user_activity_feed", columnList = "user_id, created_at, id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserActivity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "transfer_id", nullable = false)
+    private Long transferId; // transfers.id
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "direction", nullable = false, length = 10)
+    private UserActivityDirection direction;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 송금 생성 시각
+    
+    /**
+     * 송금 1건의 피드 행 (보낸 사람 / 받은 사람, 자기 자신에게 보낸 송금은 1행)
+     */
+    public static List<UserActivity> forTransfer(Transfer transfer) {
+        UserActivity sent = of(transfer, transfer.getSender().getId(), UserActivityDirection.SENT);
+        if (transfer.getSender().getId().equals(transfer.getReceiver().getId())) {
+            return List.of(sent);
+        }
+        return List.of(sent, of(transfer, transfer.getReceiver().getId(), UserActivityDirection.RECEIVED));
+    }
+    
+    private static UserActivity of(Transfer transfer, Long userId, UserActivityDirection direction) {
+        return UserActivity.builder()
+                .userId(userId)
+                .transferId(transfer.getId())
+                .direction(direction)
+                .createdAt(transfer.getCreatedAt())
+                .build();
+    }
+}
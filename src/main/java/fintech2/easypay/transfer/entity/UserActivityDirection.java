@@ -0,0 +1,9 @@
+package fintech2.easypay.transfer.entity;
+
+/**
+ * 활동 피드에서 사용자의 송금 참여 방향
+ */
+public enum UserActivityDirection {
+    SENT,     // 보낸 송금
+    RECEIVED  // 받은 송금
+}
@@ -1,6 +1,10 @@
 package fintech2.easypay.transfer.external;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 외부 뱅킹 API 서비스 인터페이스
@@ -21,4 +25,35 @@ public interface BankingApiService {
      * @return 송금 상태 정보
      */
     BankingApiResponse getTransferStatus(String transactionId);
+    
+    /**
+     * 송금 상태 일괄 조회
+     * 기본 구현은 건별 조회를 반복하므로, 일괄 조회 전문을 지원하는 연동은 한 번의 호출로 재정의
+     * @param transactionIds 거래 ID 목록
+     * @return 거래 ID별 송금 상태 (응답에 없는 거래는 포함되지 않을 수 있음)
+     */
+    default Map<String, BankingApiResponse> getTransferStatuses(Collection<String> transactionIds) {
+        Map<String, BankingApiResponse> statuses = new LinkedHashMap<>();
+        for (String transactionId : transactionIds) {
+            statuses.put(transactionId, getTransferStatus(transactionId));
+        }
+        return statuses;
+    }
+    
+    /**
+     * 외부 은행 API를 통한 송금 처리 (비동기)
+     * 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+     * 완료 콜백은 구현체의 I/O 스레드에서 실행될 수 있으므로 DB 작업은 별도 실행기로 넘겨야 함
+     * 구현체는 비동기 I/O 또는 자체 실행기로 완료해야 함 (블로킹 호출을 공용 ForkJoinPool 에서 감싸지 않도록 기본 구현 없음)
+     * @param request 송금 요청 정보
+     * @return 송금 처리 결과
+     */
+    CompletableFuture<BankingApiResponse> processTransferAsync(BankingApiRequest request);
+    
+    /**
+     * 송금 상태 조회 (비동기)
+     * @param transactionId 거래 ID
+     * @return 송금 상태 정보
+     */
+    CompletableFuture<BankingApiResponse> getTransferStatusAsync(String transactionId);
 }
\ No newline at end of file
@@ -1,21 +1,28 @@
 package fintech2.easypay.transfer.external;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * Mock 뱅킹 API 서비스 구현체
  * 실제 외부 API 대신 테스트용 Mock 응답을 생성
+ * 지연은 스케줄러로 응답 완료 시점을 미루는 방식이라 대기 중인 스레드가 없음 (동기 메서드는 비동기 결과를 기다림)
+ * 상태 조회는 단건 / 일괄 모두 같은 왕복 지연 모델 사용 - 호출당 고정 비용 + 건수 비례 비용(10건당 1ms)
  */
 @Service
 @Slf4j
@@ -24,91 +31,116 @@ public class MockBankingApiService implements BankingApiService {
     // 거래 상태를 메모리에 저장 (실제로는 DB나 캐시 사용)
     private final ConcurrentHashMap<String, BankingApiResponse> transactionStore = new ConcurrentHashMap<>();
     private final Random random = new Random();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, r -> {
+        Thread thread = new Thread(r, "mock-banking-api");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    // 상태 조회 1회 왕복 고정 비용(ms) = status-round-trip-ms + 0 ~ status-round-trip-jitter-ms
+    @Value("${easypay.external.mock-banking.status-round-trip-ms:100}")
+    private long statusRoundTripMs = 100;
+    
+    @Value("${easypay.external.mock-banking.status-round-trip-jitter-ms:50}")
+    private int statusRoundTripJitterMs = 50;
     
     @Override
     public BankingApiResponse processTransfer(BankingApiRequest request) {
+        return processTransferAsync(request).join();
+    }
+    
+    @Override
+    public CompletableFuture<BankingApiResponse> processTransferAsync(BankingApiRequest request) {
         log.info("Mock 뱅킹 API 호출 - 송금 처리: {}", request);
         
-        try {
-            // 타임아웃 시뮬레이션 (3% 확률로 3초 이상 지연)
-            if (random.nextDouble() < 0.03) {
-                simulateTimeout();
-                return createTimeoutResponse(request.getTransactionId());
-            }
-            
-            // 실제 API 호출 시뮬레이션 (50-200ms 지연)
-            simulateApiDelay();
-            
-            // 랜덤하게 성공/실패 시나리오 생성
-            BankingApiResponse response;
-            double randomValue = random.nextDouble();
-            
-            if (randomValue < 0.95) {
-                // 95% 성공 케이스 (성능 테스트를 위해 성공률 증대)
-                response = BankingApiResponse.builder()
-                        .transactionId(request.getTransactionId())
-                        .bankTransactionId("BANK-" + UUID.randomUUID().toString())
-                        .status(BankingApiStatus.SUCCESS)
-                        .message("송금이 정상적으로 처리되었습니다.")
-                        .processedAt(LocalDateTime.now())
-                        .build();
-            } else if (randomValue < 0.97) {
-                // 2% 잔액 부족
-                response = BankingApiResponse.builder()
-                        .transactionId(request.getTransactionId())
-                        .status(BankingApiStatus.INSUFFICIENT_BALANCE)
-                        .errorCode("E001")
-                        .errorMessage("송금 계좌의 잔액이 부족합니다.")
-                        .processedAt(LocalDateTime.now())
-                        .build();
-            } else if (randomValue < 0.98) {
-                // 1% 계좌 오류
-                response = BankingApiResponse.builder()
-                        .transactionId(request.getTransactionId())
-                        .status(BankingApiStatus.INVALID_ACCOUNT)
-                        .errorCode("E002")
-                        .errorMessage("수신 계좌 정보가 올바르지 않습니다.")
-                        .processedAt(LocalDateTime.now())
-                        .build();
-            } else if (randomValue < 0.99) {
-                // 1% 시스템 오류
-                response = BankingApiResponse.builder()
-                        .transactionId(request.getTransactionId())
-                        .status(BankingApiStatus.SYSTEM_ERROR)
-                        .errorCode("E999")
-                        .errorMessage("은행 시스템 오류가 발생했습니다.")
-                        .processedAt(LocalDateTime.now())
-                        .build();
-            } else {
-                // 5% 처리중 상태 (나중에 성공으로 변경됨)
-                response = BankingApiResponse.builder()
-                        .transactionId(request.getTransactionId())
-                        .status(BankingApiStatus.PENDING)
-                        .message("거래가 처리 중입니다.")
-                        .processedAt(LocalDateTime.now())
-                        .build();
-                
-                // 백그라운드에서 5초 후 성공으로 변경
-                scheduleStatusUpdate(request.getTransactionId());
-            }
-            
-            // 거래 정보 저장
-            transactionStore.put(request.getTransactionId(), response);
-            
-            log.info("Mock 뱅킹 API 응답: {}", response);
-            return response;
-            
-        } catch (TimeoutException e) {
-            return createTimeoutResponse(request.getTransactionId());
+        // 타임아웃 시뮬레이션 (3% 확률로 3초 후 타임아웃 응답)
+        if (random.nextDouble() < 0.03) {
+            return completeAfter(3000, () -> createTimeoutResponse(request.getTransactionId()));
         }
+        
+        // 실제 API 호출 시뮬레이션 (50-200ms 지연)
+        return completeAfter(50 + random.nextInt(150), () -> createTransferResponse(request));
     }
     
     @Override
-    public BankingApiResponse getTransferStatus(String transactionId) {
+    public CompletableFuture<BankingApiResponse> getTransferStatusAsync(String transactionId) {
         log.info("Mock 뱅킹 API 호출 - 송금 상태 조회: {}", transactionId);
+        return completeAfter(statusRoundTrip(1), () -> findStatus(transactionId));
+    }
+    
+    /**
+     * 송금 결과 생성 (지연 후 호출)
+     */
+    private BankingApiResponse createTransferResponse(BankingApiRequest request) {
+        // 랜덤하게 성공/실패 시나리오 생성
+        BankingApiResponse response;
+        double randomValue = random.nextDouble();
         
-        // 저장된 거래 정보 반환
+        if (randomValue < 0.95) {
+            // 95% 성공 케이스 (성능 테스트를 위해 성공률 증대)
+            response = BankingApiResponse.builder()
+                    .transactionId(request.getTransactionId())
+                    .bankTransactionId("BANK-" + UUID.randomUUID().toString())
+                    .status(BankingApiStatus.SUCCESS)
+                    .message("송금이 정상적으로 처리되었습니다.")
+                    .processedAt(LocalDateTime.now())
+                    .build();
+        } else if (randomValue < 0.97) {
+            // 2% 잔액 부족
+            response = BankingApiResponse.builder()
+                    .transactionId(request.getTransactionId())
+                    .status(BankingApiStatus.INSUFFICIENT_BALANCE)
+                    .errorCode("E001")
+                    .errorMessage("송금 계좌의 잔액이 부족합니다.")
+                    .processedAt(LocalDateTime.now())
+                    .build();
+        } else if (randomValue < 0.98) {
+            // 1% 계좌 오류
+            response = BankingApiResponse.builder()
+                    .transactionId(request.getTransactionId())
+                    .status(BankingApiStatus.INVALID_ACCOUNT)
+                    .errorCode("E002")
+                    .errorMessage("수신 계좌 정보가 올바르지 않습니다.")
+                    .processedAt(LocalDateTime.now())
+                    .build();
+        } else if (randomValue < 0.99) {
+            // 1% 시스템 오류
+            response = BankingApiResponse.builder()
+                    .transactionId(request.getTransactionId())
+                    .status(BankingApiStatus.SYSTEM_ERROR)
+                    .errorCode("E999")
+                    .errorMessage("은행 시스템 오류가 발생했습니다.")
+                    .processedAt(LocalDateTime.now())
+                    .build();
+        } else {
+            // 5% 처리중 상태 (나중에 성공으로 변경됨)
+            response = BankingApiResponse.builder()
+                    .transactionId(request.getTransactionId())
+                    .status(BankingApiStatus.PENDING)
+                    .message("거래가 처리 중입니다.")
+                    .processedAt(LocalDateTime.now())
+                    .build();
+            
+            // 백그라운드에서 5초 후 성공으로 변경
+            scheduleStatusUpdate(request.getTransactionId());
+        }
+        
+        // 거래 정보 저장
+        transactionStore.put(request.getTransactionId(), response);
+        
+        log.info("Mock 뱅킹 API 응답: {}", response);
+        return response;
+    }
+    
+    @Override
+    public BankingApiResponse getTransferStatus(String transactionId) {
+        return getTransferStatusAsync(transactionId).join();
+    }
+    
+    /**
+     * 저장된 거래 정보 반환 (없으면 실패 응답)
+     */
+    private BankingApiResponse findStatus(String transactionId) {
         BankingApiResponse response = transactionStore.get(transactionId);
         if (response == null) {
             return BankingApiResponse.builder()
@@ -124,27 +156,41 @@ public class MockBankingApiService implements BankingApiService {
     }
     
     /**
-     * API 호출 지연 시뮬레이션
+     * 일괄 상태 조회 - 한 번의 호출(왕복 1회)로 처리
      */
-    private void simulateApiDelay() {
-        try {
-            Thread.sleep(50 + random.nextInt(150));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    @Override
+    public Map<String, BankingApiResponse> getTransferStatuses(Collection<String> transactionIds) {
+        log.info("Mock 뱅킹 API 호출 - 송금 상태 일괄 조회: {}건", transactionIds.size());
+        
+        return completeAfter(statusRoundTrip(transactionIds.size()), () -> {
+            Map<String, BankingApiResponse> statuses = new LinkedHashMap<>();
+            for (String transactionId : transactionIds) {
+                statuses.put(transactionId, findStatus(transactionId));
+            }
+            return statuses;
+        }).join();
     }
     
     /**
-     * 타임아웃 시뮬레이션 (3초 대기)
+     * 상태 조회 1회 왕복 지연(ms) - 고정 비용 + 건수 비례 비용(10건당 1ms)
      */
-    private void simulateTimeout() throws TimeoutException {
-        try {
-            Thread.sleep(3000);
-            throw new TimeoutException("API 호출 타임아웃");
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new TimeoutException("API 호출 중단됨");
-        }
+    private long statusRoundTrip(int items) {
+        return statusRoundTripMs + random.nextInt(statusRoundTripJitterMs + 1) + items / 10;
+    }
+    
+    /**
+     * 지연 후 응답 완료 (스레드를 재우지 않고 스케줄러로 완료 시점만 미룸)
+     */
+    private <T> CompletableFuture<T> completeAfter(long delayMs, Supplier<T> response) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            try {
+                future.complete(response.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+        return future;
     }
     
     /**
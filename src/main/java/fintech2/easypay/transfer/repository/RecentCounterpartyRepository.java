@@ -0,0 +1,21 @@
+package fintech2.easypay.transfer.repository;
+
+import fintech2.easypay.transfer.entity.RecentCounterparty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RecentCounterpartyRepository extends JpaRepository<RecentCounterparty, Long> {
+    
+    /**
+     * 송금자의 최근 송금 대상 (수신자 함께 조회, List 반환이라 count 쿼리 없음)
+     */
+    @Query("SELECT r FROM RecentCounterparty r JOIN FETCH r.receiver " +
+           "WHERE r.senderId = :senderId ORDER BY r.lastTransferAt DESC, r.id DESC")
+    List<RecentCounterparty> findRecentBySenderId(@Param("senderId") Long senderId, Pageable pageable);
+}
@@ -0,0 +1,17 @@
+package fintech2.easypay.transfer.repository;
+
+import fintech2.easypay.transfer.entity.TransferBatchItem;
+import fintech2.easypay.transfer.entity.TransferBatchItemStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TransferBatchItemRepository extends JpaRepository<TransferBatchItem, Long> {
+    
+    Page<TransferBatchItem> findByBatchIdOrderByItemNo(Long batchId, Pageable pageable);
+    
+    Page<TransferBatchItem> findByBatchIdAndStatusOrderByItemNo(Long batchId, TransferBatchItemStatus status,
+                                                               Pageable pageable);
+}
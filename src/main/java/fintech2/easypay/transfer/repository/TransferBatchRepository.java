@@ -0,0 +1,13 @@
+package fintech2.easypay.transfer.repository;
+
+import fintech2.easypay.transfer.entity.TransferBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TransferBatchRepository extends JpaRepository<TransferBatch, Long> {
+    
+    Optional<TransferBatch> findByBatchId(String batchId);
+}
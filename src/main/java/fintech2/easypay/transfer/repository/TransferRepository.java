@@ -4,12 +4,15 @@ import fintech2.easypay.transfer.entity.Transfer;
 import fintech2.easypay.transfer.entity.TransferStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +27,12 @@ public interface TransferRepository extends JpaRepository<Transfer, Long> {
     @Query("SELECT t FROM Transfer t WHERE t.sender.phoneNumber = :phoneNumber OR t.receiver.phoneNumber = :phoneNumber ORDER BY t.createdAt DESC")
     Page<Transfer> findByPhoneNumberOrderByCreatedAtDesc(@Param("phoneNumber") String phoneNumber, Pageable pageable);
     
+    /**
+     * 활동 피드 한 페이지의 송금 기록을 송금자 / 수신자와 함께 조회 (PK IN 조회 1회)
+     */
+    @Query("SELECT t FROM Transfer t JOIN FETCH t.sender JOIN FETCH t.receiver WHERE t.id IN :ids")
+    List<Transfer> findAllWithUsersByIdIn(@Param("ids") Collection<Long> ids);
+    
     Page<Transfer> findBySenderIdOrderByCreatedAtDesc(Long senderId, Pageable pageable);
     
     Page<Transfer> findByReceiverIdOrderByCreatedAtDesc(Long receiverId, Pageable pageable);
@@ -40,27 +49,37 @@ public interface TransferRepository extends JpaRepository<Transfer, Long> {
                                          @Param("status") TransferStatus status);
     
     /**
-     * 특정 상태들과 생성 시간 조건으로 거래 조회 (스케줄러용)
+     * 상태 확인 시각이 도래한 거래를 (next_check_at, id) 키셋으로 한 페이지 선점 (상태 확인 스케줄러용)
+     * 정렬과 키셋이 idx_transfers_next_check (next_check_at, id) 와 같아 도래한 거래만 인덱스 범위로 읽음
+     * MOD(id, shardCount) = shardIndex - 노드별 담당 샤드만 조회
+     * SKIP LOCKED - 다른 인스턴스가 선점 중인 행은 기다리지 않고 건너뜀 (샤드 재배정 중 중복 방지)
      */
-    List<Transfer> findByStatusInAndCreatedAtBefore(List<TransferStatus> statuses, 
-                                                   LocalDateTime createdAt);
+    @Query(value = "SELECT * FROM transfers " +
+                   "WHERE next_check_at <= :now AND (next_check_at, id) > (:afterDueAt, :afterId) " +
+                   "AND status IN (:statuses) AND MOD(id, :shardCount) = :shardIndex " +
+                   "ORDER BY next_check_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Transfer> findDueForStatusCheck(@Param("statuses") List<String> statuses,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("afterDueAt") LocalDateTime afterDueAt,
+                                         @Param("afterId") Long afterId,
+                                         @Param("shardIndex") int shardIndex,
+                                         @Param("shardCount") int shardCount,
+                                         @Param("limit") int limit);
     
     /**
-     * 최근 송금한 수신자들을 중복 제거하여 조회
-     * 각 수신자별로 가장 최근 거래만 가져옴
-     * JPQL을 사용하여 엔티티 필드명으로 처리
+     * 상태 확인 결과 반영용 행 잠금 조회
      */
-    @Query("SELECT t FROM Transfer t " +
-           "WHERE t.sender.id = :senderId " +
-           "AND t.status = fintech2.easypay.transfer.entity.TransferStatus.COMPLETED " +
-           "AND t.createdAt = (" +
-           "    SELECT MAX(t2.createdAt) FROM Transfer t2 " +
-           "    WHERE t2.sender.id = :senderId " +
-           "    AND t2.receiver.id = t.receiver.id " +
-           "    AND t2.status = fintech2.easypay.transfer.entity.TransferStatus.COMPLETED" +
-           ") " +
-           "ORDER BY t.createdAt DESC")
-    Page<Transfer> findRecentDistinctReceivers(@Param("senderId") Long senderId, Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transfer t WHERE t.id = :id")
+    Optional<Transfer> findByIdWithLock(@Param("id") Long id);
+    
+    long countByStatusIn(List<TransferStatus> statuses);
+    
+    @Query("SELECT COUNT(t) FROM Transfer t WHERE t.status IN :statuses AND t.nextCheckAt <= :now")
+    long countDueForStatusCheck(@Param("statuses") List<TransferStatus> statuses, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT MIN(t.createdAt) FROM Transfer t WHERE t.status IN :statuses")
+    LocalDateTime findOldestCreatedAtByStatusIn(@Param("statuses") List<TransferStatus> statuses);
     
     boolean existsByTransactionId(String transactionId);
 }
@@ -0,0 +1,49 @@
+package fintech2.easypay.transfer.repository;
+
+import fintech2.easypay.transfer.entity.UserActivity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UserActivityRepository extends JpaRepository<UserActivity, Long> {
+    
+    /**
+     * 최신 활동 첫 페이지 (List 반환이라 count 쿼리 없음)
+     */
+    @Query("SELECT a FROM UserActivity a WHERE a.userId = :userId ORDER BY a.createdAt DESC, a.id DESC")
+    List<UserActivity> findLatest(@Param("userId") Long userId, Pageable pageable);
+    
+    /**
+     * 커서 (createdAt, id) 이전 활동 - createdAt 범위 조건으로 인덱스 범위 스캔 후 같은 시각은 id 로 구분
+     */
+    @Query("SELECT a FROM UserActivity a " +
+           "WHERE a.userId = :userId AND a.createdAt <= :createdAt " +
+           "AND (a.createdAt < :createdAt OR a.id < :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<UserActivity> findBefore(@Param("userId") Long userId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+    
+    /**
+     * 활동 추가 - 같은 송금 / 방향의 활동이 이미 있으면 추가하지 않음 (UNIQUE (transfer_id, direction), 이관 작업과 겹쳐도 중복 없음)
+     * @return 추가한 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_activity (user_id, transfer_id, direction, created_at) " +
+                   "SELECT CAST(:userId AS BIGINT), CAST(:transferId AS BIGINT), CAST(:direction AS VARCHAR(10)), " +
+                   "CAST(:createdAt AS TIMESTAMP) " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM user_activity WHERE transfer_id = :transferId AND direction = :direction)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("transferId") Long transferId,
+                       @Param("direction") String direction,
+                       @Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,398 @@
+package fintech2.easypay.transfer.service;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.AccountLockManager;
+import fintech2.easypay.account.service.BalanceBatchService;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.enums.AuditEventType;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.exception.TooManyRequestsException;
+import fintech2.easypay.common.util.IdGenerator;
+import fintech2.easypay.transfer.dto.BatchTransferItemResponse;
+import fintech2.easypay.transfer.dto.BatchTransferRequest;
+import fintech2.easypay.transfer.dto.BatchTransferResponse;
+import fintech2.easypay.transfer.entity.TransferBatch;
+import fintech2.easypay.transfer.entity.TransferBatchItemStatus;
+import fintech2.easypay.transfer.repository.TransferBatchItemRepository;
+import fintech2.easypay.transfer.repository.TransferBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 대량 송금(급여 이체) 서비스
+ * 한 계좌에서 수천~수만 건을 보내는 요청을 건별 송금 파이프라인 대신 한 번에 처리
+ *
+ * 1. 접수: 배치 / 항목 저장 후 배치 ID 반환, 처리는 taskExecutor 에서 비동기 수행
+ * 2. 수신 계좌 검증: 계좌번호 IN 조회로 일괄 검증 (없는 계좌 / 비활성 계좌 / 본인 계좌는 항목 실패)
+ * 3. 출금: 유효 항목 총액을 송금자 계좌에서 한 번에 출금 (잔액 부족이면 전체 실패)
+ * 4. 입금: 수신 계좌 ID 순으로 정렬한 묶음 단위로 락 획득 후 일괄 입금, 송금 기록 / 거래 내역은 JDBC batch 저장
+ *    묶음 처리가 실패하면 해당 묶음 금액을 송금자에게 환원하고 항목 실패 처리
+ * 5. 결과: 건별 결과는 배치 ID로 조회, 감사 로그 / 송금자 알림은 배치당 1회
+ *
+ * 수신 계좌가 모두 EasyPay 내부 계좌이므로 외부 뱅킹 API 를 호출하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchTransferService {
+
+    // 계좌번호 IN 조회 1회당 최대 개수
+    private static final int ACCOUNT_LOOKUP_CHUNK = 1000;
+
+    private final TransferBatchRepository transferBatchRepository;
+    private final TransferBatchItemRepository transferBatchItemRepository;
+    private final TransferBatchWriter transferBatchWriter;
+    private final TransferService transferService;
+    private final RecentCounterpartyService recentCounterpartyService;
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+    private final BalanceService balanceService;
+    private final BalanceBatchService balanceBatchService;
+    private final AccountLockManager accountLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLogService auditLogService;
+    private final NotificationService notificationService;
+    private final IdGenerator idGenerator;
+    private final Executor taskExecutor;
+
+    // 배치당 최대 송금 건수
+    @Value("${easypay.transfer.batch.max-items:50000}")
+    private int maxItems;
+
+    // 입금 묶음 크기 (묶음마다 수신 계좌 락 + 트랜잭션 1회)
+    @Value("${easypay.transfer.batch.credit-chunk-size:100}")
+    private int creditChunkSize;
+
+    // JDBC batch 크기
+    @Value("${easypay.transfer.batch.jdbc-batch-size:500}")
+    private int jdbcBatchSize;
+
+    /**
+     * 처리 중 배치 정보 (비동기 처리 단계에서 사용)
+     */
+    record BatchContext(Long id, String batchId, User sender, String senderAccountNumber) {
+    }
+
+    /**
+     * 검증을 통과한 항목과 수신 계좌
+     */
+    private record ValidItem(TransferBatchWriter.PendingItem item, Account receiverAccount) {
+    }
+
+    /**
+     * 대량 송금 접수
+     * @param senderPhoneNumber 송금자 휴대폰 번호
+     * @param request 송금 대상 목록
+     * @return 접수된 배치 (처리 결과는 배치 ID로 조회)
+     */
+    public BatchTransferResponse submit(String senderPhoneNumber, BatchTransferRequest request) {
+        if (request.getItems().size() > maxItems) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    String.format("한 번에 최대 %d건까지 송금할 수 있습니다.", maxItems));
+        }
+
+        User sender = userRepository.findByPhoneNumber(senderPhoneNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        Account senderAccount = transferService.resolveSenderAccount(sender, request.getSenderAccountNumber());
+        BigDecimal totalAmount = request.getItems().stream()
+                .map(BatchTransferRequest.Item::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        TransferBatch batch = transactionTemplate.execute(status -> {
+            TransferBatch saved = transferBatchRepository.save(TransferBatch.builder()
+                    .batchId(idGenerator.nextBatchId())
+                    .sender(sender)
+                    .senderAccountNumber(senderAccount.getAccountNumber())
+                    .totalCount(request.getItems().size())
+                    .totalAmount(totalAmount)
+                    .build());
+            transferBatchWriter.insertItems(saved.getId(), request.getItems(), jdbcBatchSize);
+            return saved;
+        });
+
+        BatchContext context = new BatchContext(batch.getId(), batch.getBatchId(), sender, batch.getSenderAccountNumber());
+        try {
+            CompletableFuture.runAsync(() -> process(context), taskExecutor)
+                    .exceptionally(e -> {
+                        log.error("대량 송금 처리 오류: {} - {}", context.batchId(), e.getMessage(), e);
+                        failBatch(context, "처리 중 오류가 발생했습니다: " + e.getMessage());
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            failBatch(context, "처리 대기열이 가득 찼습니다.");
+            throw new TooManyRequestsException("BATCH_QUEUE_FULL", "대량 송금 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("대량 송금 접수: {} ({}건, {}원)", batch.getBatchId(), batch.getTotalCount(), totalAmount);
+        return BatchTransferResponse.from(batch);
+    }
+
+    /**
+     * 배치 처리 (비동기)
+     */
+    void process(BatchContext context) {
+        transactionTemplate.executeWithoutResult(status ->
+                transferBatchRepository.findById(context.id()).ifPresent(TransferBatch::markAsProcessing));
+
+        List<TransferBatchWriter.PendingItem> items = transferBatchWriter.findPendingItems(context.id());
+
+        // 1. 수신 계좌 일괄 검증
+        Map<String, Account> accounts = findAccounts(items);
+        List<ValidItem> valid = new ArrayList<>(items.size());
+        List<TransferBatchWriter.FailedItem> rejected = new ArrayList<>();
+        for (TransferBatchWriter.PendingItem item : items) {
+            Account account = accounts.get(item.receiverAccountNumber());
+            String reason = rejectReason(context, account);
+            if (reason != null) {
+                rejected.add(new TransferBatchWriter.FailedItem(item.id(), reason));
+            } else {
+                valid.add(new ValidItem(item, account));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> transferBatchWriter.markFailed(rejected, jdbcBatchSize));
+
+        // 2. 총액 1회 출금
+        BigDecimal debitAmount = sum(valid);
+        if (!valid.isEmpty()) {
+            String debitFailure = debit(context, debitAmount);
+            if (debitFailure != null) {
+                List<TransferBatchWriter.FailedItem> failures = valid.stream()
+                        .map(v -> new TransferBatchWriter.FailedItem(v.item().id(), debitFailure))
+                        .toList();
+                transactionTemplate.executeWithoutResult(status -> transferBatchWriter.markFailed(failures, jdbcBatchSize));
+                finish(context, 0, BigDecimal.ZERO, items.size(), debitFailure);
+                return;
+            }
+        }
+
+        // 3. 수신 계좌 ID 순 묶음 입금 (묶음 간 / 다른 송금과의 락 획득 순서 고정)
+        valid.sort(Comparator.comparing((ValidItem v) -> v.receiverAccount().getId())
+                .thenComparingInt(v -> v.item().itemNo()));
+        int successCount = 0;
+        BigDecimal successAmount = BigDecimal.ZERO;
+        for (int from = 0; from < valid.size(); from += creditChunkSize) {
+            List<ValidItem> chunk = valid.subList(from, Math.min(from + creditChunkSize, valid.size()));
+            BigDecimal chunkAmount = sum(chunk);
+            try {
+                creditChunk(context, chunk);
+                successCount += chunk.size();
+                successAmount = successAmount.add(chunkAmount);
+            } catch (RuntimeException e) {
+                String reason = "입금 처리 실패: " + e.getMessage();
+                log.error("대량 송금 입금 묶음 실패: {} ({}건) - {}", context.batchId(), chunk.size(), e.getMessage());
+                refund(context, chunkAmount);
+                List<TransferBatchWriter.FailedItem> failures = chunk.stream()
+                        .map(v -> new TransferBatchWriter.FailedItem(v.item().id(), reason))
+                        .toList();
+                transactionTemplate.executeWithoutResult(status -> transferBatchWriter.markFailed(failures, jdbcBatchSize));
+            }
+        }
+
+        finish(context, successCount, successAmount, items.size() - successCount, null);
+    }
+
+    private Map<String, Account> findAccounts(List<TransferBatchWriter.PendingItem> items) {
+        List<String> accountNumbers = new ArrayList<>(new LinkedHashSet<>(
+                items.stream().map(TransferBatchWriter.PendingItem::receiverAccountNumber).toList()));
+        Map<String, Account> accounts = new HashMap<>(accountNumbers.size());
+        for (int from = 0; from < accountNumbers.size(); from += ACCOUNT_LOOKUP_CHUNK) {
+            List<String> chunk = accountNumbers.subList(from, Math.min(from + ACCOUNT_LOOKUP_CHUNK, accountNumbers.size()));
+            for (Account account : accountRepository.findAllByAccountNumberIn(chunk)) {
+                accounts.put(account.getAccountNumber(), account);
+            }
+        }
+        return accounts;
+    }
+
+    /**
+     * 항목 거절 사유 (정상이면 null)
+     */
+    private String rejectReason(BatchContext context, Account receiverAccount) {
+        if (receiverAccount == null) {
+            return ErrorCode.INVALID_ACCOUNT_NUMBER.getMessage();
+        }
+        if (!receiverAccount.isActive()) {
+            return "사용할 수 없는 수신 계좌입니다.";
+        }
+        if (receiverAccount.getUserId().equals(context.sender().getId())) {
+            return ErrorCode.SAME_ACCOUNT_TRANSFER.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * 송금자 계좌에서 총액 출금
+     * @return 실패 사유 (성공이면 null)
+     */
+    private String debit(BatchContext context, BigDecimal amount) {
+        try {
+            accountLockManager.executeWithLock(context.senderAccountNumber(), () ->
+                    transactionTemplate.execute(status -> balanceService.decrease(context.senderAccountNumber(), amount,
+                            TransactionType.TRANSFER_OUT, "대량 송금 출금: " + context.batchId(),
+                            context.batchId(), context.sender().getId().toString())));
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("대량 송금 출금 실패: {} ({}원) - {}", context.batchId(), amount, e.getMessage());
+            return "출금 실패: " + e.getMessage();
+        }
+    }
+
+    /**
+     * 입금 묶음 1개 처리 - 수신 계좌 락 획득 후 한 트랜잭션에서 잔액 / 거래 내역 / 송금 기록 / 항목 결과 저장
+     * (최근 송금 대상은 커밋 후 갱신)
+     */
+    private void creditChunk(BatchContext context, List<ValidItem> chunk) {
+        List<String> receiverAccounts = chunk.stream().map(v -> v.receiverAccount().getAccountNumber()).toList();
+        accountLockManager.executeWithLocks(receiverAccounts, () -> {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<BalanceBatchService.Credit> credits = new ArrayList<>(chunk.size());
+                List<TransferBatchWriter.CompletedTransfer> transfers = new ArrayList<>(chunk.size());
+                List<RecentCounterpartyService.Completion> completions = new ArrayList<>(chunk.size());
+                LocalDateTime createdAt = LocalDateTime.now();
+                for (ValidItem valid : chunk) {
+                    String transactionId = idGenerator.nextTransactionId();
+                    Account receiver = valid.receiverAccount();
+                    credits.add(new BalanceBatchService.Credit(receiver.getAccountNumber(), valid.item().amount(),
+                            "대량 송금 입금: " + valid.item().memo(), transactionId, receiver.getUserId().toString()));
+                    transfers.add(new TransferBatchWriter.CompletedTransfer(valid.item().id(), transactionId,
+                            context.sender().getId(), context.senderAccountNumber(),
+                            receiver.getUserId(), receiver.getAccountNumber(), valid.item().amount(), valid.item().memo(),
+                            createdAt));
+                    completions.add(new RecentCounterpartyService.Completion(context.sender().getId(),
+                            receiver.getUserId(), transactionId, receiver.getAccountNumber(),
+                            valid.item().amount(), valid.item().memo(), createdAt, 1));
+                }
+                balanceBatchService.creditAll(credits, TransactionType.TRANSFER_IN);
+                transferBatchWriter.insertCompleted(transfers, jdbcBatchSize);
+                recentCounterpartyService.recordAll(completions);
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 입금 실패 묶음 금액을 송금자에게 환원
+     */
+    private void refund(BatchContext context, BigDecimal amount) {
+        try {
+            accountLockManager.executeWithLock(context.senderAccountNumber(), () ->
+                    transactionTemplate.execute(status -> balanceService.refund(context.senderAccountNumber(), amount,
+                            "대량 송금 실패 환원: " + context.batchId(),
+                            context.batchId(), context.sender().getId().toString())));
+        } catch (RuntimeException e) {
+            // 출금은 반영되었으나 환원 실패 - 운영 확인 필요
+            log.error("대량 송금 환원 실패 (수동 확인 필요): {} ({}원) - {}", context.batchId(), amount, e.getMessage(), e);
+            notificationService.sendSecurityAlert(context.sender().getId(), context.sender().getPhoneNumber(),
+                    String.format("대량 송금 환원 실패: %s (%s원)", context.batchId(), amount));
+        }
+    }
+
+    /**
+     * 배치 결과 반영 후 감사 로그 / 송금자 알림 (배치당 1회)
+     */
+    private void finish(BatchContext context, int successCount, BigDecimal successAmount, int failedCount,
+                        String failureReason) {
+        TransferBatch batch = transactionTemplate.execute(status -> {
+            TransferBatch found = transferBatchRepository.findById(context.id()).orElseThrow();
+            if (failureReason != null) {
+                found.markAsFailed(failureReason);
+            } else {
+                found.complete(successCount, successAmount, failedCount);
+            }
+            return found;
+        });
+
+        User sender = context.sender();
+        String summary = String.format("대량 송금 %s: 성공 %d건 (%s원), 실패 %d건",
+                context.batchId(), successCount, successAmount, failedCount);
+        if (successCount > 0) {
+            auditLogService.logSuccess(sender.getId(), sender.getPhoneNumber(), AuditEventType.TRANSFER_SUCCESS,
+                    summary, null, null,
+                    String.format("batchId: %s, totalCount: %d", context.batchId(), batch.getTotalCount()),
+                    String.format("status: %s", batch.getStatus()));
+        } else {
+            auditLogService.logFailure(sender.getId(), sender.getPhoneNumber(), AuditEventType.TRANSFER_FAILED,
+                    summary, null, null,
+                    String.format("batchId: %s, totalCount: %d", context.batchId(), batch.getTotalCount()),
+                    failureReason != null ? failureReason : "전체 항목 실패");
+        }
+        notificationService.sendTransferActivityNotification(sender.getId(), sender.getPhoneNumber(),
+                String.format("대량 송금이 처리되었습니다. 성공 %d건 (%s원), 실패 %d건", successCount, successAmount, failedCount));
+
+        log.info("대량 송금 완료: {} - {} (성공 {}건, 실패 {}건)", context.batchId(), batch.getStatus(), successCount, failedCount);
+    }
+
+    /**
+     * 접수 후 처리를 시작하지 못했거나 예기치 않은 오류로 중단된 배치 실패 처리
+     */
+    private void failBatch(BatchContext context, String reason) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    transferBatchRepository.findById(context.id()).ifPresent(batch -> {
+                        if (!batch.isFinished()) {
+                            batch.markAsFailed(reason);
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            log.error("대량 송금 실패 처리 중 오류: {} - {}", context.batchId(), e.getMessage());
+        }
+    }
+
+    private static BigDecimal sum(List<ValidItem> items) {
+        return items.stream().map(v -> v.item().amount()).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * 배치 결과 조회
+     */
+    public BatchTransferResponse getBatch(String phoneNumber, String batchId) {
+        return BatchTransferResponse.from(findOwnBatch(phoneNumber, batchId));
+    }
+
+    /**
+     * 배치 항목별 결과 조회 (상태 지정 시 해당 상태만)
+     */
+    public Page<BatchTransferItemResponse> getBatchItems(String phoneNumber, String batchId,
+                                                        TransferBatchItemStatus status, Pageable pageable) {
+        TransferBatch batch = findOwnBatch(phoneNumber, batchId);
+        return (status == null
+                ? transferBatchItemRepository.findByBatchIdOrderByItemNo(batch.getId(), pageable)
+                : transferBatchItemRepository.findByBatchIdAndStatusOrderByItemNo(batch.getId(), status, pageable))
+                .map(BatchTransferItemResponse::from);
+    }
+
+    private TransferBatch findOwnBatch(String phoneNumber, String batchId) {
+        User user = userRepository.findByPhoneNumber(phoneNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        TransferBatch batch = transferBatchRepository.findByBatchId(batchId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND));
+        if (!batch.getSender().getId().equals(user.getId())) {
+            throw new BusinessException(ErrorCode.TRANSACTION_NOT_FOUND);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,219 @@
+package fintech2.easypay.transfer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fintech2.easypay.transfer.dto.RecentTransferResponse;
+import fintech2.easypay.transfer.entity.Transfer;
+import fintech2.easypay.transfer.repository.RecentCounterpartyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 송금 대상 관리
+ * 송금 완료 트랜잭션이 커밋되면 recent_counterparty 의 (송금자, 수신자) 행을 갱신(UPDATE 후 없으면 INSERT)하고
+ * 해당 송금자의 캐시만 제거
+ * 조회는 송금자별 최근 max-entries 명을 Caffeine 캐시에 두고 페이지를 잘라 반환 (송금 기록 서브쿼리 없음)
+ *
+ * 캐시 제거는 송금을 처리한 인스턴스에서만 일어나므로 다른 인스턴스의 캐시는 cache-ttl-ms 까지 이전 목록을 반환할 수 있음
+ * (최근 송금 대상은 표시용이라 이 지연을 허용하고 TTL 을 짧게 유지)
+ */
+@Service
+@Slf4j
+public class RecentCounterpartyService {
+
+    // 더 최근 송금이면 마지막 송금 정보까지 갱신 (커밋 순서가 송금 순서와 달라도 last_* 가 뒤로 가지 않음)
+    private static final String UPDATE_SQL = "UPDATE recent_counterparty SET " +
+            "receiver_account_number = ?, last_transfer_id = (SELECT id FROM transfers WHERE transaction_id = ?), " +
+            "last_amount = ?, last_memo = ?, last_transfer_at = ?, transfer_count = transfer_count + ? " +
+            "WHERE sender_id = ? AND receiver_id = ? AND last_transfer_at < ?";
+    // 이미 더 최근 송금이 반영된 쌍은 건수만 누적
+    private static final String COUNT_SQL = "UPDATE recent_counterparty SET transfer_count = transfer_count + ? " +
+            "WHERE sender_id = ? AND receiver_id = ?";
+    private static final String INSERT_SQL = "INSERT INTO recent_counterparty " +
+            "(sender_id, receiver_id, receiver_account_number, last_transfer_id, last_amount, last_memo, " +
+            "last_transfer_at, transfer_count) " +
+            "VALUES (?, ?, ?, (SELECT id FROM transfers WHERE transaction_id = ?), ?, ?, ?, ?)";
+
+    private final RecentCounterpartyRepository recentCounterpartyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final Cache<Long, List<RecentTransferResponse>> recentCache;
+    private final int maxEntries;
+
+    /**
+     * 완료된 송금 (같은 수신자에게 여러 건이면 count 로 합산, transferAt 은 송금 생성 시각)
+     */
+    public record Completion(Long senderId, Long receiverId, String transactionId, String receiverAccountNumber,
+                             BigDecimal amount, String memo, LocalDateTime transferAt, int count) {
+
+        public static Completion of(Transfer transfer) {
+            return new Completion(transfer.getSender().getId(), transfer.getReceiver().getId(),
+                    transfer.getTransactionId(), transfer.getReceiverAccountNumber(),
+                    transfer.getAmount(), transfer.getMemo(),
+                    transfer.getCreatedAt() != null ? transfer.getCreatedAt() : LocalDateTime.now(), 1);
+        }
+    }
+
+    public RecentCounterpartyService(RecentCounterpartyRepository recentCounterpartyRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${easypay.transfer.recent.max-entries:100}") int maxEntries,
+                                     @Value("${easypay.transfer.recent.cache-size:10000}") long cacheSize,
+                                     @Value("${easypay.transfer.recent.cache-ttl-ms:60000}") long cacheTtlMs) {
+        this.recentCounterpartyRepository = recentCounterpartyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxEntries = maxEntries;
+        this.recentCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+                .build();
+    }
+
+    /**
+     * 송금자의 최근 송금 대상 (최근 송금 순, 최대 max-entries 명)
+     * DB 조회는 캐시의 compute 밖에서 수행 - compute 는 내부 synchronized 구간이라
+     * 가상 스레드에서 JDBC 대기 중 캐리어 스레드가 고정(pinning)되는 것을 피함
+     */
+    public Page<RecentTransferResponse> getRecent(Long senderId, Pageable pageable) {
+        List<RecentTransferResponse> recent = recentCache.getIfPresent(senderId);
+        if (recent == null) {
+            List<RecentTransferResponse> loaded =
+                    recentCounterpartyRepository.findRecentBySenderId(senderId, PageRequest.of(0, maxEntries)).stream()
+                            .map(RecentTransferResponse::from)
+                            .toList();
+            List<RecentTransferResponse> existing = recentCache.asMap().putIfAbsent(senderId, loaded);
+            recent = existing != null ? existing : loaded;
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), recent.size());
+        int to = Math.min(from + pageable.getPageSize(), recent.size());
+        return new PageImpl<>(recent.subList(from, to), pageable, recent.size());
+    }
+
+    /**
+     * 송금 1건 완료 반영 (송금 완료 트랜잭션 안에서 호출, 커밋 후 갱신)
+     */
+    public void recordCompleted(Transfer transfer) {
+        recordAll(List.of(Completion.of(transfer)));
+    }
+
+    /**
+     * 완료된 송금 일괄 반영 (송금 완료 트랜잭션 안에서 호출, 커밋 후 갱신)
+     * 같은 송금자 - 수신자 쌍은 마지막 송금 기준으로 합산하여 한 번만 반영
+     */
+    public void recordAll(List<Completion> completions) {
+        if (completions.isEmpty()) {
+            return;
+        }
+        List<Completion> pairs = mergeByPair(completions);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(pairs);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(pairs);
+            }
+        });
+    }
+
+    /**
+     * 송금과 분리된 트랜잭션에서 UPDATE (JDBC batch) 후 갱신되지 않은 쌍만 건수 누적 / INSERT, 이후 송금자 캐시 제거
+     * last_transfer_at 은 송금 생성 시각 - 더 최근 송금이 먼저 반영된 쌍은 마지막 송금 정보를 덮어쓰지 않음
+     * 파생 데이터라 실패해도 송금 결과에 영향 없음 (로그만 남기고 캐시 만료 후 DB 값으로 조회)
+     */
+    private void apply(List<Completion> pairs) {
+        try {
+            int[] updated = requiresNew.execute(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, pairs, pairs.size(),
+                    (ps, c) -> {
+                        Timestamp transferAt = Timestamp.valueOf(c.transferAt());
+                        ps.setString(1, c.receiverAccountNumber());
+                        ps.setString(2, c.transactionId());
+                        ps.setBigDecimal(3, c.amount());
+                        ps.setString(4, c.memo());
+                        ps.setTimestamp(5, transferAt);
+                        ps.setInt(6, c.count());
+                        ps.setLong(7, c.senderId());
+                        ps.setLong(8, c.receiverId());
+                        ps.setTimestamp(9, transferAt);
+                    })[0]);
+            for (int i = 0; i < pairs.size(); i++) {
+                if (updated[i] == 0) {
+                    countOrInsert(pairs.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("최근 송금 대상 갱신 실패: {}건 - {}", pairs.size(), e.getMessage());
+        } finally {
+            recentCache.invalidateAll(pairs.stream().map(Completion::senderId).collect(Collectors.toSet()));
+        }
+    }
+
+    /**
+     * 더 최근 송금이 반영된 쌍이면 건수만 누적, 처음 송금한 쌍이면 추가 (동시에 추가된 경우 키 중복 후 다시 갱신)
+     */
+    private void countOrInsert(Completion c) {
+        if (countOnly(c) > 0) {
+            return;
+        }
+        try {
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, c.senderId(), c.receiverId(),
+                    c.receiverAccountNumber(), c.transactionId(), c.amount(), c.memo(),
+                    Timestamp.valueOf(c.transferAt()), c.count()));
+        } catch (DuplicateKeyException e) {
+            Integer updated = requiresNew.execute(status -> jdbcTemplate.update(UPDATE_SQL, c.receiverAccountNumber(),
+                    c.transactionId(), c.amount(), c.memo(), Timestamp.valueOf(c.transferAt()), c.count(),
+                    c.senderId(), c.receiverId(), Timestamp.valueOf(c.transferAt())));
+            if (updated == null || updated == 0) {
+                countOnly(c);
+            }
+        }
+    }
+
+    private int countOnly(Completion c) {
+        Integer updated = requiresNew.execute(status ->
+                jdbcTemplate.update(COUNT_SQL, c.count(), c.senderId(), c.receiverId()));
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * 같은 쌍은 가장 최근 송금(transferAt 기준)의 정보로 합산
+     */
+    private static List<Completion> mergeByPair(List<Completion> completions) {
+        Map<String, Completion> merged = new LinkedHashMap<>();
+        for (Completion c : completions) {
+            merged.merge(c.senderId() + ":" + c.receiverId(), c, (previous, next) -> {
+                Completion latest = next.transferAt().isBefore(previous.transferAt()) ? previous : next;
+                return new Completion(latest.senderId(), latest.receiverId(), latest.transactionId(),
+                        latest.receiverAccountNumber(), latest.amount(), latest.memo(), latest.transferAt(),
+                        previous.count() + next.count());
+            });
+        }
+        return new ArrayList<>(merged.values());
+    }
+}
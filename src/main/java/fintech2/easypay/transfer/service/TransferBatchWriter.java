@@ -0,0 +1,137 @@
+package fintech2.easypay.transfer.service;
+
+import fintech2.easypay.transfer.dto.BatchTransferRequest;
+import fintech2.easypay.transfer.entity.TransferBatchItemStatus;
+import fintech2.easypay.transfer.entity.TransferStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 송금 JDBC batch 저장소
+ * 배치 항목 / 송금 기록 / 활동 피드를 건별 JPA save 대신 JDBC batch 로 저장하고 결과를 갱신 (호출 트랜잭션에 참여)
+ */
+@Component
+@RequiredArgsConstructor
+class TransferBatchWriter {
+
+    private static final String INSERT_ITEM_SQL = "INSERT INTO transfer_batch_items " +
+            "(batch_id, item_no, receiver_account_number, amount, memo, status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_PENDING_SQL = "SELECT id, item_no, receiver_account_number, amount, memo " +
+            "FROM transfer_batch_items WHERE batch_id = ? AND status = ? ORDER BY item_no";
+    private static final String COMPLETE_ITEM_SQL = "UPDATE transfer_batch_items SET status = ?, transaction_id = ?, " +
+            "processed_at = ? WHERE id = ?";
+    private static final String FAIL_ITEM_SQL = "UPDATE transfer_batch_items SET status = ?, failed_reason = ?, " +
+            "processed_at = ? WHERE id = ?";
+    private static final String INSERT_TRANSFER_SQL = "INSERT INTO transfers " +
+            "(transaction_id, sender_user_id, sender_account_number, receiver_user_id, receiver_account_number, " +
+            "amount, memo, status, processed_at, funds_held, attempt_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE, 0, ?, ?)";
+    private static final String INSERT_SENT_ACTIVITY_SQL = "INSERT INTO user_activity " +
+            "(user_id, transfer_id, direction, created_at) " +
+            "SELECT sender_user_id, id, 'SENT', created_at FROM transfers WHERE transaction_id = ?";
+    private static final String INSERT_RECEIVED_ACTIVITY_SQL = "INSERT INTO user_activity " +
+            "(user_id, transfer_id, direction, created_at) " +
+            "SELECT receiver_user_id, id, 'RECEIVED', created_at FROM transfers " +
+            "WHERE transaction_id = ? AND receiver_user_id <> sender_user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 처리 대기 항목
+     */
+    record PendingItem(long id, int itemNo, String receiverAccountNumber, BigDecimal amount, String memo) {
+    }
+
+    /**
+     * 입금 완료 송금 1건 (createdAt: 송금 기록 / 활동 피드 / 최근 송금 대상에 같은 시각 기록)
+     */
+    record CompletedTransfer(long itemId, String transactionId, Long senderUserId, String senderAccountNumber,
+                             Long receiverUserId, String receiverAccountNumber, BigDecimal amount, String memo,
+                             LocalDateTime createdAt) {
+    }
+
+    /**
+     * 실패 항목
+     */
+    record FailedItem(long itemId, String reason) {
+    }
+
+    void insertItems(long batchId, List<BatchTransferRequest.Item> items, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> itemNos = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            itemNos.add(i);
+        }
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, itemNos, batchSize, (ps, itemNo) -> {
+            BatchTransferRequest.Item item = items.get(itemNo);
+            ps.setLong(1, batchId);
+            ps.setInt(2, itemNo);
+            ps.setString(3, item.getReceiverAccountNumber());
+            ps.setBigDecimal(4, item.getAmount());
+            ps.setString(5, item.getMemo());
+            ps.setString(6, TransferBatchItemStatus.PENDING.name());
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    List<PendingItem> findPendingItems(long batchId) {
+        return jdbcTemplate.query(SELECT_PENDING_SQL,
+                (rs, rowNum) -> new PendingItem(rs.getLong(1), rs.getInt(2), rs.getString(3),
+                        rs.getBigDecimal(4), rs.getString(5)),
+                batchId, TransferBatchItemStatus.PENDING.name());
+    }
+
+    /**
+     * 송금 기록 저장 + 항목 완료 처리
+     */
+    void insertCompleted(List<CompletedTransfer> transfers, int batchSize) {
+        if (transfers.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_TRANSFER_SQL, transfers, batchSize, (ps, transfer) -> {
+            ps.setString(1, transfer.transactionId());
+            ps.setLong(2, transfer.senderUserId());
+            ps.setString(3, transfer.senderAccountNumber());
+            ps.setLong(4, transfer.receiverUserId());
+            ps.setString(5, transfer.receiverAccountNumber());
+            ps.setBigDecimal(6, transfer.amount());
+            ps.setString(7, transfer.memo());
+            ps.setString(8, TransferStatus.COMPLETED.name());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, Timestamp.valueOf(transfer.createdAt()));
+            ps.setTimestamp(11, now);
+        });
+        // 송금자 / 수신자 활동 피드 (송금 기록 id 는 transaction_id 로 조회)
+        jdbcTemplate.batchUpdate(INSERT_SENT_ACTIVITY_SQL, transfers, batchSize,
+                (ps, transfer) -> ps.setString(1, transfer.transactionId()));
+        jdbcTemplate.batchUpdate(INSERT_RECEIVED_ACTIVITY_SQL, transfers, batchSize,
+                (ps, transfer) -> ps.setString(1, transfer.transactionId()));
+        jdbcTemplate.batchUpdate(COMPLETE_ITEM_SQL, transfers, batchSize, (ps, transfer) -> {
+            ps.setString(1, TransferBatchItemStatus.COMPLETED.name());
+            ps.setString(2, transfer.transactionId());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, transfer.itemId());
+        });
+    }
+
+    void markFailed(List<FailedItem> failures, int batchSize) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(FAIL_ITEM_SQL, failures, batchSize, (ps, failure) -> {
+            ps.setString(1, TransferBatchItemStatus.FAILED.name());
+            ps.setString(2, failure.reason());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, failure.itemId());
+        });
+    }
+}
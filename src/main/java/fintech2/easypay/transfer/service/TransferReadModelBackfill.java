@@ -0,0 +1,174 @@
+package fintech2.easypay.transfer.service;
+
+import fintech2.easypay.common.scheduling.JobLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 송금 조회용 파생 테이블 이관
+ * 테이블 도입 이전의 송금 기록을 user_activity / recent_counterparty 로 옮김
+ * (dev 는 V1 스키마와 엔티티의 transfers 컬럼이 달라 Flyway 마이그레이션 대신 엔티티 기준 컬럼으로 이관)
+ *
+ * - 송금 ID 범위(backfill-batch-size)마다 한 트랜잭션으로 처리하여 락 / 언두를 배치 크기로 제한
+ * - user_activity: 범위 안 송금 중 같은 방향의 활동이 없는 송금만 추가
+ *   (UNIQUE (transfer_id, direction) - 실시간 기록과 동시에 같은 키를 추가하면 키 중복으로 범위를 다시 처리)
+ * - recent_counterparty: 범위 안 완료 송금을 쌍별로 집계, 행이 없으면 추가하고 더 앞선 송금까지만 반영된 행이면 갱신
+ *   (범위를 오름차순으로 처리하므로 last_transfer_id 로 반영 여부를 판단, 재실행해도 건수가 중복되지 않음)
+ * - 기동 시 전체 범위를 처리하고, 이후 catch-up-window-ms 동안 catch-up-interval-ms 마다 새로 추가된 범위를 다시 확인
+ *   (롤링 배포 중 이전 버전 인스턴스가 기록한 송금 반영)
+ * - 여러 인스턴스가 동시에 기동해도 리스를 얻은 한 곳에서만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransferReadModelBackfill {
+
+    private static final String ID_RANGE_SQL = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM transfers";
+    private static final String BACKFILL_SENT_SQL = "INSERT INTO user_activity (user_id, transfer_id, direction, created_at) " +
+            "SELECT t.sender_user_id, t.id, 'SENT', t.created_at FROM transfers t " +
+            "WHERE t.id >= ? AND t.id < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM user_activity a WHERE a.transfer_id = t.id AND a.direction = 'SENT')";
+    private static final String BACKFILL_RECEIVED_SQL = "INSERT INTO user_activity (user_id, transfer_id, direction, created_at) " +
+            "SELECT t.receiver_user_id, t.id, 'RECEIVED', t.created_at FROM transfers t " +
+            "WHERE t.id >= ? AND t.id < ? AND t.receiver_user_id <> t.sender_user_id " +
+            "AND NOT EXISTS (SELECT 1 FROM user_activity a WHERE a.transfer_id = t.id AND a.direction = 'RECEIVED')";
+    private static final String RECENT_PAIRS_SQL = "SELECT t.sender_user_id, t.receiver_user_id, t.receiver_account_number, " +
+            "t.id, t.amount, t.memo, t.created_at, pairs.transfer_count " +
+            "FROM transfers t " +
+            "JOIN (SELECT MAX(id) AS last_id, COUNT(*) AS transfer_count FROM transfers " +
+            "      WHERE status = 'COMPLETED' AND id >= ? AND id < ? GROUP BY sender_user_id, receiver_user_id) pairs " +
+            "ON t.id = pairs.last_id";
+    private static final String UPDATE_RECENT_SQL = "UPDATE recent_counterparty SET receiver_account_number = ?, " +
+            "last_transfer_id = ?, last_amount = ?, last_memo = ?, last_transfer_at = ?, transfer_count = transfer_count + ? " +
+            "WHERE sender_id = ? AND receiver_id = ? AND (last_transfer_id IS NULL OR last_transfer_id < ?)";
+    private static final String EXISTS_RECENT_SQL = "SELECT COUNT(*) FROM recent_counterparty WHERE sender_id = ? AND receiver_id = ?";
+    private static final String INSERT_RECENT_SQL = "INSERT INTO recent_counterparty (sender_id, receiver_id, " +
+            "receiver_account_number, last_transfer_id, last_amount, last_memo, last_transfer_at, transfer_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobLeaseService jobLeaseService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${easypay.transfer.read-model.backfill-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${easypay.transfer.read-model.catch-up-window-ms:3600000}")
+    private long catchUpWindowMs;
+
+    // 이 인스턴스가 확인을 마친 가장 큰 송금 ID (0 이면 기동 시 이관 전)
+    private volatile long scannedUpTo;
+    private volatile long readyAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        readyAt = System.currentTimeMillis();
+        runExclusively(0L);
+    }
+
+    /**
+     * 기동 이후 새로 추가된 송금 범위 재확인 (늦게 커밋된 송금을 위해 배치 하나만큼 겹쳐서 확인)
+     */
+    @Scheduled(fixedDelayString = "${easypay.transfer.read-model.catch-up-interval-ms:300000}",
+            initialDelayString = "${easypay.transfer.read-model.catch-up-interval-ms:300000}")
+    public void catchUp() {
+        if (scannedUpTo == 0L || System.currentTimeMillis() - readyAt > catchUpWindowMs) {
+            return;
+        }
+        runExclusively(Math.max(1L, scannedUpTo - batchSize));
+    }
+
+    private void runExclusively(long fromId) {
+        try {
+            jobLeaseService.runExclusively("transfer-read-model-backfill", Duration.ofMinutes(30), Duration.ZERO,
+                    () -> backfillFrom(fromId));
+        } catch (RuntimeException e) {
+            log.error("송금 조회용 테이블 이관 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * fromId 이후(0 이면 처음부터) 현재 가장 큰 송금 ID 까지 범위별 이관
+     */
+    void backfillFrom(long fromId) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(ID_RANGE_SQL);
+        if (range.get("min_id") == null) {
+            scannedUpTo = Math.max(scannedUpTo, 1L);
+            return;
+        }
+        long lo = Math.max(fromId, ((Number) range.get("min_id")).longValue());
+        long hi = ((Number) range.get("max_id")).longValue();
+
+        int activities = 0;
+        int counterparties = 0;
+        for (long start = lo; start <= hi; start += batchSize) {
+            long end = Math.min(start + batchSize, hi + 1);
+            int[] applied = backfillRange(start, end);
+            activities += applied[0];
+            counterparties += applied[1];
+        }
+        scannedUpTo = Math.max(scannedUpTo, hi);
+        if (activities > 0 || counterparties > 0) {
+            log.info("송금 조회용 테이블 이관 완료: 활동 {}건, 최근 송금 대상 {}건 (송금 ID {} ~ {})",
+                    activities, counterparties, lo, hi);
+        }
+    }
+
+    /**
+     * 송금 ID [start, end) 범위 이관 (한 트랜잭션), 실시간 기록과 같은 활동 / 쌍을 동시에 추가해 키가 중복되면 범위를 다시 처리
+     * @return {추가한 활동 수, 추가 / 갱신한 최근 송금 대상 수}
+     */
+    private int[] backfillRange(long start, long end) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> new int[] {
+                        jdbcTemplate.update(BACKFILL_SENT_SQL, start, end)
+                                + jdbcTemplate.update(BACKFILL_RECEIVED_SQL, start, end),
+                        backfillRecent(start, end)
+                });
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("송금 조회용 테이블 이관 중 키 중복, 재시도: 송금 ID {} ~ {}", start, end);
+            }
+        }
+    }
+
+    private int backfillRecent(long start, long end) {
+        List<Map<String, Object>> pairs = jdbcTemplate.queryForList(RECENT_PAIRS_SQL, start, end);
+        int applied = 0;
+        for (Map<String, Object> pair : pairs) {
+            Object senderId = pair.get("sender_user_id");
+            Object receiverId = pair.get("receiver_user_id");
+            Object transferId = pair.get("id");
+            Object transferAt = pair.get("created_at");
+            int updated = jdbcTemplate.update(UPDATE_RECENT_SQL, pair.get("receiver_account_number"), transferId,
+                    pair.get("amount"), pair.get("memo"), transferAt, pair.get("transfer_count"),
+                    senderId, receiverId, transferId);
+            if (updated == 0) {
+                Integer existing = jdbcTemplate.queryForObject(EXISTS_RECENT_SQL, Integer.class, senderId, receiverId);
+                if (existing == null || existing == 0) {
+                    updated = jdbcTemplate.update(INSERT_RECENT_SQL, senderId, receiverId,
+                            pair.get("receiver_account_number"), transferId, pair.get("amount"), pair.get("memo"),
+                            transferAt, pair.get("transfer_count"));
+                }
+            }
+            applied += updated;
+        }
+        return applied;
+    }
+}
@@ -1,16 +1,34 @@
 package fintech2.easypay.transfer.service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.service.AccountLockManager;
 import fintech2.easypay.account.repository.AccountRepository;
 import fintech2.easypay.account.service.BalanceService;
 import fintech2.easypay.common.enums.AuditEventType;
@@ -19,24 +37,34 @@ import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.NotificationService;
 import fintech2.easypay.common.BusinessException;
 import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.util.IdGenerator;
 import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.UserRepository;
 import fintech2.easypay.transfer.dto.RecentTransferResponse;
+import fintech2.easypay.transfer.dto.TransferHistoryResponse;
 import fintech2.easypay.transfer.dto.TransferRequest;
 import fintech2.easypay.transfer.dto.TransferResponse;
 import fintech2.easypay.transfer.entity.Transfer;
 import fintech2.easypay.transfer.entity.TransferStatus;
+import fintech2.easypay.transfer.entity.UserActivity;
 import fintech2.easypay.transfer.external.BankingApiRequest;
 import fintech2.easypay.transfer.external.BankingApiResponse;
 import fintech2.easypay.transfer.external.BankingApiService;
 import fintech2.easypay.transfer.external.BankingApiStatus;
 import fintech2.easypay.transfer.repository.TransferRepository;
+import fintech2.easypay.transfer.repository.UserActivityRepository;
 import org.springframework.context.ApplicationContext;
 
 /**
  * 송금 서비스
  * 사용자 간 송금 처리 및 거래 내역 관리
  * 동시성 제어와 감사 로그를 포함한 안전한 송금 처리
+ *
+ * 송금 경로
+ * - 당행(on-us): 양쪽 계좌가 모두 EasyPay 원장에 있으면 외부 API 없이 한 트랜잭션에서 출금 / 입금 확정
+ * - 타행(off-us): 보류 -> 외부 뱅킹 API -> 정산 / 보상
+ * 지표: easypay.transfer.duration{route=on_us|off_us, result=success|failure}
  */
 @Service
 @RequiredArgsConstructor
@@ -44,7 +72,13 @@ import org.springframework.context.ApplicationContext;
 @Transactional(readOnly = true)
 public class TransferService {
     
+    private static final String ROUTE_ON_US = "on_us";
+    private static final String ROUTE_OFF_US = "off_us";
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    
     private final TransferRepository transferRepository;
+    private final UserActivityRepository userActivityRepository;
+    private final RecentCounterpartyService recentCounterpartyService;
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
     private final BalanceService balanceService;
@@ -52,18 +86,126 @@ public class TransferService {
     private final NotificationService notificationService;
     private final BankingApiService bankingApiService;
     private final ApplicationContext applicationContext;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountLockManager accountLockManager;
+    private final IdGenerator idGenerator;
+    // 비동기 송금의 정산 단계 실행기 (AsyncConfig 의 taskExecutor)
+    private final Executor taskExecutor;
+    private final MeterRegistry meterRegistry;
+    
+    // 당행 송금을 외부 API 없이 내부 원장에서 바로 처리 (false 면 모든 송금을 외부 API 로 처리)
+    @Value("${easypay.transfer.on-us.enabled:true}")
+    private boolean onUsEnabled;
+    
+    // EasyPay 가 발급한 계좌번호 접두사 - 양쪽 계좌가 모두 이 접두사면 당행 송금
+    @Value("${easypay.transfer.on-us.account-prefix:VA}")
+    private String onUsAccountPrefix;
+    
+    // 정산되지 않은 송금의 첫 외부 상태 확인까지 대기 시간(ms) - 보류 후 프로세스가 중단된 거래도 이 시각 이후 확인됨
+    @Value("${easypay.transfer.status-check.initial-delay-ms:600000}")
+    private long statusCheckInitialDelayMs;
+    
+    /**
+     * 조회 / 검증이 끝난 송금 당사자
+     */
+    private record TransferParties(User sender, User receiver, Account senderAccount, Account receiverAccount) {
+        
+        List<String> accountNumbers() {
+            return List.of(senderAccount.getAccountNumber(), receiverAccount.getAccountNumber());
+        }
+    }
+    
+    /**
+     * 보류까지 끝난 송금 - 외부 API 호출과 정산 단계에 넘기는 값
+     */
+    private record PreparedTransfer(User sender, User receiver, Transfer transfer,
+                                    List<String> lockedAccounts, BankingApiRequest apiRequest) {
+    }
     
     /**
      * 사용자 간 송금 처리
-     * 송금자와 수신자 계좌에 대한 배타적 락을 사용하여 동시성 제어
-     * 거래 실패 시 롤백 및 감사 로그 기록
+     * 당행 송금은 외부 API 없이 한 트랜잭션에서 완료하고,
+     * 타행 송금은 보류(선차감) -> 외부 API 호출 -> 정산/보상의 3단계로 처리하며
+     * 계좌 락은 보류 트랜잭션 동안에만 유지하고 외부 API 호출 중에는 DB 락을 잡지 않음
+     * 보류/정산 트랜잭션은 계좌 스트라이프 락을 먼저 획득한 뒤 시작하여 대기 중 커넥션을 점유하지 않음
+     * 거래 실패 시 보류 금액 환원 및 감사 로그 기록
      * @param senderPhoneNumber 송금자 휴대폰 번호
      * @param request 송금 요청 정보
      * @return 송금 처리 결과
      * @throws BusinessException 송금 처리 중 오류 발생 시
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TransferResponse transfer(String senderPhoneNumber, TransferRequest request) {
+        TransferParties parties = resolveParties(senderPhoneNumber, request);
+        if (isOnUs(parties)) {
+            return timed(ROUTE_ON_US, () -> transferOnUs(parties, senderPhoneNumber, request));
+        }
+        
+        return timed(ROUTE_OFF_US, () -> {
+            PreparedTransfer prepared = prepareTransfer(parties, request);
+            
+            // 2. 외부 뱅킹 API 호출 - DB 락과 트랜잭션 없이 수행
+            BankingApiResponse apiResponse;
+            try {
+                log.info("외부 뱅킹 API 호출 시작: {}", prepared.transfer().getTransactionId());
+                apiResponse = bankingApiService.processTransfer(prepared.apiRequest());
+            } catch (Exception e) {
+                throw abortTransfer(prepared, senderPhoneNumber, request, e);
+            }
+            
+            return completeTransfer(prepared, senderPhoneNumber, request, apiResponse);
+        });
+    }
+    
+    /**
+     * 사용자 간 송금 처리 (비동기)
+     * 보류 단계까지는 호출 스레드에서 수행하고, 외부 API 응답을 기다리는 동안에는 스레드를 점유하지 않음
+     * 응답 도착 후 정산 / 보상 단계는 taskExecutor 에서 수행 (외부 API 구현체의 I/O 스레드에서 DB 작업을 하지 않도록)
+     * 조회 / 검증 / 보류 단계의 오류는 즉시 예외로, 이후 단계의 오류는 실패한 future 로 전달됨
+     * 당행 송금은 외부 API 를 기다리지 않으므로 호출 스레드에서 완료한 결과를 반환
+     * @param senderPhoneNumber 송금자 휴대폰 번호
+     * @param request 송금 요청 정보
+     * @return 송금 처리 결과
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<TransferResponse> transferAsync(String senderPhoneNumber, TransferRequest request) {
+        TransferParties parties = resolveParties(senderPhoneNumber, request);
+        if (isOnUs(parties)) {
+            return CompletableFuture.completedFuture(
+                    timed(ROUTE_ON_US, () -> transferOnUs(parties, senderPhoneNumber, request)));
+        }
+        
+        long startNanos = System.nanoTime();
+        PreparedTransfer prepared;
+        try {
+            prepared = prepareTransfer(parties, request);
+        } catch (RuntimeException e) {
+            record(ROUTE_OFF_US, false, startNanos);
+            throw e;
+        }
+        
+        CompletableFuture<BankingApiResponse> apiCall;
+        try {
+            log.info("외부 뱅킹 API 비동기 호출 시작: {}", prepared.transfer().getTransactionId());
+            apiCall = bankingApiService.processTransferAsync(prepared.apiRequest());
+        } catch (Exception e) {
+            apiCall = CompletableFuture.failedFuture(e);
+        }
+        
+        return apiCall.handleAsync((apiResponse, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                throw abortTransfer(prepared, senderPhoneNumber, request, cause);
+            }
+            return completeTransfer(prepared, senderPhoneNumber, request, apiResponse);
+        }, taskExecutor).whenComplete((response, error) -> record(ROUTE_OFF_US, error == null, startNanos));
+    }
+    
+    /**
+     * 송금자 / 수신자 / 양쪽 계좌 조회 및 검증
+     */
+    private TransferParties resolveParties(String senderPhoneNumber, TransferRequest request) {
         // 송금자 조회
         User sender = userRepository.findByPhoneNumber(senderPhoneNumber)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
@@ -83,16 +225,76 @@ public class TransferService {
         }
         
         // 송금자 계좌 조회 (요청에 계좌번호가 있으면 해당 계좌 사용, 없으면 주계좌 사용)
-        Account senderAccount;
-        if (request.getSenderAccountNumber() != null && !request.getSenderAccountNumber().trim().isEmpty()) {
+        Account senderAccount = resolveSenderAccount(sender, request.getSenderAccountNumber());
+        
+        return new TransferParties(sender, receiver, senderAccount, receiverAccount);
+    }
+    
+    /**
+     * 당행 송금 여부 - 송금 / 수신 계좌가 모두 EasyPay 발급 계좌(on-us.account-prefix)인 경우
+     * 다른 기관 계좌번호로 등록된 수신 계좌나 on-us.enabled=false 면 외부 API 경로로 처리
+     */
+    private boolean isOnUs(TransferParties parties) {
+        return onUsEnabled
+                && isEasyPayAccount(parties.senderAccount())
+                && isEasyPayAccount(parties.receiverAccount());
+    }
+    
+    private boolean isEasyPayAccount(Account account) {
+        return account.getAccountNumber() != null && account.getAccountNumber().startsWith(onUsAccountPrefix);
+    }
+    
+    /**
+     * 당행 송금 - 계좌 락 획득 후 한 트랜잭션에서 출금 / 입금 / 완료 처리 (보류 / 외부 API / 상태 확인 없음)
+     */
+    private TransferResponse transferOnUs(TransferParties parties, String senderPhoneNumber, TransferRequest request) {
+        Transfer transfer = accountLockManager.executeWithLocks(parties.accountNumbers(), () ->
+                transactionTemplate.execute(status -> postOnUs(parties, request)));
+        
+        notifyTransferSuccess(transfer, parties.sender(), parties.receiver(), senderPhoneNumber, request);
+        return TransferResponse.from(transfer);
+    }
+    
+    /**
+     * 보류 트랜잭션까지 수행 (타행 송금)
+     */
+    private PreparedTransfer prepareTransfer(TransferParties parties, TransferRequest request) {
+        User sender = parties.sender();
+        User receiver = parties.receiver();
+        List<String> lockedAccounts = parties.accountNumbers();
+        
+        // 1. 보류 트랜잭션: 락 획득 -> 잔액 검증 -> 송금 기록 저장 -> 송금자 잔액 선차감 (커밋 시 락 해제)
+        Transfer transfer = accountLockManager.executeWithLocks(lockedAccounts, () ->
+                transactionTemplate.execute(status -> reserveFunds(parties, request)));
+        
+        BankingApiRequest apiRequest = BankingApiRequest.builder()
+                .transactionId(transfer.getTransactionId())
+                .senderAccountNumber(transfer.getSenderAccountNumber())
+                .senderBankCode("EASYPAY") // 실제로는 은행 코드 사용
+                .receiverAccountNumber(transfer.getReceiverAccountNumber())
+                .receiverBankCode("EASYPAY") // 실제로는 은행 코드 사용
+                .amount(request.getAmount())
+                .currency("KRW")
+                .memo(request.getMemo())
+                .build();
+        
+        return new PreparedTransfer(sender, receiver, transfer, lockedAccounts, apiRequest);
+    }
+    
+    /**
+     * 송금자 출금 계좌 결정 - 지정한 계좌가 있으면 본인 계좌인지 확인, 없으면 주계좌
+     */
+    Account resolveSenderAccount(User sender, String senderAccountNumber) {
+        if (senderAccountNumber != null && !senderAccountNumber.trim().isEmpty()) {
             // 특정 계좌 지정된 경우
-            senderAccount = accountRepository.findByAccountNumber(request.getSenderAccountNumber())
+            Account senderAccount = accountRepository.findByAccountNumber(senderAccountNumber)
                     .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
             
             // 송금자 본인의 계좌인지 확인
             if (!senderAccount.getUserId().equals(sender.getId())) {
                 throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, "본인 계좌가 아닙니다.");
             }
+            return senderAccount;
         } else {
             // UserAccount에서 기본 계좌 사용 (수정된 로직)
             fintech2.easypay.account.service.UserAccountService userAccountService = 
@@ -101,17 +303,133 @@ public class TransferService {
                     .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, "기본 계좌를 찾을 수 없습니다."));
             
             // UserAccount의 계좌번호로 Account 엔티티 조회
-            senderAccount = accountRepository.findByAccountNumber(primaryUserAccount.getAccountNumber())
+            return accountRepository.findByAccountNumber(primaryUserAccount.getAccountNumber())
                     .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND, "기본 계좌에 해당하는 Account를 찾을 수 없습니다."));
         }
+    }
+    
+    /**
+     * 외부 API 호출 자체가 실패한 경우 - 보류 해제 후 실패 처리
+     * @return 호출자에게 던질 예외
+     */
+    private BusinessException abortTransfer(PreparedTransfer prepared, String senderPhoneNumber,
+                                            TransferRequest request, Throwable error) {
+        Transfer transfer = prepared.transfer();
+        User sender = prepared.sender();
+        accountLockManager.executeWithLocks(prepared.lockedAccounts(), () -> {
+            transactionTemplate.executeWithoutResult(status -> compensate(transfer, sender, error.getMessage()));
+            return null;
+        });
+        handleTransferFailure(transfer, sender, senderPhoneNumber, request, error.getMessage());
+        return new BusinessException(ErrorCode.TRANSACTION_FAILED, error.getMessage());
+    }
+    
+    /**
+     * 외부 API 응답에 따른 정산 후 감사 로그 / 알림 처리
+     */
+    private TransferResponse completeTransfer(PreparedTransfer prepared, String senderPhoneNumber,
+                                              TransferRequest request, BankingApiResponse apiResponse) {
+        Transfer transfer = prepared.transfer();
+        User sender = prepared.sender();
+        User receiver = prepared.receiver();
+        
+        // 3. 정산 트랜잭션: 결과에 따라 입금 확정 / 보류 유지 / 송금자 환원
+        String failureReason = accountLockManager.executeWithLocks(prepared.lockedAccounts(), () ->
+                transactionTemplate.execute(status ->
+                        settle(transfer, sender, receiver, request, apiResponse)));
+        
+        if (failureReason != null) {
+            handleTransferFailure(transfer, sender, senderPhoneNumber, request, failureReason);
+            throw new BusinessException(ErrorCode.TRANSACTION_FAILED, failureReason);
+        }
+        
+        notifyTransferSuccess(transfer, sender, receiver, senderPhoneNumber, request);
+        return TransferResponse.from(transfer);
+    }
+    
+    /**
+     * 송금 완료 감사 로그 / 송금자, 수신자 알림
+     */
+    private void notifyTransferSuccess(Transfer transfer, User sender, User receiver, String senderPhoneNumber,
+                                       TransferRequest request) {
+        String transactionId = transfer.getTransactionId();
+        String senderAccountNumber = transfer.getSenderAccountNumber();
+        String receiverAccountNumber = transfer.getReceiverAccountNumber();
+        
+        // 감사 로그 기록
+        auditLogService.logSuccess(
+            sender.getId(),
+            senderPhoneNumber,
+            AuditEventType.TRANSFER_SUCCESS,
+            String.format("송금 완료: %s -> %s (%s원)", 
+                senderAccountNumber, 
+                receiverAccountNumber, 
+                request.getAmount()),
+            null, null,
+            String.format("amount: %s, memo: %s", request.getAmount(), request.getMemo()),
+            String.format("transactionId: %s", transactionId)
+        );
         
-        // 데드락 방지를 위한 순서대로 락 획득
+        // 알림 전송
+        notificationService.sendTransferActivityNotification(
+            sender.getId(),
+            senderPhoneNumber,
+            String.format("%s원이 %s로 송금되었습니다.", request.getAmount(), receiverAccountNumber)
+        );
+        
+        notificationService.sendTransferActivityNotification(
+            receiver.getId(),
+            receiver.getPhoneNumber(),
+            String.format("%s원이 %s로부터 입금되었습니다.", request.getAmount(), senderAccountNumber)
+        );
+        
+        log.info("송금 완료: {} -> {} ({}원)", senderAccountNumber, receiverAccountNumber, request.getAmount());
+    }
+    
+    /**
+     * 보류 단계 (짧은 트랜잭션)
+     * 계좌 락은 이 트랜잭션 커밋과 함께 해제되며, 외부 API 호출 동안에는 유지되지 않음
+     */
+    private Transfer reserveFunds(TransferParties parties, TransferRequest request) {
+        Transfer transfer = debitSender(parties, request);
+        transfer.scheduleStatusCheck(LocalDateTime.now().plus(Duration.ofMillis(statusCheckInitialDelayMs)));
+        transfer.markFundsHeld();
+        
+        return transferRepository.save(transfer);
+    }
+    
+    /**
+     * 당행 송금 (한 트랜잭션) - 송금자 출금 후 수신자 입금까지 확정
+     */
+    private Transfer postOnUs(TransferParties parties, TransferRequest request) {
+        Transfer transfer = debitSender(parties, request);
+        balanceService.increase(transfer.getReceiverAccountNumber(), request.getAmount(),
+            TransactionType.TRANSFER_IN, "송금 입금: " + request.getMemo(), transfer.getTransactionId(),
+            parties.receiver().getId().toString());
+        transfer.markAsCompleted();
+        recentCounterpartyService.recordCompleted(transfer);
+        
+        return transferRepository.save(transfer);
+    }
+    
+    /**
+     * 계좌 행 락 -> 잔액 검증 -> 송금 기록 저장 -> 송금자 출금 (보류 / 당행 송금 공통)
+     */
+    private Transfer debitSender(TransferParties parties, TransferRequest request) {
+        User sender = parties.sender();
+        User receiver = parties.receiver();
+        Account senderAccount = parties.senderAccount();
+        Account receiverAccount = parties.receiverAccount();
+        
+        // 원자적 잔액 모드에서는 조건부 UPDATE 가 동시성을 보장하므로 계좌 행 락을 생략
         Account senderAccountLocked;
         Account receiverAccountLocked;
         
-        // 계좌 ID 순서로 락 획득 순서 결정 (데드락 방지)
-        if (senderAccount.getId().compareTo(receiverAccount.getId()) < 0) {
-            // 송금자 계좌 ID가 더 작은 경우
+        if (balanceService.isAtomicUpdate()) {
+            senderAccountLocked = senderAccount;
+            receiverAccountLocked = receiverAccount;
+        } else if (senderAccount.getId().compareTo(receiverAccount.getId()) < 0) {
+            // 계좌 ID 순서로 락 획득 순서 결정 (데드락 방지) - 송금자 계좌 ID가 더 작은 경우
             senderAccountLocked = accountRepository.findByIdWithLock(senderAccount.getId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
             receiverAccountLocked = accountRepository.findByIdWithLock(receiverAccount.getId())
@@ -129,10 +447,10 @@ public class TransferService {
             throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
         }
         
-        // 거래 ID 생성
-        String transactionId = generateTransactionId();
+        // 거래 ID 생성 (DB 중복 확인 없이 고유)
+        String transactionId = idGenerator.nextTransactionId();
         
-        // 송금 기록 생성
+        // 송금 기록 생성 후 처리 중 상태로 저장
         Transfer transfer = Transfer.builder()
                 .transactionId(transactionId)
                 .sender(sender)
@@ -142,122 +460,126 @@ public class TransferService {
                 .amount(request.getAmount())
                 .memo(request.getMemo())
                 .build();
+        Transfer savedTransfer = transferRepository.save(transfer);
+        savedTransfer.markAsProcessing();
         
+        // 송금자 잔액 출금 (타행 송금이면 보류)
         try {
-            // 1. 송금 요청을 PENDING 상태로 DB 저장
-            Transfer savedTransfer = transferRepository.save(transfer);
-            
-            // 2. 송금 처리 중 상태로 변경
-            transfer.markAsProcessing();
-            transferRepository.save(transfer);
-            
-            // 3. 외부 뱅킹 API 호출
-            BankingApiRequest apiRequest = BankingApiRequest.builder()
-                    .transactionId(transactionId)
-                    .senderAccountNumber(senderAccountLocked.getAccountNumber())
-                    .senderBankCode("EASYPAY") // 실제로는 은행 코드 사용
-                    .receiverAccountNumber(receiverAccountLocked.getAccountNumber())
-                    .receiverBankCode("EASYPAY") // 실제로는 은행 코드 사용
-                    .amount(request.getAmount())
-                    .currency("KRW")
-                    .memo(request.getMemo())
-                    .build();
-            
-            log.info("외부 뱅킹 API 호출 시작: {}", transactionId);
-            BankingApiResponse apiResponse = bankingApiService.processTransfer(apiRequest);
-            
-            // 4. API 응답에 따른 처리
-            if (apiResponse.getStatus() == BankingApiStatus.SUCCESS) {
-                // 4-1. 성공 시 잔액 이동 (BalanceService 사용)
-                balanceService.decrease(senderAccountLocked.getAccountNumber(), request.getAmount(), 
-                    TransactionType.TRANSFER_OUT, "송금 출금: " + request.getMemo(), transactionId, sender.getId().toString());
-                balanceService.increase(receiverAccountLocked.getAccountNumber(), request.getAmount(), 
-                    TransactionType.TRANSFER_IN, "송금 입금: " + request.getMemo(), transactionId, receiver.getId().toString());
-                
-                // 4-2. 송금 완료 상태로 변경
-                transfer.markAsCompleted();
-                transfer.setBankTransactionId(apiResponse.getBankTransactionId());
-            } else if (apiResponse.getStatus() == BankingApiStatus.TIMEOUT) {
-                // 4-3. 타임아웃 시 처리 - 잔액 이동하지 않고 TIMEOUT 상태로 설정
-                String timeoutReason = String.format("외부 API 타임아웃: %s", 
-                    apiResponse.getErrorMessage());
-                transfer.markAsTimeout(timeoutReason);
-                
-                log.warn("송금 타임아웃 발생: {} - 별도 상태 확인 필요", transactionId);
-                // 타임아웃 시에는 예외를 던지지 않고 사용자에게 상태 확인 안내
-            } else if (apiResponse.getStatus() == BankingApiStatus.UNKNOWN) {
-                // 4-4. 알 수 없음 상태 처리
-                String unknownReason = "외부 API 응답 상태를 확인할 수 없습니다.";
-                transfer.markAsUnknown(unknownReason);
-                
-                log.warn("송금 상태 불명: {} - 별도 상태 확인 필요", transactionId);
-            } else if (apiResponse.getStatus() == BankingApiStatus.PENDING) {
-                // 4-5. 처리중 상태 유지
-                log.info("송금 처리 중: {} - 별도 스케줄러가 상태 업데이트 예정", transactionId);
-            } else {
-                // 4-6. 기타 실패 시 처리
-                String failureReason = String.format("외부 API 오류: %s - %s", 
-                    apiResponse.getStatus().getDescription(), 
-                    apiResponse.getErrorMessage());
-                transfer.markAsFailed(failureReason);
-                
-                throw new BusinessException(ErrorCode.TRANSACTION_FAILED, failureReason);
-            }
-            
-            // 감사 로그 기록
-            auditLogService.logSuccess(
-                sender.getId(),
-                senderPhoneNumber,
-                AuditEventType.TRANSFER_SUCCESS,
-                String.format("송금 완료: %s -> %s (%s원)", 
-                    senderAccountLocked.getAccountNumber(), 
-                    receiverAccountLocked.getAccountNumber(), 
-                    request.getAmount()),
-                null, null,
-                String.format("amount: %s, memo: %s", request.getAmount(), request.getMemo()),
-                String.format("transactionId: %s", transactionId)
-            );
-            
-            // 알림 전송
-            notificationService.sendTransferActivityNotification(
-                sender.getId(),
-                senderPhoneNumber,
-                String.format("%s원이 %s로 송금되었습니다.", request.getAmount(), receiverAccountLocked.getAccountNumber())
-            );
-            
-            notificationService.sendTransferActivityNotification(
-                receiver.getId(),
-                receiver.getPhoneNumber(),
-                String.format("%s원이 %s로부터 입금되었습니다.", request.getAmount(), senderAccountLocked.getAccountNumber())
-            );
-            
-            log.info("송금 완료: {} -> {} ({}원)", senderAccountLocked.getAccountNumber(), 
-                    receiverAccountLocked.getAccountNumber(), request.getAmount());
-            
-            return TransferResponse.from(savedTransfer);
-            
-        } catch (Exception e) {
-            // 송금 실패 처리
-            transfer.markAsFailed(e.getMessage());
+            balanceService.decrease(savedTransfer.getSenderAccountNumber(), request.getAmount(), 
+                TransactionType.TRANSFER_OUT, "송금 출금: " + request.getMemo(), transactionId, sender.getId().toString());
+        } catch (InsufficientBalanceException e) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+        
+        // 송금자 / 수신자 활동 피드 추가 (같은 트랜잭션, 이관 작업이 먼저 추가한 활동은 건너뜀)
+        for (UserActivity activity : UserActivity.forTransfer(savedTransfer)) {
+            userActivityRepository.insertIfAbsent(activity.getUserId(), activity.getTransferId(),
+                    activity.getDirection().name(), activity.getCreatedAt());
+        }
+        
+        return savedTransfer;
+    }
+    
+    /**
+     * 정산 단계 (짧은 트랜잭션)
+     * @return 실패 사유 (성공 또는 확인 대기 상태이면 null)
+     */
+    private String settle(Transfer transfer, User sender, User receiver, TransferRequest request,
+                          BankingApiResponse apiResponse) {
+        String transactionId = transfer.getTransactionId();
+        String failureReason = null;
+        
+        if (apiResponse.getStatus() == BankingApiStatus.SUCCESS) {
+            // 성공 시 수신자 입금 확정
+            balanceService.increase(transfer.getReceiverAccountNumber(), request.getAmount(), 
+                TransactionType.TRANSFER_IN, "송금 입금: " + request.getMemo(), transactionId, receiver.getId().toString());
             
-            // 감사 로그 기록
-            auditLogService.logFailure(
-                sender.getId(),
-                senderPhoneNumber,
-                AuditEventType.TRANSFER_FAILED,
-                "송금 실패: " + e.getMessage(),
-                null, null,
-                String.format("amount: %s, memo: %s", request.getAmount(), request.getMemo()),
-                e.getMessage()
-            );
+            transfer.releaseFundsHold();
+            transfer.markAsCompleted();
+            transfer.setBankTransactionId(apiResponse.getBankTransactionId());
+            recentCounterpartyService.recordCompleted(transfer);
+        } else if (apiResponse.getStatus() == BankingApiStatus.TIMEOUT) {
+            // 타임아웃 시 보류를 유지한 채 TIMEOUT 상태로 설정 (상태 확인 스케줄러가 정산)
+            String timeoutReason = String.format("외부 API 타임아웃: %s", 
+                apiResponse.getErrorMessage());
+            transfer.markAsTimeout(timeoutReason);
             
-            log.error("송금 실패: {} -> {} ({}원) - {}", 
-                    senderAccountLocked.getAccountNumber(), 
-                    receiverAccountLocked.getAccountNumber(), 
-                    request.getAmount(), e.getMessage());
+            log.warn("송금 타임아웃 발생: {} - 별도 상태 확인 필요", transactionId);
+        } else if (apiResponse.getStatus() == BankingApiStatus.UNKNOWN) {
+            // 알 수 없음 상태 처리 (보류 유지)
+            String unknownReason = "외부 API 응답 상태를 확인할 수 없습니다.";
+            transfer.markAsUnknown(unknownReason);
             
-            throw new BusinessException(ErrorCode.TRANSACTION_FAILED, e.getMessage());
+            log.warn("송금 상태 불명: {} - 별도 상태 확인 필요", transactionId);
+        } else if (apiResponse.getStatus() == BankingApiStatus.PENDING) {
+            // 처리중 상태 유지 (보류 유지)
+            log.info("송금 처리 중: {} - 별도 스케줄러가 상태 업데이트 예정", transactionId);
+        } else {
+            // 기타 실패 시 보류 해제 (송금자 환원)
+            failureReason = String.format("외부 API 오류: %s - %s", 
+                apiResponse.getStatus().getDescription(), 
+                apiResponse.getErrorMessage());
+            compensate(transfer, sender, failureReason);
+            return failureReason;
         }
+        
+        transferRepository.save(transfer);
+        return failureReason;
+    }
+    
+    /**
+     * 보상 처리 - 보류된 송금자 잔액 환원 후 실패 상태로 변경
+     */
+    private void compensate(Transfer transfer, User sender, String reason) {
+        if (transfer.isFundsHeld()) {
+            balanceService.refund(transfer.getSenderAccountNumber(), transfer.getAmount(),
+                "송금 실패 환원: " + transfer.getTransactionId(),
+                transfer.getTransactionId(), sender.getId().toString());
+            transfer.releaseFundsHold();
+        }
+        transfer.markAsFailed(reason);
+        transferRepository.save(transfer);
+    }
+    
+    /**
+     * 송금 실패 감사 로그 기록
+     */
+    private void handleTransferFailure(Transfer transfer, User sender, String senderPhoneNumber,
+                                       TransferRequest request, String reason) {
+        auditLogService.logFailure(
+            sender.getId(),
+            senderPhoneNumber,
+            AuditEventType.TRANSFER_FAILED,
+            "송금 실패: " + reason,
+            null, null,
+            String.format("amount: %s, memo: %s", request.getAmount(), request.getMemo()),
+            reason
+        );
+        
+        log.error("송금 실패: {} -> {} ({}원) - {}", 
+                transfer.getSenderAccountNumber(), 
+                transfer.getReceiverAccountNumber(), 
+                request.getAmount(), reason);
+    }
+    
+    private <T> T timed(String route, Supplier<T> action) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = action.get();
+            success = true;
+            return result;
+        } finally {
+            record(route, success, startNanos);
+        }
+    }
+    
+    private void record(String route, boolean success, long startNanos) {
+        Timer.builder("easypay.transfer.duration")
+                .tag("route", route)
+                .tag("result", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
     
     public TransferResponse getTransfer(String transactionId) {
@@ -267,6 +589,58 @@ public class TransferService {
         return TransferResponse.from(transfer);
     }
     
+    /**
+     * 송금 내역 커서 조회 (활동 피드 키셋 페이지 + 송금 기록 PK 조회, count 쿼리 없음)
+     * @param phoneNumber 사용자 휴대폰 번호
+     * @param before 이전 페이지의 nextCursor (createdAt,id), 첫 페이지면 null
+     * @param size 페이지 크기 (최대 100)
+     * @return 송금 내역과 다음 페이지 커서
+     */
+    public TransferHistoryResponse getTransferHistory(String phoneNumber, String before, int size) {
+        User user = userRepository.findByPhoneNumber(phoneNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        
+        // 한 건 더 조회하여 다음 페이지 여부 판단
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<UserActivity> activities;
+        if (before == null || before.isBlank()) {
+            activities = userActivityRepository.findLatest(user.getId(), limit);
+        } else {
+            int separator = before.lastIndexOf(',');
+            try {
+                activities = userActivityRepository.findBefore(user.getId(),
+                        LocalDateTime.parse(before.substring(0, separator)),
+                        Long.parseLong(before.substring(separator + 1)), limit);
+            } catch (DateTimeParseException | NumberFormatException | StringIndexOutOfBoundsException e) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다: " + before);
+            }
+        }
+        
+        boolean hasNext = activities.size() > pageSize;
+        List<UserActivity> page = hasNext ? activities.subList(0, pageSize) : activities;
+        
+        // 피드 순서대로 송금 기록 매핑
+        Map<Long, Transfer> transfers = transferRepository.findAllWithUsersByIdIn(
+                        page.stream().map(UserActivity::getTransferId).toList()).stream()
+                .collect(Collectors.toMap(Transfer::getId, Function.identity()));
+        List<TransferResponse> content = page.stream()
+                .map(activity -> transfers.get(activity.getTransferId()))
+                .filter(Objects::nonNull)
+                .map(TransferResponse::from)
+                .toList();
+        
+        UserActivity last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return TransferHistoryResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? last.getCreatedAt() + "," + last.getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+    
+    /**
+     * 송금 내역 오프셋 조회 (기존 페이지 API 호환용 - 송금자 / 수신자 OR 조건 + count 쿼리)
+     */
     public Page<TransferResponse> getTransferHistory(String phoneNumber, Pageable pageable) {
         Page<Transfer> transfers = transferRepository.findByPhoneNumberOrderByCreatedAtDesc(phoneNumber, pageable);
         return transfers.map(TransferResponse::from);
@@ -299,23 +673,7 @@ public class TransferService {
         User user = userRepository.findByPhoneNumber(phoneNumber)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
         
-        // 성공한 송금만 조회하고, 수신자별로 가장 최근 거래만 가져옴
-        Page<Transfer> transfers = transferRepository.findRecentDistinctReceivers(user.getId(), pageable);
-        return transfers.map(RecentTransferResponse::from);
-    }
-    
-    /**
-     * 고유한 거래 ID 생성
-     * TXN 접두어 + 12자리 랜덤 문자열
-     * 중복 방지를 위한 검증 로직 포함
-     * @return 생성된 거래 ID
-     */
-    private String generateTransactionId() {
-        String transactionId;
-        do {
-            transactionId = "TXN" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-        } while (transferRepository.existsByTransactionId(transactionId));
-        
-        return transactionId;
+        // 송금 완료 시 갱신되는 recent_counterparty 에서 조회 (송금자별 캐시)
+        return recentCounterpartyService.getRecent(user.getId(), pageable);
     }
-}
+}
\ No newline at end of file
@@ -1,15 +1,22 @@
 package fintech2.easypay.transfer.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import fintech2.easypay.account.entity.Account;
-import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.AccountLockManager;
+import fintech2.easypay.account.service.BalanceService;
 import fintech2.easypay.common.enums.AuditEventType;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.scheduling.ClusterMembership;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.NotificationService;
 import fintech2.easypay.transfer.entity.Transfer;
@@ -19,152 +26,373 @@ import fintech2.easypay.transfer.external.BankingApiService;
 import fintech2.easypay.transfer.external.BankingApiStatus;
 import fintech2.easypay.transfer.repository.TransferRepository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 거래 상태 확인 스케줄러
  * 타임아웃 또는 UNKNOWN 상태의 거래들을 주기적으로 확인하여 최종 상태를 업데이트
+ *
+ * 확인 시각(next_check_at)이 도래한 거래만 id 키셋 페이지 단위로 선점(FOR UPDATE SKIP LOCKED)하고,
+ * 선점 시 시도 횟수를 올리고 다음 확인 시각을 지수 백오프로 미룬 뒤 바로 커밋한다.
+ * 외부 상태 조회는 트랜잭션 밖에서 inquiry-batch-size 건씩 일괄 조회(getTransferStatuses)로 statusCheckExecutor 에서 병렬 수행하고,
+ * 결과는 거래별 짧은 트랜잭션으로 반영한다.
+ * 여러 인스턴스는 살아있는 노드 목록 기준 샤드(MOD(id, 노드 수))를 나눠 맡고, 재배정 중에도 같은 거래를 중복 확인하지 않는다.
+ *
+ * 지표
+ * - easypay.transfer.status_check.backlog / due: 확인 대기 거래 수 / 확인 시각이 지난 거래 수
+ * - easypay.transfer.status_check.oldest_age: 가장 오래된 확인 대기 거래의 경과 시간
+ * - easypay.transfer.status_check.checks{result=completed|failed|pending|error}
+ * - easypay.transfer.status_check.run: 1회 실행 시간
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class TransferStatusCheckService {
     
+    static final List<TransferStatus> PENDING_STATUSES =
+        List.of(TransferStatus.TIMEOUT, TransferStatus.UNKNOWN, TransferStatus.PROCESSING);
+    private static final List<String> PENDING_STATUS_NAMES =
+        PENDING_STATUSES.stream().map(Enum::name).toList();
+    private static final LocalDateTime FIRST_DUE_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    
     private final TransferRepository transferRepository;
-    private final AccountRepository accountRepository;
+    private final BalanceService balanceService;
     private final BankingApiService bankingApiService;
     private final AuditLogService auditLogService;
     private final NotificationService notificationService;
+    private final AccountLockManager accountLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor statusCheckExecutor;
+    private final ClusterMembership clusterMembership;
+    private final RecentCounterpartyService recentCounterpartyService;
+    
+    // 한 페이지(선점 단위) 크기, 1회 실행 최대 페이지 수
+    @Value("${easypay.transfer.status-check.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${easypay.transfer.status-check.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+    
+    // 외부 일괄 상태 조회 1회당 거래 수
+    @Value("${easypay.transfer.status-check.inquiry-batch-size:50}")
+    private int inquiryBatchSize;
+    
+    // 재확인 간격: base * 2^시도횟수, 최대 max
+    @Value("${easypay.transfer.status-check.backoff-base-ms:60000}")
+    private long backoffBaseMs;
+    
+    @Value("${easypay.transfer.status-check.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+    
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong dueSize = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private final Timer runTimer;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter pendingCounter;
+    private final Counter errorCounter;
     
     /**
-     * 5분마다 확인 대상 거래들의 상태를 체크
+     * 선점한 거래 - 외부 조회와 결과 반영에 필요한 값만 트랜잭션 밖으로 전달
      */
-    @Scheduled(fixedDelay = 300000) // 5분 = 300,000ms
-    @Async("taskExecutor")
-    @Transactional
-    public void checkPendingTransferStatus() {
-        log.info("거래 상태 확인 스케줄러 시작");
-        
-        // 10분 이전에 생성된 TIMEOUT, UNKNOWN 상태의 거래들 조회
-        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(10);
-        List<Transfer> pendingTransfers = transferRepository
-            .findByStatusInAndCreatedAtBefore(
-                List.of(TransferStatus.TIMEOUT, TransferStatus.UNKNOWN, TransferStatus.PROCESSING), 
-                cutoffTime);
+    private record DueTransfer(Long id, LocalDateTime dueAt, String transactionId,
+                               String senderAccountNumber, String receiverAccountNumber) {
+    }
+    
+    public TransferStatusCheckService(TransferRepository transferRepository,
+                                      BalanceService balanceService,
+                                      BankingApiService bankingApiService,
+                                      AuditLogService auditLogService,
+                                      NotificationService notificationService,
+                                      AccountLockManager accountLockManager,
+                                      TransactionTemplate transactionTemplate,
+                                      @Qualifier("statusCheckExecutor") Executor statusCheckExecutor,
+                                      ClusterMembership clusterMembership,
+                                      RecentCounterpartyService recentCounterpartyService,
+                                      MeterRegistry meterRegistry) {
+        this.transferRepository = transferRepository;
+        this.balanceService = balanceService;
+        this.bankingApiService = bankingApiService;
+        this.auditLogService = auditLogService;
+        this.notificationService = notificationService;
+        this.accountLockManager = accountLockManager;
+        this.transactionTemplate = transactionTemplate;
+        this.statusCheckExecutor = statusCheckExecutor;
+        this.clusterMembership = clusterMembership;
+        this.recentCounterpartyService = recentCounterpartyService;
         
-        if (pendingTransfers.isEmpty()) {
-            log.info("확인할 대기 중인 거래가 없습니다.");
-            return;
+        Gauge.builder("easypay.transfer.status_check.backlog", backlogSize, AtomicLong::get)
+            .description("확인 대기 거래 수 (TIMEOUT / UNKNOWN / PROCESSING)")
+            .register(meterRegistry);
+        Gauge.builder("easypay.transfer.status_check.due", dueSize, AtomicLong::get)
+            .description("확인 시각이 지난 거래 수")
+            .register(meterRegistry);
+        TimeGauge.builder("easypay.transfer.status_check.oldest_age", oldestAgeSeconds, TimeUnit.SECONDS, AtomicLong::get)
+            .description("가장 오래된 확인 대기 거래의 경과 시간")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("easypay.transfer.status_check.run").register(meterRegistry);
+        this.completedCounter = checkCounter(meterRegistry, "completed");
+        this.failedCounter = checkCounter(meterRegistry, "failed");
+        this.pendingCounter = checkCounter(meterRegistry, "pending");
+        this.errorCounter = checkCounter(meterRegistry, "error");
+    }
+    
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("easypay.transfer.status_check.checks")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 주기적으로 확인 시각이 도래한 거래들의 상태를 체크
+     */
+    @Scheduled(fixedDelayString = "${easypay.transfer.status-check.poll-interval-ms:60000}")
+    public void checkPendingTransferStatus() {
+        Timer.Sample sample = Timer.start();
+        int checked = checkDueTransfers();
+        sample.stop(runTimer);
+        if (checked > 0) {
+            log.info("거래 상태 확인 완료: {}건 (대기 {}건, 확인 지연 {}건)", checked, backlogSize.get(), dueSize.get());
         }
+    }
+    
+    /**
+     * 이 노드 샤드에서 확인 시각이 도래한 거래를 페이지 단위로 선점하여 병렬 확인
+     * @return 확인한 거래 수
+     */
+    int checkDueTransfers() {
+        LocalDateTime now = LocalDateTime.now();
+        ClusterMembership.Shard shard = clusterMembership.currentShard();
+        // (next_check_at, id) 키셋 - 선점 전 확인 시각 기준 (첫 페이지는 모든 시각보다 앞선 값)
+        LocalDateTime afterDueAt = FIRST_DUE_AT;
+        long afterId = 0L;
+        int checked = 0;
         
-        log.info("확인할 거래 수: {}", pendingTransfers.size());
-        
-        for (Transfer transfer : pendingTransfers) {
-            try {
-                checkAndUpdateTransferStatus(transfer);
-            } catch (Exception e) {
-                log.error("거래 상태 확인 중 오류 발생: {} - {}", transfer.getTransactionId(), e.getMessage());
+        for (int page = 0; page < maxBatchesPerRun; page++) {
+            List<DueTransfer> claimed = claimDueTransfers(now, afterDueAt, afterId, shard);
+            if (claimed.isEmpty()) {
+                break;
+            }
+            DueTransfer last = claimed.get(claimed.size() - 1);
+            afterDueAt = last.dueAt();
+            afterId = last.id();
+            
+            // 일괄 조회 단위로 나눠 병렬 확인 (외부 호출 횟수: 페이지당 batch-size / inquiry-batch-size)
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (int from = 0; from < claimed.size(); from += inquiryBatchSize) {
+                List<DueTransfer> chunk = claimed.subList(from, Math.min(from + inquiryBatchSize, claimed.size()));
+                chunks.add(CompletableFuture.runAsync(() -> checkAndUpdateTransferStatuses(chunk), statusCheckExecutor)
+                    .exceptionally(e -> {
+                        errorCounter.increment(chunk.size());
+                        log.error("거래 상태 확인 중 오류 발생: {}건 - {}", chunk.size(), e.getMessage());
+                        return null;
+                    }));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+            checked += claimed.size();
+            
+            if (claimed.size() < batchSize) {
+                break;
             }
         }
         
-        log.info("거래 상태 확인 스케줄러 완료");
+        refreshBacklogMetrics();
+        return checked;
+    }
+    
+    /**
+     * 한 페이지 선점 (짧은 트랜잭션)
+     * 다음 확인 시각을 백오프만큼 미뤄 커밋하므로 처리 중 다른 인스턴스가 다시 가져가지 않음
+     */
+    private List<DueTransfer> claimDueTransfers(LocalDateTime now, LocalDateTime afterDueAt, long afterId,
+                                                ClusterMembership.Shard shard) {
+        return transactionTemplate.execute(status -> {
+            List<Transfer> due = transferRepository.findDueForStatusCheck(
+                PENDING_STATUS_NAMES, now, afterDueAt, afterId, shard.index(), shard.count(), batchSize);
+            LocalDateTime claimedAt = LocalDateTime.now();
+            return due.stream()
+                .map(transfer -> {
+                    DueTransfer claimed = new DueTransfer(transfer.getId(), transfer.getNextCheckAt(),
+                        transfer.getTransactionId(), transfer.getSenderAccountNumber(), transfer.getReceiverAccountNumber());
+                    transfer.claimStatusCheck(claimedAt.plus(backoff(transfer.getAttemptCount())));
+                    return claimed;
+                })
+                .toList();
+        });
+    }
+    
+    /**
+     * 재확인 간격 (지수 백오프)
+     */
+    Duration backoff(int attemptCount) {
+        long delay = backoffBaseMs << Math.min(attemptCount, 20);
+        return Duration.ofMillis(Math.min(delay, maxBackoffMs));
     }
     
     /**
-     * 개별 거래 상태 확인 및 업데이트
+     * 거래 상태 일괄 확인 및 업데이트
+     * 외부 조회는 트랜잭션 밖에서 한 번에, 결과 반영은 거래별로 계좌 락 획득 후 짧은 트랜잭션으로 수행
      */
-    private void checkAndUpdateTransferStatus(Transfer transfer) {
-        log.info("거래 상태 확인 시작: {} (현재상태: {})", 
-                transfer.getTransactionId(), transfer.getStatus());
+    private void checkAndUpdateTransferStatuses(List<DueTransfer> chunk) {
+        List<String> transactionIds = chunk.stream().map(DueTransfer::transactionId).toList();
+        log.info("거래 상태 일괄 확인 시작: {}건", transactionIds.size());
         
+        Map<String, BankingApiResponse> statuses;
         try {
-            // 외부 API로 실제 거래 상태 확인
-            BankingApiResponse statusResponse = bankingApiService
-                .getTransferStatus(transfer.getTransactionId());
-            
-            if (statusResponse.getStatus() == BankingApiStatus.SUCCESS) {
-                // 성공: 잔액 이동 및 상태 업데이트
-                handleSuccessfulTransfer(transfer, statusResponse);
-                
-            } else if (statusResponse.getStatus() == BankingApiStatus.FAILED ||
-                       statusResponse.getStatus() == BankingApiStatus.SYSTEM_ERROR ||
-                       statusResponse.getStatus() == BankingApiStatus.INSUFFICIENT_BALANCE ||
-                       statusResponse.getStatus() == BankingApiStatus.INVALID_ACCOUNT) {
-                // 실패: 상태만 업데이트 (잔액 이동 없음)
-                handleFailedTransfer(transfer, statusResponse);
-                
-            } else {
-                // 여전히 처리중이거나 알 수 없음: 상태 유지
-                log.info("거래 여전히 처리중: {} - {}", 
-                        transfer.getTransactionId(), statusResponse.getStatus());
-            }
-            
+            // 외부 API로 실제 거래 상태 일괄 확인
+            statuses = bankingApiService.getTransferStatuses(transactionIds);
         } catch (Exception e) {
-            log.error("외부 API 호출 실패: {} - {}", transfer.getTransactionId(), e.getMessage());
-            
+            log.error("외부 API 일괄 조회 실패: {}건 - {}", transactionIds.size(), e.getMessage());
+            errorCounter.increment(chunk.size());
+            statuses = Map.of();
+        }
+        
+        for (DueTransfer due : chunk) {
+            try {
+                updateTransferStatus(due, statuses.get(due.transactionId()));
+            } catch (RuntimeException e) {
+                errorCounter.increment();
+                log.error("거래 상태 반영 중 오류 발생: {} - {}", due.transactionId(), e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * 개별 거래 결과 반영 (응답이 없으면 null - 시도 횟수만 기록하고 재확인 대기)
+     */
+    private void updateTransferStatus(DueTransfer due, BankingApiResponse response) {
+        accountLockManager.executeWithLocks(List.of(due.senderAccountNumber(), due.receiverAccountNumber()), () -> {
+            transactionTemplate.executeWithoutResult(status -> {
+                Transfer transfer = transferRepository.findByIdWithLock(due.id()).orElse(null);
+                if (transfer == null || !PENDING_STATUSES.contains(transfer.getStatus())) {
+                    // 조회하는 동안 다른 경로에서 이미 확정됨
+                    return;
+                }
+                applyStatus(transfer, response);
+            });
+            return null;
+        });
+    }
+    
+    private void applyStatus(Transfer transfer, BankingApiResponse statusResponse) {
+        if (statusResponse == null) {
             // 24시간 이상 확인되지 않은 거래는 실패 처리
             if (transfer.getCreatedAt().isBefore(LocalDateTime.now().minusHours(24))) {
                 markAsSystemFailure(transfer);
             }
+            return;
+        }
+        
+        if (statusResponse.getStatus() == BankingApiStatus.SUCCESS) {
+            // 성공: 잔액 이동 및 상태 업데이트
+            handleSuccessfulTransfer(transfer, statusResponse);
+            completedCounter.increment();
+            
+        } else if (statusResponse.getStatus() == BankingApiStatus.FAILED ||
+                   statusResponse.getStatus() == BankingApiStatus.SYSTEM_ERROR ||
+                   statusResponse.getStatus() == BankingApiStatus.INSUFFICIENT_BALANCE ||
+                   statusResponse.getStatus() == BankingApiStatus.INVALID_ACCOUNT) {
+            // 실패: 상태만 업데이트 (잔액 이동 없음)
+            handleFailedTransfer(transfer, statusResponse);
+            failedCounter.increment();
+            
+        } else {
+            // 여전히 처리중이거나 알 수 없음: 상태 유지 (선점 시 예약된 다음 확인 시각에 재확인)
+            pendingCounter.increment();
+            log.info("거래 여전히 처리중: {} - {} (시도 {}회, 다음 확인 {})", 
+                    transfer.getTransactionId(), statusResponse.getStatus(),
+                    transfer.getAttemptCount(), transfer.getNextCheckAt());
         }
     }
     
+    /**
+     * 적체 지표 갱신 (실행마다 집계 쿼리 3회 - 스크레이프마다 DB 조회하지 않음)
+     */
+    private void refreshBacklogMetrics() {
+        LocalDateTime now = LocalDateTime.now();
+        backlogSize.set(transferRepository.countByStatusIn(PENDING_STATUSES));
+        dueSize.set(transferRepository.countDueForStatusCheck(PENDING_STATUSES, now));
+        LocalDateTime oldest = transferRepository.findOldestCreatedAtByStatusIn(PENDING_STATUSES);
+        oldestAgeSeconds.set(oldest == null ? 0 : Duration.between(oldest, now).toSeconds());
+    }
+    
     /**
      * 성공한 거래 처리
      */
     private void handleSuccessfulTransfer(Transfer transfer, BankingApiResponse response) {
         log.info("지연 처리 거래 성공 확인: {}", transfer.getTransactionId());
         
-        // 계좌 락 획득하여 잔액 이동
-        Account senderAccount = accountRepository.findByIdWithLock(
-            transfer.getSender().getId()).orElse(null);
-        Account receiverAccount = accountRepository.findByIdWithLock(
-            transfer.getReceiver().getId()).orElse(null);
+        // 잔액 이동은 BalanceService(단일 원장 경로)를 통해 처리
+        String senderAccountNumber = transfer.getSenderAccountNumber();
+        String receiverAccountNumber = transfer.getReceiverAccountNumber();
         
-        if (senderAccount != null && receiverAccount != null) {
-            // 송금자 잔액이 충분한지 다시 확인
-            if (senderAccount.hasEnoughBalance(transfer.getAmount())) {
-                senderAccount.withdraw(transfer.getAmount());
-                receiverAccount.deposit(transfer.getAmount());
-                
-                transfer.markAsCompleted();
-                transfer.setBankTransactionId(response.getBankTransactionId());
-                
-                // 감사 로그 기록
-                auditLogService.logSuccess(
-                    transfer.getSender().getId(),
-                    transfer.getSender().getPhoneNumber(),
-                    AuditEventType.TRANSFER_SUCCESS,
-                    String.format("지연 처리 송금 완료: %s (%s원)", 
-                        transfer.getTransactionId(), transfer.getAmount()),
-                    null, null,
-                    String.format("amount: %s", transfer.getAmount()),
-                    response.getMessage()
-                );
-                
-                // 알림 전송
-                notificationService.sendTransferActivityNotification(
-                    transfer.getSender().getId(),
-                    transfer.getSender().getPhoneNumber(),
-                    String.format("송금이 완료되었습니다. %s원이 %s로 송금되었습니다.", 
-                        transfer.getAmount(), transfer.getReceiverAccountNumber())
-                );
-                
-                notificationService.sendTransferActivityNotification(
-                    transfer.getReceiver().getId(),
-                    transfer.getReceiver().getPhoneNumber(),
-                    String.format("입금이 완료되었습니다. %s원이 %s로부터 입금되었습니다.", 
-                        transfer.getAmount(), transfer.getSenderAccountNumber())
-                );
-                
-            } else {
-                // 잔액 부족 시 실패 처리
-                transfer.markAsFailed("잔액 부족으로 인한 거래 실패");
-                log.warn("지연 처리 중 잔액 부족 발견: {}", transfer.getTransactionId());
+        // 보류(선차감)된 거래는 입금만 확정, 그 외에는 송금자 잔액을 다시 확인 후 이동
+        if (transfer.isFundsHeld() || balanceService.hasSufficientBalance(senderAccountNumber, transfer.getAmount())) {
+            if (!transfer.isFundsHeld()) {
+                balanceService.decrease(senderAccountNumber, transfer.getAmount(), TransactionType.TRANSFER_OUT,
+                        "지연 처리 송금", transfer.getTransactionId(), transfer.getSender().getId().toString());
             }
+            balanceService.increase(receiverAccountNumber, transfer.getAmount(), TransactionType.TRANSFER_IN,
+                    "지연 처리 입금", transfer.getTransactionId(), transfer.getReceiver().getId().toString());
+            
+            transfer.releaseFundsHold();
+            transfer.markAsCompleted();
+            transfer.setBankTransactionId(response.getBankTransactionId());
+            recentCounterpartyService.recordCompleted(transfer);
+            
+            // 감사 로그 기록
+            auditLogService.logSuccess(
+                transfer.getSender().getId(),
+                transfer.getSender().getPhoneNumber(),
+                AuditEventType.TRANSFER_SUCCESS,
+                String.format("지연 처리 송금 완료: %s (%s원)", 
+                    transfer.getTransactionId(), transfer.getAmount()),
+                null, null,
+                String.format("amount: %s", transfer.getAmount()),
+                response.getMessage()
+            );
+            
+            // 알림 전송
+            notificationService.sendTransferActivityNotification(
+                transfer.getSender().getId(),
+                transfer.getSender().getPhoneNumber(),
+                String.format("송금이 완료되었습니다. %s원이 %s로 송금되었습니다.", 
+                    transfer.getAmount(), transfer.getReceiverAccountNumber())
+            );
+            
+            notificationService.sendTransferActivityNotification(
+                transfer.getReceiver().getId(),
+                transfer.getReceiver().getPhoneNumber(),
+                String.format("입금이 완료되었습니다. %s원이 %s로부터 입금되었습니다.", 
+                    transfer.getAmount(), transfer.getSenderAccountNumber())
+            );
+            
+        } else {
+            // 잔액 부족 시 실패 처리
+            transfer.markAsFailed("잔액 부족으로 인한 거래 실패");
+            log.warn("지연 처리 중 잔액 부족 발견: {}", transfer.getTransactionId());
+        }
+    }
+    
+    /**
+     * 보류된 송금자 잔액 환원
+     */
+    private void releaseHeldFunds(Transfer transfer) {
+        if (!transfer.isFundsHeld()) {
+            return;
         }
+        balanceService.refund(transfer.getSenderAccountNumber(), transfer.getAmount(),
+                "송금 실패 환원: " + transfer.getTransactionId(), transfer.getTransactionId(),
+                transfer.getSender().getId().toString());
+        transfer.releaseFundsHold();
     }
     
     /**
@@ -175,6 +403,7 @@ public class TransferStatusCheckService {
         
         String failureReason = String.format("외부 API 확인 결과 실패: %s - %s", 
             response.getStatus().getDescription(), response.getErrorMessage());
+        releaseHeldFunds(transfer);
         transfer.markAsFailed(failureReason);
         
         // 감사 로그 기록
@@ -204,6 +433,7 @@ public class TransferStatusCheckService {
         log.warn("24시간 이상 확인되지 않은 거래를 시스템 실패로 처리: {}", 
                 transfer.getTransactionId());
         
+        releaseHeldFunds(transfer);
         transfer.markAsFailed("시스템 오류로 인한 거래 실패 (24시간 경과)");
         
         // 감사 로그 기록
@@ -0,0 +1,12 @@
+-- 송금 상태 확인 스케줄 (TransferStatusCheckService)
+-- next_check_at: 다음 외부 상태 확인 시각, 확정(COMPLETED / FAILED / CANCELLED) 시 NULL
+-- attempt_count: 상태 확인 시도 횟수 (지수 백오프 계산용)
+ALTER TABLE transfers ADD COLUMN next_check_at TIMESTAMP;
+ALTER TABLE transfers ADD COLUMN attempt_count INT NOT NULL DEFAULT 0;
+
+-- 기존 확인 대기 거래는 즉시 확인 대상으로 등록
+UPDATE transfers SET next_check_at = CURRENT_TIMESTAMP
+WHERE status IN ('TIMEOUT', 'UNKNOWN', 'PROCESSING');
+
+-- 확인 대상 조회 (next_check_at <= now, id 키셋)
+CREATE INDEX idx_transfers_next_check ON transfers(next_check_at, id);
@@ -0,0 +1,15 @@
+-- 다중 인스턴스 스케줄 작업 조정 (JobLeaseService / ClusterMembership)
+
+-- 작업별 실행 임대: lease_until 이전에는 leased_by 노드만 실행
+CREATE TABLE scheduled_job_leases (
+    job_name VARCHAR(64) PRIMARY KEY,
+    lease_until TIMESTAMP NOT NULL,
+    leased_at TIMESTAMP NOT NULL,
+    leased_by VARCHAR(128) NOT NULL
+);
+
+-- 살아있는 노드 목록 (하트비트), 노드 이름 순서로 샤드 번호 결정
+CREATE TABLE scheduler_nodes (
+    node_name VARCHAR(128) PRIMARY KEY,
+    heartbeat_at TIMESTAMP NOT NULL
+);
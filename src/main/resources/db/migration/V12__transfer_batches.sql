@@ -0,0 +1,35 @@
+-- 대량 송금(급여 이체) 배치
+-- 송금자 계좌에서 총액을 한 번에 출금하고 수신 계좌는 정렬된 묶음 단위로 입금, 건별 결과는 transfer_batch_items 에 기록
+CREATE TABLE transfer_batches (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    batch_id VARCHAR(50) NOT NULL UNIQUE,
+    sender_user_id BIGINT NOT NULL,
+    sender_account_number VARCHAR(255) NOT NULL,
+    total_count INT NOT NULL,
+    total_amount DECIMAL(19,2) NOT NULL,
+    success_count INT NOT NULL DEFAULT 0,
+    failed_count INT NOT NULL DEFAULT 0,
+    success_amount DECIMAL(19,2) NOT NULL DEFAULT 0,
+    status VARCHAR(30) NOT NULL,
+    failed_reason VARCHAR(255),
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE transfer_batch_items (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    batch_id BIGINT NOT NULL,
+    item_no INT NOT NULL,
+    receiver_account_number VARCHAR(255) NOT NULL,
+    amount DECIMAL(19,2) NOT NULL,
+    memo VARCHAR(255),
+    status VARCHAR(20) NOT NULL,
+    transaction_id VARCHAR(255),
+    failed_reason VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    processed_at TIMESTAMP,
+    FOREIGN KEY (batch_id) REFERENCES transfer_batches(id)
+);
+
+CREATE INDEX idx_transfer_batch_items_batch ON transfer_batch_items(batch_id, item_no);
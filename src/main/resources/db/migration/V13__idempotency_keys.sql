@@ -0,0 +1,15 @@
+-- Idempotency-Key 저장소 (IdempotencyService)
+-- 송금 / 결제 POST 재시도 시 저장된 응답을 재사용하여 중복 처리를 방지
+
+-- idempotency_key: 범위:사용자:헤더값
+-- status: IN_PROGRESS (처리 중, expires_at 까지 선점) / COMPLETED (response_body 재사용, expires_at 까지 보관)
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(200) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,14 @@
+-- 사용자별 송금 활동 피드 (송금 내역 조회용 비정규화 테이블)
+-- 송금 1건당 참여자별 1행 (보낸 사람 SENT / 받은 사람 RECEIVED), 송금 기록과 같은 트랜잭션에서 추가만 함
+-- 조회: WHERE user_id = ? AND (created_at, id) < 커서 ORDER BY created_at DESC, id DESC LIMIT n
+-- 기존 송금 기록은 기동 시 TransferReadModelBackfill 이 이관 (transfers 컬럼 구성이 환경마다 달라 SQL 로 이관하지 않음)
+CREATE TABLE user_activity (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    transfer_id BIGINT NOT NULL,
+    direction VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_user_activity_feed ON user_activity (user_id, created_at, id);
+CREATE INDEX idx_user_activity_transfer ON user_activity (transfer_id);
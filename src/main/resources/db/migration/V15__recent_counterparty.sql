@@ -0,0 +1,18 @@
+-- 최근 송금 대상 (송금자 - 수신자 쌍별 1행, 송금 완료 시 갱신)
+-- /api/transfers/recent 를 송금 기록 전체에 대한 상관 서브쿼리 대신 이 테이블의 인덱스 범위 조회로 처리
+-- 기존 완료 송금은 기동 시 TransferReadModelBackfill 이 이관
+CREATE TABLE recent_counterparty (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sender_id BIGINT NOT NULL,
+    receiver_id BIGINT NOT NULL,
+    receiver_account_number VARCHAR(255) NOT NULL,
+    last_transfer_id BIGINT,
+    last_amount DECIMAL(19,2) NOT NULL,
+    last_memo VARCHAR(255),
+    last_transfer_at TIMESTAMP NOT NULL,
+    transfer_count INT NOT NULL,
+    CONSTRAINT uk_recent_counterparty UNIQUE (sender_id, receiver_id)
+);
+
+CREATE INDEX idx_recent_counterparty_sender ON recent_counterparty (sender_id, last_transfer_at);
+
@@ -0,0 +1,4 @@
+-- 계좌별 거래 내역 조회 인덱스
+-- 커서 조회 WHERE account_number = ? AND created_at 범위 / (created_at, id) < 커서 ORDER BY created_at DESC, id DESC 를
+-- 정렬 없이 인덱스 범위 조회로 처리 (이체 한도 재구성의 기간 합계 조회도 사용)
+CREATE INDEX idx_transaction_history_account_created ON transaction_history (account_number, created_at, id);
@@ -0,0 +1,15 @@
+-- 일일 / 월 이체 한도 사용량 (TransferLimitService)
+-- 계좌 - 기간별 1행, 출금 트랜잭션 안에서 조건부 UPDATE (used_amount + 금액 <= 한도) 로 누적하여
+-- 여러 인스턴스가 같은 한도를 공유 (출금이 롤백되면 누적도 함께 롤백)
+
+-- period_type: DAILY (period_start = 해당 일) / MONTHLY (period_start = 해당 월 1일)
+CREATE TABLE transfer_limit_usage (
+    account_number VARCHAR(50) NOT NULL,
+    period_type VARCHAR(10) NOT NULL,
+    period_start DATE NOT NULL,
+    used_amount DECIMAL(19,2) NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (account_number, period_type, period_start)
+);
+
+CREATE INDEX idx_transfer_limit_usage_period_start ON transfer_limit_usage (period_start);
@@ -0,0 +1,14 @@
+-- 송금 / 방향별 활동 1행 보장 (실시간 기록과 TransferReadModelBackfill 이 동시에 추가해도 중복 없음)
+-- 이미 중복된 행은 가장 먼저 추가된 행만 남김
+
+DELETE FROM user_activity
+WHERE EXISTS (SELECT 1 FROM user_activity earlier
+              WHERE earlier.transfer_id = user_activity.transfer_id
+                AND earlier.direction = user_activity.direction
+                AND earlier.id < user_activity.id);
+
+ALTER TABLE user_activity
+    ADD CONSTRAINT uk_user_activity_transfer_direction UNIQUE (transfer_id, direction);
+
+-- (transfer_id, direction) 유니크 인덱스가 transfer_id 조회를 대신함
+DROP INDEX IF EXISTS idx_user_activity_transfer;
@@ -0,0 +1,41 @@
+-- 잔액 단일 원장 전환 (easypay.balance.ledger-mode)
+-- 원장 모드에서는 account_balances 만 갱신되고 accounts / user_accounts 의 balance 컬럼은 갱신되지 않는다
+-- 이 마이그레이션은 두 모드 모두에서 안전하며, 원장 모드로 전환하기 전에 적용되어야 한다
+
+-- 1. 원장 행이 없는 계좌 보정 (accounts 기준)
+INSERT INTO account_balances (account_number, balance)
+SELECT a.account_number, COALESCE(a.balance, 0.00)
+FROM accounts a
+WHERE NOT EXISTS (
+    SELECT 1 FROM account_balances ab WHERE ab.account_number = a.account_number
+);
+
+-- 2. 원장 행이 없는 계좌 보정 (user_accounts 기준)
+INSERT INTO account_balances (account_number, balance)
+SELECT ua.account_number, COALESCE(ua.balance, 0.00)
+FROM user_accounts ua
+WHERE NOT EXISTS (
+    SELECT 1 FROM account_balances ab WHERE ab.account_number = ua.account_number
+);
+
+-- 3. 레거시 잔액 컬럼을 원장 값으로 일괄 동기화 (레거시 모드로 되돌릴 때 기준점)
+UPDATE accounts
+SET balance = (SELECT ab.balance FROM account_balances ab WHERE ab.account_number = accounts.account_number)
+WHERE EXISTS (SELECT 1 FROM account_balances ab WHERE ab.account_number = accounts.account_number);
+
+UPDATE user_accounts
+SET balance = (SELECT ab.balance FROM account_balances ab WHERE ab.account_number = user_accounts.account_number)
+WHERE EXISTS (SELECT 1 FROM account_balances ab WHERE ab.account_number = user_accounts.account_number);
+
+-- 4. 원장 기준 파생 잔액 뷰 (리포트 / 운영 조회용)
+CREATE OR REPLACE VIEW v_account_ledger_balance AS
+SELECT
+    ab.account_number,
+    COALESCE(ua.user_id, a.user_id) AS user_id,
+    ua.account_name,
+    ua.is_primary,
+    ab.balance,
+    ab.updated_at AS balance_updated_at
+FROM account_balances ab
+LEFT JOIN accounts a ON a.account_number = ab.account_number
+LEFT JOIN user_accounts ua ON ua.account_number = ab.account_number;
@@ -0,0 +1,5 @@
+-- 송금 잔액 보류(reserve) 플래그
+-- 외부 은행 호출 전 송금자 잔액을 선차감한 거래는 TRUE, 입금 확정 또는 송금자 환원 시 FALSE
+ALTER TABLE transfers ADD COLUMN funds_held BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX idx_transfers_funds_held ON transfers(funds_held, status);
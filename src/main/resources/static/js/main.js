@@ -30,10 +30,127 @@ document.addEventListener('DOMContentLoaded', function() {
     loadUserInfo();
     loadNotifications();
     
-    // 30초마다 알림 개수 업데이트
-    setInterval(loadNotifications, 30000);
+    // 알림 개수는 폴링 대신 SSE 스트림으로 갱신
+    openAlarmStream();
 });
 
+// SSE 재연결용 마지막 알림 ID
+let lastAlarmEventId = null;
+
+// 알림 / 잔액 변동 SSE 스트림 연결
+// EventSource 는 Authorization 헤더를 보낼 수 없으므로 fetch 스트림으로 직접 파싱
+async function openAlarmStream() {
+    const token = localStorage.getItem('accessToken');
+    if (!token) {
+        return;
+    }
+    
+    const headers = {
+        'Authorization': `Bearer ${token}`,
+        'Accept': 'text/event-stream'
+    };
+    if (lastAlarmEventId !== null) {
+        headers['Last-Event-ID'] = lastAlarmEventId;
+    }
+    
+    try {
+        const response = await fetch('/api/alarms/stream', { headers });
+        if (!response.ok || !response.body) {
+            throw new Error('stream status ' + response.status);
+        }
+        
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+        
+        while (true) {
+            const { value, done } = await reader.read();
+            if (done) {
+                break;
+            }
+            buffer += decoder.decode(value, { stream: true });
+            
+            let boundary;
+            while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+                handleStreamEvent(buffer.substring(0, boundary));
+                buffer = buffer.substring(boundary + 2);
+            }
+        }
+    } catch (error) {
+        console.warn('Alarm stream disconnected:', error);
+    }
+    
+    // 연결 종료 시 3초 후 재연결 (놓친 알림은 Last-Event-ID 로 재전송)
+    setTimeout(openAlarmStream, 3000);
+}
+
+// SSE 이벤트 처리
+function handleStreamEvent(rawEvent) {
+    let eventName = 'message';
+    let eventId = null;
+    const dataLines = [];
+    
+    rawEvent.split('\n').forEach(line => {
+        if (line.startsWith('event:')) {
+            eventName = line.substring(6).trim();
+        } else if (line.startsWith('id:')) {
+            eventId = line.substring(3).trim();
+        } else if (line.startsWith('data:')) {
+            dataLines.push(line.substring(5));
+        }
+    });
+    
+    if (eventId !== null) {
+        lastAlarmEventId = eventId;
+    }
+    
+    if (eventName === 'connected') {
+        // (재)연결 시 현재 개수 / 잔액으로 동기화 (잔액 이벤트는 재전송되지 않음)
+        loadNotifications();
+        loadMyBalance();
+    } else if (eventName === 'alarm') {
+        const badge = document.getElementById('notificationBadge');
+        const current = badge.style.display === 'none' ? 0 : (parseInt(badge.textContent, 10) || 0);
+        const count = current + 1;
+        badge.textContent = count;
+        badge.style.display = 'flex';
+    } else if (eventName === 'balance') {
+        const data = JSON.parse(dataLines.join('\n'));
+        if (data.accountNumber === localStorage.getItem('accountNumber')) {
+            displayBalance(data.balance);
+        }
+    }
+}
+
+// 내 계좌 잔액 로드
+async function loadMyBalance() {
+    const token = localStorage.getItem('accessToken');
+    if (!token) {
+        return;
+    }
+    
+    try {
+        const response = await fetch('/api/accounts/balance', {
+            headers: {
+                'Authorization': `Bearer ${token}`
+            }
+        });
+        
+        if (response.ok) {
+            const data = await response.json();
+            displayBalance(data.balance);
+        } else {
+            console.error('Balance load failed:', response.status);
+        }
+    } catch (error) {
+        console.error('Balance load error:', error);
+    }
+}
+
+function displayBalance(balance) {
+    document.getElementById('myBalance').textContent = `${Number(balance || 0).toLocaleString()} 원`;
+}
+
 // 인증 확인
 function checkAuth() {
     const token = localStorage.getItem('accessToken');
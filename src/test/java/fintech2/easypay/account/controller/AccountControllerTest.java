@@ -0,0 +1,124 @@
+package fintech2.easypay.account.controller;
+
+import fintech2.easypay.account.entity.UserAccount;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.account.repository.UserAccountRepository;
+import fintech2.easypay.account.service.AccountLockManager;
+import fintech2.easypay.account.service.AccountService;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.account.service.TransactionExportService;
+import fintech2.easypay.account.service.TransactionHistoryService;
+import fintech2.easypay.account.service.TransferLimitService;
+import fintech2.easypay.account.service.UserAccountService;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.auth.dto.UserPrincipal;
+import fintech2.easypay.auth.service.PrincipalCache;
+import fintech2.easypay.common.scheduling.JobLeaseService;
+import fintech2.easypay.common.util.IdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AccountController 출금 테스트")
+class AccountControllerTest {
+
+    private static final String ACCOUNT = "VA1111111111";
+
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private TransactionHistoryRepository transactionHistoryRepository;
+    @Mock private BalanceService balanceService;
+
+    private UserAccount primaryAccount;
+    private AccountController accountController;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:withdraw-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V17__transfer_limit_usage.sql"))
+            .execute(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        TransferLimitService transferLimitService = new TransferLimitService(new JdbcTemplate(dataSource),
+            transactionManager, userAccountRepository, transactionHistoryRepository, mock(JobLeaseService.class),
+            new SimpleMeterRegistry(), 1000, 60_000);
+        UserAccountService userAccountService = new UserAccountService(userAccountRepository,
+            transactionHistoryRepository, mock(AuditLogService.class), balanceService,
+            mock(AccountLockManager.class), new TransactionTemplate(transactionManager), mock(IdGenerator.class),
+            transferLimitService, mock(PrincipalCache.class));
+        accountController = new AccountController(mock(AccountService.class), userAccountService,
+            mock(TransactionHistoryService.class), mock(TransactionExportService.class));
+
+        primaryAccount = UserAccount.builder()
+            .userId(1L)
+            .accountNumber(ACCOUNT)
+            .balance(new BigDecimal("5000000"))
+            .isPrimary(true)
+            .dailyLimit(new BigDecimal("1000000"))
+            .build();
+        when(balanceService.isLedgerMode()).thenReturn(false);
+        when(userAccountRepository.findByUserIdAndIsPrimaryTrue(1L)).thenReturn(Optional.of(primaryAccount));
+        when(userAccountRepository.findByAccountNumber(ACCOUNT)).thenReturn(Optional.of(primaryAccount));
+        when(userAccountRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("기존 잔액 모드에서도 일일 한도를 다 쓴 계좌의 출금은 한도 초과로 거절")
+    void withdrawRejectedWhenDailyLimitUsedUp() {
+        // Given: 오늘 이미 1,000,000 출금
+        when(transactionHistoryRepository.sumAmountSince(eq(ACCOUNT), any(), eq(LocalDate.now().atStartOfDay())))
+            .thenReturn(new BigDecimal("1000000"));
+
+        // When
+        ResponseEntity<?> response = accountController.withdraw(Map.of("amount", "10000"), principal());
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat((Map<?, ?>) response.getBody()).containsEntry("error", "DAILY_LIMIT_EXCEEDED");
+        assertThat(primaryAccount.getBalance()).isEqualByComparingTo("5000000");
+        verify(userAccountRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("한도 안의 출금은 잔액 차감")
+    void withdrawWithinLimit() {
+        // When
+        ResponseEntity<?> response = accountController.withdraw(Map.of("amount", "10000"), principal());
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(primaryAccount.getBalance()).isEqualByComparingTo("4990000");
+    }
+
+    private static UserPrincipal principal() {
+        return UserPrincipal.builder().id(1L).phoneNumber("010-1111-1111").accountNumber(ACCOUNT).build();
+    }
+}
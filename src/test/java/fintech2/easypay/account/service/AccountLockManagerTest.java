@@ -0,0 +1,79 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("계좌 스트라이프 락 관리자 테스트")
+class AccountLockManagerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("같은 스트라이프에 매핑된 두 계좌도 한 번만 잠그고 작업을 실행")
+    void sameStripeAccountsLockedOnce() {
+        // Given: 스트라이프 1개 -> 모든 계좌가 같은 스트라이프
+        AccountLockManager lockManager = new AccountLockManager(meterRegistry, 1, 100);
+
+        // When
+        String result = lockManager.executeWithLocks(List.of("VA1111111111", "VA2222222222"), () -> "done");
+
+        // Then
+        assertThat(result).isEqualTo("done");
+        Timer timer = meterRegistry.get("easypay.account.lock.wait").timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 계좌 락을 보유 중이면 대기 시간 초과 후 ACCOUNT_LOCK_TIMEOUT")
+    void timesOutWhileAnotherThreadHoldsLock() throws Exception {
+        // Given
+        AccountLockManager lockManager = new AccountLockManager(meterRegistry, 16, 50);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Future<?> holder = executor.submit(() -> lockManager.executeWithLock("VA1111111111", () -> {
+            locked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        locked.await(5, TimeUnit.SECONDS);
+
+        // When & Then: 역순으로 요청해도 같은 계좌이므로 대기
+        assertThatThrownBy(() -> lockManager.executeWithLocks(List.of("VA2222222222", "VA1111111111"), () -> "never"))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.ACCOUNT_LOCK_TIMEOUT);
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // 대기 후 락이 정상 해제되어 재획득 가능
+        assertThat(lockManager.executeWithLock("VA1111111111", () -> "ok")).isEqualTo("ok");
+    }
+}
@@ -0,0 +1,178 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.entity.AccountBalance;
+import fintech2.easypay.account.entity.UserAccount;
+import fintech2.easypay.account.repository.AccountBalanceRepository;
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.account.repository.UserAccountRepository;
+import fintech2.easypay.audit.service.AlarmService;
+import fintech2.easypay.audit.service.AlarmStreamService;
+import fintech2.easypay.audit.service.TransactionVelocityTracker;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+@DisplayName("잔액 원장 / 원자적 갱신 모드 테스트")
+class BalanceServiceLedgerModeTest {
+
+    @Mock private AccountBalanceRepository accountBalanceRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private TransactionHistoryRepository transactionHistoryRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private TransferLimitService transferLimitService;
+    @Mock private AlarmService alarmService;
+    @Mock private AlarmStreamService alarmStreamService;
+
+    private BalanceService balanceService;
+
+    @BeforeEach
+    void setUp() {
+        balanceService = new BalanceService(
+            accountBalanceRepository,
+            accountRepository,
+            transactionHistoryRepository,
+            userAccountRepository,
+            alarmService,
+            alarmStreamService,
+            new TransactionVelocityTracker(new SimpleMeterRegistry(), 1000, 3_600_000),
+            transferLimitService
+        );
+
+        when(accountBalanceRepository.findByAccountNumber("VA1111111111"))
+            .thenReturn(Optional.of(AccountBalance.builder().accountNumber("VA1111111111").balance(new BigDecimal("500000")).build()));
+        when(accountBalanceRepository.findByAccountNumber("VA2222222222"))
+            .thenReturn(Optional.of(AccountBalance.builder().accountNumber("VA2222222222").balance(new BigDecimal("100000")).build()));
+        when(accountRepository.findByAccountNumber(any()))
+            .thenReturn(Optional.of(Account.builder().accountNumber("VA1111111111").userId(1L).build()));
+        when(userAccountRepository.findByAccountNumber(any()))
+            .thenReturn(Optional.of(UserAccount.builder().accountNumber("VA1111111111").userId(1L).build()));
+    }
+
+    @Test
+    @DisplayName("레거시 모드: 송금 1건에 잔액 관련 저장소 호출 14회 (레그당 7회)")
+    void legacyModeTouchesThreeBalanceTables() {
+        // Given
+        ReflectionTestUtils.setField(balanceService, "ledgerMode", false);
+
+        // When: 송금 1건 (출금 레그 + 입금 레그)
+        transfer();
+
+        // Then
+        assertThat(repositoryCalls()).isEqualTo(14);
+        assertThat(Mockito.mockingDetails(accountRepository).getInvocations()).hasSize(4);
+        assertThat(Mockito.mockingDetails(userAccountRepository).getInvocations()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("원장 모드: 송금 1건에 잔액 관련 저장소 호출 6회 (레그당 조회 1 + 조건부 갱신 1 + 내역 1)")
+    void ledgerModeTouchesSingleBalanceRow() {
+        // Given
+        ReflectionTestUtils.setField(balanceService, "ledgerMode", true);
+
+        // When
+        BalanceService.BalanceChangeResult debit = balanceService.decrease("VA1111111111", new BigDecimal("100000"),
+            TransactionType.TRANSFER_OUT, "송금 출금", "TXN000000000001", "1");
+        BalanceService.BalanceChangeResult credit = balanceService.increase("VA2222222222", new BigDecimal("100000"),
+            TransactionType.TRANSFER_IN, "송금 입금", "TXN000000000001", "2");
+
+        // Then: 원장 행만 변경되고 Account / UserAccount 는 조회조차 하지 않음
+        assertThat(debit.getBalanceAfter()).isEqualByComparingTo("400000");
+        assertThat(credit.getBalanceAfter()).isEqualByComparingTo("200000");
+        assertThat(repositoryCalls()).isEqualTo(6);
+        verifyNoInteractions(accountRepository, userAccountRepository);
+    }
+
+    @Test
+    @DisplayName("UserAccount 원장 잔액 투영은 DB 컬럼 값을 변경하지 않음")
+    void ledgerBalanceProjectionDoesNotTouchColumn() {
+        // Given
+        UserAccount account = UserAccount.builder()
+            .accountNumber("VA1111111111")
+            .balance(new BigDecimal("1000"))
+            .build();
+
+        // When
+        account.applyLedgerBalance(new BigDecimal("400000"));
+
+        // Then
+        assertThat(account.getBalance()).isEqualByComparingTo("400000");
+        assertThat(account.hasEnoughBalance(new BigDecimal("300000"))).isTrue();
+        assertThat(ReflectionTestUtils.getField(account, "balance")).isEqualTo(new BigDecimal("1000"));
+    }
+
+    @Test
+    @DisplayName("원자적 모드: 조건부 UPDATE 후 재조회만으로 출금 처리 (행 조회/엔티티 저장 없음)")
+    void atomicDebitUsesConditionalUpdate() {
+        // Given
+        ReflectionTestUtils.setField(balanceService, "ledgerMode", true);
+        ReflectionTestUtils.setField(balanceService, "atomicUpdate", true);
+        when(accountBalanceRepository.debitIfSufficient("VA1111111111", new BigDecimal("100000"))).thenReturn(1);
+        when(accountBalanceRepository.findBalanceByAccountNumber("VA1111111111"))
+            .thenReturn(Optional.of(new BigDecimal("400000")));
+
+        // When
+        BalanceService.BalanceChangeResult debit = balanceService.decrease("VA1111111111", new BigDecimal("100000"),
+            TransactionType.TRANSFER_OUT, "송금 출금", "TXN000000000001", "1");
+
+        // Then
+        assertThat(debit.getBalanceBefore()).isEqualByComparingTo("500000");
+        assertThat(debit.getBalanceAfter()).isEqualByComparingTo("400000");
+        verify(accountBalanceRepository, never()).findByAccountNumber(any());
+        verify(accountBalanceRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("원자적 모드: 갱신 행이 0건이면 잔액 부족 예외와 알림 발생")
+    void atomicDebitRejectsWhenNoRowUpdated() {
+        // Given
+        ReflectionTestUtils.setField(balanceService, "atomicUpdate", true);
+        when(accountBalanceRepository.debitIfSufficient("VA2222222222", new BigDecimal("300000"))).thenReturn(0);
+        when(accountBalanceRepository.findBalanceByAccountNumber("VA2222222222"))
+            .thenReturn(Optional.of(new BigDecimal("100000")));
+
+        // When & Then
+        assertThatThrownBy(() -> balanceService.decrease("VA2222222222", new BigDecimal("300000"),
+                TransactionType.TRANSFER_OUT, "송금 출금", "TXN000000000002", "2"))
+            .isInstanceOf(InsufficientBalanceException.class);
+        verify(alarmService).sendInsufficientBalanceAlert("VA2222222222", "2", "100000", "300000");
+        verifyNoInteractions(transactionHistoryRepository);
+    }
+
+    private void transfer() {
+        balanceService.decrease("VA1111111111", new BigDecimal("100000"),
+            TransactionType.TRANSFER_OUT, "송금 출금", "TXN000000000001", "1");
+        balanceService.increase("VA2222222222", new BigDecimal("100000"),
+            TransactionType.TRANSFER_IN, "송금 입금", "TXN000000000001", "2");
+    }
+
+    private int repositoryCalls() {
+        return Mockito.mockingDetails(accountBalanceRepository).getInvocations().size()
+            + Mockito.mockingDetails(accountRepository).getInvocations().size()
+            + Mockito.mockingDetails(transactionHistoryRepository).getInvocations().size()
+            + Mockito.mockingDetails(userAccountRepository).getInvocations().size();
+    }
+}
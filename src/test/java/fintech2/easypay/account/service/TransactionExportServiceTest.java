@@ -0,0 +1,127 @@
+package fintech2.easypay.account.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.account.entity.TransactionHistory;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.exception.TooManyRequestsException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+@DisplayName("거래 내역 내보내기 테스트")
+class TransactionExportServiceTest {
+
+    private static final String ACCOUNT = "VA1111111111";
+
+    @Mock private TransactionHistoryRepository transactionHistoryRepository;
+    @Mock private EntityManager entityManager;
+    @Mock private AuditLogService auditLogService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicBoolean streamClosed = new AtomicBoolean();
+    private TransactionExportService transactionExportService;
+
+    @BeforeEach
+    void setUp() {
+        transactionExportService = new TransactionExportService(transactionHistoryRepository, entityManager,
+            objectMapper, auditLogService, transactionManager, 1, 1);
+
+        when(transactionHistoryRepository.streamByAccountNumber(ACCOUNT)).thenReturn(Stream.of(
+                history(2L, TransactionType.TRANSFER_OUT, "50000", "홍길동, \"점심\""),
+                history(1L, TransactionType.DEPOSIT, "100000", "=SUM(A1)"))
+            .onClose(() -> streamClosed.set(true)));
+    }
+
+    @Test
+    @DisplayName("CSV 는 BOM 과 헤더 후 한 행씩 쓰고, 쓴 엔티티는 분리하며 커서를 닫음")
+    void exportsCsv() throws IOException {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = transactionExportService.export(ACCOUNT, TransactionExportService.Format.CSV, false, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("\uFEFFid,createdAt,transactionType");
+        assertThat(lines[1]).startsWith("2,2025-07-01T12:30,TRANSFER_OUT,50000,")
+            .endsWith(",\"홍길동, \"\"점심\"\"\"");
+        assertThat(lines[2]).endsWith(",'=SUM(A1)");
+        verify(entityManager, times(2)).detach(any(TransactionHistory.class));
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 상한을 넘으면 429 로 거절하고 끝난 자리는 다시 사용")
+    void rejectsExportsOverLimit() {
+        // Given: 상한 1
+        transactionExportService.acquire();
+
+        // When & Then
+        assertThatThrownBy(() -> transactionExportService.acquire())
+            .isInstanceOf(TooManyRequestsException.class)
+            .extracting("errorCode").isEqualTo("EXPORT_BUSY");
+        transactionExportService.release();
+        transactionExportService.acquire();
+    }
+
+    @Test
+    @DisplayName("gzip NDJSON 은 압축을 풀면 행마다 JSON 한 줄")
+    void exportsGzipNdjson() throws IOException {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionExportService.export(ACCOUNT, TransactionExportService.Format.NDJSON, true, out);
+
+        // Then
+        String ndjson;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(2L);
+        assertThat(first.get("transactionType").asText()).isEqualTo("TRANSFER_OUT");
+        assertThat(objectMapper.readTree(lines[1]).get("description").asText()).isEqualTo("=SUM(A1)");
+    }
+
+    private static TransactionHistory history(Long id, TransactionType type, String amount, String description) {
+        return TransactionHistory.builder()
+            .id(id)
+            .accountNumber(ACCOUNT)
+            .transactionType(type)
+            .amount(new BigDecimal(amount))
+            .description(description)
+            .createdAt(LocalDateTime.of(2025, 7, 1, 12, 30))
+            .build();
+    }
+}
@@ -0,0 +1,122 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.dto.TransactionHistoryItem;
+import fintech2.easypay.account.dto.TransactionHistoryPageResponse;
+import fintech2.easypay.account.entity.UserAccount;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.account.repository.UserAccountRepository;
+import fintech2.easypay.auth.dto.UserPrincipal;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.enums.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+@DisplayName("거래 내역 커서 조회 테스트")
+class TransactionHistoryServiceTest {
+
+    private static final String ACCOUNT = "VA1111111111";
+
+    @Mock private TransactionHistoryRepository transactionHistoryRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+
+    @InjectMocks private TransactionHistoryService transactionHistoryService;
+
+    @Test
+    @DisplayName("한 건 더 조회하여 다음 페이지가 있으면 마지막 행으로 커서 생성")
+    void returnsNextCursorFromLastRow() {
+        // Given: 기간 7/1 ~ 7/31 첫 페이지 -> 커서는 8/1 00:00, id 0
+        LocalDateTime to = LocalDate.of(2025, 8, 1).atStartOfDay();
+        when(transactionHistoryRepository.findPage(eq(ACCOUNT), eq(LocalDate.of(2025, 7, 1).atStartOfDay()), eq(to),
+                eq(to), eq(0L), eq(PageRequest.of(0, 3))))
+            .thenReturn(List.of(item(30L, 15), item(29L, 14), item(28L, 13)));
+
+        // When
+        TransactionHistoryPageResponse page = transactionHistoryService.getHistory(ACCOUNT, null, 2, null,
+            LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 31));
+
+        // Then
+        assertThat(page.getContent()).extracting(TransactionHistoryItem::getId).containsExactly(30L, 29L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("2025-07-14T09:00,29");
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지는 커서 값으로 조회하고 마지막 페이지면 커서 없음")
+    void continuesFromCursor() {
+        // Given
+        when(transactionHistoryRepository.findPageByTypes(eq(ACCOUNT), eq(List.of(TransactionType.DEPOSIT)), any(), any(),
+                eq(LocalDateTime.of(2025, 7, 14, 9, 0)), eq(29L), any()))
+            .thenReturn(List.of(item(28L, 13)));
+
+        // When
+        TransactionHistoryPageResponse page = transactionHistoryService.getHistory(ACCOUNT, "2025-07-14T09:00,29", 2,
+            List.of(TransactionType.DEPOSIT), null, null);
+
+        // Then
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        verify(transactionHistoryRepository, never()).findPage(any(), any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 기간은 400")
+    void rejectsInvalidCursorAndRange() {
+        assertThatThrownBy(() -> transactionHistoryService.getHistory(ACCOUNT, "not-a-cursor", 20, null, null, null))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+        assertThatThrownBy(() -> transactionHistoryService.getHistory(ACCOUNT, null, 20, null,
+                LocalDate.of(2025, 7, 2), LocalDate.of(2025, 7, 1)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+
+    @Test
+    @DisplayName("본인 계좌가 아니면 거절")
+    void rejectsOtherUsersAccount() {
+        // Given
+        UserPrincipal principal = UserPrincipal.builder().id(1L).accountNumber("VA0000000000").build();
+        when(userAccountRepository.findByUserIdAndAccountNumber(1L, ACCOUNT)).thenReturn(Optional.empty());
+        when(userAccountRepository.findByUserIdAndAccountNumber(1L, "VA2222222222"))
+            .thenReturn(Optional.of(UserAccount.builder().accountNumber("VA2222222222").userId(1L).build()));
+
+        // When / Then
+        assertThatThrownBy(() -> transactionHistoryService.checkOwner(principal, ACCOUNT))
+            .isInstanceOf(BusinessException.class);
+        transactionHistoryService.checkOwner(principal, "VA2222222222");
+        transactionHistoryService.checkOwner(principal, "VA0000000000");
+    }
+
+    private static TransactionHistoryItem item(Long id, int day) {
+        return TransactionHistoryItem.builder()
+            .id(id)
+            .transactionType(TransactionType.DEPOSIT)
+            .amount(new BigDecimal("10000"))
+            .createdAt(LocalDateTime.of(2025, 7, day, 9, 0))
+            .build();
+    }
+}
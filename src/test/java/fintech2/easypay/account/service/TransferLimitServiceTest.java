@@ -0,0 +1,285 @@
+package fintech2.easypay.account.service;
+
+import fintech2.easypay.account.entity.UserAccount;
+import fintech2.easypay.account.repository.TransactionHistoryRepository;
+import fintech2.easypay.account.repository.UserAccountRepository;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.scheduling.JobLeaseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+@DisplayName("일일 / 월 이체 한도 집계 테스트")
+class TransferLimitServiceTest {
+
+    private static final String ACCOUNT = "VA1111111111";
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 15);
+
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private TransactionHistoryRepository transactionHistoryRepository;
+
+    private DataSourceTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+    private TransferLimitService transferLimitService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:limit-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V17__transfer_limit_usage.sql"))
+            .execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        transferLimitService = newService();
+
+        when(userAccountRepository.findByAccountNumber(ACCOUNT)).thenReturn(Optional.of(UserAccount.builder()
+            .accountNumber(ACCOUNT)
+            .userId(1L)
+            .dailyLimit(new BigDecimal("10000000"))
+            .monthlyLimit(new BigDecimal("30000000"))
+            .build()));
+        when(transactionHistoryRepository.sumAmountSince(eq(ACCOUNT), any(), eq(TODAY.atStartOfDay())))
+            .thenReturn(new BigDecimal("4000000"));
+        when(transactionHistoryRepository.sumAmountSince(eq(ACCOUNT), any(), eq(TODAY.withDayOfMonth(1).atStartOfDay())))
+            .thenReturn(new BigDecimal("25000000"));
+    }
+
+    @Test
+    @DisplayName("기간 첫 출금에서 거래 내역 합계로 사용량 행을 만들고 이후에는 행에 누적만")
+    void seedsOnceFromHistory() {
+        // When
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("1000000"), TODAY);
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("1000000"), TODAY);
+
+        // Then
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("6000000");
+        assertThat(transferLimitService.monthlyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("27000000");
+        verify(userAccountRepository, times(1)).findByAccountNumber(ACCOUNT);
+        verify(transactionHistoryRepository, times(2)).sumAmountSince(eq(ACCOUNT), any(), any());
+    }
+
+    @Test
+    @DisplayName("일일 한도를 넘는 출금은 거절하고 누적하지 않음")
+    void rejectsDailyLimit() {
+        // When & Then
+        assertThatThrownBy(() -> transferLimitService.reserve(ACCOUNT, new BigDecimal("6000001"), TODAY))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.DAILY_LIMIT_EXCEEDED);
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("4000000");
+
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("5000000"), TODAY);
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("9000000");
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 일일 합계만 초기화되고 월 한도는 유지")
+    void rollsDailyTotalButKeepsMonthly() {
+        // Given
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("5000000"), TODAY);
+
+        // When: 다음 날 일일 합계는 0 이지만 월 합계는 30,000,000 에 도달
+        LocalDate tomorrow = TODAY.plusDays(1);
+        assertThatThrownBy(() -> transferLimitService.reserve(ACCOUNT, new BigDecimal("1000000"), tomorrow))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.MONTHLY_LIMIT_EXCEEDED);
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, tomorrow)).isEqualByComparingTo("0");
+
+        // Then: 다음 달에는 둘 다 초기화
+        LocalDate nextMonth = TODAY.plusMonths(1).withDayOfMonth(1);
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("1000000"), nextMonth);
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, nextMonth)).isEqualByComparingTo("1000000");
+        assertThat(transferLimitService.monthlyTotal(ACCOUNT, nextMonth)).isEqualByComparingTo("1000000");
+    }
+
+    @Test
+    @DisplayName("출금 트랜잭션이 롤백되면 누적분도 롤백")
+    void releasesOnRollback() {
+        // Given
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("1000000"), TODAY);
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            transferLimitService.reserve(ACCOUNT, new BigDecimal("3000000"), TODAY);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("5000000");
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 같은 한도를 공유")
+    void instancesShareLimit() {
+        // Given: 남은 일일 한도 6,000,000
+        TransferLimitService otherNode = newService();
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("4000000"), TODAY);
+
+        // When / Then
+        assertThatThrownBy(() -> otherNode.reserve(ACCOUNT, new BigDecimal("3000000"), TODAY))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.DAILY_LIMIT_EXCEEDED);
+        otherNode.reserve(ACCOUNT, new BigDecimal("2000000"), TODAY);
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("10000000");
+    }
+
+    @Test
+    @DisplayName("동시 출금 20건 중 남은 일일 한도만큼만 통과")
+    void concurrentDebitsCannotJointlyExceedLimit() throws InterruptedException {
+        // Given: 남은 일일 한도 6,000,000 -> 1,000,000 씩 6건만 가능
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            executor.submit(() -> {
+                start.await();
+                try {
+                    transferLimitService.reserve(ACCOUNT, new BigDecimal("1000000"), TODAY);
+                    accepted.incrementAndGet();
+                } catch (BusinessException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(accepted).hasValue(6);
+        assertThat(rejected).hasValue(14);
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("10000000");
+    }
+
+    @Test
+    @DisplayName("출금이 환원되면 원 출금 일 / 월의 사용량 복원")
+    void releasesLimitOfRefundedOutflow() {
+        // Given: 월 한도 소진 (일일 9,000,000 / 월 30,000,000)
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("5000000"), TODAY);
+        when(transactionHistoryRepository.findOutflowCreatedAt(eq(ACCOUNT), eq("TXN-1"), any()))
+            .thenReturn(TODAY.atTime(10, 0));
+
+        // When
+        transferLimitService.release(ACCOUNT, new BigDecimal("2000000"), "TXN-1");
+
+        // Then: 복원된 만큼 다시 출금 가능
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("7000000");
+        assertThat(transferLimitService.monthlyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("28000000");
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("2000000"), TODAY);
+        assertThat(transferLimitService.monthlyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("30000000");
+    }
+
+    @Test
+    @DisplayName("원 출금을 찾지 못한 환원은 사용량을 바꾸지 않음")
+    void ignoresReleaseWithoutOutflow() {
+        // Given
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("1000000"), TODAY);
+
+        // When
+        transferLimitService.release(ACCOUNT, new BigDecimal("1000000"), "UNKNOWN");
+
+        // Then
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("5000000");
+    }
+
+    @Test
+    @DisplayName("사용량 행을 만들 때 환원된 출금은 제외")
+    void seedNetsRefundedOutflows() {
+        // Given: 오늘 출금 4,000,000 중 3,000,000 환원
+        when(transactionHistoryRepository.sumRefundedSince(eq(ACCOUNT), any(), any()))
+            .thenReturn(new BigDecimal("3000000"));
+
+        // When: 환원분을 빼면 남은 일일 한도 9,000,000, 월 한도 8,000,000
+        transferLimitService.reserve(ACCOUNT, new BigDecimal("8000000"), TODAY);
+
+        // Then
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("9000000");
+        assertThat(transferLimitService.monthlyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("30000000");
+    }
+
+    @Test
+    @DisplayName("출금 트랜잭션 안의 사용량 행 생성은 출금 트랜잭션의 커넥션만 사용")
+    void seedsOnOutflowConnection() {
+        // Given: 커넥션을 가져간 횟수를 세는 DataSource
+        AtomicInteger connections = new AtomicInteger();
+        DataSource counting = new DelegatingDataSource(jdbcTemplate.getDataSource()) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                connections.incrementAndGet();
+                return super.getConnection();
+            }
+        };
+        DataSourceTransactionManager countingTransactionManager = new DataSourceTransactionManager(counting);
+        TransferLimitService service = new TransferLimitService(new JdbcTemplate(counting), countingTransactionManager,
+            userAccountRepository, transactionHistoryRepository, mock(JobLeaseService.class), new SimpleMeterRegistry(),
+            1000, 60_000);
+
+        // When: 기간의 첫 출금 (일 / 월 행 생성)
+        new TransactionTemplate(countingTransactionManager).executeWithoutResult(status ->
+            service.reserve(ACCOUNT, new BigDecimal("1000000"), TODAY));
+
+        // Then
+        assertThat(connections).hasValue(1);
+        assertThat(transferLimitService.dailyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("5000000");
+        assertThat(transferLimitService.monthlyTotal(ACCOUNT, TODAY)).isEqualByComparingTo("26000000");
+    }
+
+    @Test
+    @DisplayName("UserAccount 가 없는 계좌는 한도 검증 없이 통과")
+    void skipsAccountsWithoutUserAccount() {
+        // Given
+        when(userAccountRepository.findByAccountNumber(anyString())).thenReturn(Optional.empty());
+
+        // When
+        transferLimitService.reserve("VA9999999999", new BigDecimal("999999999"), TODAY);
+
+        // Then
+        assertThat(transferLimitService.dailyTotal("VA9999999999", TODAY)).isEqualByComparingTo("0");
+    }
+
+    private TransferLimitService newService() {
+        return new TransferLimitService(jdbcTemplate, transactionManager, userAccountRepository,
+            transactionHistoryRepository, mock(JobLeaseService.class), new SimpleMeterRegistry(), 1000, 60_000);
+    }
+}
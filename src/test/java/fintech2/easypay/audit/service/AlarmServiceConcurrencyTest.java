@@ -0,0 +1,91 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.audit.dto.Alarm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("알림 링 버퍼 동시성 테스트")
+class AlarmServiceConcurrencyTest {
+
+    private static final String USER_ID = "1";
+
+    @Test
+    @DisplayName("한 사용자에게 동시에 잔액 변동 알림이 몰려도 예외 없이 최근 50개만 유지")
+    void concurrentAlarmsForOneUser() throws Exception {
+        // Given
+        AlarmService alarmService = new AlarmService(new AlarmStreamService());
+        int writers = 8;
+        int alarmsPerWriter = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+
+        // When: 쓰기 스레드와 개수/목록 조회 스레드가 동시에 동작
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < alarmsPerWriter; i++) {
+                    alarmService.sendBalanceChangeAlert("VA1111111111", USER_ID, "증가", "1000", "5000");
+                }
+                return null;
+            }));
+        }
+        for (int r = 0; r < 2; r++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1_000; i++) {
+                    assertThat(alarmService.getUnreadNotificationCount(USER_ID))
+                        .isBetween(0, AlarmService.MAX_ALARMS_PER_USER);
+                    assertThat(alarmService.getNotificationList(USER_ID, "all"))
+                        .hasSizeLessThanOrEqualTo(AlarmService.MAX_ALARMS_PER_USER);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        List<Alarm> alarms = alarmService.getNotificationList(USER_ID, "all");
+        assertThat(alarms).hasSize(AlarmService.MAX_ALARMS_PER_USER);
+        assertThat(alarms.get(0).id()).isEqualTo((long) writers * alarmsPerWriter - 1); // 최신순
+        Set<Long> ids = alarms.stream().map(Alarm::id).collect(Collectors.toSet());
+        assertThat(ids).hasSize(AlarmService.MAX_ALARMS_PER_USER);
+        assertThat(alarmService.getUnreadNotificationCount(USER_ID)).isEqualTo(AlarmService.MAX_ALARMS_PER_USER);
+    }
+
+    @Test
+    @DisplayName("읽음 처리 후에는 이후 발생한 알림만 읽지 않은 알림으로 집계")
+    void unreadCounterResetsOnMarkAsRead() {
+        // Given
+        AlarmService alarmService = new AlarmService(new AlarmStreamService());
+        for (int i = 0; i < 10; i++) {
+            alarmService.sendLoginFailureAlert("010-1111-1111", USER_ID, "비밀번호 불일치");
+        }
+
+        // When
+        alarmService.markNotificationsAsRead(USER_ID);
+        alarmService.sendBalanceChangeAlert("VA1111111111", USER_ID, "감소", "1000", "4000");
+        alarmService.sendBalanceChangeAlert("VA1111111111", USER_ID, "감소", "1000", "3000");
+
+        // Then
+        assertThat(alarmService.getUnreadNotificationCount(USER_ID)).isEqualTo(2);
+        assertThat(alarmService.getNotificationList(USER_ID, "balance")).hasSize(2);
+        assertThat(alarmService.getNotificationList(USER_ID, "login")).hasSize(10);
+    }
+}
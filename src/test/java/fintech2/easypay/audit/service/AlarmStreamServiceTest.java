@@ -0,0 +1,156 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.audit.dto.Alarm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("알림 SSE 전송 테스트")
+class AlarmStreamServiceTest {
+
+    private AlarmStreamService alarmStreamService;
+
+    @BeforeEach
+    void setUp() {
+        alarmStreamService = new AlarmStreamService();
+        ReflectionTestUtils.setField(alarmStreamService, "queueCapacity", 5);
+        ReflectionTestUtils.setField(alarmStreamService, "sendTimeoutMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        alarmStreamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 연결이 전송 중이어도 다른 연결의 알림은 바로 전송")
+    void slowSubscriberDoesNotBlockOthers() throws InterruptedException {
+        // Given: user 1 은 전송이 멈춘 연결
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        alarmStreamService.subscribe("1", List::of, slow);
+        alarmStreamService.subscribe("2", List::of, fast);
+
+        // When
+        alarmStreamService.publishAlarm("1", alarm(1));
+        alarmStreamService.publishAlarm("2", alarm(1));
+
+        // Then: connected + alarm
+        assertThat(fast.awaitSent(2)).isTrue();
+        release.countDown();
+        assertThat(slow.awaitSent(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("전송 큐가 넘치면 연결을 끊고 더 이상 보내지 않음")
+    void dropsSubscriberOnQueueOverflow() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        alarmStreamService.subscribe("1", List::of, slow);
+
+        // When: 큐 용량(5)을 넘는 알림
+        for (int i = 1; i <= 10; i++) {
+            alarmStreamService.publishAlarm("1", alarm(i));
+        }
+
+        // Then
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(alarmStreamService.connectionCount()).isZero();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 알림은 커밋 후에 전송")
+    void publishesAlarmAfterCommit() throws InterruptedException {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        alarmStreamService.subscribe("1", List::of, emitter);
+        assertThat(emitter.awaitSent(1)).isTrue();
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            alarmStreamService.publishAlarm("1", alarm(1));
+            Thread.sleep(100);
+            assertThat(emitter.sent).hasValue(1);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(emitter.awaitSent(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 기동의 이벤트 ID 로 재연결하면 보관 중인 알림을 모두 재전송")
+    void lastEventIdFromPreviousBootReplaysAll() {
+        // Given
+        String current = alarmStreamService.eventId(alarm(7));
+        String previousBoot = (System.currentTimeMillis() - 60_000) + "-7";
+
+        // When / Then
+        assertThat(alarmStreamService.lastAlarmId(current)).isEqualTo(7);
+        assertThat(alarmStreamService.lastAlarmId(previousBoot)).isZero();
+        assertThat(alarmStreamService.lastAlarmId("7")).isZero();
+        assertThat(alarmStreamService.lastAlarmId(null)).isEqualTo(-1);
+        assertThat(alarmStreamService.lastAlarmId("abc")).isEqualTo(-1);
+    }
+
+    private static Alarm alarm(long id) {
+        return new Alarm(id, "BALANCE_CHANGE", "잔액 변동", LocalDateTime.now(), "info", "balance");
+    }
+
+    /**
+     * 보낸 이벤트 수를 세고, release 가 있으면 열릴 때까지 전송을 멈추는 emitter
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final AtomicInteger sent = new AtomicInteger();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        private boolean awaitSent(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.get() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return sent.get() >= count;
+        }
+    }
+}
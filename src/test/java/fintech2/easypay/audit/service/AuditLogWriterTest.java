@@ -0,0 +1,114 @@
+package fintech2.easypay.audit.service;
+
+import fintech2.easypay.audit.entity.AuditLog;
+import fintech2.easypay.audit.service.AuditLogWriter.Durability;
+import fintech2.easypay.common.enums.AuditEventType;
+import fintech2.easypay.common.enums.AuditResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+@DisplayName("감사 로그 write-behind 파이프라인 테스트")
+class AuditLogWriterTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger batchedRows;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchedRows = new AtomicInteger();
+        when(jdbcTemplate.batchUpdate(eq(AuditLogWriter.INSERT_SQL), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+            .thenAnswer(invocation -> {
+                batchedRows.addAndGet(invocation.<Collection<?>>getArgument(1).size());
+                return new int[0][];
+            });
+    }
+
+    @Test
+    @DisplayName("ASYNC: 호출 스레드에서는 저장하지 않고, 종료 시 큐에 남은 항목까지 모두 배치 저장")
+    void asyncWritesAreBatchedAndDrainedOnShutdown() {
+        // Given
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, meterRegistry, 1024, 50, 10, 1000);
+        writer.start();
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            writer.write(auditLog("송금 " + i), Durability.ASYNC);
+        }
+        writer.stop();
+
+        // Then
+        assertThat(batchedRows.get()).isEqualTo(500);
+        verify(jdbcTemplate, never()).update(eq(AuditLogWriter.INSERT_SQL), any(PreparedStatementSetter.class));
+        assertThat(meterRegistry.get("easypay.audit.written").counter().count()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("SYNC: 보안 이벤트는 호출 스레드에서 즉시 저장")
+    void syncWritesImmediately() {
+        // Given
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, meterRegistry, 1024, 50, 10, 1000);
+        writer.start();
+
+        // When
+        writer.write(auditLog("로그인"), Durability.SYNC);
+
+        // Then
+        verify(jdbcTemplate).update(eq(AuditLogWriter.INSERT_SQL), any(PreparedStatementSetter.class));
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("큐 포화 시 대기 후 호출 스레드에서 직접 저장하고 backpressure 지표 증가 (유실 없음)")
+    void fullQueueFallsBackToCallerThread() {
+        // Given: writer 스레드를 시작하지 않은 상태에서 running 만 켜서 큐가 비워지지 않도록 함
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, meterRegistry, 2, 50, 1, 1000);
+        ReflectionTestUtils.setField(writer, "running", true);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            writer.write(auditLog("결제 " + i), Durability.ASYNC);
+        }
+        writer.drainRemaining();
+
+        // Then: 3건은 호출 스레드에서, 2건은 큐에서 저장
+        assertThat(batchedRows.get()).isEqualTo(5);
+        assertThat(meterRegistry.get("easypay.audit.backpressure").tag("action", "sync_fallback").counter().count())
+            .isEqualTo(3);
+    }
+
+    private AuditLog auditLog(String description) {
+        return AuditLog.builder()
+            .eventType(AuditEventType.TRANSFER_SUCCESS)
+            .status(AuditResult.SUCCESS)
+            .memberId(1L)
+            .eventDescription(description)
+            .build();
+    }
+}
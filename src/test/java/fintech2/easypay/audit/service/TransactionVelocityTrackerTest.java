@@ -0,0 +1,104 @@
+package fintech2.easypay.audit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("계좌별 거래 속도 집계 테스트")
+class TransactionVelocityTrackerTest {
+
+    private static final String ACCOUNT = "VA1111111111";
+    private static final long MINUTE = 60_000L;
+
+    private TransactionVelocityTracker tracker;
+    private long t0;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new TransactionVelocityTracker(new SimpleMeterRegistry(), 100, 3_600_000);
+        t0 = 1_700_000_000_000L - (1_700_000_000_000L % 300_000); // 모든 윈도우의 버킷 경계
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 짧은 윈도우부터 건수와 금액이 빠짐")
+    void slidesWindowsIndependently() {
+        // Given: 3건 (1만원씩)
+        for (int i = 0; i < 3; i++) {
+            tracker.record(ACCOUNT, new BigDecimal("10000"), t0 + i * 1_000);
+        }
+
+        // Then
+        TransactionVelocityTracker.VelocitySnapshot now = tracker.snapshot(ACCOUNT, t0 + 5_000);
+        assertThat(now.count1m()).isEqualTo(3);
+        assertThat(now.amount1m()).isEqualTo(30_000);
+        assertThat(now.count5m()).isEqualTo(3);
+        assertThat(now.count1h()).isEqualTo(3);
+
+        TransactionVelocityTracker.VelocitySnapshot after2m = tracker.snapshot(ACCOUNT, t0 + 2 * MINUTE);
+        assertThat(after2m.count1m()).isZero();
+        assertThat(after2m.count5m()).isEqualTo(3);
+
+        TransactionVelocityTracker.VelocitySnapshot after10m = tracker.snapshot(ACCOUNT, t0 + 10 * MINUTE);
+        assertThat(after10m.count5m()).isZero();
+        assertThat(after10m.amount1h()).isEqualTo(30_000);
+
+        TransactionVelocityTracker.VelocitySnapshot after2h = tracker.snapshot(ACCOUNT, t0 + 120 * MINUTE);
+        assertThat(after2h.count1h()).isZero();
+        assertThat(after2h.amount1h()).isZero();
+    }
+
+    @Test
+    @DisplayName("오래된 버킷만 빠지고 최근 버킷은 유지")
+    void expiresOnlyStaleBuckets() {
+        // Given: 0분, 3분, 6분에 1건씩
+        tracker.record(ACCOUNT, new BigDecimal("1000"), t0);
+        tracker.record(ACCOUNT, new BigDecimal("2000"), t0 + 3 * MINUTE);
+
+        // When
+        TransactionVelocityTracker.VelocitySnapshot snapshot =
+            tracker.record(ACCOUNT, new BigDecimal("4000"), t0 + 6 * MINUTE);
+
+        // Then: 5분 윈도우에는 3분, 6분 거래만
+        assertThat(snapshot.count1m()).isEqualTo(1);
+        assertThat(snapshot.count5m()).isEqualTo(2);
+        assertThat(snapshot.amount5m()).isEqualTo(6_000);
+        assertThat(snapshot.count1h()).isEqualTo(3);
+        assertThat(snapshot.amount1h()).isEqualTo(7_000);
+    }
+
+    @Test
+    @DisplayName("추적 계좌 수는 상한을 넘지 않음")
+    void boundsTrackedAccounts() {
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            tracker.record("VA" + i, BigDecimal.ONE, t0);
+        }
+
+        // Then
+        assertThat(tracker.trackedAccounts()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("5분 내 5번째 출금에서 한 번만 빈번한 거래 알림")
+    void alarmServiceFlagsFrequentTransactionOnce() {
+        // Given
+        AlarmService alarmService = new AlarmService(new AlarmStreamService());
+
+        // When: 30초 간격으로 6건
+        for (int i = 0; i < 6; i++) {
+            TransactionVelocityTracker.VelocitySnapshot velocity =
+                tracker.record(ACCOUNT, new BigDecimal("10000"), t0 + i * 30_000L);
+            alarmService.detectSuspiciousTransaction(ACCOUNT, "1", new BigDecimal("10000"), "PAYMENT", velocity);
+        }
+
+        // Then
+        assertThat(alarmService.getNotificationList("1", "all"))
+            .filteredOn(alarm -> "FREQUENT_TRANSACTION".equals(alarm.type()))
+            .hasSize(1);
+    }
+}
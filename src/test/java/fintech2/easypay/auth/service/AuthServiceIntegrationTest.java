@@ -37,6 +37,7 @@ class AuthServiceIntegrationTest {
     @Mock private LoginHistoryService loginHistoryService;
     @Mock private AuditLogService auditLogService;
     @Mock private AlarmService alarmService;
+    @Mock private PrincipalCache principalCache;
 
     private AuthService authService;
 
@@ -58,7 +59,8 @@ class AuthServiceIntegrationTest {
             tokenService,
             loginHistoryService,
             auditLogService,
-            alarmService
+            alarmService,
+            principalCache
         );
 
         // Given: 가상 사용자 데이터 생성
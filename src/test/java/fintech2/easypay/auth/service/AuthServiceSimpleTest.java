@@ -57,6 +57,9 @@ class AuthServiceSimpleTest {
     
     @Mock
     private AlarmService alarmService;
+    
+    @Mock
+    private PrincipalCache principalCache;
 
     private AuthService authService;
 
@@ -71,7 +74,8 @@ class AuthServiceSimpleTest {
             tokenService,
             loginHistoryService,
             auditLogService,
-            alarmService
+            alarmService,
+            principalCache
         );
     }
 
@@ -185,4 +189,34 @@ class AuthServiceSimpleTest {
         // 의존성 호출 검증
         then(jwtService).should().generateAccessToken(phoneNumber);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("잠금이 만료된 계정으로 로그인하면 캐시된 인증 주체 무효화")
+    void loginAfterLockExpiryEvictsPrincipal() {
+        // Given
+        User user = User.builder()
+            .id(1L)
+            .phoneNumber("01012345678")
+            .password("encoded")
+            .name("홍길동")
+            .loginFailCount(5)
+            .isLocked(true)
+            .lockExpiresAt(LocalDateTime.now().minusMinutes(1))
+            .build();
+        LoginRequest request = new LoginRequest();
+        request.setPhoneNumber("010-1234-5678");
+        request.setPassword("password");
+        given(userRepository.findByPhoneNumber("01012345678")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("password", "encoded")).willReturn(true);
+        given(tokenService.generateTokenPair(user))
+            .willReturn(TokenService.TokenPair.builder().accessToken("access").refreshToken("refresh").build());
+
+        // When
+        ResponseEntity<?> response = authService.login(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(user.isAccountLocked()).isFalse();
+        then(principalCache).should().evict("01012345678");
+    }
+}
@@ -50,6 +50,9 @@ class AuthServiceSpringTest {
     
     @Mock
     private AlarmService alarmService;
+    
+    @Mock
+    private PrincipalCache principalCache;
 
     private AuthService authService;
 
@@ -64,7 +67,8 @@ class AuthServiceSpringTest {
             tokenService,
             loginHistoryService,
             auditLogService,
-            alarmService
+            alarmService,
+            principalCache
         );
     }
 
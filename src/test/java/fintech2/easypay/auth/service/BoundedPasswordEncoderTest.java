@@ -0,0 +1,87 @@
+package fintech2.easypay.auth.service;
+
+import fintech2.easypay.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BCrypt 전용 스레드 풀 테스트")
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 해시 / 검증하고 cost 가 낮은 해시는 재해시 대상으로 판단")
+    void delegatesHashingAndDetectsUpgrade() {
+        // Given
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 2, 4, 5000, meterRegistry);
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+
+        // When
+        String encoded = encoder.encode("password123");
+
+        // Then
+        assertThat(encoder.matches("password123", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(encoder.upgradeEncoding(weakHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+        assertThat(meterRegistry.get("easypay.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("스레드와 큐가 모두 차면 대기 없이 429(TooManyRequestsException) 로 거절")
+    void rejectsWhenSaturated() throws Exception {
+        // Given: 스레드 1개, 큐 1개, 해시가 끝나지 않도록 막아 둠
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, 5000, meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitUntilQueued(1);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("c"))
+            .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("easypay.password.hash.rejected").tag("reason", "queue_full").counter().count())
+            .isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isNotBlank();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotBlank();
+        encoder.destroy();
+    }
+
+    private void waitUntilQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("easypay.password.hash.queue.size").gauge().value() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
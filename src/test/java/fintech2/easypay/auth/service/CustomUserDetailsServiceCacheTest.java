@@ -0,0 +1,79 @@
+package fintech2.easypay.auth.service;
+
+import fintech2.easypay.auth.dto.UserPrincipal;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("인증 주체 캐시 테스트")
+class CustomUserDetailsServiceCacheTest {
+
+    private static final String PHONE_NUMBER = "01012345678";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(meterRegistry, 100, 60_000);
+        userDetailsService = new CustomUserDetailsService(userRepository, principalCache);
+
+        User user = new User();
+        user.setId(1L);
+        user.setPhoneNumber(PHONE_NUMBER);
+        user.setPassword("encoded");
+        user.setAccountNumber("VA1234567890");
+        given(userRepository.findByPhoneNumber(PHONE_NUMBER)).willReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("반복 요청은 DB 조회 없이 캐시에서 반환하고 hit 지표가 증가")
+    void repeatedLookupsHitCache() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            userDetailsService.loadUserByUsername(PHONE_NUMBER);
+        }
+
+        // Then
+        verify(userRepository, times(1)).findByPhoneNumber(PHONE_NUMBER);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PrincipalCache.CACHE_NAME)
+            .tag("result", "hit").functionCounter().count()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("휴대폰 번호 / 사용자 ID 무효화 후에는 다시 DB에서 조회")
+    void evictionReloadsFromDatabase() {
+        // Given
+        UserDetails first = userDetailsService.loadUserByUsername(PHONE_NUMBER);
+
+        // When
+        principalCache.evict(PHONE_NUMBER);
+        userDetailsService.loadUserByUsername(PHONE_NUMBER);
+        principalCache.evictByUserId(((UserPrincipal) first).getId());
+        userDetailsService.loadUserByUsername(PHONE_NUMBER);
+
+        // Then
+        verify(userRepository, times(3)).findByPhoneNumber(PHONE_NUMBER);
+        assertThat(principalCache.size()).isEqualTo(1);
+    }
+}
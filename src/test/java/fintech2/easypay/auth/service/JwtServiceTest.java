@@ -1,5 +1,6 @@
 package fintech2.easypay.auth.service;
 
+import fintech2.easypay.auth.dto.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -332,4 +333,41 @@ class JwtServiceTest {
         String extractedPhoneNumber = jwtService.extractPhoneNumber(token);
         assertThat(extractedPhoneNumber).isEqualTo(phoneNumber);
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("verify: 한 번 검증한 토큰은 캐시된 결과를 반환")
+    void verifyReturnsCachedResult() {
+        // Given
+        String token = jwtService.generateAccessToken("010-1234-5678");
+
+        // When
+        VerifiedToken first = jwtService.verify(token);
+        VerifiedToken second = jwtService.verify(token);
+
+        // Then
+        assertThat(first.subject()).isEqualTo("010-1234-5678");
+        assertThat(first.isExpired()).isFalse();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("verify: 만료 토큰은 예외 대신 만료 상태로 반환, 변조 토큰은 예외")
+    void verifyExpiredAndTamperedTokens() {
+        // Given
+        String expiredToken = jwtService.generateToken(new HashMap<>(), "010-1234-5678", -1000L);
+        String token = jwtService.generateAccessToken("010-1234-5678");
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char replaced = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        String tamperedToken = token.substring(0, signatureStart) + replaced + token.substring(signatureStart + 1);
+
+        // When
+        VerifiedToken expired = jwtService.verify(expiredToken);
+
+        // Then
+        assertThat(expired.subject()).isEqualTo("010-1234-5678");
+        assertThat(expired.isExpired()).isTrue();
+        assertThat(jwtService.isTokenExpired(expiredToken)).isTrue();
+        assertThatThrownBy(() -> jwtService.verify(tamperedToken))
+                .isInstanceOf(io.jsonwebtoken.JwtException.class);
+    }
+}
@@ -0,0 +1,175 @@
+package fintech2.easypay.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.exception.IdempotencyConflictException;
+import fintech2.easypay.common.scheduling.JobLeaseService;
+import fintech2.easypay.transfer.dto.SecureTransferRequest;
+import fintech2.easypay.transfer.dto.TransferRequest;
+import fintech2.easypay.transfer.dto.TransferResponse;
+import fintech2.easypay.transfer.entity.TransferStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Idempotency-Key 처리 테스트")
+class IdempotencyServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ObjectMapper objectMapper;
+    private IdempotencyService idempotencyService;
+    private TransferRequest request;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:idempotency-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V13__idempotency_keys.sql"))
+            .execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        idempotencyService = newService();
+
+        request = new TransferRequest("VA2222222222", new BigDecimal("10000"), "점심값", null);
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키의 재시도는 처리 없이 저장된 응답을 반환 (다른 노드 포함)")
+    void replaysStoredResponse() {
+        // When
+        TransferResponse first = execute(idempotencyService, "key-1", request, this::completedTransfer).join();
+        TransferResponse sameNode = execute(idempotencyService, "key-1", request, this::completedTransfer).join();
+        TransferResponse otherNode = execute(newService(), "key-1", request, this::completedTransfer).join();
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(sameNode.getTransactionId()).isEqualTo(first.getTransactionId());
+        assertThat(otherNode.getTransactionId()).isEqualTo(first.getTransactionId());
+        assertThat(otherNode.getCreatedAt()).isEqualTo(first.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("처리 중인 키의 동시 중복 요청은 같은 결과를 기다림")
+    void concurrentDuplicatesShareInFlightResult() {
+        // Given
+        CompletableFuture<TransferResponse> pending = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<TransferResponse> first = execute(idempotencyService, "key-2", request, () -> pending);
+        CompletableFuture<TransferResponse> duplicate = execute(idempotencyService, "key-2", request, () -> pending);
+        assertThat(duplicate).isNotDone();
+        pending.complete(TransferResponse.builder().transactionId("TXN_SHARED").build());
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(first.join().getTransactionId()).isEqualTo("TXN_SHARED");
+        assertThat(duplicate.join().getTransactionId()).isEqualTo("TXN_SHARED");
+    }
+
+    @Test
+    @DisplayName("PIN 세션 토큰만 다른 보안 송금 재시도는 같은 요청으로 보고 저장된 응답 반환")
+    void ignoresPinSessionTokenOfSecureTransfer() {
+        // Given: 재시도 시 PIN 을 다시 인증하여 세션 토큰이 바뀜
+        SecureTransferRequest firstAttempt = new SecureTransferRequest("VA2222222222", null, new BigDecimal("10000"),
+            "점심값", "pin-session-1");
+        SecureTransferRequest retry = new SecureTransferRequest("VA2222222222", null, new BigDecimal("10000"),
+            "점심값", "pin-session-2");
+
+        // When
+        TransferResponse first = execute(idempotencyService, "key-secure", firstAttempt.toTransferRequest(),
+            this::completedTransfer).join();
+        TransferResponse replayed = execute(idempotencyService, "key-secure", retry.toTransferRequest(),
+            this::completedTransfer).join();
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(replayed.getTransactionId()).isEqualTo(first.getTransactionId());
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 처리 중인 키는 409")
+    void rejectsKeyInProgressOnOtherNode() {
+        // Given
+        execute(idempotencyService, "key-3", request, CompletableFuture::new);
+
+        // When / Then
+        assertThatThrownBy(() -> execute(newService(), "key-3", request, this::completedTransfer).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IdempotencyConflictException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 본문에 사용하면 409")
+    void rejectsKeyReusedForDifferentRequest() {
+        // Given
+        execute(idempotencyService, "key-4", request, this::completedTransfer).join();
+        TransferRequest other = new TransferRequest("VA2222222222", new BigDecimal("99000"), "점심값", null);
+
+        // When / Then
+        assertThatThrownBy(() -> execute(idempotencyService, "key-4", other, this::completedTransfer))
+            .isInstanceOf(IdempotencyConflictException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않고 같은 키로 재시도하면 다시 처리")
+    void failedRequestReleasesKey() {
+        // Given
+        CompletableFuture<TransferResponse> failed = execute(idempotencyService, "key-5", request, () ->
+            CompletableFuture.failedFuture(new BusinessException(ErrorCode.INSUFFICIENT_BALANCE)));
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(BusinessException.class);
+
+        // When
+        TransferResponse retried = execute(idempotencyService, "key-5", request, this::completedTransfer).join();
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(retried.getStatus()).isEqualTo(TransferStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT status FROM idempotency_keys WHERE idempotency_key = ?", String.class, "transfer:010-1111-1111:key-5"))
+            .isEqualTo("COMPLETED");
+    }
+
+    private CompletableFuture<TransferResponse> execute(IdempotencyService service, String key, TransferRequest body,
+                                                        Supplier<CompletableFuture<TransferResponse>> action) {
+        return service.execute("transfer", "010-1111-1111", key, body, TransferResponse.class, () -> {
+            executions.incrementAndGet();
+            return action.get();
+        });
+    }
+
+    private CompletableFuture<TransferResponse> completedTransfer() {
+        return CompletableFuture.completedFuture(TransferResponse.builder()
+            .transactionId("TXN" + UUID.randomUUID())
+            .amount(new BigDecimal("10000"))
+            .status(TransferStatus.COMPLETED)
+            .createdAt(LocalDateTime.of(2025, 7, 1, 12, 30))
+            .build());
+    }
+
+    private IdempotencyService newService() {
+        return new IdempotencyService(jdbcTemplate, objectMapper, mock(JobLeaseService.class),
+            new SimpleMeterRegistry(), 86_400_000L, 120_000L, 1000L);
+    }
+}
@@ -0,0 +1,118 @@
+package fintech2.easypay.common.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 JVM 안에서 같은 H2 DB 를 공유하는 두 애플리케이션 컨텍스트(노드)로 검증
+ */
+@DisplayName("다중 노드 스케줄 작업 조정 테스트")
+class ClusterSchedulingTest {
+
+    private GenericApplicationContext shared;
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:cluster-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V11__scheduler_cluster_tables.sql"))
+            .execute(dataSource);
+
+        shared = new GenericApplicationContext();
+        shared.registerBean(DataSource.class, () -> dataSource);
+        shared.registerBean(JdbcTemplate.class, () -> new JdbcTemplate(dataSource));
+        shared.registerBean(PlatformTransactionManager.class, () -> new DataSourceTransactionManager(dataSource));
+        shared.refresh();
+
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+        shared.close();
+    }
+
+    @Test
+    @DisplayName("살아있는 두 노드가 id 를 겹치지 않게 나눠 맡음")
+    void shardsPartitionIdsAcrossLiveNodes() {
+        // When
+        ClusterMembership.Shard shardA = nodeA.getBean(ClusterMembership.class).currentShard();
+        ClusterMembership.Shard shardB = nodeB.getBean(ClusterMembership.class).currentShard();
+
+        // Then
+        assertThat(shardA.count()).isEqualTo(2);
+        assertThat(shardB.count()).isEqualTo(2);
+        assertThat(shardA.index()).isNotEqualTo(shardB.index());
+        assertThat(LongStream.rangeClosed(1, 100))
+            .allMatch(id -> shardA.owns(id) ^ shardB.owns(id));
+    }
+
+    @Test
+    @DisplayName("임대 중인 작업은 다른 노드에서 실행되지 않고, 최소 유지 시간이 지나야 넘어감")
+    void onlyOneNodeRunsLeasedJob() {
+        JobLeaseService leaseA = nodeA.getBean(JobLeaseService.class);
+        JobLeaseService leaseB = nodeB.getBean(JobLeaseService.class);
+        AtomicBoolean ranOnB = new AtomicBoolean(true);
+
+        // When: A 가 실행하는 동안 B 가 같은 작업 시도
+        boolean ranOnA = leaseA.runExclusively("cleanup", Duration.ofMinutes(1), Duration.ZERO, () ->
+            ranOnB.set(leaseB.runExclusively("cleanup", Duration.ofMinutes(1), Duration.ZERO, () -> { })));
+
+        // Then
+        assertThat(ranOnA).isTrue();
+        assertThat(ranOnB).isFalse();
+        // 최소 유지 시간이 없으면 해제 직후 다른 노드가 실행
+        assertThat(leaseB.runExclusively("cleanup", Duration.ofMinutes(1), Duration.ZERO, () -> { })).isTrue();
+        // 최소 유지 시간 동안은 작업이 끝났어도 다른 노드가 실행하지 않음
+        assertThat(leaseB.runExclusively("report", Duration.ofMinutes(1), Duration.ofMinutes(1), () -> { })).isTrue();
+        assertThat(leaseA.runExclusively("report", Duration.ofMinutes(1), Duration.ofMinutes(1), () -> { })).isFalse();
+    }
+
+    @Test
+    @DisplayName("노드가 종료되면 남은 노드가 전체 샤드를 넘겨받음")
+    void survivingNodeTakesOverWhenNodeStops() {
+        // When
+        nodeA.close();
+
+        // Then
+        ClusterMembership.Shard shardB = nodeB.getBean(ClusterMembership.class).currentShard();
+        assertThat(shardB).isEqualTo(new ClusterMembership.Shard(0, 1));
+    }
+
+    private AnnotationConfigApplicationContext startNode(String nodeName) {
+        AnnotationConfigApplicationContext node = new AnnotationConfigApplicationContext();
+        node.setParent(shared);
+        node.getEnvironment().getPropertySources()
+            .addFirst(new MapPropertySource("node", Map.of("easypay.cluster.node-name", nodeName)));
+        node.registerBean(SimpleMeterRegistry.class);
+        node.register(ClusterMembership.class, JobLeaseService.class);
+        node.refresh();
+        return node;
+    }
+}
@@ -0,0 +1,98 @@
+package fintech2.easypay.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ID 생성기 테스트")
+class IdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 50_000;
+
+    @Test
+    @DisplayName("멀티 스레드 동시 발급 시 거래 ID 중복 없음 + 스레드별 단조 증가")
+    void concurrentTransactionIdsAreUnique() throws Exception {
+        // Given
+        IdGenerator idGenerator = new IdGenerator(7);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                String previous = null;
+                boolean monotonic = true;
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    String id = idGenerator.nextTransactionId();
+                    ids.add(id);
+                    // 고정 폭 36진수이므로 문자열 비교 순서 = 발급 순서
+                    if (previous != null && id.compareTo(previous) <= 0) {
+                        monotonic = false;
+                    }
+                    previous = id;
+                }
+                return monotonic;
+            }));
+        }
+        start.countDown();
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+        assertThat(ids).hasSize(THREADS * IDS_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("기존 접두어 형식 유지: TXN/PAY + 12자리, EP + 16자리 숫자")
+    void keepsPrefixedFormats() {
+        IdGenerator idGenerator = new IdGenerator(1023);
+
+        assertThat(idGenerator.nextTransactionId()).matches("TXN[0-9A-Z]{12}");
+        assertThat(idGenerator.nextPaymentId()).matches("PAY[0-9A-Z]{12}");
+        assertThat(idGenerator.nextAccountNumber()).matches("EP\\d{16}");
+    }
+
+    @Test
+    @DisplayName("초당 4096개를 넘는 계좌번호 발급도 다음 tick 을 당겨 써서 중복 없음")
+    void accountNumbersBorrowNextTickWhenSequenceExhausted() {
+        IdGenerator idGenerator = new IdGenerator(3);
+        Set<String> accountNumbers = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 10_000; i++) {
+            accountNumbers.add(idGenerator.nextAccountNumber());
+        }
+
+        assertThat(accountNumbers).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("노드 번호가 다르면 같은 시점에도 다른 ID")
+    void differentNodesNeverCollide() {
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, 1);
+        SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, 1);
+
+        long id1 = node1.nextId();
+        long id2 = node2.nextId();
+
+        assertThat(id1).isNotEqualTo(id2);
+        assertThat((id1 >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(1);
+        assertThat((id2 >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(2);
+    }
+}
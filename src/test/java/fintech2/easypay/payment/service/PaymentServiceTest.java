@@ -0,0 +1,91 @@
+package fintech2.easypay.payment.service;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.BusinessException;
+import fintech2.easypay.common.ErrorCode;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.util.IdGenerator;
+import fintech2.easypay.payment.dto.PaymentRequest;
+import fintech2.easypay.payment.entity.Payment;
+import fintech2.easypay.payment.entity.PaymentMethod;
+import fintech2.easypay.payment.entity.PaymentStatus;
+import fintech2.easypay.payment.external.PaymentGatewayService;
+import fintech2.easypay.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("결제 서비스 테스트")
+class PaymentServiceTest {
+
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private BalanceService balanceService;
+    @Mock private AuditLogService auditLogService;
+    @Mock private NotificationService notificationService;
+    @Mock private PaymentGatewayService paymentGatewayService;
+    @Mock private IdGenerator idGenerator;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private Executor taskExecutor;
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @Test
+    @DisplayName("잔액 결제가 일일 한도를 넘으면 한도 초과 오류 코드를 그대로 전달")
+    void balancePaymentKeepsLimitErrorCode() {
+        // Given
+        User user = User.builder().id(1L).phoneNumber("010-1111-1111").name("고객").build();
+        Account account = Account.builder().accountNumber("VA1111111111").userId(1L)
+                .balance(new BigDecimal("1000000")).build();
+        when(userRepository.findByPhoneNumber("010-1111-1111")).thenReturn(Optional.of(user));
+        when(accountRepository.findByUserId(1L)).thenReturn(Optional.of(account));
+        when(balanceService.hasSufficientBalance("VA1111111111", new BigDecimal("50000"))).thenReturn(true);
+        when(idGenerator.nextPaymentId()).thenReturn("PAY-1");
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new BusinessException(ErrorCode.DAILY_LIMIT_EXCEEDED)).when(balanceService).decrease(
+                eq("VA1111111111"), eq(new BigDecimal("50000")), eq(TransactionType.PAYMENT), anyString(),
+                eq("PAY-1"), eq("1"));
+
+        PaymentRequest request = new PaymentRequest();
+        request.setMerchantId("M001");
+        request.setMerchantName("카페");
+        request.setAmount(new BigDecimal("50000"));
+        request.setPaymentMethod(PaymentMethod.BALANCE);
+
+        // When & Then
+        assertThatThrownBy(() -> paymentService.processPayment("010-1111-1111", request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DAILY_LIMIT_EXCEEDED);
+        ArgumentCaptor<Payment> saved = ArgumentCaptor.forClass(Payment.class);
+        verify(paymentRepository, atLeastOnce()).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(PaymentStatus.FAILED);
+    }
+}
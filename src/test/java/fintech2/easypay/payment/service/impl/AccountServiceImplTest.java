@@ -0,0 +1,54 @@
+package fintech2.easypay.payment.service.impl;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.common.enums.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("결제용 계좌 서비스 테스트")
+class AccountServiceImplTest {
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private BalanceService balanceService;
+
+    @InjectMocks
+    private AccountServiceImpl accountService;
+
+    @Test
+    @DisplayName("결제 출금 / 환불은 BalanceService 를 거치고 Account 잔액을 직접 바꾸지 않음")
+    void routesBalanceChangesThroughBalanceService() {
+        // Given
+        Account account = Account.builder()
+            .accountNumber("VA1111111111")
+            .userId(1L)
+            .balance(new BigDecimal("100000"))
+            .build();
+
+        // When
+        accountService.withdraw(account, new BigDecimal("30000"));
+        accountService.deposit(account, new BigDecimal("10000"));
+
+        // Then
+        verify(balanceService).decrease(eq("VA1111111111"), eq(new BigDecimal("30000")), eq(TransactionType.PAYMENT),
+            any(), isNull(), eq("1"));
+        verify(balanceService).refund(eq("VA1111111111"), eq(new BigDecimal("10000")), any(), isNull(), eq("1"));
+        verify(accountRepository, never()).save(any());
+        assertThat(account.getBalance()).isEqualByComparingTo("100000");
+    }
+}
@@ -0,0 +1,187 @@
+package fintech2.easypay.transfer.service;
+
+import fintech2.easypay.account.entity.Account;
+import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.AccountLockManager;
+import fintech2.easypay.account.service.BalanceBatchService;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.enums.AccountStatus;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.exception.InsufficientBalanceException;
+import fintech2.easypay.common.util.IdGenerator;
+import fintech2.easypay.transfer.entity.TransferBatch;
+import fintech2.easypay.transfer.entity.TransferBatchStatus;
+import fintech2.easypay.transfer.repository.TransferBatchItemRepository;
+import fintech2.easypay.transfer.repository.TransferBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+@DisplayName("대량 송금 서비스 테스트")
+class BatchTransferServiceTest {
+
+    @Mock private TransferBatchRepository transferBatchRepository;
+    @Mock private TransferBatchItemRepository transferBatchItemRepository;
+    @Mock private TransferBatchWriter transferBatchWriter;
+    @Mock private TransferService transferService;
+    @Mock private RecentCounterpartyService recentCounterpartyService;
+    @Mock private UserRepository userRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private BalanceService balanceService;
+    @Mock private BalanceBatchService balanceBatchService;
+    @Mock private AuditLogService auditLogService;
+    @Mock private NotificationService notificationService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private BatchTransferService batchTransferService;
+    private User alice;
+    private TransferBatch batch;
+    private BatchTransferService.BatchContext context;
+
+    @BeforeEach
+    void setUp() {
+        batchTransferService = new BatchTransferService(
+            transferBatchRepository,
+            transferBatchItemRepository,
+            transferBatchWriter,
+            transferService,
+            recentCounterpartyService,
+            userRepository,
+            accountRepository,
+            balanceService,
+            balanceBatchService,
+            new AccountLockManager(new SimpleMeterRegistry(), 16, 1000),
+            new TransactionTemplate(transactionManager),
+            auditLogService,
+            notificationService,
+            new IdGenerator(1),
+            Runnable::run
+        );
+        ReflectionTestUtils.setField(batchTransferService, "maxItems", 100);
+        ReflectionTestUtils.setField(batchTransferService, "creditChunkSize", 2);
+        ReflectionTestUtils.setField(batchTransferService, "jdbcBatchSize", 500);
+
+        alice = User.builder().id(1L).phoneNumber("010-1111-1111").name("앨리스").build();
+        batch = TransferBatch.builder()
+            .id(100L)
+            .batchId("BAT000000000001")
+            .sender(alice)
+            .senderAccountNumber("VA1111111111")
+            .totalCount(4)
+            .totalAmount(new BigDecimal("40000"))
+            .build();
+        context = new BatchTransferService.BatchContext(100L, batch.getBatchId(), alice, "VA1111111111");
+
+        when(transferBatchRepository.findById(100L)).thenReturn(Optional.of(batch));
+        when(transferBatchWriter.findPendingItems(100L)).thenReturn(List.of(
+            new TransferBatchWriter.PendingItem(1L, 0, "VA3333333333", new BigDecimal("10000"), "급여"),
+            new TransferBatchWriter.PendingItem(2L, 1, "VA9999999999", new BigDecimal("10000"), "급여"),
+            new TransferBatchWriter.PendingItem(3L, 2, "VA2222222222", new BigDecimal("10000"), "급여"),
+            new TransferBatchWriter.PendingItem(4L, 3, "VA1111111112", new BigDecimal("10000"), "급여")));
+        when(accountRepository.findAllByAccountNumberIn(anyList())).thenReturn(List.of(
+            account(30L, "VA3333333333", 3L),
+            account(20L, "VA2222222222", 2L),
+            account(11L, "VA1111111112", 1L)));
+    }
+
+    @Test
+    @DisplayName("수신 계좌를 일괄 검증하고 유효 항목 총액을 한 번만 출금한 뒤 계좌 ID 순으로 입금")
+    @SuppressWarnings("unchecked")
+    void debitsOnceAndCreditsInAccountIdOrder() {
+        // When
+        batchTransferService.process(context);
+
+        // Then - 없는 계좌(VA9999...)와 본인 계좌(VA1111...2)는 항목 실패
+        ArgumentCaptor<List<TransferBatchWriter.FailedItem>> failed = ArgumentCaptor.forClass(List.class);
+        verify(transferBatchWriter).markFailed(failed.capture(), anyInt());
+        assertThat(failed.getValue()).extracting(TransferBatchWriter.FailedItem::itemId).containsExactly(2L, 4L);
+
+        verify(accountRepository, times(1)).findAllByAccountNumberIn(anyList());
+        verify(balanceService, times(1)).decrease(eq("VA1111111111"), eq(new BigDecimal("20000")),
+            eq(TransactionType.TRANSFER_OUT), any(), eq(batch.getBatchId()), eq("1"));
+
+        ArgumentCaptor<List<BalanceBatchService.Credit>> credits = ArgumentCaptor.forClass(List.class);
+        verify(balanceBatchService).creditAll(credits.capture(), eq(TransactionType.TRANSFER_IN));
+        assertThat(credits.getValue()).extracting(BalanceBatchService.Credit::accountNumber)
+            .containsExactly("VA2222222222", "VA3333333333");
+        verify(transferBatchWriter).insertCompleted(anyList(), anyInt());
+        verify(recentCounterpartyService).recordAll(anyList());
+
+        assertThat(batch.getStatus()).isEqualTo(TransferBatchStatus.PARTIALLY_COMPLETED);
+        assertThat(batch.getSuccessCount()).isEqualTo(2);
+        assertThat(batch.getFailedCount()).isEqualTo(2);
+        assertThat(batch.getSuccessAmount()).isEqualByComparingTo("20000");
+    }
+
+    @Test
+    @DisplayName("총액 출금이 실패하면 입금 없이 배치 전체 실패")
+    void failsWholeBatchWhenDebitFails() {
+        // Given
+        when(balanceService.decrease(any(), any(), any(), any(), any(), any()))
+            .thenThrow(new InsufficientBalanceException("잔액이 부족합니다."));
+
+        // When
+        batchTransferService.process(context);
+
+        // Then
+        verify(balanceBatchService, never()).creditAll(anyList(), any());
+        verify(transferBatchWriter, never()).insertCompleted(anyList(), anyInt());
+        verify(transferBatchWriter, times(2)).markFailed(anyList(), anyInt());
+        assertThat(batch.getStatus()).isEqualTo(TransferBatchStatus.FAILED);
+        assertThat(batch.getFailedReason()).contains("잔액이 부족합니다.");
+    }
+
+    @Test
+    @DisplayName("입금 묶음 처리가 실패하면 해당 묶음 금액을 송금자에게 환원")
+    void refundsChunkWhenCreditFails() {
+        // Given
+        when(balanceBatchService.creditAll(anyList(), any())).thenThrow(new IllegalStateException("DB 오류"));
+
+        // When
+        batchTransferService.process(context);
+
+        // Then
+        verify(balanceService).refund(eq("VA1111111111"), eq(new BigDecimal("20000")),
+            any(), eq(batch.getBatchId()), eq("1"));
+        assertThat(batch.getStatus()).isEqualTo(TransferBatchStatus.FAILED);
+        assertThat(batch.getFailedCount()).isEqualTo(4);
+    }
+
+    private static Account account(long id, String accountNumber, long userId) {
+        return Account.builder()
+            .id(id)
+            .accountNumber(accountNumber)
+            .userId(userId)
+            .status(AccountStatus.ACTIVE)
+            .build();
+    }
+}
@@ -0,0 +1,120 @@
+package fintech2.easypay.transfer.service;
+
+import fintech2.easypay.transfer.repository.RecentCounterpartyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("최근 송금 대상 갱신 테스트")
+class RecentCounterpartyServiceTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private RecentCounterpartyService recentCounterpartyService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:recent-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V15__recent_counterparty.sql"))
+            .execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE transfers (id BIGINT PRIMARY KEY, transaction_id VARCHAR(255))");
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO transfers (id, transaction_id) VALUES (?, ?)", id, "TXN" + id);
+        }
+        recentCounterpartyService = new RecentCounterpartyService(mock(RecentCounterpartyRepository.class),
+            jdbcTemplate, new DataSourceTransactionManager(dataSource), 100, 1000, 600_000);
+    }
+
+    @Test
+    @DisplayName("처음 송금한 쌍은 추가, 이후 송금은 마지막 송금으로 갱신하고 건수 누적")
+    void upsertsPerPair() {
+        // When
+        recentCounterpartyService.recordAll(List.of(completion(2L, "TXN1", "10000")));
+        recentCounterpartyService.recordAll(List.of(completion(2L, "TXN2", "20000"), completion(3L, "TXN3", "5000")));
+
+        // Then
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT last_transfer_id, last_amount, transfer_count FROM recent_counterparty WHERE sender_id = 1 AND receiver_id = 2");
+        assertThat(row.get("LAST_TRANSFER_ID")).isEqualTo(2L);
+        assertThat((BigDecimal) row.get("LAST_AMOUNT")).isEqualByComparingTo("20000");
+        assertThat(row.get("TRANSFER_COUNT")).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM recent_counterparty", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 배치의 같은 쌍은 한 행으로 합산")
+    void mergesPairsWithinBatch() {
+        // When
+        recentCounterpartyService.recordAll(List.of(completion(2L, "TXN1", "10000"), completion(2L, "TXN2", "20000")));
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT transfer_count FROM recent_counterparty WHERE sender_id = 1 AND receiver_id = 2", Integer.class))
+            .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT last_transfer_id FROM recent_counterparty WHERE sender_id = 1 AND receiver_id = 2", Long.class))
+            .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("먼저 생성된 송금이 늦게 커밋되면 건수만 누적하고 마지막 송금 정보는 유지")
+    void keepsLatestTransferWhenOlderCommitsLater() {
+        // When: TXN2 반영 후 더 먼저 생성된 TXN1 반영
+        recentCounterpartyService.recordAll(List.of(completion(2L, "TXN2", "20000")));
+        recentCounterpartyService.recordAll(List.of(completion(2L, "TXN1", "10000")));
+
+        // Then
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT last_transfer_id, last_amount, last_transfer_at, " +
+            "transfer_count FROM recent_counterparty WHERE sender_id = 1 AND receiver_id = 2");
+        assertThat(row.get("LAST_TRANSFER_ID")).isEqualTo(2L);
+        assertThat((BigDecimal) row.get("LAST_AMOUNT")).isEqualByComparingTo("20000");
+        assertThat(((Timestamp) row.get("LAST_TRANSFER_AT")).toLocalDateTime()).isEqualTo(BASE_TIME.plusMinutes(2));
+        assertThat(row.get("TRANSFER_COUNT")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("송금 트랜잭션 안에서는 커밋 후에만 반영")
+    void appliesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            recentCounterpartyService.recordAll(List.of(completion(2L, "TXN1", "10000")));
+
+            // Then: 커밋 전
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM recent_counterparty", Integer.class)).isZero();
+
+            // 커밋
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM recent_counterparty", Integer.class)).isEqualTo(1);
+    }
+
+    private static RecentCounterpartyService.Completion completion(Long receiverId, String transactionId, String amount) {
+        // 송금 ID 순서대로 생성된 송금 (TXN1 < TXN2 < TXN3)
+        LocalDateTime transferAt = BASE_TIME.plusMinutes(Long.parseLong(transactionId.substring(3)));
+        return new RecentCounterpartyService.Completion(1L, receiverId, transactionId, "VA" + receiverId,
+            new BigDecimal(amount), "메모", transferAt, 1);
+    }
+}
@@ -0,0 +1,107 @@
+package fintech2.easypay.transfer.service;
+
+import fintech2.easypay.common.scheduling.JobLeaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("송금 조회용 테이블 이관 테스트")
+class TransferReadModelBackfillTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransferReadModelBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:backfill-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(
+            new ClassPathResource("db/migration/V14__user_activity.sql"),
+            new ClassPathResource("db/migration/V15__recent_counterparty.sql"),
+            new ClassPathResource("db/migration/V18__user_activity_unique_transfer_direction.sql"))
+            .execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE transfers (id BIGINT PRIMARY KEY, sender_user_id BIGINT, " +
+            "receiver_user_id BIGINT, receiver_account_number VARCHAR(255), amount DECIMAL(19,2), memo VARCHAR(255), " +
+            "status VARCHAR(20), created_at TIMESTAMP)");
+        backfill = new TransferReadModelBackfill(jdbcTemplate, mock(JobLeaseService.class),
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        ReflectionTestUtils.setField(backfill, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("범위별로 이관하고 이미 기록된 송금은 건너뜀")
+    void backfillsInRangesWithoutDuplicates() {
+        // Given: 5건 중 3번은 실시간 기록이 이미 있음
+        for (long id = 1; id <= 5; id++) {
+            insertTransfer(id, 2L, "COMPLETED");
+        }
+        jdbcTemplate.update("INSERT INTO user_activity (user_id, transfer_id, direction, created_at) VALUES (1, 3, 'SENT', ?)",
+            Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update("INSERT INTO user_activity (user_id, transfer_id, direction, created_at) VALUES (2, 3, 'RECEIVED', ?)",
+            Timestamp.valueOf(LocalDateTime.now()));
+
+        // When: 재실행해도 결과가 같음
+        backfill.backfillFrom(0L);
+        backfill.backfillFrom(0L);
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_activity", Integer.class)).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM (SELECT transfer_id, direction FROM user_activity GROUP BY transfer_id, direction HAVING COUNT(*) > 1)",
+            Integer.class)).isZero();
+        Map<String, Object> pair = jdbcTemplate.queryForMap(
+            "SELECT last_transfer_id, transfer_count FROM recent_counterparty WHERE sender_id = 1 AND receiver_id = 2");
+        assertThat(pair.get("LAST_TRANSFER_ID")).isEqualTo(5L);
+        assertThat(pair.get("TRANSFER_COUNT")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("이후 추가된 송금만 다시 확인하고 더 최근 송금이 반영된 쌍은 갱신하지 않음")
+    void catchesUpNewTransfers() {
+        // Given
+        insertTransfer(1L, 2L, "COMPLETED");
+        insertTransfer(2L, 3L, "FAILED");
+        backfill.backfillFrom(0L);
+
+        // When: 이전 버전 인스턴스가 기록한 송금(3) 과 실시간 기록된 송금(4)
+        insertTransfer(3L, 2L, "COMPLETED");
+        insertTransfer(4L, 3L, "COMPLETED");
+        jdbcTemplate.update("INSERT INTO recent_counterparty (sender_id, receiver_id, receiver_account_number, " +
+            "last_transfer_id, last_amount, last_transfer_at, transfer_count) VALUES (1, 3, 'VA3', 4, 1000, ?, 1)",
+            Timestamp.valueOf(LocalDateTime.now()));
+        backfill.backfillFrom(2L);
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT transfer_count FROM recent_counterparty WHERE sender_id = 1 AND receiver_id = 2", Integer.class))
+            .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT transfer_count FROM recent_counterparty WHERE sender_id = 1 AND receiver_id = 3", Integer.class))
+            .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_activity", Integer.class)).isEqualTo(8);
+    }
+
+    private void insertTransfer(long id, long receiverId, String status) {
+        jdbcTemplate.update("INSERT INTO transfers (id, sender_user_id, receiver_user_id, receiver_account_number, " +
+                "amount, memo, status, created_at) VALUES (?, 1, ?, ?, ?, NULL, ?, ?)",
+            id, receiverId, "VA" + receiverId, new BigDecimal("1000"), status,
+            Timestamp.valueOf(LocalDateTime.now().plusSeconds(id)));
+    }
+}
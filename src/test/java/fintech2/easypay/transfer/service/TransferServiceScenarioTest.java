@@ -2,21 +2,32 @@ package fintech2.easypay.transfer.service;
 
 import fintech2.easypay.account.entity.Account;
 import fintech2.easypay.account.repository.AccountRepository;
+import fintech2.easypay.account.service.AccountLockManager;
 import fintech2.easypay.account.service.BalanceService;
 import fintech2.easypay.audit.service.AuditLogService;
 import fintech2.easypay.audit.service.NotificationService;
 import fintech2.easypay.auth.entity.User;
 import fintech2.easypay.auth.repository.UserRepository;
+import fintech2.easypay.common.BusinessException;
 import fintech2.easypay.common.enums.AccountStatus;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.util.IdGenerator;
+import fintech2.easypay.transfer.dto.TransferHistoryResponse;
 import fintech2.easypay.transfer.dto.TransferRequest;
 import fintech2.easypay.transfer.dto.TransferResponse;
 import fintech2.easypay.transfer.entity.Transfer;
 import fintech2.easypay.transfer.entity.TransferStatus;
+import fintech2.easypay.transfer.entity.UserActivity;
+import fintech2.easypay.transfer.entity.UserActivityDirection;
 import fintech2.easypay.transfer.external.BankingApiResponse;
 import fintech2.easypay.transfer.external.BankingApiService;
 import fintech2.easypay.transfer.external.BankingApiStatus;
 import fintech2.easypay.transfer.repository.TransferRepository;
+import fintech2.easypay.transfer.repository.UserActivityRepository;
 import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,15 +35,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
@@ -40,6 +57,8 @@ import static org.mockito.Mockito.verify;
 class TransferServiceScenarioTest {
 
     @Mock private TransferRepository transferRepository;
+    @Mock private UserActivityRepository userActivityRepository;
+    @Mock private RecentCounterpartyService recentCounterpartyService;
     @Mock private AccountRepository accountRepository;
     @Mock private UserRepository userRepository;
     @Mock private AuditLogService auditLogService;
@@ -48,8 +67,10 @@ class TransferServiceScenarioTest {
     @Mock private BalanceService balanceService;
     @Mock private ApplicationContext applicationContext;
     @Mock private fintech2.easypay.account.service.UserAccountService userAccountService;
+    @Mock private PlatformTransactionManager transactionManager;
 
     private TransferService transferService;
+    private SimpleMeterRegistry meterRegistry;
 
     // 가상 사용자들
     private User alice;    // 일반 사용자 - 앨리스
@@ -69,17 +90,26 @@ class TransferServiceScenarioTest {
         when(applicationContext.getBean(fintech2.easypay.account.service.UserAccountService.class))
             .thenReturn(userAccountService);
             
-        // Given: TransferService 생성자 주입으로 초기화
+        // Given: TransferService 생성자 주입으로 초기화 (당행 경로는 기본 비활성 - 외부 API 경로 시나리오)
+        meterRegistry = new SimpleMeterRegistry();
         transferService = new TransferService(
             transferRepository,
+            userActivityRepository,
+            recentCounterpartyService,
             accountRepository,
             userRepository,
             balanceService,
             auditLogService,
             notificationService,
             bankingApiService,
-            applicationContext
+            applicationContext,
+            new TransactionTemplate(transactionManager),
+            new AccountLockManager(new SimpleMeterRegistry(), 16, 1000),
+            new IdGenerator(0),
+            Runnable::run,
+            meterRegistry
         );
+        ReflectionTestUtils.setField(transferService, "onUsAccountPrefix", "VA");
 
         // Given: 가상 사용자 데이터 생성
         alice = User.builder()
@@ -498,4 +528,304 @@ class TransferServiceScenarioTest {
         assertThat(trackingTransfer.isFailed()).isFalse();
         assertThat(trackingTransfer.isCancelled()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("시나리오 8: 외부 은행 거절 시 보류된 앨리스 잔액 환원")
+    void aliceTransferRejectedByBankReleasesHold() {
+        // Given: 외부 은행이 계좌 오류로 거절하는 시나리오
+        TransferRequest request = new TransferRequest();
+        request.setReceiverAccountNumber("VA2222222222");
+        request.setAmount(new BigDecimal("70000"));
+        request.setMemo("거절될 송금");
+
+        Transfer expectedTransfer = Transfer.builder()
+            .id(6L)
+            .transactionId("TXN_REJECTED_01")
+            .sender(alice)
+            .senderAccountNumber("VA1111111111")
+            .receiver(bob)
+            .receiverAccountNumber("VA2222222222")
+            .amount(new BigDecimal("70000"))
+            .memo("거절될 송금")
+            .status(TransferStatus.REQUESTED)
+            .build();
+
+        BankingApiResponse rejectedResponse = BankingApiResponse.builder()
+            .status(BankingApiStatus.INVALID_ACCOUNT)
+            .errorMessage("수신 계좌 오류")
+            .build();
+
+        when(userRepository.findByPhoneNumber("010-1111-1111")).thenReturn(Optional.of(alice));
+        when(accountRepository.findByAccountNumber("VA2222222222")).thenReturn(Optional.of(bobAccount));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(bob));
+        fintech2.easypay.account.entity.UserAccount primaryUserAccount = fintech2.easypay.account.entity.UserAccount.builder()
+            .accountNumber("VA1111111111")
+            .isPrimary(true)
+            .build();
+        when(userAccountService.getPrimaryAccount(1L)).thenReturn(Optional.of(primaryUserAccount));
+        when(accountRepository.findByAccountNumber("VA1111111111")).thenReturn(Optional.of(aliceAccount));
+        when(accountRepository.findByIdWithLock(1L)).thenReturn(Optional.of(aliceAccount));
+        when(accountRepository.findByIdWithLock(2L)).thenReturn(Optional.of(bobAccount));
+        when(transferRepository.save(any(Transfer.class))).thenReturn(expectedTransfer);
+        when(bankingApiService.processTransfer(any())).thenReturn(rejectedResponse);
+        when(balanceService.hasSufficientBalance(eq("VA1111111111"), eq(new BigDecimal("70000")))).thenReturn(true);
+
+        // When & Then: 송금 실패 예외
+        assertThatThrownBy(() -> transferService.transfer("010-1111-1111", request))
+            .isInstanceOf(BusinessException.class);
+
+        // 보류(선차감)된 금액이 송금자에게 환원되고 수신자 입금은 발생하지 않음
+        verify(balanceService).decrease(eq("VA1111111111"), eq(new BigDecimal("70000")), eq(TransactionType.TRANSFER_OUT), any(), any(), any());
+        verify(balanceService).refund(eq("VA1111111111"), eq(new BigDecimal("70000")), any(), any(), any());
+        verify(balanceService, never()).increase(eq("VA2222222222"), any(), any(), any(), any(), any());
+        assertThat(expectedTransfer.getStatus()).isEqualTo(TransferStatus.FAILED);
+        assertThat(expectedTransfer.isFundsHeld()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시나리오 9: 비동기 송금 - 외부 API 호출 실패 시 보류된 앨리스 잔액 환원")
+    void aliceAsyncTransferApiFailureReleasesHold() {
+        // Given: 외부 은행 API 비동기 호출이 예외로 끝나는 시나리오
+        TransferRequest request = new TransferRequest();
+        request.setReceiverAccountNumber("VA2222222222");
+        request.setAmount(new BigDecimal("30000"));
+        request.setMemo("비동기 송금");
+
+        Transfer expectedTransfer = Transfer.builder()
+            .id(7L)
+            .transactionId("TXN_ASYNC_01")
+            .sender(alice)
+            .senderAccountNumber("VA1111111111")
+            .receiver(bob)
+            .receiverAccountNumber("VA2222222222")
+            .amount(new BigDecimal("30000"))
+            .memo("비동기 송금")
+            .status(TransferStatus.REQUESTED)
+            .build();
+
+        when(userRepository.findByPhoneNumber("010-1111-1111")).thenReturn(Optional.of(alice));
+        when(accountRepository.findByAccountNumber("VA2222222222")).thenReturn(Optional.of(bobAccount));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(bob));
+        fintech2.easypay.account.entity.UserAccount primaryUserAccount = fintech2.easypay.account.entity.UserAccount.builder()
+            .accountNumber("VA1111111111")
+            .isPrimary(true)
+            .build();
+        when(userAccountService.getPrimaryAccount(1L)).thenReturn(Optional.of(primaryUserAccount));
+        when(accountRepository.findByAccountNumber("VA1111111111")).thenReturn(Optional.of(aliceAccount));
+        when(accountRepository.findByIdWithLock(1L)).thenReturn(Optional.of(aliceAccount));
+        when(accountRepository.findByIdWithLock(2L)).thenReturn(Optional.of(bobAccount));
+        when(transferRepository.save(any(Transfer.class))).thenReturn(expectedTransfer);
+        when(bankingApiService.processTransferAsync(any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("연결 실패")));
+        when(balanceService.hasSufficientBalance(eq("VA1111111111"), eq(new BigDecimal("30000")))).thenReturn(true);
+
+        // When
+        CompletableFuture<TransferResponse> result = transferService.transferAsync("010-1111-1111", request);
+
+        // Then: 실패한 future 로 BusinessException 전달, 보류 금액 환원
+        assertThatThrownBy(result::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(BusinessException.class);
+        verify(balanceService).refund(eq("VA1111111111"), eq(new BigDecimal("30000")), any(), any(), any());
+        verify(balanceService, never()).increase(eq("VA2222222222"), any(), any(), any(), any(), any());
+        assertThat(expectedTransfer.getStatus()).isEqualTo(TransferStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("시나리오 10: 당행 송금 - 외부 API 없이 앨리스에서 밥으로 바로 입금 확정")
+    void aliceToBobOnUsTransferSkipsBankingApi() {
+        // Given: 당행 송금 경로 활성화
+        ReflectionTestUtils.setField(transferService, "onUsEnabled", true);
+        TransferRequest request = new TransferRequest();
+        request.setReceiverAccountNumber("VA2222222222");
+        request.setAmount(new BigDecimal("40000"));
+        request.setMemo("점심값");
+
+        Transfer expectedTransfer = Transfer.builder()
+            .id(8L)
+            .transactionId("TXN_ONUS_01")
+            .sender(alice)
+            .senderAccountNumber("VA1111111111")
+            .receiver(bob)
+            .receiverAccountNumber("VA2222222222")
+            .amount(new BigDecimal("40000"))
+            .memo("점심값")
+            .status(TransferStatus.REQUESTED)
+            .build();
+
+        when(userRepository.findByPhoneNumber("010-1111-1111")).thenReturn(Optional.of(alice));
+        when(accountRepository.findByAccountNumber("VA2222222222")).thenReturn(Optional.of(bobAccount));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(bob));
+        fintech2.easypay.account.entity.UserAccount primaryUserAccount = fintech2.easypay.account.entity.UserAccount.builder()
+            .accountNumber("VA1111111111")
+            .isPrimary(true)
+            .build();
+        when(userAccountService.getPrimaryAccount(1L)).thenReturn(Optional.of(primaryUserAccount));
+        when(accountRepository.findByAccountNumber("VA1111111111")).thenReturn(Optional.of(aliceAccount));
+        when(accountRepository.findByIdWithLock(1L)).thenReturn(Optional.of(aliceAccount));
+        when(accountRepository.findByIdWithLock(2L)).thenReturn(Optional.of(bobAccount));
+        when(transferRepository.save(any(Transfer.class))).thenReturn(expectedTransfer);
+        when(balanceService.hasSufficientBalance(eq("VA1111111111"), eq(new BigDecimal("40000")))).thenReturn(true);
+
+        // When
+        TransferResponse result = transferService.transferAsync("010-1111-1111", request).join();
+
+        // Then: 외부 API 호출 / 보류 / 상태 확인 예약 없이 완료
+        assertThat(result.getReceiverAccountNumber()).isEqualTo("VA2222222222");
+        assertThat(expectedTransfer.getStatus()).isEqualTo(TransferStatus.COMPLETED);
+        assertThat(expectedTransfer.isFundsHeld()).isFalse();
+        assertThat(expectedTransfer.getNextCheckAt()).isNull();
+        verify(bankingApiService, never()).processTransfer(any());
+        verify(bankingApiService, never()).processTransferAsync(any());
+        verify(balanceService).decrease(eq("VA1111111111"), eq(new BigDecimal("40000")), eq(TransactionType.TRANSFER_OUT), any(), any(), any());
+        verify(balanceService).increase(eq("VA2222222222"), eq(new BigDecimal("40000")), eq(TransactionType.TRANSFER_IN), any(), any(), any());
+        verify(recentCounterpartyService).recordCompleted(expectedTransfer);
+        assertThat(meterRegistry.get("easypay.transfer.duration")
+            .tag("route", "on_us").tag("result", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시나리오 11: 송금과 같은 트랜잭션에서 앨리스(SENT) / 밥(RECEIVED) 활동 피드 추가")
+    void transferAppendsActivityFeedForBothParticipants() {
+        // Given
+        ReflectionTestUtils.setField(transferService, "onUsEnabled", true);
+        TransferRequest request = new TransferRequest();
+        request.setReceiverAccountNumber("VA2222222222");
+        request.setAmount(new BigDecimal("10000"));
+        request.setMemo("커피");
+
+        Transfer expectedTransfer = Transfer.builder()
+            .id(9L)
+            .transactionId("TXN_FEED_01")
+            .sender(alice)
+            .senderAccountNumber("VA1111111111")
+            .receiver(bob)
+            .receiverAccountNumber("VA2222222222")
+            .amount(new BigDecimal("10000"))
+            .memo("커피")
+            .status(TransferStatus.REQUESTED)
+            .build();
+
+        when(userRepository.findByPhoneNumber("010-1111-1111")).thenReturn(Optional.of(alice));
+        when(accountRepository.findByAccountNumber("VA2222222222")).thenReturn(Optional.of(bobAccount));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(bob));
+        when(userAccountService.getPrimaryAccount(1L)).thenReturn(Optional.of(
+            fintech2.easypay.account.entity.UserAccount.builder().accountNumber("VA1111111111").isPrimary(true).build()));
+        when(accountRepository.findByAccountNumber("VA1111111111")).thenReturn(Optional.of(aliceAccount));
+        when(accountRepository.findByIdWithLock(1L)).thenReturn(Optional.of(aliceAccount));
+        when(accountRepository.findByIdWithLock(2L)).thenReturn(Optional.of(bobAccount));
+        when(transferRepository.save(any(Transfer.class))).thenReturn(expectedTransfer);
+        when(balanceService.hasSufficientBalance(eq("VA1111111111"), any())).thenReturn(true);
+
+        // When
+        transferService.transferAsync("010-1111-1111", request).join();
+
+        // Then: 이미 있는 활동은 건너뛰는 insertIfAbsent 로 추가
+        verify(userActivityRepository).insertIfAbsent(eq(1L), eq(9L), eq("SENT"), any());
+        verify(userActivityRepository).insertIfAbsent(eq(2L), eq(9L), eq("RECEIVED"), any());
+        verify(userActivityRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("시나리오 12: 송금 내역 커서 조회 - 피드 순서 유지, 한 건 더 조회해 다음 커서 생성")
+    void transferHistoryUsesActivityFeedCursor() {
+        // Given: 밥의 피드 3건 중 2건 요청
+        LocalDateTime at = LocalDateTime.of(2025, 7, 1, 12, 0);
+        when(userRepository.findByPhoneNumber("010-2222-2222")).thenReturn(Optional.of(bob));
+        when(userActivityRepository.findBefore(eq(2L), eq(at.plusMinutes(10)), eq(50L), any())).thenReturn(List.of(
+            activity(42L, 2L, 7L, at.plusMinutes(5)),
+            activity(41L, 2L, 6L, at.plusMinutes(5)),
+            activity(40L, 2L, 5L, at)));
+        when(transferRepository.findAllWithUsersByIdIn(List.of(7L, 6L))).thenReturn(List.of(
+            transfer(6L, "TXN_06"), transfer(7L, "TXN_07")));
+
+        // When
+        TransferHistoryResponse page = transferService.getTransferHistory("010-2222-2222",
+            at.plusMinutes(10) + ",50", 2);
+
+        // Then
+        assertThat(page.getContent()).extracting(TransferResponse::getTransactionId).containsExactly("TXN_07", "TXN_06");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("2025-07-01T12:05,41");
+        verify(transferRepository, never()).findByPhoneNumberOrderByCreatedAtDesc(any(), any());
+
+        // 잘못된 커서는 400
+        assertThatThrownBy(() -> transferService.getTransferHistory("010-2222-2222", "not-a-cursor", 2))
+            .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("시나리오 13: 당행 경로가 켜져 있어도 다른 기관 계좌번호로 등록된 수신 계좌는 외부 API 로 처리")
+    void transferToOtherInstitutionAccountUsesBankingApi() {
+        // Given: 밥의 수신 계좌가 다른 기관 계좌번호로 등록됨
+        ReflectionTestUtils.setField(transferService, "onUsEnabled", true);
+        Account externalAccount = Account.builder()
+            .id(5L)
+            .accountNumber("110-123-456789")
+            .userId(2L)
+            .balance(BigDecimal.ZERO)
+            .status(AccountStatus.ACTIVE)
+            .build();
+        TransferRequest request = new TransferRequest();
+        request.setReceiverAccountNumber("110-123-456789");
+        request.setAmount(new BigDecimal("20000"));
+        request.setMemo("타행 송금");
+
+        Transfer expectedTransfer = Transfer.builder()
+            .id(10L)
+            .transactionId("TXN_OFFUS_01")
+            .sender(alice)
+            .senderAccountNumber("VA1111111111")
+            .receiver(bob)
+            .receiverAccountNumber("110-123-456789")
+            .amount(new BigDecimal("20000"))
+            .memo("타행 송금")
+            .status(TransferStatus.REQUESTED)
+            .build();
+
+        when(userRepository.findByPhoneNumber("010-1111-1111")).thenReturn(Optional.of(alice));
+        when(accountRepository.findByAccountNumber("110-123-456789")).thenReturn(Optional.of(externalAccount));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(bob));
+        when(userAccountService.getPrimaryAccount(1L)).thenReturn(Optional.of(
+            fintech2.easypay.account.entity.UserAccount.builder().accountNumber("VA1111111111").isPrimary(true).build()));
+        when(accountRepository.findByAccountNumber("VA1111111111")).thenReturn(Optional.of(aliceAccount));
+        when(accountRepository.findByIdWithLock(1L)).thenReturn(Optional.of(aliceAccount));
+        when(accountRepository.findByIdWithLock(5L)).thenReturn(Optional.of(externalAccount));
+        when(transferRepository.save(any(Transfer.class))).thenReturn(expectedTransfer);
+        when(bankingApiService.processTransferAsync(any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("연결 실패")));
+        when(balanceService.hasSufficientBalance(eq("VA1111111111"), any())).thenReturn(true);
+
+        // When
+        CompletableFuture<TransferResponse> result = transferService.transferAsync("010-1111-1111", request);
+
+        // Then: 당행 경로 없이 외부 API 호출
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class);
+        verify(bankingApiService).processTransferAsync(any());
+        verify(balanceService, never()).increase(eq("110-123-456789"), any(), any(), any(), any(), any());
+        assertThat(meterRegistry.find("easypay.transfer.duration").tag("route", "on_us").timer()).isNull();
+    }
+
+    private static UserActivity activity(Long id, Long userId, Long transferId, LocalDateTime createdAt) {
+        return UserActivity.builder()
+            .id(id)
+            .userId(userId)
+            .transferId(transferId)
+            .direction(UserActivityDirection.RECEIVED)
+            .createdAt(createdAt)
+            .build();
+    }
+
+    private Transfer transfer(Long id, String transactionId) {
+        return Transfer.builder()
+            .id(id)
+            .transactionId(transactionId)
+            .sender(alice)
+            .senderAccountNumber("VA1111111111")
+            .receiver(bob)
+            .receiverAccountNumber("VA2222222222")
+            .amount(new BigDecimal("10000"))
+            .status(TransferStatus.COMPLETED)
+            .build();
+    }
+}
@@ -0,0 +1,242 @@
+package fintech2.easypay.transfer.service;
+
+import fintech2.easypay.account.service.AccountLockManager;
+import fintech2.easypay.account.service.BalanceService;
+import fintech2.easypay.audit.service.AuditLogService;
+import fintech2.easypay.audit.service.NotificationService;
+import fintech2.easypay.auth.entity.User;
+import fintech2.easypay.common.enums.TransactionType;
+import fintech2.easypay.common.scheduling.ClusterMembership;
+import fintech2.easypay.transfer.entity.Transfer;
+import fintech2.easypay.transfer.entity.TransferStatus;
+import fintech2.easypay.transfer.external.BankingApiResponse;
+import fintech2.easypay.transfer.external.BankingApiService;
+import fintech2.easypay.transfer.external.BankingApiStatus;
+import fintech2.easypay.transfer.external.MockBankingApiService;
+import fintech2.easypay.transfer.repository.TransferRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+@DisplayName("송금 상태 확인 스케줄러 테스트")
+class TransferStatusCheckServiceTest {
+
+    @Mock private TransferRepository transferRepository;
+    @Mock private BalanceService balanceService;
+    @Mock private BankingApiService bankingApiService;
+    @Mock private AuditLogService auditLogService;
+    @Mock private NotificationService notificationService;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ClusterMembership clusterMembership;
+    @Mock private RecentCounterpartyService recentCounterpartyService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransferStatusCheckService statusCheckService;
+    private Transfer timeoutTransfer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statusCheckService = newStatusCheckService(bankingApiService, Runnable::run);
+        timeoutTransfer = pendingTransfer(10L, "TXN_TIMEOUT_01");
+
+        when(clusterMembership.currentShard()).thenReturn(ClusterMembership.Shard.SINGLE);
+        when(transferRepository.findDueForStatusCheck(anyList(), any(), any(), eq(0L), eq(0), eq(1), anyInt()))
+            .thenReturn(List.of(timeoutTransfer));
+        when(transferRepository.findByIdWithLock(10L)).thenReturn(Optional.of(timeoutTransfer));
+    }
+
+    @Test
+    @DisplayName("재확인 간격은 시도마다 두 배로 늘고 최대값에서 멈춤")
+    void backoffDoublesUntilMax() {
+        assertThat(statusCheckService.backoff(0)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(statusCheckService.backoff(1)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(statusCheckService.backoff(3)).isEqualTo(Duration.ofMinutes(8));
+        assertThat(statusCheckService.backoff(10)).isEqualTo(Duration.ofMinutes(10));
+        assertThat(statusCheckService.backoff(100)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("은행 확인 결과 성공이면 보류 금액을 수신자에게 입금하고 확인 예약 해제")
+    void settlesClaimedTransferOnSuccess() {
+        // Given
+        when(bankingApiService.getTransferStatuses(List.of("TXN_TIMEOUT_01"))).thenReturn(Map.of(
+            "TXN_TIMEOUT_01", BankingApiResponse.builder()
+                .transactionId("TXN_TIMEOUT_01")
+                .bankTransactionId("BANK-1")
+                .status(BankingApiStatus.SUCCESS)
+                .build()));
+
+        // When
+        int checked = statusCheckService.checkDueTransfers();
+
+        // Then
+        assertThat(checked).isEqualTo(1);
+        assertThat(timeoutTransfer.getStatus()).isEqualTo(TransferStatus.COMPLETED);
+        assertThat(timeoutTransfer.getAttemptCount()).isEqualTo(1);
+        assertThat(timeoutTransfer.getNextCheckAt()).isNull();
+        assertThat(timeoutTransfer.isFundsHeld()).isFalse();
+        verify(balanceService).increase(eq("VA2222222222"), eq(new BigDecimal("50000")),
+            eq(TransactionType.TRANSFER_IN), any(), any(), any());
+        assertThat(meterRegistry.get("easypay.transfer.status_check.checks").tag("result", "completed").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("은행이 아직 처리 중이면 상태를 유지하고 백오프 이후로 재확인 예약")
+    void reschedulesWithBackoffWhenStillPending() {
+        // Given
+        when(bankingApiService.getTransferStatuses(List.of("TXN_TIMEOUT_01"))).thenReturn(Map.of(
+            "TXN_TIMEOUT_01", BankingApiResponse.builder()
+                .transactionId("TXN_TIMEOUT_01")
+                .status(BankingApiStatus.PENDING)
+                .build()));
+        when(transferRepository.countByStatusIn(anyList())).thenReturn(1L);
+        when(transferRepository.countDueForStatusCheck(anyList(), any())).thenReturn(0L);
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        statusCheckService.checkDueTransfers();
+
+        // Then
+        assertThat(timeoutTransfer.getStatus()).isEqualTo(TransferStatus.TIMEOUT);
+        assertThat(timeoutTransfer.getAttemptCount()).isEqualTo(1);
+        assertThat(timeoutTransfer.getNextCheckAt()).isAfterOrEqualTo(before.plusMinutes(1));
+        verify(balanceService, never()).increase(any(), any(), any(), any(), any(), any());
+        verify(transferRepository, never()).findDueForStatusCheck(anyList(), any(), any(), eq(10L), anyInt(), anyInt(), anyInt());
+        assertThat(meterRegistry.get("easypay.transfer.status_check.backlog").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("미확정 거래를 일괄 조회하면 외부 호출은 일괄 조회 단위 수만큼만 발생하고 건별 조회보다 빠름")
+    void bulkInquiryBeatsPerItemInquiry() {
+        // Given: 미확정 거래 2천 건, 작업 스레드 8개, 같은 왕복 지연(10~15ms)의 Mock 은행
+        int pendingCount = 2_000;
+
+        // When: 일괄 조회 100건 vs 건별 조회(1건)
+        BankingApiService batchedBank = mockBank();
+        Duration batched = runStatusCheck(batchedBank, pendingCount, 100);
+        BankingApiService perItemBank = mockBank();
+        Duration perItem = runStatusCheck(perItemBank, pendingCount, 1);
+
+        // Then: 외부 호출 2천 회 -> 20회, 왕복 횟수만큼 빨라짐 (최소 10배)
+        verify(batchedBank, times(pendingCount / 100)).getTransferStatuses(anyCollection());
+        verify(perItemBank, times(pendingCount)).getTransferStatuses(anyCollection());
+        assertThat(batched.multipliedBy(10)).isLessThan(perItem);
+    }
+
+    private static BankingApiService mockBank() {
+        MockBankingApiService bank = new MockBankingApiService();
+        ReflectionTestUtils.setField(bank, "statusRoundTripMs", 10L);
+        ReflectionTestUtils.setField(bank, "statusRoundTripJitterMs", 5);
+        return spy(bank);
+    }
+
+    /**
+     * 미확정 거래 pendingCount 건을 한 번의 확인 실행으로 처리하고 걸린 시간 반환
+     */
+    private Duration runStatusCheck(BankingApiService bank, int pendingCount, int inquiryBatchSize) {
+        TreeMap<Long, Transfer> transfers = new TreeMap<>();
+        for (long id = 1; id <= pendingCount; id++) {
+            transfers.put(id, pendingTransfer(id, "TXN_BENCH_" + id));
+        }
+        when(transferRepository.findDueForStatusCheck(anyList(), any(), any(), anyLong(), anyInt(), anyInt(), anyInt()))
+            .thenAnswer(invocation -> {
+                long afterId = invocation.getArgument(3);
+                int limit = invocation.getArgument(6);
+                return transfers.tailMap(afterId, false).values().stream()
+                    .limit(limit)
+                    .toList();
+            });
+        when(transferRepository.findByIdWithLock(anyLong()))
+            .thenAnswer(invocation -> Optional.ofNullable(transfers.get(invocation.<Long>getArgument(0))));
+
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+        TransferStatusCheckService service = newStatusCheckService(bank, workers);
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        ReflectionTestUtils.setField(service, "maxBatchesPerRun", 50);
+        ReflectionTestUtils.setField(service, "inquiryBatchSize", inquiryBatchSize);
+
+        long started = System.nanoTime();
+        int checked = service.checkDueTransfers();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        workers.shutdown();
+
+        assertThat(checked).isEqualTo(pendingCount);
+        assertThat(transfers.values()).allMatch(transfer -> transfer.getStatus() == TransferStatus.FAILED);
+        return elapsed;
+    }
+
+    private TransferStatusCheckService newStatusCheckService(BankingApiService bank, Executor executor) {
+        TransferStatusCheckService service = new TransferStatusCheckService(
+            transferRepository,
+            balanceService,
+            bank,
+            auditLogService,
+            notificationService,
+            new AccountLockManager(meterRegistry, 16, 1000),
+            new TransactionTemplate(transactionManager),
+            executor,
+            clusterMembership,
+            recentCounterpartyService,
+            meterRegistry
+        );
+        ReflectionTestUtils.setField(service, "batchSize", 100);
+        ReflectionTestUtils.setField(service, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(service, "inquiryBatchSize", 50);
+        ReflectionTestUtils.setField(service, "backoffBaseMs", 60_000L);
+        ReflectionTestUtils.setField(service, "maxBackoffMs", 600_000L);
+        return service;
+    }
+
+    private static Transfer pendingTransfer(long id, String transactionId) {
+        User alice = User.builder().id(1L).phoneNumber("010-1111-1111").name("앨리스").build();
+        User bob = User.builder().id(2L).phoneNumber("010-2222-2222").name("밥").build();
+        return Transfer.builder()
+            .id(id)
+            .transactionId(transactionId)
+            .sender(alice)
+            .senderAccountNumber("VA1111111111")
+            .receiver(bob)
+            .receiverAccountNumber("VA2222222222")
+            .amount(new BigDecimal("50000"))
+            .status(TransferStatus.TIMEOUT)
+            .fundsHeld(true)
+            .nextCheckAt(LocalDateTime.now().minusMinutes(1))
+            .build();
+    }
+}